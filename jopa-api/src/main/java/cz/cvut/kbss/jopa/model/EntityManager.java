@@ -33,6 +33,7 @@ import cz.cvut.kbss.jopa.model.query.criteria.CriteriaQuery;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -144,6 +145,46 @@ public interface EntityManager extends AutoCloseable {
      */
     <T> T find(final Class<T> entityClass, final Object identifier, final Descriptor descriptor);
 
+    /**
+     * Find multiple instances by identifier.
+     * <p>
+     * Search for entities of the specified class and identifiers. Instances contained in the persistence context are
+     * returned from there, the remaining ones are loaded from the repository together, which is considerably more
+     * efficient than calling {@link #find(Class, Object)} for each of them.
+     *
+     * @param entityClass Entity class
+     * @param identifiers Entity identifiers
+     * @return List of found entity instances in the order of the specified identifiers. Identifiers for which no
+     * entity exists are skipped
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or any of the identifiers
+     *                                  is not a valid type for that entity’s identifier
+     * @throws NullPointerException     If {@code entityClass}, {@code identifiers} or any of the identifiers is
+     *                                  {@code null}
+     */
+    <T> List<T> findAll(final Class<T> entityClass, final Collection<?> identifiers);
+
+    /**
+     * Find multiple instances by identifier.
+     * <p>
+     * Search for entities of the specified class and identifiers. Instances contained in the persistence context are
+     * returned from there, the remaining ones are loaded from the repository together, which is considerably more
+     * efficient than calling {@link #find(Class, Object, Descriptor)} for each of them.
+     * <p>
+     * The {@code descriptor} parameter represents repository and context in which the entities should be looked for.
+     *
+     * @param entityClass Entity class
+     * @param identifiers Entity identifiers
+     * @param descriptor  Entity descriptor
+     * @return List of found entity instances in the order of the specified identifiers. Identifiers for which no
+     * entity exists in the given ontology context are skipped
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or any of the identifiers
+     *                                  is not a valid type for that entity’s identifier
+     * @throws NullPointerException     If {@code entityClass}, {@code identifiers}, any of the identifiers or
+     *                                  {@code descriptor} is {@code null}
+     * @see #getContexts()
+     */
+    <T> List<T> findAll(final Class<T> entityClass, final Collection<?> identifiers, final Descriptor descriptor);
+
     /**
      * Get an instance, whose state may be lazily fetched.
      * <p>
@@ -0,0 +1,49 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.annotations;
+
+/**
+ * Strategies of generating entity identifiers.
+ *
+ * @see Id#strategy()
+ */
+public enum GenerationType {
+    /**
+     * Uses the strategy configured for the persistence unit, {@link #STORAGE} if none is configured.
+     */
+    AUTO,
+    /**
+     * Identifier is generated by the underlying storage driver.
+     * <p>
+     * The driver verifies that the generated identifier is not used yet, which typically requires a repository access
+     * for each generated identifier.
+     */
+    STORAGE,
+    /**
+     * Identifier is based on a time-ordered (version 7) UUID.
+     * <p>
+     * The identifiers are unique with overwhelming probability, so they are not verified against the repository.
+     */
+    UUID,
+    /**
+     * Identifier is based on a random node identifier (chosen when the application starts) and a counter.
+     * <p>
+     * The identifiers are shorter than {@link #UUID}-based ones and are not verified against the repository either.
+     */
+    COUNTER
+}
@@ -40,4 +40,13 @@ public @interface Id {
      * @return Whether the id is generated
      */
     boolean generated() default false;
+
+    /**
+     * Strategy used to generate the identifier.
+     * <p>
+     * Relevant only if {@link #generated()} is {@code true}.
+     *
+     * @return Identifier generation strategy
+     */
+    GenerationType strategy() default GenerationType.AUTO;
 }
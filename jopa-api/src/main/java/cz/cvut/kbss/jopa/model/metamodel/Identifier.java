@@ -17,6 +17,8 @@
  */
 package cz.cvut.kbss.jopa.model.metamodel;
 
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
+
 /**
  * Identifier attribute.
  * @param <X> Declaring class
@@ -27,4 +29,11 @@ public interface Identifier<X, E> extends FieldSpecification<X, E>, Bindable<E>
     void accept(IdentifierVisitor i);
 
     boolean isGenerated();
+
+    /**
+     * Gets the strategy used to generate values of this identifier.
+     *
+     * @return Identifier generation strategy
+     */
+    GenerationType getGenerationType();
 }
@@ -0,0 +1,100 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.test.environment.JenaStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.OwlapiStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.Rdf4jMemoryStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.StorageConfig;
+import cz.cvut.kbss.jopa.test.environment.TestEnvironment;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
+import openllet.owlapi.OpenlletReasonerFactory;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storages the benchmarks are executed against.
+ * <p>
+ * All of them are local and, apart from Jena TDB2, in-memory, so that the benchmarks measure JOPA and the OntoDriver
+ * rather than network or disk latency.
+ */
+public enum BenchmarkStorage {
+
+    RDF4J_MEMORY {
+        @Override
+        Map<String, String> createConfiguration(String name, Path directory) {
+            final Map<String, String> config = storageConfiguration(new Rdf4jMemoryStorageConfig(), name, directory);
+            config.put(Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+            config.put(Rdf4jOntoDriverProperties.USE_INFERENCE, Boolean.FALSE.toString());
+            return config;
+        }
+    },
+    JENA_MEMORY {
+        @Override
+        Map<String, String> createConfiguration(String name, Path directory) {
+            final Map<String, String> config = storageConfiguration(new JenaStorageConfig(), name, directory);
+            config.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY);
+            config.put(JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION, Boolean.TRUE.toString());
+            return config;
+        }
+    },
+    JENA_TDB2 {
+        @Override
+        Map<String, String> createConfiguration(String name, Path directory) {
+            final Map<String, String> config = storageConfiguration(new JenaStorageConfig(), name, directory);
+            config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY,
+                    directory.resolve(name + "-tdb2").toAbsolutePath().toString());
+            config.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.TDB2);
+            config.put(JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION, Boolean.TRUE.toString());
+            return config;
+        }
+    },
+    OWLAPI_VOLATILE {
+        @Override
+        Map<String, String> createConfiguration(String name, Path directory) {
+            final Map<String, String> config = storageConfiguration(new OwlapiStorageConfig(), name, directory);
+            config.put(OwlapiOntoDriverProperties.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+            config.put(OntoDriverProperties.REASONER_FACTORY_CLASS, OpenlletReasonerFactory.class.getName());
+            return config;
+        }
+    };
+
+    /**
+     * Creates persistence unit configuration for this storage.
+     *
+     * @param name      Persistence unit name, used to derive the storage name
+     * @param directory Directory where file-based storages keep their data
+     * @return Persistence unit configuration
+     */
+    abstract Map<String, String> createConfiguration(String name, Path directory);
+
+    private static Map<String, String> storageConfiguration(StorageConfig storageConfig, String name, Path directory) {
+        storageConfig.setName(name);
+        storageConfig.setDirectory(directory.toString());
+        final Map<String, String> config = new HashMap<>(storageConfig.createStorageConfiguration());
+        config.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        config.put(JOPAPersistenceProperties.LANG, TestEnvironment.PERSISTENCE_LANGUAGE);
+        return config;
+    }
+}
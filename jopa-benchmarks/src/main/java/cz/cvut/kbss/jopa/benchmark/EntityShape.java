@@ -0,0 +1,128 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassJ;
+import cz.cvut.kbss.jopa.test.OWLClassM;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import cz.cvut.kbss.jopa.test.environment.Generators;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shapes of entities used by the benchmarks, differing in the number of mapped attributes.
+ */
+public enum EntityShape {
+
+    /**
+     * {@link OWLClassA}, i.e., a string attribute and types.
+     */
+    NARROW(OWLClassA.class) {
+        @Override
+        Object create(URI identifier) {
+            return createNarrow(identifier);
+        }
+
+        @Override
+        void modify(Object instance) {
+            ((OWLClassA) instance).setStringAttribute("Modified string attribute " + Generators.randomInt());
+        }
+    },
+
+    /**
+     * {@link OWLClassM}, i.e., about twenty data property attributes of various types.
+     */
+    WIDE(OWLClassM.class) {
+        @Override
+        Object create(URI identifier) {
+            final OWLClassM m = new OWLClassM();
+            m.initializeTestValues(false);
+            m.setKey(identifier.toString());
+            return m;
+        }
+
+        @Override
+        void modify(Object instance) {
+            ((OWLClassM) instance).setIntAttribute(Generators.randomInt());
+        }
+    };
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private final Class<?> type;
+
+    EntityShape(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Creates a new instance of this shape with all attributes populated.
+     *
+     * @param identifier Instance identifier
+     * @return New instance
+     */
+    abstract Object create(URI identifier);
+
+    /**
+     * Changes the value of an attribute of the specified instance.
+     *
+     * @param instance Instance to modify
+     */
+    abstract void modify(Object instance);
+
+    /**
+     * Generates a fresh unique identifier.
+     *
+     * @return New identifier
+     */
+    static URI generateIdentifier() {
+        return URI.create(Vocabulary.INDIVIDUAL_IRI_BASE + "benchmark-" + COUNTER.incrementAndGet());
+    }
+
+    static OWLClassA createNarrow(URI identifier) {
+        final OWLClassA a = new OWLClassA(identifier);
+        a.setStringAttribute("String attribute " + Generators.randomInt());
+        a.setTypes(new HashSet<>(Set.of(Vocabulary.CLASS_IRI_BASE + "BenchmarkType")));
+        return a;
+    }
+
+    /**
+     * Creates an entity graph consisting of an {@link OWLClassJ} instance referencing the specified number of
+     * {@link OWLClassA} instances.
+     *
+     * @param size Number of referenced instances
+     * @return Root of the entity graph
+     */
+    static OWLClassJ createGraph(int size) {
+        final OWLClassJ root = new OWLClassJ(generateIdentifier());
+        final Set<OWLClassA> references = new HashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            references.add(createNarrow(generateIdentifier()));
+        }
+        root.setOwlClassA(references);
+        return root;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassJ;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of entities by identifier in a fresh persistence context.
+ * <p>
+ * Exercises entity loading in the OntoDriver, entity reconstruction and cloning into the persistence context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindBenchmark {
+
+    @Benchmark
+    public void findFlat(StorageState storage, FlatDataset dataset, Blackhole bh) {
+        final EntityManager em = storage.createEntityManager();
+        try {
+            bh.consume(em.find(dataset.shape.getType(), dataset.nextIdentifier()));
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Loads entity graph root and traverses its lazily loaded references.
+     */
+    @Benchmark
+    public void findGraph(StorageState storage, GraphDataset dataset, Blackhole bh) {
+        final EntityManager em = storage.createEntityManager();
+        try {
+            final OWLClassJ root = em.find(OWLClassJ.class, dataset.nextRoot().getUri());
+            for (OWLClassA a : root.getOwlClassA()) {
+                bh.consume(a.getStringAttribute());
+            }
+        } finally {
+            em.close();
+        }
+    }
+}
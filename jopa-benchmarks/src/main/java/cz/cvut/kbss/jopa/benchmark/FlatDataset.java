@@ -0,0 +1,66 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of persisted entities of a single {@link EntityShape}.
+ */
+@State(Scope.Benchmark)
+public class FlatDataset {
+
+    static final int SIZE = 128;
+
+    @Param({"NARROW", "WIDE"})
+    public EntityShape shape;
+
+    private final List<URI> identifiers = new ArrayList<>(SIZE);
+
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setUp(StorageState storage) {
+        final List<Object> instances = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final URI identifier = EntityShape.generateIdentifier();
+            identifiers.add(identifier);
+            instances.add(shape.create(identifier));
+        }
+        storage.inTransaction(em -> instances.forEach(em::persist));
+    }
+
+    /**
+     * Gets identifier of the next persisted instance, cycling through all of them.
+     *
+     * @return Instance identifier
+     */
+    public URI nextIdentifier() {
+        final URI result = identifiers.get(position);
+        this.position = (position + 1) % identifiers.size();
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.test.OWLClassJ;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of persisted entity graphs, each consisting of an {@link OWLClassJ} root referencing {@code graphSize}
+ * {@link cz.cvut.kbss.jopa.test.OWLClassA} instances.
+ */
+@State(Scope.Benchmark)
+public class GraphDataset {
+
+    static final int SIZE = 16;
+
+    @Param({"1", "10", "100"})
+    public int graphSize;
+
+    private final List<OWLClassJ> roots = new ArrayList<>(SIZE);
+
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setUp(StorageState storage) {
+        for (int i = 0; i < SIZE; i++) {
+            roots.add(EntityShape.createGraph(graphSize));
+        }
+        storage.inTransaction(em -> roots.forEach(em::persist));
+    }
+
+    /**
+     * Gets the next persisted entity graph, cycling through all of them.
+     * <p>
+     * The returned instance is detached, i.e., not managed by any persistence context.
+     *
+     * @return Entity graph root
+     */
+    public OWLClassJ nextRoot() {
+        final OWLClassJ result = roots.get(position);
+        this.position = (position + 1) % roots.size();
+        return result;
+    }
+}
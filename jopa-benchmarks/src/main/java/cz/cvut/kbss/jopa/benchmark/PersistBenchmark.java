@@ -0,0 +1,73 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persisting new entities and committing the transaction.
+ * <p>
+ * Exercises entity deconstruction into axioms, persist validation and the OntoDriver insertion and commit.
+ * <p>
+ * Note that the storage grows with each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class FlatParams {
+        @Param({"NARROW", "WIDE"})
+        public EntityShape shape;
+    }
+
+    @State(Scope.Benchmark)
+    public static class GraphParams {
+        @Param({"1", "10", "100"})
+        public int graphSize;
+    }
+
+    @Benchmark
+    public void persistFlat(StorageState storage, FlatParams params) {
+        final Object instance = params.shape.create(EntityShape.generateIdentifier());
+        storage.inTransaction(em -> em.persist(instance));
+    }
+
+    /**
+     * Persists entity graph root, the references are persisted via cascading.
+     */
+    @Benchmark
+    public void persistGraph(StorageState storage, GraphParams params) {
+        final Object root = EntityShape.createGraph(params.graphSize);
+        storage.inTransaction(em -> em.persist(root));
+    }
+}
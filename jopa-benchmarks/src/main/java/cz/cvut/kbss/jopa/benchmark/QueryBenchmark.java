@@ -0,0 +1,122 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.query.QueryHints;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query creation and streaming of entity query results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final String SPARQL = "SELECT ?x WHERE { ?x a <" + Vocabulary.C_OWL_CLASS_A + "> . }";
+
+    private static final String SOQL = "SELECT a FROM OWLClassA a WHERE a.stringAttribute = :value";
+
+    @State(Scope.Benchmark)
+    public static class ResultDataset {
+
+        @Param({"10", "100", "1000"})
+        public int resultCount;
+
+        @Setup(Level.Trial)
+        public void setUp(StorageState storage) {
+            final List<OWLClassA> instances = new ArrayList<>(resultCount);
+            for (int i = 0; i < resultCount; i++) {
+                instances.add(EntityShape.createNarrow(EntityShape.generateIdentifier()));
+            }
+            storage.inTransaction(em -> instances.forEach(em::persist));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LoadingOptimizer {
+
+        @Param({"false", "true"})
+        public boolean enabled;
+    }
+
+    /**
+     * Parses and translates a SOQL query to SPARQL, without executing it.
+     */
+    @Benchmark
+    public void createSoqlQuery(StorageState storage, Blackhole bh) {
+        final EntityManager em = storage.createEntityManager();
+        try {
+            bh.consume(em.createQuery(SOQL, OWLClassA.class).setParameter("value", "test"));
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void streamResults(StorageState storage, ResultDataset dataset, Blackhole bh) {
+        final EntityManager em = storage.createEntityManager();
+        try {
+            em.createNativeQuery(SPARQL, OWLClassA.class).getResultStream().forEach(bh::consume);
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Streams all instances of a {@link FlatDataset}, optionally loading them directly from the query results.
+     * <p>
+     * With the entity loading optimizer enabled, result rows are mapped to entity attributes by property IRI, so the
+     * cost of processing each row grows with the number of attributes of the entity.
+     */
+    @Benchmark
+    public void streamShapeResults(StorageState storage, FlatDataset dataset, LoadingOptimizer optimizer,
+                                   Blackhole bh) {
+        final Class<?> type = dataset.shape.getType();
+        final String query = "SELECT ?x WHERE { ?x a <" + type.getAnnotation(OWLClass.class).iri() + "> . }";
+        final EntityManager em = storage.createEntityManager();
+        try {
+            em.createNativeQuery(query, type).setHint(QueryHints.ENABLE_ENTITY_LOADING_OPTIMIZER, optimizer.enabled)
+              .getResultStream().forEach(bh::consume);
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassJ;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updates of existing entities.
+ * <p>
+ * {@code merge*} benchmarks merge a modified detached instance, {@code commit*} benchmarks modify managed instances
+ * and let change calculation discover the changes on commit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateBenchmark {
+
+    @Benchmark
+    public void mergeFlat(StorageState storage, FlatDataset dataset) {
+        final Object detached = dataset.shape.create(dataset.nextIdentifier());
+        dataset.shape.modify(detached);
+        storage.inTransaction(em -> em.merge(detached));
+    }
+
+    /**
+     * Merges entity graph root, the references are merged via cascading.
+     */
+    @Benchmark
+    public void mergeGraph(StorageState storage, GraphDataset dataset) {
+        final OWLClassJ detached = dataset.nextRoot();
+        detached.getOwlClassA().forEach(EntityShape.NARROW::modify);
+        storage.inTransaction(em -> em.merge(detached));
+    }
+
+    @Benchmark
+    public void commitFlat(StorageState storage, FlatDataset dataset) {
+        storage.inTransaction(em -> dataset.shape.modify(em.find(dataset.shape.getType(), dataset.nextIdentifier())));
+    }
+
+    @Benchmark
+    public void commitGraph(StorageState storage, GraphDataset dataset) {
+        storage.inTransaction(em -> {
+            final OWLClassJ root = em.find(OWLClassJ.class, dataset.nextRoot().getUri());
+            for (OWLClassA a : root.getOwlClassA()) {
+                EntityShape.NARROW.modify(a);
+            }
+        });
+    }
+}
@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.loaders;
 
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jopa.model.annotations.util.NonEntity;
+import cz.cvut.kbss.jopa.model.metamodel.gen.GeneratedEntityClass;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -26,6 +27,9 @@ import java.util.function.Consumer;
 
 /**
  * Registers entity classes (classes annotated with {@link OWLClass}) discovered during classpath processing.
+ * <p>
+ * Subclasses generated by JOPA (e.g., pregenerated into the output directory of the application) are skipped, even
+ * though they carry the annotations of their entity class.
  */
 class EntityLoader implements Consumer<Class<?>> {
 
@@ -37,7 +41,8 @@ class EntityLoader implements Consumer<Class<?>> {
 
     @Override
     public void accept(Class<?> cls) {
-        if (cls.getAnnotation(OWLClass.class) != null  && cls.getAnnotation(NonEntity.class) == null) {
+        if (cls.getAnnotation(OWLClass.class) != null && cls.getAnnotation(NonEntity.class) == null &&
+                cls.getAnnotation(GeneratedEntityClass.class) == null) {
             entities.add(cls);
         }
     }
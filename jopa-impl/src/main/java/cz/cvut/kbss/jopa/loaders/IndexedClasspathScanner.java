@@ -0,0 +1,139 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Processes classes listed in the {@link PersistenceClassIndex} computed at build time.
+ * <p>
+ * This avoids walking the classpath on startup. Each classpath root containing the scanned package is processed using
+ * its own index. Roots without an index (e.g., a library built without precomputation) and directories whose index is
+ * stale (i.e., some classes were compiled after the index was written) are scanned as by the
+ * {@link DefaultClasspathScanner}.
+ */
+public class IndexedClasspathScanner extends DefaultClasspathScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathScanner.class);
+
+    private Map<String, Set<String>> index;
+
+    @Override
+    public void processClasses(String scanPackage) {
+        final Map<String, Set<String>> classNames = loadIndex();
+        if (classNames.isEmpty()) {
+            LOG.warn("Persistence class index {} not found, scanning the classpath instead.", PersistenceClassIndex.RESOURCE);
+            super.processClasses(scanPackage);
+            return;
+        }
+        this.pathPattern = scanPackage.replace(JAVA_PACKAGE_SEPARATOR, JAVA_CLASSPATH_SEPARATOR);
+        this.visited = new HashSet<>();
+        final String prefix = scanPackage.isEmpty() ? "" : scanPackage + JAVA_PACKAGE_SEPARATOR;
+        try {
+            final List<URL> toScan = new ArrayList<>();
+            for (URL url : Collections.list(classLoader.getResources(pathPattern))) {
+                final String root = resolveRoot(url);
+                if (!classNames.containsKey(root)) {
+                    LOG.debug("Classpath element {} is not covered by persistence class index, scanning it.", url);
+                    toScan.add(url);
+                } else if (isStale(root)) {
+                    LOG.warn("Persistence class index in {} is older than classes in it, scanning them instead.", root);
+                    toScan.add(url);
+                } else {
+                    classNames.get(root).stream().filter(name -> name.startsWith(prefix)).forEach(this::processClass);
+                }
+            }
+            // Jar files on classpath, as scanned by the default scanner
+            Collections.list(classLoader.getResources(".")).stream()
+                       .filter(url -> !classNames.containsKey(resolveRoot(url))).forEach(toScan::add);
+            processElements(Collections.enumeration(toScan), scanPackage);
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to scan packages for entity classes.", e);
+        }
+    }
+
+    private Map<String, Set<String>> loadIndex() {
+        if (index == null) {
+            this.index = PersistenceClassIndex.read(classLoader);
+        }
+        return index;
+    }
+
+    /**
+     * Resolves the classpath root of the specified element of the scanned package (or of a classpath root itself).
+     */
+    private String resolveRoot(URL url) {
+        String location = url.toString();
+        if (!isJar(location)) {
+            location = URI.create(location).normalize().toString();
+        }
+        if (!location.endsWith(String.valueOf(JAVA_CLASSPATH_SEPARATOR))) {
+            location += JAVA_CLASSPATH_SEPARATOR;
+        }
+        final String packagePath = pathPattern.isEmpty() ? "" : pathPattern + JAVA_CLASSPATH_SEPARATOR;
+        return location.endsWith(packagePath) ? location.substring(0, location.length() - packagePath.length()) :
+               location;
+    }
+
+    /**
+     * Checks whether the index of the specified directory is older than any class in the scanned package of the
+     * directory.
+     * <p>
+     * Archives are built as a whole, so their index is considered to be up to date.
+     */
+    private boolean isStale(String root) {
+        if (!root.startsWith("file:")) {
+            return false;
+        }
+        final Path rootDir = Path.of(URI.create(root));
+        try {
+            final FileTime indexTime = Files.getLastModifiedTime(rootDir.resolve(PersistenceClassIndex.RESOURCE));
+            try (final Stream<Path> files = Files.walk(rootDir.resolve(pathPattern))) {
+                return files.filter(f -> f.toString().endsWith(CLASS_FILE_SUFFIX))
+                            .anyMatch(f -> isNewerThan(f, indexTime));
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to check whether persistence class index in {} is up to date.", root, e);
+            return true;
+        }
+    }
+
+    private static boolean isNewerThan(Path file, FileTime time) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(time) > 0;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
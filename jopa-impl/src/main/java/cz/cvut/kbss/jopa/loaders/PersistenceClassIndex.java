@@ -0,0 +1,129 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.model.annotations.Converter;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping;
+import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMappings;
+import cz.cvut.kbss.jopa.model.metamodel.gen.GeneratedEntityClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of classes relevant to persistence unit building, computed at build time.
+ * <p>
+ * The index is a classpath resource listing fully qualified names of entity classes, result set mapping holders and
+ * attribute converters, one per line. Each classpath root (archive or directory) may contain its own index, which
+ * covers only classes of that root.
+ */
+public final class PersistenceClassIndex {
+
+    /**
+     * Location of the index resource.
+     */
+    public static final String RESOURCE = "META-INF/jopa/persistence-classes.idx";
+
+    private PersistenceClassIndex() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Checks whether the specified class should be recorded in the index.
+     * <p>
+     * Entity subclasses generated by JOPA are not indexed.
+     *
+     * @param cls Class to check
+     * @return {@code true} if the class is relevant to persistence unit building, {@code false} otherwise
+     */
+    public static boolean isIndexed(Class<?> cls) {
+        if (cls.getAnnotation(GeneratedEntityClass.class) != null) {
+            return false;
+        }
+        return cls.getAnnotation(OWLClass.class) != null || cls.getAnnotation(Converter.class) != null ||
+                cls.getDeclaredAnnotation(SparqlResultSetMapping.class) != null ||
+                cls.getDeclaredAnnotation(SparqlResultSetMappings.class) != null;
+    }
+
+    /**
+     * Reads names of indexed classes from all index resources available to the specified class loader.
+     *
+     * @param classLoader Class loader to read index resources from
+     * @return Map of classpath root URLs (e.g., {@code file:/app/classes/} or {@code jar:file:/app/lib/model.jar!/}) to
+     * names of classes indexed in them, empty if there is no index available
+     */
+    public static Map<String, Set<String>> read(ClassLoader classLoader) {
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            final Map<String, Set<String>> result = new LinkedHashMap<>();
+            while (resources.hasMoreElements()) {
+                final URL resource = resources.nextElement();
+                final Set<String> classNames = new LinkedHashSet<>();
+                try (final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(classNames::add);
+                }
+                final String location = resource.toString();
+                result.put(location.substring(0, location.length() - RESOURCE.length()), classNames);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to read persistence class index.", e);
+        }
+    }
+
+    /**
+     * Writes index of the specified classes into the specified output directory.
+     *
+     * @param classes   Classes to index
+     * @param outputDir Root of the output directory (e.g., the directory with compiled classes)
+     */
+    public static void write(Collection<Class<?>> classes, Path outputDir) {
+        final List<String> names = new ArrayList<>(classes.size());
+        classes.forEach(cls -> names.add(cls.getName()));
+        names.sort(String::compareTo);
+        final Path target = outputDir.resolve(RESOURCE);
+        try {
+            Files.createDirectories(target.getParent());
+            try (final Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                for (String name : names) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to write persistence class index to " + target, e);
+        }
+    }
+}
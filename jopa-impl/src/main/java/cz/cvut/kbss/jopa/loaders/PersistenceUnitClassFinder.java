@@ -71,8 +71,10 @@ public class PersistenceUnitClassFinder {
 
     private static ClasspathScanner resolveClasspathScanner(Configuration config) {
         try {
+            final Class<?> defaultScannerCls = config.is(JOPAPersistenceProperties.PRECOMPUTED_METAMODEL) ?
+                                               IndexedClasspathScanner.class : DefaultClasspathScanner.class;
             final String scannerType = config.get(JOPAPersistenceProperties.CLASSPATH_SCANNER_CLASS,
-                    DefaultClasspathScanner.class.getName());
+                    defaultScannerCls.getName());
             final Class<?> scannerCls = Class.forName(scannerType);
             return (ClasspathScanner) ReflectionUtils.instantiateUsingDefaultConstructor(scannerCls);
         } catch (ClassNotFoundException | cz.cvut.kbss.jopa.exception.InstantiationException e) {
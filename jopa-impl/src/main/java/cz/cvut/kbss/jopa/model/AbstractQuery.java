@@ -37,6 +37,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -285,6 +286,20 @@ abstract class AbstractQuery implements Query {
     }
 
     <R> Stream<R> executeQueryForStream(QueryResultLoader<R> resultLoader) throws OntoDriverException {
+        return executeQueryForStream(resultLoader, item -> {});
+    }
+
+    /**
+     * Executes the query and returns a stream of results extracted by the specified loader.
+     *
+     * @param resultLoader    Extracts results from the result set rows
+     * @param afterProcessing Invoked with each result once it has passed through the stream pipeline
+     * @param <R>             Result type
+     * @return Stream of query results
+     * @throws OntoDriverException When something goes wrong during query evaluation
+     */
+    <R> Stream<R> executeQueryForStream(QueryResultLoader<R> resultLoader,
+                                        Consumer<? super R> afterProcessing) throws OntoDriverException {
         final Statement stmt = initQueryStatement();
         final ResultSet rs = stmt.executeQuery(query.assembleQuery());
         final Runnable closeHandler = () -> {
@@ -295,7 +310,8 @@ abstract class AbstractQuery implements Query {
                 throw new OWLPersistenceException(e);
             }
         };
-        return StreamSupport.stream(new QueryResultSpliterator<>(rs.spliterator(), resultLoader, closeHandler), false)
+        return StreamSupport.stream(
+                new QueryResultSpliterator<>(rs.spliterator(), resultLoader, closeHandler, afterProcessing), false)
                             .onClose(closeHandler);
     }
 
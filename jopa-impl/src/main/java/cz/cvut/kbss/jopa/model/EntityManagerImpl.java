@@ -42,11 +42,14 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
 
@@ -305,6 +308,34 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    @Override
+    public <T> List<T> findAll(Class<T> cls, Collection<?> identifiers) {
+        final Descriptor d = descriptorFactory.createDescriptor(cls);
+        return findAll(cls, identifiers, d);
+    }
+
+    @Override
+    public <T> List<T> findAll(Class<T> cls, Collection<?> identifiers, Descriptor descriptor) {
+        try {
+            Objects.requireNonNull(cls);
+            Objects.requireNonNull(identifiers);
+            Objects.requireNonNull(descriptor);
+            ensureOpen();
+            checkClassIsValidEntity(cls);
+
+            LOG.trace("Finding {} instances of {} in context {}.", identifiers.size(), cls, descriptor);
+            final List<URI> uris = identifiers.stream().map(id -> {
+                Objects.requireNonNull(id);
+                return (id instanceof URI) ? (URI) id : URI.create(id.toString());
+            }).distinct().toList();
+
+            return getCurrentPersistenceContext().readObjects(cls, uris, descriptor);
+        } catch (RuntimeException e) {
+            markTransactionForRollback();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T getReference(Class<T> entityClass, Object identifier) {
         try {
@@ -379,14 +410,28 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
 
     @Override
     public void detach(Object entity) {
+        detach(entity, Collections.emptySet());
+    }
+
+    /**
+     * Detaches the specified entity (and entities to which the detach cascades), skipping the retained instances.
+     *
+     * @param entity   Entity to detach
+     * @param retained Instances to keep managed
+     */
+    private void detach(Object entity, Set<Object> retained) {
         try {
             ensureOpen();
+            if (retained.contains(entity)) {
+                return;
+            }
 
             switch (getState(entity)) {
                 case MANAGED_NEW:
                 case MANAGED:
                     getCurrentPersistenceContext().unregisterObject(entity);
-                    new SimpleOneLevelCascadeExplorer(this::detach).start(this, entity, CascadeType.DETACH);
+                    new SimpleOneLevelCascadeExplorer(e -> detach(e, retained)).start(this, entity,
+                            CascadeType.DETACH);
                     break;
                 default:
                     break;
@@ -397,6 +442,18 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    /**
+     * Creates a procedure which detaches results of a query result stream.
+     * <p>
+     * Instances managed before the stream is opened are not detached, so that their pending changes are not lost.
+     *
+     * @return Result detaching procedure
+     */
+    private Consumer<Object> createStreamedResultDetacher() {
+        final Set<Object> managedBefore = getCurrentPersistenceContext().getManagedObjectsSnapshot();
+        return result -> detach(result, managedBefore);
+    }
+
     @Override
     public boolean contains(Object entity) {
         try {
@@ -485,6 +542,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createQuery(soqlQuery, query.getResultType());
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        q.setResultDetacherFactory(this::createStreamedResultDetacher);
         parameterFiller.setValuesToRegisteredParameters(q);
 
         return q;
@@ -496,6 +554,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         final TypedQueryImpl<T> q = getCurrentPersistenceContext().sparqlQueryFactory().createQuery(query, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        q.setResultDetacherFactory(this::createStreamedResultDetacher);
         return q;
     }
 
@@ -515,6 +574,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createNativeQuery(sparqlString, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        q.setResultDetacherFactory(this::createStreamedResultDetacher);
         return q;
     }
 
@@ -544,6 +604,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createNamedQuery(name, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        q.setResultDetacherFactory(this::createStreamedResultDetacher);
         return q;
     }
 
@@ -60,7 +60,7 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
     public static final String CACHE_SWEEP_RATE = "cz.cvut.jopa.cache.sweepRate";
 
     /**
-     * Type of the second level cache. Currently supported are {@literal ttl} and {@literal lru}.
+     * Type of the second level cache. Currently supported are {@literal ttl}, {@literal lru} and {@literal striped}.
      */
     public static final String CACHE_TYPE = "cz.cvut.jopa.cache.type";
 
@@ -69,6 +69,14 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String LRU_CACHE_CAPACITY = "cz.cvut.jopa.cache.lru.capacity";
 
+    /**
+     * Number of segments of the striped second level cache.
+     * <p>
+     * The value is rounded down to a power of two. Defaults to four times the number of available processors (at most
+     * 64).
+     */
+    public static final String CACHE_SEGMENTS = "cz.cvut.jopa.cache.striped.segments";
+
     /**
      * Disable integrity constraints validation on entity/field load.
      */
@@ -98,6 +106,19 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String CLASS_GENERATOR_OUTPUT_DIR = "cz.cvut.jopa.classGeneratorOutputDir";
 
+    /**
+     * Whether to use the persistence class index and entity subclasses precomputed at build time by the
+     * {@literal precompute-metamodel} goal of {@literal jopa-maven-plugin}.
+     * <p>
+     * When enabled, classes listed in the index are used instead of scanning the classpath (unless
+     * {@link #CLASSPATH_SCANNER_CLASS} is configured) and precomputed classes are loaded instead of generating them at
+     * runtime. Classpath roots without an index, or with an index older than their classes, are still scanned, and entity
+     * classes missing from the build-time output are still handled the usual way.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String PRECOMPUTED_METAMODEL = "cz.cvut.kbss.jopa.precomputedMetamodel";
+
     /**
      * Ignores removal of inferred values when entity state is merged into the persistence context.
      * <p>
@@ -111,23 +132,81 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
 
     /**
      * Configures change tracking mode.
+     * <p>
+     * Supported values are {@literal immediate}, {@literal on_commit} and {@literal dirty_fields}.
+     *
+     * @see cz.cvut.kbss.jopa.utils.ChangeTrackingMode
      */
     public static final String CHANGE_TRACKING_MODE = "cz.cvut.kbss.jopa.changeTrackingMode";
 
     /**
-     * Configures transaction mode. Expected values: (read_only, read_write[default]).
+     * Configures transaction mode. Expected values: (read_only, read_only_shared, read_write[default]).
      * <p>
-     * Use {@link cz.cvut.kbss.jopa.utils.Constants#READ_ONLY_TRANSACTION_MODE} or
+     * Use {@link cz.cvut.kbss.jopa.utils.Constants#READ_ONLY_TRANSACTION_MODE},
+     * {@link cz.cvut.kbss.jopa.utils.Constants#READ_ONLY_SHARED_TRANSACTION_MODE} or
      * {@link cz.cvut.kbss.jopa.utils.Constants#READ_WRITE_TRANSACTION_MODE} as values.
+     * <p>
+     * In the {@literal read_only_shared} mode, fully loaded instances from the second level cache are not cloned. The
+     * persistence context returns their sealed shallow copies instead, attempts to modify them fail.
      */
     public static final String TRANSACTION_MODE = "cz.cvut.kbss.jopa.transactionMode";
 
+    /**
+     * Whether to load instances of entity classes with subclasses using a single storage call.
+     * <p>
+     * By default, types of such instances are loaded first to resolve the actual entity type and only then are its
+     * attributes loaded. When enabled, types and attributes of all entity types in the hierarchy are loaded together
+     * and the actual entity type is resolved afterwards. This halves the number of round trips to the repository at the
+     * cost of possibly transferring values of attributes of other entity types in the hierarchy.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String SINGLE_STEP_POLYMORPHIC_LOADING = "cz.cvut.kbss.jopa.singleStepPolymorphicLoading";
+
     /**
      * A comma-separated list of fully qualified class names of lifecycle plugins to be loaded and executed for the
      * whole persistence unit.
      */
     public static final String PERSISTENCE_UNIT_LIFECYCLE_PLUGINS = "cz.cvut.kbss.jopa.plugin.persistenceUnit";
 
+    /**
+     * Maximum number of parsed query templates cached by the persistence unit.
+     * <p>
+     * Parsed SPARQL and SOQL queries are cached by their query string, so that repeatedly created queries do not have
+     * to be parsed again. {@literal 0} disables the cache. Defaults to {@literal 256}.
+     */
+    public static final String QUERY_TEMPLATE_CACHE_CAPACITY = "cz.cvut.kbss.jopa.query.templateCache.capacity";
+
+    /**
+     * Default strategy of generating identifiers of entities whose identifier does not specify one.
+     * <p>
+     * Supported values are {@literal storage} (default), {@literal uuid} and {@literal counter}.
+     *
+     * @see cz.cvut.kbss.jopa.model.annotations.GenerationType
+     */
+    public static final String IDENTIFIER_GENERATION_STRATEGY = "cz.cvut.kbss.jopa.identifierGenerationStrategy";
+
+    /**
+     * Number of threads used to generate entity subclasses and proxies when building the metamodel.
+     * <p>
+     * {@literal 1} means the classes are generated sequentially. Defaults to the number of available processors.
+     */
+    public static final String METAMODEL_BUILD_PARALLELISM = "cz.cvut.kbss.jopa.metamodel.parallelism";
+
+    /**
+     * Whether clones of entities registered in a persistence context should share collections of immutable values with
+     * the originals until the collections are first modified.
+     * <p>
+     * This avoids copying such collections on every registration of an existing entity. It applies only to change
+     * tracking modes in which collections are wrapped in indirect collections tracking their modifications, i.e.,
+     * {@literal immediate} and {@literal dirty_fields}.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @see #CHANGE_TRACKING_MODE
+     */
+    public static final String COPY_ON_WRITE_CLONING = "cz.cvut.kbss.jopa.cloning.copyOnWrite";
+
     /**
      * Backward compatibility property name for {@link #PERSISTENCE_UNIT_LIFECYCLE_PLUGINS}.
      * <p>
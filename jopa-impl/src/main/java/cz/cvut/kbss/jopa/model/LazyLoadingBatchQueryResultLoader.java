@@ -0,0 +1,42 @@
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.util.LazyLoadingBatchRegistry;
+import cz.cvut.kbss.ontodriver.iteration.ResultRow;
+
+import java.util.Optional;
+
+/**
+ * Registers entities loaded by the wrapped loader in a lazy loading batch, so that their lazily loaded attributes can
+ * be loaded together.
+ *
+ * @param <T> Result type
+ * @see cz.cvut.kbss.jopa.query.QueryHints#LAZY_LOADING_BATCH_SIZE
+ */
+public class LazyLoadingBatchQueryResultLoader<T> implements QueryResultLoader<T> {
+
+    private final QueryResultLoader<T> delegate;
+    private final UnitOfWork uow;
+    private final LazyLoadingBatchRegistry.Batch batch;
+
+    public LazyLoadingBatchQueryResultLoader(QueryResultLoader<T> delegate, UnitOfWork uow, int batchSize) {
+        this.delegate = delegate;
+        this.uow = uow;
+        this.batch = new LazyLoadingBatchRegistry.Batch(batchSize);
+    }
+
+    @Override
+    public Optional<T> loadResult(ResultRow resultRow) {
+        return register(delegate.loadResult(resultRow));
+    }
+
+    @Override
+    public Optional<T> loadLastPending() {
+        return register(delegate.loadLastPending());
+    }
+
+    private Optional<T> register(Optional<T> result) {
+        result.ifPresent(r -> uow.registerInLazyLoadingBatch(r, batch));
+        return result;
+    }
+}
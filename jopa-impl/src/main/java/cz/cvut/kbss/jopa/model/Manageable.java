@@ -18,6 +18,9 @@
 package cz.cvut.kbss.jopa.model;
 
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.cache.SealedView;
+
+import java.util.BitSet;
 
 /**
  * Interface dynamically assigned to entity classes so that their instances may be attached to a persistence context.
@@ -39,4 +42,57 @@ public interface Manageable {
      * @return Persistence context instance
      */
     UnitOfWork getPersistenceContext();
+
+    /**
+     * Sets the set of attributes modified since this instance entered the persistence context.
+     * <p>
+     * Bits correspond to attribute indexes assigned by the persistence context. Used only by persistence contexts which
+     * track dirty attributes, {@code null} means no attribute has been modified.
+     *
+     * @param dirtyFields Dirty attribute bitmap, possibly {@code null}
+     */
+    void setDirtyFields(BitSet dirtyFields);
+
+    /**
+     * Gets the set of attributes modified since this instance entered the persistence context.
+     *
+     * @return Dirty attribute bitmap, possibly {@code null}
+     * @see #setDirtyFields(BitSet)
+     */
+    BitSet getDirtyFields();
+
+    /**
+     * Marks this instance as a sealed copy of a second level cache instance used by a read-only persistence context.
+     * <p>
+     * A shared instance shares values with the cached instance, so its modification via setters is rejected.
+     *
+     * @param sharedReadOnly Whether this instance is a shared read-only instance
+     */
+    void setSharedReadOnlyInstance(boolean sharedReadOnly);
+
+    /**
+     * Checks whether this instance is a sealed copy of a second level cache instance and thus cannot be modified.
+     *
+     * @return {@code true} if this instance is a shared read-only instance, {@code false} otherwise
+     * @see #setSharedReadOnlyInstance(boolean)
+     */
+    boolean isSharedReadOnlyInstance();
+
+    /**
+     * Sets the sealed view associated with this instance.
+     * <p>
+     * For a second level cache instance, this is its current sealed view shared by read-only persistence contexts. For
+     * a shared read-only instance, this is the view it represents.
+     *
+     * @param sealedView Sealed view, possibly {@code null}
+     */
+    void setSealedView(SealedView sealedView);
+
+    /**
+     * Gets the sealed view associated with this instance.
+     *
+     * @return Sealed view, possibly {@code null}
+     * @see #setSealedView(SealedView)
+     */
+    SealedView getSealedView();
 }
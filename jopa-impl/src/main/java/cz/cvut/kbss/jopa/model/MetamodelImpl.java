@@ -25,6 +25,8 @@ import cz.cvut.kbss.jopa.model.metamodel.ManagedType;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.metamodel.MetamodelBuilder;
 import cz.cvut.kbss.jopa.model.metamodel.StaticMetamodelInitializer;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PregeneratedClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PregeneratedClasses;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
 import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
@@ -87,15 +89,23 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
     public void build(PersistenceUnitClassFinder classFinder) {
         Objects.requireNonNull(classFinder);
         LOG.debug("Building metamodel...");
+        final long start = System.currentTimeMillis();
         classFinder.scanClasspath(configuration);
+        final long scanned = System.currentTimeMillis();
 
         final MetamodelBuilder metamodelBuilder = new MetamodelBuilder(configuration);
         metamodelBuilder.buildMetamodel(classFinder);
+        final long built = System.currentTimeMillis();
 
         initFromMetamodelBuilder(metamodelBuilder);
         this.namedQueryManager = metamodelBuilder.getNamedQueryManager();
         this.resultSetMappingManager = metamodelBuilder.getResultSetMappingManager();
         new StaticMetamodelInitializer(this).initializeStaticMetamodel();
+        final long end = System.currentTimeMillis();
+        LOG.debug("Metamodel of {} entity types built in {} ms (classpath scanning: {} ms, type processing: {} ms, " +
+                        "class generation: {} ms, static metamodel initialization: {} ms).", entities.size(),
+                end - start, scanned - start, built - scanned - metamodelBuilder.getClassGenerationTime(),
+                metamodelBuilder.getClassGenerationTime(), end - built);
     }
 
     private void initFromMetamodelBuilder(MetamodelBuilder metamodelBuilder) {
@@ -238,7 +248,8 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
      */
     public <X> Class<? extends X> getLazyLoadingProxy(Class<X> cls) {
         assert isEntityType(cls);
-        return (Class<? extends X>) lazyLoadingProxyClasses.computeIfAbsent(cls, c -> new LazyLoadingEntityProxyGenerator().generate(c));
+        return (Class<? extends X>) lazyLoadingProxyClasses.computeIfAbsent(cls, c -> PregeneratedClassGenerator.wrapIfEnabled(
+                PregeneratedClasses.Kind.LAZY_LOADING_PROXY, new LazyLoadingEntityProxyGenerator(), configuration).generate(c));
     }
 
     /**
@@ -250,7 +261,8 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
      */
     public <X> Class<? extends X> getEntityReferenceProxy(Class<X> cls) {
         assert isEntityType(cls);
-        return (Class<? extends X>) referenceProxyClasses.computeIfAbsent(cls, c -> new EntityReferenceProxyGenerator().generate(cls));
+        return (Class<? extends X>) referenceProxyClasses.computeIfAbsent(cls, c -> PregeneratedClassGenerator.wrapIfEnabled(
+                PregeneratedClasses.Kind.REFERENCE_PROXY, new EntityReferenceProxyGenerator(), configuration).generate(cls));
     }
 
     /**
@@ -97,6 +97,8 @@ public class QueryHintsHandler {
             registerHint(new DisableInferenceHint());
             registerHint(new TargetOntologyHint());
             registerHint(new OptimizedQueryResultEntityLoadingHint());
+            registerHint(new LazyLoadingBatchSizeHint());
+            registerHint(new DetachStreamedResultsHint());
         }
 
         Hint(String name, Object defaultValue) {
@@ -225,4 +227,45 @@ public class QueryHintsHandler {
             // Do nothing, the optimizer is enabled as soon as the hint is set
         }
     }
+
+    protected static class LazyLoadingBatchSizeHint extends Hint {
+        public LazyLoadingBatchSizeHint() {
+            super(QueryHints.LAZY_LOADING_BATCH_SIZE, 1);
+        }
+
+        @Override
+        Object getValueToApply(Object hintValue) {
+            if (shouldUseDefault(hintValue)) {
+                return defaultValue;
+            }
+            final int value;
+            try {
+                value = hintValue instanceof Number n ? n.intValue() : Integer.parseInt(hintValue.toString().trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.", e);
+            }
+            if (value < 1) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.");
+            }
+            return value;
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            // Do nothing, the batch size is set on the query result loading optimizer as soon as the hint is set
+        }
+    }
+
+    protected static class DetachStreamedResultsHint extends Hint {
+        public DetachStreamedResultsHint() {
+            super(QueryHints.DETACH_STREAMED_RESULTS, Boolean.FALSE);
+            this.valueArray =
+                    new Object[][]{{Boolean.TRUE.toString(), Boolean.TRUE}, {Boolean.FALSE.toString(), Boolean.FALSE}};
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            // Do nothing, result detaching is configured on the query as soon as the hint is set
+        }
+    }
 }
@@ -30,6 +30,9 @@ import java.util.function.Consumer;
  * The main responsibilities of this spliterator are extracting result rows using the specified mapper, passing the
  * extraction result to the specified consumer and invoking the {@code onClose} handler once the iteration is finished.
  * This handler releases the underlying statement and result set.
+ * <p>
+ * Optionally, a post-processing handler may be specified, which is invoked with each extracted item once it has been
+ * passed to the consumer.
  *
  * @param <X> The type of the extracted item
  */
@@ -38,17 +41,29 @@ class QueryResultSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
     private final Spliterator<ResultRow> resultSetSpliterator;
     private final QueryResultLoader<X> resultLoader;
     private final Runnable onClose;
+    private final Consumer<? super X> afterProcessing;
 
     QueryResultSpliterator(Spliterator<ResultRow> resultSetSpliterator, QueryResultLoader<X> resultLoader,
                            Runnable onClose) {
+        this(resultSetSpliterator, resultLoader, onClose, item -> {});
+    }
+
+    QueryResultSpliterator(Spliterator<ResultRow> resultSetSpliterator, QueryResultLoader<X> resultLoader,
+                           Runnable onClose, Consumer<? super X> afterProcessing) {
         super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
         this.resultSetSpliterator = resultSetSpliterator;
         this.resultLoader = resultLoader;
         this.onClose = onClose;
+        this.afterProcessing = afterProcessing;
     }
 
     private void mapAndApply(ResultRow row, Consumer<? super X> action) {
-        resultLoader.loadResult(row).ifPresent(action);
+        resultLoader.loadResult(row).ifPresent(item -> apply(item, action));
+    }
+
+    private void apply(X item, Consumer<? super X> action) {
+        action.accept(item);
+        afterProcessing.accept(item);
     }
 
     @Override
@@ -56,7 +71,7 @@ class QueryResultSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
         try {
             final boolean result = resultSetSpliterator.tryAdvance(row -> mapAndApply(row, action));
             if (!result) {
-                resultLoader.loadLastPending().ifPresent(action);
+                resultLoader.loadLastPending().ifPresent(item -> apply(item, action));
                 onClose.run();
             }
             return result;
@@ -71,7 +86,7 @@ class QueryResultSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
         try {
             resultSetSpliterator.forEachRemaining(row -> mapAndApply(row, action));
         } finally {
-            resultLoader.loadLastPending().ifPresent(action);
+            resultLoader.loadLastPending().ifPresent(item -> apply(item, action));
             onClose.run();
         }
     }
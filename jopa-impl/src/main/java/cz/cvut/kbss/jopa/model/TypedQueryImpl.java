@@ -32,6 +32,8 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
@@ -42,6 +44,9 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
 
     private Descriptor descriptor = new EntityDescriptor();
 
+    private boolean detachStreamedResults;
+    private Supplier<Consumer<Object>> resultDetacherFactory = () -> result -> {};
+
     public TypedQueryImpl(QueryHolder query, Class<X> resultType, ConnectionWrapper connection,
                           QueryResultLoadingOptimizer<? extends QueryHolder> queryResultLoadingOptimizer) {
         super(query, connection);
@@ -105,7 +110,8 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         queryResultLoadingOptimizer.optimizeQueryAssembly(resultType, descriptor);
         final QueryResultLoader<X> resultLoader = queryResultLoadingOptimizer.getQueryResultLoader(resultType, descriptor);
         try {
-            return executeQueryForStream(resultLoader);
+            return detachStreamedResults ? executeQueryForStream(resultLoader, resultDetacherFactory.get()) :
+                   executeQueryForStream(resultLoader);
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -198,10 +204,28 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
                     queryResultLoadingOptimizer.disableOptimization();
                 }
             });
+        } else if (QueryHints.LAZY_LOADING_BATCH_SIZE.equals(hintName)) {
+            QueryHintsHandler.Hint.getHint(hintName).ifPresent(
+                    h -> queryResultLoadingOptimizer.setLazyLoadingBatchSize((Integer) h.getValueToApply(value)));
+        } else if (QueryHints.DETACH_STREAMED_RESULTS.equals(hintName)) {
+            QueryHintsHandler.Hint.getHint(hintName)
+                                  .ifPresent(h -> this.detachStreamedResults = (Boolean) h.getValueToApply(value));
         }
         return this;
     }
 
+    /**
+     * Registers a factory of procedures which detach results from the persistence context.
+     * <p>
+     * A new procedure is created for each result stream when {@link QueryHints#DETACH_STREAMED_RESULTS} is enabled, so
+     * that it can distinguish instances loaded by the stream from those managed before it was opened.
+     *
+     * @param resultDetacherFactory Creates the procedure to call when detaching a result
+     */
+    void setResultDetacherFactory(Supplier<Consumer<Object>> resultDetacherFactory) {
+        this.resultDetacherFactory = Objects.requireNonNull(resultDetacherFactory);
+    }
+
     @Override
     public TypedQuery<X> setDescriptor(Descriptor descriptor) {
         this.descriptor = Objects.requireNonNull(descriptor);
@@ -19,9 +19,11 @@ package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.exception.AbstractTypeException;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -73,6 +75,11 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
 
     private EntityLifecycleListenerManager lifecycleListenerManager = EntityLifecycleListenerManager.empty();
 
+    /**
+     * Field table created when the metamodel is frozen. Before that, field specifications are resolved on each call.
+     */
+    private FieldTable<X> fieldTable;
+
     AbstractIdentifiableType(Class<X> javaType) {
         this.javaType = javaType;
     }
@@ -149,6 +156,61 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
         this.declaredGenericQueryAttributes = declaredGenericQueryAttributes == null ? Map.of() : Collections.unmodifiableMap(declaredGenericQueryAttributes);
     }
 
+    /**
+     * Creates the field table of this type.
+     * <p>
+     * This should be invoked only after all managed types in the metamodel were {@link #finish() finished}, because
+     * the table includes attributes inherited from supertypes and attributes of subtypes. The identifier gets the first
+     * ordinal, followed by attributes, query attributes, types and properties.
+     */
+    void freeze() {
+        this.fieldTable = new FieldTable<>(collectFieldSpecifications(), collectSubtypeAttributes());
+    }
+
+    private List<Attribute<?, ?>> collectSubtypeAttributes() {
+        final List<Attribute<?, ?>> result = new ArrayList<>();
+        for (AbstractIdentifiableType<? extends X> subtype : subtypes) {
+            result.addAll(subtype.getAttributes());
+            result.addAll(subtype.collectSubtypeAttributes());
+        }
+        return result;
+    }
+
+    private FieldTable<X> createFieldTable() {
+        return new FieldTable<>(collectFieldSpecifications());
+    }
+
+    private List<FieldSpecification<? super X, ?>> collectFieldSpecifications() {
+        final List<FieldSpecification<? super X, ?>> specs = new ArrayList<>();
+        // Interfaces and abstract supertypes need not declare an identifier
+        if (hasIdentifier()) {
+            specs.add(getIdentifier());
+        }
+        specs.addAll(getAttributes());
+        specs.addAll(getQueryAttributes());
+        final TypesSpecification<? super X, ?> types = getTypes();
+        if (types != null) {
+            specs.add(types);
+        }
+        final PropertiesSpecification<? super X, ?, ?, ?> props = getProperties();
+        if (props != null) {
+            specs.add(props);
+        }
+        return specs;
+    }
+
+    /**
+     * Gets the field table of this type.
+     * <p>
+     * The table contains the same field specifications as {@link #getFieldSpecifications()} and assigns them dense
+     * ordinals. Once the metamodel is built, the table is precomputed and shared.
+     *
+     * @return Field table
+     */
+    public FieldTable<X> getFieldTable() {
+        return fieldTable != null ? fieldTable : createFieldTable();
+    }
+
     @Override
     public <Y> SingularAttribute<X, Y> getDeclaredVersion(Class<Y> type) {
         // TODO
@@ -606,22 +668,15 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
 
     @Override
     public Set<FieldSpecification<? super X, ?>> getFieldSpecifications() {
-        final Set<FieldSpecification<? super X, ?>> specs = new HashSet<>(getAttributes());
-        specs.addAll(getQueryAttributes());
-        final TypesSpecification<? super X, ?> types = getTypes();
-        if (types != null) {
-            specs.add(types);
-        }
-        final PropertiesSpecification<? super X, ?, ?, ?> props = getProperties();
-        if (props != null) {
-            specs.add(props);
-        }
-        specs.add(getIdentifier());
-        return specs;
+        return getFieldTable().asSet();
     }
 
     @Override
     public FieldSpecification<? super X, ?> getFieldSpecification(String fieldName) {
+        if (fieldTable != null) {
+            return fieldTable.getFieldSpecification(fieldName).orElseThrow(
+                    () -> new IllegalArgumentException("Field " + fieldName + " is not present in type " + this));
+        }
         final Optional<AbstractAttribute<? super X, ?>> declaredAtt = getDeclaredAttributeImpl(fieldName);
         if (declaredAtt.isPresent()) {
             return declaredAtt.get();
@@ -666,6 +721,10 @@ public abstract class AbstractIdentifiableType<X> implements IdentifiableType<X>
         });
     }
 
+    private boolean hasIdentifier() {
+        return identifier != null || classSupertype != null && classSupertype.hasIdentifier();
+    }
+
     @Override
     public Identifier<? super X, ?> getIdentifier() {
         if (identifier != null) {
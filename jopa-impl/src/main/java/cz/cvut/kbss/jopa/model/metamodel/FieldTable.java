@@ -0,0 +1,207 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable table of field specifications of a managed type.
+ * <p>
+ * Each field specification is assigned a dense ordinal (its index in the table), which can be used to address the
+ * field in bitsets and arrays. The table also provides constant-time lookup of field specifications by field name and
+ * of attributes by the IRI of the property they map to.
+ * <p>
+ * Tables are created when the metamodel is built and shared by all persistence contexts, so that processing of
+ * entities does not require allocation of new collections of field specifications.
+ *
+ * @param <X> The represented type
+ */
+public final class FieldTable<X> {
+
+    private final FieldSpecification<? super X, ?>[] fields;
+
+    private final Map<FieldSpecification<?, ?>, Integer> ordinals;
+
+    private final Map<String, FieldSpecification<? super X, ?>> byName;
+
+    private final Map<String, Attribute<? super X, ?>> byIri;
+
+    private final Map<String, Attribute<?, ?>> subtypeAttributesByIri;
+
+    private final List<FieldSpecification<? super X, ?>> fieldList;
+
+    private final Set<FieldSpecification<? super X, ?>> fieldSet;
+
+    /**
+     * Creates a table of the specified field specifications.
+     * <p>
+     * Ordinals are assigned in the iteration order of the specified collection.
+     *
+     * @param fieldSpecifications Field specifications to put into the table
+     */
+    public FieldTable(Collection<? extends FieldSpecification<? super X, ?>> fieldSpecifications) {
+        this(fieldSpecifications, List.of());
+    }
+
+    /**
+     * Creates a table of the specified field specifications, indexing also attributes of subtypes of the represented
+     * type by their property IRI.
+     *
+     * @param fieldSpecifications Field specifications to put into the table
+     * @param subtypeAttributes   Attributes declared by subtypes of the represented type
+     */
+    FieldTable(Collection<? extends FieldSpecification<? super X, ?>> fieldSpecifications,
+               Collection<? extends Attribute<?, ?>> subtypeAttributes) {
+        Objects.requireNonNull(fieldSpecifications);
+        this.fields = fieldSpecifications.toArray(new FieldSpecification[0]);
+        this.ordinals = new IdentityHashMap<>(fields.length);
+        this.byName = new HashMap<>(fields.length);
+        this.byIri = new HashMap<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            final FieldSpecification<? super X, ?> fs = fields[i];
+            ordinals.put(fs, i);
+            byName.putIfAbsent(fs.getName(), fs);
+            if (fs instanceof Attribute<? super X, ?> att && att.getIRI() != null) {
+                byIri.putIfAbsent(att.getIRI().toString(), att);
+            }
+        }
+        this.subtypeAttributesByIri = new HashMap<>(subtypeAttributes.size());
+        for (Attribute<?, ?> att : subtypeAttributes) {
+            if (att.getIRI() != null && !byIri.containsKey(att.getIRI().toString())) {
+                subtypeAttributesByIri.putIfAbsent(att.getIRI().toString(), att);
+            }
+        }
+        this.fieldList = List.of(fields);
+        this.fieldSet = new FieldSet();
+    }
+
+    /**
+     * Gets the number of field specifications in this table.
+     *
+     * @return Number of fields
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Gets field specification with the specified ordinal.
+     *
+     * @param ordinal Field ordinal, between {@code 0} (inclusive) and {@link #size()} (exclusive)
+     * @return Field specification
+     * @throws IndexOutOfBoundsException If the ordinal is out of bounds
+     */
+    public FieldSpecification<? super X, ?> get(int ordinal) {
+        return fields[ordinal];
+    }
+
+    /**
+     * Gets ordinal of the specified field specification in this table.
+     *
+     * @param fieldSpec Field specification
+     * @return Ordinal of the field specification, {@code -1} if it is not present in this table
+     */
+    public int ordinal(FieldSpecification<?, ?> fieldSpec) {
+        final Integer ordinal = ordinals.get(fieldSpec);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Gets field specification with the specified name.
+     *
+     * @param fieldName Field name
+     * @return Matching field specification, empty {@code Optional} if there is no such field in this table
+     */
+    public Optional<FieldSpecification<? super X, ?>> getFieldSpecification(String fieldName) {
+        return Optional.ofNullable(byName.get(fieldName));
+    }
+
+    /**
+     * Gets attribute mapped to the property with the specified IRI.
+     * <p>
+     * If multiple attributes are mapped to the same property, the one with the lowest ordinal is returned.
+     *
+     * @param propertyIri Property identifier
+     * @return Matching attribute, empty {@code Optional} if no attribute in this table maps to the property
+     */
+    public Optional<Attribute<? super X, ?>> getAttribute(String propertyIri) {
+        return Optional.ofNullable(byIri.get(propertyIri));
+    }
+
+    /**
+     * Gets attribute mapped to the property with the specified IRI, looking also into attributes of subtypes of the
+     * represented type.
+     * <p>
+     * Attributes of the represented type take precedence over attributes of its subtypes.
+     *
+     * @param propertyIri Property identifier
+     * @return Matching attribute, empty {@code Optional} if neither the represented type nor any of its subtypes has an
+     * attribute mapped to the property
+     */
+    public Optional<Attribute<?, ?>> getAttributeIncludingSubtypes(String propertyIri) {
+        final Attribute<?, ?> att = byIri.get(propertyIri);
+        return Optional.ofNullable(att != null ? att : subtypeAttributesByIri.get(propertyIri));
+    }
+
+    /**
+     * Gets the field specifications in this table ordered by their ordinals.
+     *
+     * @return Unmodifiable list of field specifications
+     */
+    public List<FieldSpecification<? super X, ?>> asList() {
+        return fieldList;
+    }
+
+    /**
+     * Gets an unmodifiable set view of the field specifications in this table.
+     * <p>
+     * The set iterates over the field specifications in the order of their ordinals.
+     *
+     * @return Unmodifiable set of field specifications
+     */
+    public Set<FieldSpecification<? super X, ?>> asSet() {
+        return fieldSet;
+    }
+
+    private final class FieldSet extends AbstractSet<FieldSpecification<? super X, ?>> {
+
+        @Override
+        public Iterator<FieldSpecification<? super X, ?>> iterator() {
+            return fieldList.iterator();
+        }
+
+        @Override
+        public int size() {
+            return fields.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return ordinals.containsKey(o);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
 
 import java.lang.reflect.Field;
 
@@ -27,11 +28,18 @@ public class IRIIdentifierImpl<T> implements IRIIdentifier {
     private final Field javaField;
 
     private final boolean generated;
+    private final GenerationType generationType;
 
     public IRIIdentifierImpl(ManagedType<T> declaringType, final Field javaField, final boolean generated) {
+        this(declaringType, javaField, generated, GenerationType.AUTO);
+    }
+
+    public IRIIdentifierImpl(ManagedType<T> declaringType, final Field javaField, final boolean generated,
+                             final GenerationType generationType) {
         this.declaringType = declaringType;
         this.javaField = javaField;
         this.generated = generated;
+        this.generationType = generationType;
     }
 
     @Override
@@ -84,6 +92,11 @@ public class IRIIdentifierImpl<T> implements IRIIdentifier {
         return generated;
     }
 
+    @Override
+    public GenerationType getGenerationType() {
+        return generationType;
+    }
+
     @Override
     public BindableType getBindableType() {
         return BindableType.SINGULAR_ATTRIBUTE;
@@ -24,6 +24,9 @@ import cz.cvut.kbss.jopa.model.annotations.Namespace;
 import cz.cvut.kbss.jopa.model.annotations.Namespaces;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jopa.model.metamodel.gen.ManageableClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PregeneratedClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PregeneratedClasses;
 import cz.cvut.kbss.jopa.utils.ChangeTrackingMode;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.NamespaceResolver;
@@ -31,6 +34,8 @@ import cz.cvut.kbss.jopa.utils.NamespaceResolver;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -46,9 +51,26 @@ public class ManagedClassProcessor {
 
     static <T> TypeBuilderContext<T> processManagedType(Class<T> cls, NamespaceResolver namespaceResolver,
                                                         Configuration config) {
+        return processManagedType(cls, namespaceResolver, config, Collections.emptyMap());
+    }
+
+    /**
+     * Processes the specified managed type.
+     *
+     * @param cls                Managed class
+     * @param namespaceResolver  Namespace resolver
+     * @param config             Persistence unit configuration
+     * @param instantiableTypes  Instantiable types already generated for entity classes, used instead of generating
+     *                           them anew
+     * @param <T>                Managed type
+     * @return Type builder context
+     */
+    static <T> TypeBuilderContext<T> processManagedType(Class<T> cls, NamespaceResolver namespaceResolver,
+                                                        Configuration config,
+                                                        Map<Class<?>, Class<?>> instantiableTypes) {
         final AbstractIdentifiableType<T> type;
         if (isEntityType(cls)) {
-            type = processEntityType(cls, namespaceResolver, config);
+            type = processEntityType(cls, namespaceResolver, config, instantiableTypes);
         } else if (isMappedSuperclassType(cls)) {
             type = processMappedSuperclassType(cls);
         } else {
@@ -92,7 +114,8 @@ public class ManagedClassProcessor {
     }
 
     private static <T> IdentifiableEntityType<T> processEntityType(Class<T> cls, NamespaceResolver namespaceResolver,
-                                                                   Configuration config) {
+                                                                   Configuration config,
+                                                                   Map<Class<?>, Class<?>> instantiableTypes) {
         final OWLClass c = cls.getDeclaredAnnotation(OWLClass.class);
         assert c != null;
 
@@ -100,19 +123,56 @@ public class ManagedClassProcessor {
             return new AbstractEntityType<>(cls, IRI.create(namespaceResolver.resolveFullIri(c.iri())));
         } else {
             checkForNoArgConstructor(cls);
-            final Class<? extends T> instantiableType = resolveInstantiableType(cls, config);
+            final Class<? extends T> instantiableType = resolveInstantiableType(cls, config, instantiableTypes);
             return new ConcreteEntityType<>(cls, instantiableType, IRI.create(namespaceResolver.resolveFullIri(c.iri())));
         }
     }
 
-    private static <T> Class<? extends T> resolveInstantiableType(Class<T> cls, Configuration config) {
-        if (ChangeTrackingMode.IMMEDIATE == ChangeTrackingMode.resolve(config)) {
-            return new ManageableClassGenerator(config).generate(cls);
+    @SuppressWarnings("unchecked")
+    private static <T> Class<? extends T> resolveInstantiableType(Class<T> cls, Configuration config,
+                                                                  Map<Class<?>, Class<?>> instantiableTypes) {
+        if (requiresGeneratedInstantiableType(config)) {
+            final Class<?> generated = instantiableTypes.get(cls);
+            return generated != null ? (Class<? extends T>) generated : instantiableTypeGenerator(config).generate(cls);
         } else {
             return cls;
         }
     }
 
+    /**
+     * Checks whether the specified configuration requires entity instances to be of generated subclasses of entity
+     * classes.
+     *
+     * @param config Persistence unit configuration
+     * @return {@code true} if instantiable types of entity classes are generated, {@code false} otherwise
+     */
+    static boolean requiresGeneratedInstantiableType(Configuration config) {
+        final ChangeTrackingMode mode = ChangeTrackingMode.resolve(config);
+        return mode == ChangeTrackingMode.IMMEDIATE || mode == ChangeTrackingMode.DIRTY_FIELDS;
+    }
+
+    /**
+     * Gets a generator of instantiable types of entity classes.
+     *
+     * @param config Persistence unit configuration
+     * @return Class generator
+     */
+    static PersistenceContextAwareClassGenerator instantiableTypeGenerator(Configuration config) {
+        return PregeneratedClassGenerator.wrapIfEnabled(PregeneratedClasses.Kind.MANAGEABLE,
+                new ManageableClassGenerator(config), config);
+    }
+
+    /**
+     * Checks whether the specified class is an entity class that can be instantiated (i.e., it is neither abstract nor
+     * an interface).
+     *
+     * @param cls Class to check
+     * @return {@code true} if the class is an instantiable entity class, {@code false} otherwise
+     */
+    static boolean isInstantiableEntityType(Class<?> cls) {
+        return isEntityType(cls) && !cls.isInterface() && !Modifier.isAbstract(cls.getModifiers());
+    }
+
     private static <T> void checkForNoArgConstructor(Class<T> cls) {
         try {
             cls.getDeclaredConstructor();
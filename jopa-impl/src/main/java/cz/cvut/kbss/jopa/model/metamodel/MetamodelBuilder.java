@@ -27,12 +27,16 @@ import cz.cvut.kbss.jopa.model.annotations.InheritanceType;
 import cz.cvut.kbss.jopa.model.annotations.OWLAnnotationProperty;
 import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PregeneratedClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PregeneratedClasses;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.mapper.ResultSetMappingProcessor;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.Constants;
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
 import cz.cvut.kbss.jopa.utils.NamespaceResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +48,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,20 +66,28 @@ public class MetamodelBuilder {
     private final Map<IdentifiableType<?>, Set<AnnotatedAccessor>> annotatedAccessors = new HashMap<>();
     private final TypeReferenceMap typeReferenceMap = new TypeReferenceMap();
     private final Map<Class<?>, Class<?>> lazyLoadingProxyClasses = new HashMap<>();
+    private final Set<Class<?>> pendingLazyLoadingProxyClasses = new LinkedHashSet<>();
+    private final Map<Class<?>, Class<?>> instantiableTypes = new HashMap<>();
 
     private final List<DeferredFieldInitialization<?>> deferredFieldInitializations = new ArrayList<>();
 
-    private final LazyLoadingEntityProxyGenerator lazyLoadingEntityProxyGenerator = new LazyLoadingEntityProxyGenerator();
+    private final PersistenceContextAwareClassGenerator lazyLoadingEntityProxyGenerator;
+    private final ParallelClassGenerator parallelClassGenerator;
     private final NamespaceResolver namespaceResolver = new NamespaceResolver();
 
     private final ConverterResolver converterResolver;
 
     private final Configuration configuration;
 
+    private long classGenerationTime;
+
     public MetamodelBuilder(Configuration configuration) {
         this.configuration = configuration;
         this.mappingProcessor = new ResultSetMappingProcessor(this);
         this.converterResolver = new ConverterResolver(new Converters(configuration));
+        this.lazyLoadingEntityProxyGenerator = PregeneratedClassGenerator.wrapIfEnabled(
+                PregeneratedClasses.Kind.LAZY_LOADING_PROXY, new LazyLoadingEntityProxyGenerator(), configuration);
+        this.parallelClassGenerator = new ParallelClassGenerator(configuration);
     }
 
     /**
@@ -85,12 +98,27 @@ public class MetamodelBuilder {
     public void buildMetamodel(PersistenceUnitClassFinder classFinder) {
         assert classFinder != null;
         classFinder.getAttributeConverters().forEach(converterResolver::registerConverter);
+        generateInstantiableTypes(classFinder.getEntities());
         classFinder.getEntities().forEach(this::processOWLClass);
         processDeferredFields();
+        generateLazyLoadingProxies();
         typeMap.values().forEach(AbstractIdentifiableType::finish);
+        freezeEntityTypes();
         classFinder.getResultSetMappings().forEach(mappingProcessor::buildMapper);
     }
 
+    /**
+     * Creates field tables of entity types and resolves accessors of entity fields in advance, so that they are not
+     * created on first entity access.
+     */
+    private void freezeEntityTypes() {
+        typeMap.values().stream().filter(t -> t.getPersistenceType() == Type.PersistenceType.ENTITY)
+               .forEach(t -> {
+                   t.freeze();
+                   t.getFieldSpecifications().forEach(fs -> FieldAccessor.of(fs.getJavaField()));
+               });
+    }
+
     /**
      * Builds persistence unit metamodel based on the specified entity classes.
      * <p>
@@ -100,8 +128,39 @@ public class MetamodelBuilder {
      */
     public void buildMetamodel(Set<Class<?>> entityClasses) {
         assert entityClasses != null;
+        generateInstantiableTypes(entityClasses);
         entityClasses.forEach(this::processOWLClass);
         processDeferredFields();
+        generateLazyLoadingProxies();
+    }
+
+    /**
+     * Generates instantiable types of the specified entity classes in advance, so that they can be generated in
+     * parallel instead of one by one during type processing.
+     */
+    private void generateInstantiableTypes(Set<Class<?>> entityClasses) {
+        if (!ManagedClassProcessor.requiresGeneratedInstantiableType(configuration)) {
+            return;
+        }
+        final List<Class<?>> toGenerate = entityClasses.stream()
+                                                       .filter(ManagedClassProcessor::isInstantiableEntityType)
+                                                       .filter(cls -> !instantiableTypes.containsKey(cls))
+                                                       .toList();
+        final long start = System.nanoTime();
+        instantiableTypes.putAll(parallelClassGenerator.generate(toGenerate,
+                ManagedClassProcessor.instantiableTypeGenerator(configuration)));
+        this.classGenerationTime += System.nanoTime() - start;
+    }
+
+    private void generateLazyLoadingProxies() {
+        if (pendingLazyLoadingProxyClasses.isEmpty()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        lazyLoadingProxyClasses.putAll(parallelClassGenerator.generate(pendingLazyLoadingProxyClasses,
+                lazyLoadingEntityProxyGenerator));
+        pendingLazyLoadingProxyClasses.clear();
+        this.classGenerationTime += System.nanoTime() - start;
     }
 
     private <X> void processOWLClass(final Class<X> cls) {
@@ -112,7 +171,7 @@ public class MetamodelBuilder {
         LOG.debug("Processing OWL class: {}", cls);
 
         ManagedClassProcessor.detectNamespaces(cls, namespaceResolver);
-        final TypeBuilderContext<X> et = ManagedClassProcessor.processManagedType(cls, namespaceResolver, configuration);
+        final TypeBuilderContext<X> et = ManagedClassProcessor.processManagedType(cls, namespaceResolver, configuration, instantiableTypes);
         et.setConverterResolver(converterResolver);
         et.setPuLanguage(configuration.get(JOPAPersistenceProperties.LANG));
 
@@ -185,7 +244,7 @@ public class MetamodelBuilder {
             if (typeMap.containsKey(managedSupertype)) {
                 superTypes.add((AbstractIdentifiableType<? super X>) typeMap.get(managedSupertype));
             } else {
-                final TypeBuilderContext<? super X> context = ManagedClassProcessor.processManagedType(managedSupertype, namespaceResolver, configuration);
+                final TypeBuilderContext<? super X> context = ManagedClassProcessor.processManagedType(managedSupertype, namespaceResolver, configuration, instantiableTypes);
                 context.setConverterResolver(converterResolver);
                 context.setPuLanguage(configuration.get(JOPAPersistenceProperties.LANG));
                 processManagedType(context);
@@ -308,14 +367,27 @@ public class MetamodelBuilder {
     <X> void createLazyLoadingProxy(Attribute<X, ?> attribute) {
         if (attribute.getFetchType() == FetchType.LAZY && !attribute.isCollection()) {
             final Class<?> cls = attribute.getJavaType();
-            lazyLoadingProxyClasses.computeIfAbsent(cls, lazyLoadingEntityProxyGenerator::generate);
+            if (!lazyLoadingProxyClasses.containsKey(cls)) {
+                // Generated in bulk once the types are processed
+                pendingLazyLoadingProxyClasses.add(cls);
+            }
         }
     }
 
     public Map<Class<?>, Class<?>> getLazyLoadingEntityProxyClasses() {
+        generateLazyLoadingProxies();
         return Collections.unmodifiableMap(lazyLoadingProxyClasses);
     }
 
+    /**
+     * Gets the total time spent generating entity subclasses and proxies.
+     *
+     * @return Class generation time, in milliseconds
+     */
+    public long getClassGenerationTime() {
+        return classGenerationTime / 1_000_000;
+    }
+
     public Set<AnnotatedAccessor> getAnnotatedAccessorsForClass(IdentifiableType<?> k) {
         return annotatedAccessors.getOrDefault(k, Collections.emptySet());
     }
@@ -0,0 +1,100 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Generates classes for a set of entity classes, possibly in parallel.
+ * <p>
+ * Class generation is independent for each entity class and, being the most expensive part of metamodel building, is
+ * therefore done concurrently by a dedicated pool of threads.
+ */
+class ParallelClassGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelClassGenerator.class);
+
+    private final int parallelism;
+
+    ParallelClassGenerator(Configuration config) {
+        this.parallelism = resolveParallelism(config);
+    }
+
+    private static int resolveParallelism(Configuration config) {
+        final int defaultParallelism = Runtime.getRuntime().availableProcessors();
+        final String value = config.get(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM);
+        if (value == null) {
+            return defaultParallelism;
+        }
+        try {
+            final int parallelism = Integer.parseInt(value.trim());
+            if (parallelism < 1) {
+                throw new NumberFormatException("Parallelism must be positive.");
+            }
+            return parallelism;
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid metamodel build parallelism value '{}', using default {}.", value, defaultParallelism);
+            return defaultParallelism;
+        }
+    }
+
+    /**
+     * Generates classes for the specified entity classes using the specified generator.
+     *
+     * @param classes   Entity classes to generate classes for
+     * @param generator Class generator
+     * @return Map of entity classes to the generated classes
+     */
+    Map<Class<?>, Class<?>> generate(Collection<Class<?>> classes, PersistenceContextAwareClassGenerator generator) {
+        final Function<Class<?>, Class<?>> generateFn = generator::generate;
+        if (parallelism == 1 || classes.size() < 2) {
+            final Map<Class<?>, Class<?>> result = new HashMap<>(classes.size());
+            classes.forEach(cls -> result.put(cls, generateFn.apply(cls)));
+            return result;
+        }
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, classes.size()));
+        try {
+            return pool.submit(() -> classes.parallelStream()
+                                            .collect(Collectors.toConcurrentMap(Function.identity(), generateFn)))
+                       .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MetamodelInitializationException("Interrupted while generating entity classes.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new MetamodelInitializationException("Unable to generate entity classes.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.loaders.DefaultClasspathScanner;
+import cz.cvut.kbss.jopa.loaders.PersistenceClassIndex;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.util.NonEntity;
+import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
+import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import net.bytebuddy.dynamic.DynamicType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Precomputes, at build time, the data that is otherwise computed on persistence unit startup.
+ * <p>
+ * This includes the {@link PersistenceClassIndex} and entity subclasses generated by {@link ManageableClassGenerator},
+ * {@link LazyLoadingEntityProxyGenerator} and {@link EntityReferenceProxyGenerator}. The results are written into an
+ * output directory, typically the one containing compiled classes, so that they are packaged together with the
+ * entity classes.
+ * <p>
+ * Classes are discovered using the context class loader of the current thread.
+ *
+ * @see PregeneratedClasses
+ * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#PRECOMPUTED_METAMODEL
+ */
+public class ClassPregenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassPregenerator.class);
+
+    private final Set<Class<?>> persistenceClasses = new TreeSet<>((a, b) -> a.getName().compareTo(b.getName()));
+
+    private final Map<PregeneratedClasses.Kind, Map<String, String>> generated = new EnumMap<>(PregeneratedClasses.Kind.class);
+
+    /**
+     * Discovers persistence classes in the specified packages and precomputes data for them into the specified output
+     * directory.
+     *
+     * @param scanPackages Packages to scan
+     * @param outputDir    Output directory root
+     */
+    public void pregenerate(Collection<String> scanPackages, Path outputDir) {
+        Objects.requireNonNull(scanPackages);
+        Objects.requireNonNull(outputDir);
+        final DefaultClasspathScanner scanner = new DefaultClasspathScanner();
+        scanner.addListener(cls -> {
+            if (PersistenceClassIndex.isIndexed(cls)) {
+                persistenceClasses.add(cls);
+            }
+        });
+        scanPackages.stream().map(String::trim).forEach(scanner::processClasses);
+
+        final ManageableClassGenerator manageableGenerator = new ManageableClassGenerator(new Configuration(),
+                PregeneratedClasses.Kind.MANAGEABLE.namingStrategy());
+        final LazyLoadingEntityProxyGenerator lazyLoadingGenerator = new LazyLoadingEntityProxyGenerator(
+                PregeneratedClasses.Kind.LAZY_LOADING_PROXY.namingStrategy());
+        final EntityReferenceProxyGenerator referenceGenerator = new EntityReferenceProxyGenerator(
+                PregeneratedClasses.Kind.REFERENCE_PROXY.namingStrategy());
+        persistenceClasses.stream().filter(ClassPregenerator::isEntity).forEach(cls -> {
+            if (isInstantiable(cls)) {
+                generate(PregeneratedClasses.Kind.MANAGEABLE, cls, manageableGenerator::createType, outputDir);
+            }
+            generate(PregeneratedClasses.Kind.LAZY_LOADING_PROXY, cls, lazyLoadingGenerator::createType, outputDir);
+            generate(PregeneratedClasses.Kind.REFERENCE_PROXY, cls, referenceGenerator::createType, outputDir);
+        });
+        PregeneratedClasses.write(generated, outputDir);
+        LOG.info("Pregenerated {} entity subclasses.", generated.values().stream().mapToInt(Map::size).sum());
+        // Written last, so that classes in the output directory newer than the index indicate that it is stale
+        PersistenceClassIndex.write(persistenceClasses, outputDir);
+        LOG.info("Indexed {} persistence classes.", persistenceClasses.size());
+    }
+
+    private static boolean isEntity(Class<?> cls) {
+        return cls.getAnnotation(OWLClass.class) != null && cls.getAnnotation(NonEntity.class) == null &&
+                cls.getAnnotation(GeneratedEntityClass.class) == null && !Modifier.isFinal(cls.getModifiers());
+    }
+
+    private static boolean isInstantiable(Class<?> cls) {
+        return !cls.isInterface() && !Modifier.isAbstract(cls.getModifiers());
+    }
+
+    private <T> void generate(PregeneratedClasses.Kind kind, Class<T> cls,
+                              Function<Class<T>, DynamicType.Unloaded<? extends T>> generator, Path outputDir) {
+        final DynamicType.Unloaded<? extends T> typeDef;
+        try {
+            typeDef = generator.apply(cls);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to generate {} class for {}, it will be generated at runtime.", kind, cls, e);
+            return;
+        }
+        if (typeDef.hasAliveLoadedTypeInitializers()) {
+            // Such types require initialization by ByteBuddy on load
+            LOG.debug("Type {} requires initialization on load, it will be generated at runtime.", typeDef);
+            return;
+        }
+        try {
+            typeDef.saveIn(outputDir.toFile());
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to save generated class " + typeDef.getTypeDescription()
+                                                                                       .getName() + " to " + outputDir, e);
+        }
+        generated.computeIfAbsent(kind, k -> new TreeMap<>())
+                 .put(cls.getName(), typeDef.getTypeDescription().getName());
+    }
+}
@@ -17,12 +17,14 @@
  */
 package cz.cvut.kbss.jopa.model.metamodel.gen;
 
+import cz.cvut.kbss.jopa.exceptions.AttributeModificationForbiddenException;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.metamodel.AnnotatedAccessor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.cache.SealedView;
 import cz.cvut.kbss.jopa.sessions.validator.AttributeModificationValidator;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
@@ -44,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.BitSet;
 import java.util.Objects;
 
 import static net.bytebuddy.matcher.ElementMatchers.isSetter;
@@ -53,40 +56,65 @@ import static net.bytebuddy.matcher.ElementMatchers.isSetter;
  * <p>
  * Such classes have an additional attribute not inherited from the base entity class. This attribute's value is a
  * reference to the persistence context to which an instance is attached. {@link cz.cvut.kbss.jopa.model.Manageable}
- * allows establishing and accessing this connection.
+ * allows establishing and accessing this connection. In addition, the classes hold a bitmap of attributes modified in
+ * the persistence context, which is used by persistence contexts tracking dirty attributes, and a flag marking
+ * instances shared by read-only persistence contexts, whose setters are rejected before the value is changed.
  */
 public class ManageableClassGenerator implements PersistenceContextAwareClassGenerator {
 
     private static final Logger LOG = LoggerFactory.getLogger(ManageableClassGenerator.class);
 
-    private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
-
-        @Override
-        protected String name(TypeDescription typeDescription) {
-            return "JOPA_" + typeDescription.getSimpleName();
-        }
-    });
+    private final ByteBuddy byteBuddy;
 
     private final Configuration config;
 
-    public ManageableClassGenerator(Configuration config) {this.config = config;}
+    public ManageableClassGenerator(Configuration config) {
+        this(config, new NamingStrategy.AbstractBase() {
+
+            @Override
+            protected String name(TypeDescription typeDescription) {
+                return "JOPA_" + typeDescription.getSimpleName();
+            }
+        });
+    }
+
+    public ManageableClassGenerator(Configuration config, NamingStrategy namingStrategy) {
+        this.config = config;
+        this.byteBuddy = new ByteBuddy().with(namingStrategy);
+    }
 
     @Override
     public <T> Class<? extends T> generate(Class<T> entityClass) {
+        final DynamicType.Unloaded<? extends T> typeDef = createType(entityClass);
+        outputGeneratedClass(typeDef);
+        return typeDef.load(getClass().getClassLoader()).getLoaded();
+    }
+
+    /**
+     * Creates definition of the generated type without loading it.
+     *
+     * @param entityClass Entity class for which to generate the subclass
+     * @param <T>         Entity type
+     * @return Unloaded type definition
+     */
+    public <T> DynamicType.Unloaded<? extends T> createType(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating dynamic type for entity class {}.", entityClass);
         DynamicType.Unloaded<? extends T> typeDef = byteBuddy.subclass(entityClass)
                                                              .annotateType(entityClass.getAnnotations())
                                                              .annotateType(new GeneratedEntityClassImpl())
                                                              .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                                                             .defineField("dirtyFields", BitSet.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                                                             .defineField("sharedReadOnlyInstance", boolean.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                                                             .defineField("sealedView", SealedView.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
                                                              .implement(Manageable.class)
                                                              .intercept(FieldAccessor.ofBeanProperty())
                                                              .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
-                                                             .intercept(SuperMethodCall.INSTANCE.andThen(MethodDelegation.to(SetterInterceptor.class)))
+                                                             .intercept(MethodDelegation.to(SharedInstanceGuard.class)
+                                                                                        .andThen(SuperMethodCall.INSTANCE.andThen(MethodDelegation.to(SetterInterceptor.class))))
                                                              .make();
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
-        outputGeneratedClass(typeDef);
-        return typeDef.load(getClass().getClassLoader()).getLoaded();
+        return typeDef;
     }
 
     private <T> void outputGeneratedClass(DynamicType.Unloaded<? extends T> typeDef) {
@@ -102,6 +130,20 @@ public class ManageableClassGenerator implements PersistenceContextAwareClassGen
         }
     }
 
+    public static class SharedInstanceGuard {
+
+        private SharedInstanceGuard() {
+            throw new AssertionError();
+        }
+
+        public static void verifyNotShared(@This Manageable instance, @Origin Method setter) {
+            if (instance.isSharedReadOnlyInstance()) {
+                throw new AttributeModificationForbiddenException("Cannot invoke setter " + setter.getName() +
+                        ", the instance is shared by read-only persistence contexts and cannot be modified.");
+            }
+        }
+    }
+
     public static class SetterInterceptor {
 
         private SetterInterceptor() {
@@ -0,0 +1,64 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.utils.Configuration;
+
+import java.util.Objects;
+
+/**
+ * Uses classes generated at build time, falling back to generating them at runtime when a class is not available.
+ *
+ * @see PregeneratedClasses
+ */
+public class PregeneratedClassGenerator implements PersistenceContextAwareClassGenerator {
+
+    private final PregeneratedClasses.Kind kind;
+    private final PersistenceContextAwareClassGenerator fallback;
+
+    public PregeneratedClassGenerator(PregeneratedClasses.Kind kind, PersistenceContextAwareClassGenerator fallback) {
+        this.kind = Objects.requireNonNull(kind);
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    @Override
+    public <T> Class<? extends T> generate(Class<T> entityClass) {
+        Objects.requireNonNull(entityClass);
+        return PregeneratedClasses.forClassLoader(entityClass.getClassLoader()).find(kind, entityClass)
+                                  .orElseGet(() -> fallback.generate(entityClass));
+    }
+
+    /**
+     * Wraps the specified generator so that it uses build-time generated classes if the configuration enables it (see
+     * {@link JOPAPersistenceProperties#PRECOMPUTED_METAMODEL}).
+     *
+     * @param kind      Kind of classes the generator produces
+     * @param generator Generator to use when no pregenerated class is available
+     * @param config    Persistence unit configuration, possibly {@code null}
+     * @return Wrapped generator or the original one if pregenerated classes should not be used
+     */
+    public static PersistenceContextAwareClassGenerator wrapIfEnabled(PregeneratedClasses.Kind kind,
+                                                                      PersistenceContextAwareClassGenerator generator,
+                                                                      Configuration config) {
+        if (config != null && config.is(JOPAPersistenceProperties.PRECOMPUTED_METAMODEL)) {
+            return new PregeneratedClassGenerator(kind, generator);
+        }
+        return generator;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.type.TypeDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Entity subclasses generated at build time and packaged together with the entity classes.
+ * <p>
+ * Generated classes are listed in an index resource in which each line contains the kind of the generated class, the
+ * name of the entity class and the name of the generated class, separated by a space. Each archive may contain its own
+ * index, all of them are merged when read.
+ */
+public final class PregeneratedClasses {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PregeneratedClasses.class);
+
+    /**
+     * Location of the index resource.
+     */
+    public static final String RESOURCE = "META-INF/jopa/generated-classes.idx";
+
+    private static final Map<ClassLoader, PregeneratedClasses> INSTANCES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Kinds of generated classes.
+     */
+    public enum Kind {
+        /**
+         * Classes generated by {@link ManageableClassGenerator}.
+         */
+        MANAGEABLE("JOPA_", ""),
+        /**
+         * Classes generated by {@link cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator}.
+         */
+        LAZY_LOADING_PROXY("", "_LazyLoadingProxy"),
+        /**
+         * Classes generated by {@link cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator}.
+         */
+        REFERENCE_PROXY("", "_ReferenceProxy");
+
+        private final String prefix;
+        private final String suffix;
+
+        Kind(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        /**
+         * Resolves name of the class of this kind generated for an entity class with the specified name.
+         * <p>
+         * Unlike classes generated at runtime, the build-time generated classes reside in the package of the entity
+         * class, so that they can be packaged and loaded together with it.
+         *
+         * @param entityClassName Fully qualified name of the entity class
+         * @return Fully qualified name of the generated class
+         */
+        public String generatedClassName(String entityClassName) {
+            final int packageEnd = entityClassName.lastIndexOf('.');
+            final String packageName = entityClassName.substring(0, packageEnd + 1);
+            return packageName + prefix + entityClassName.substring(packageEnd + 1).replace('$', '_') + suffix;
+        }
+
+        /**
+         * Gets a naming strategy giving generated classes names resolved by {@link #generatedClassName(String)}.
+         *
+         * @return Naming strategy for ByteBuddy
+         */
+        public NamingStrategy namingStrategy() {
+            return new NamingStrategy.AbstractBase() {
+                @Override
+                protected String name(TypeDescription superClass) {
+                    return generatedClassName(superClass.getName());
+                }
+            };
+        }
+    }
+
+    private final Map<Kind, Map<String, String>> classNames;
+
+    private PregeneratedClasses(Map<Kind, Map<String, String>> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Gets build-time generated classes available to the specified class loader.
+     * <p>
+     * The index is read only once per class loader.
+     *
+     * @param classLoader Class loader to read index resources from
+     * @return Pregenerated classes, possibly empty
+     */
+    public static PregeneratedClasses forClassLoader(ClassLoader classLoader) {
+        return INSTANCES.computeIfAbsent(classLoader, PregeneratedClasses::read);
+    }
+
+    private static PregeneratedClasses read(ClassLoader classLoader) {
+        final Map<Kind, Map<String, String>> classNames = new EnumMap<>(Kind.class);
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                try (final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(line -> {
+                        final String[] parts = line.split(" ");
+                        if (parts.length != 3) {
+                            LOG.warn("Skipping invalid generated class index entry '{}'.", line);
+                            return;
+                        }
+                        final Optional<Kind> kind = Arrays.stream(Kind.values())
+                                                          .filter(k -> k.name().equals(parts[0])).findAny();
+                        if (kind.isEmpty()) {
+                            LOG.warn("Skipping generated class index entry '{}' of unknown kind.", line);
+                            return;
+                        }
+                        classNames.computeIfAbsent(kind.get(), k -> new HashMap<>()).put(parts[1], parts[2]);
+                    });
+                }
+            }
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to read generated class index.", e);
+        }
+        return new PregeneratedClasses(classNames);
+    }
+
+    /**
+     * Finds a generated class of the specified kind for the specified entity class.
+     *
+     * @param kind        Kind of the generated class
+     * @param entityClass Entity class
+     * @param <T>         Entity type
+     * @return Matching generated class, empty if it has not been generated at build time or it cannot be loaded
+     */
+    public <T> Optional<Class<? extends T>> find(Kind kind, Class<T> entityClass) {
+        final String name = classNames.getOrDefault(kind, Collections.emptyMap()).get(entityClass.getName());
+        if (name == null) {
+            return Optional.empty();
+        }
+        try {
+            final Class<?> cls = Class.forName(name, true, entityClass.getClassLoader());
+            if (!entityClass.isAssignableFrom(cls)) {
+                LOG.warn("Pregenerated class {} is not a subtype of {}, it will be generated anew.", cls, entityClass);
+                return Optional.empty();
+            }
+            return Optional.of(cls.asSubclass(entityClass));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOG.warn("Unable to load pregenerated class {}, it will be generated anew.", name, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes index of generated classes into the specified output directory.
+     *
+     * @param generated Map of generated class kind to map of entity class names to generated class names
+     * @param outputDir Root of the output directory (e.g., the directory with compiled classes)
+     */
+    public static void write(Map<Kind, Map<String, String>> generated, Path outputDir) {
+        final Path target = outputDir.resolve(RESOURCE);
+        try {
+            Files.createDirectories(target.getParent());
+            try (final Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Kind, Map<String, String>> e : generated.entrySet()) {
+                    for (Map.Entry<String, String> cls : e.getValue().entrySet()) {
+                        writer.write(e.getKey().name() + ' ' + cls.getKey() + ' ' + cls.getValue() + '\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to write generated class index to " + target, e);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.Set;
 
 import static cz.cvut.kbss.ontodriver.model.Assertion.createAnnotationPropertyAssertion;
@@ -45,9 +46,36 @@ import static cz.cvut.kbss.ontodriver.model.Assertion.createObjectPropertyAssert
 class AxiomDescriptorFactory {
 
     AxiomDescriptor createForEntityLoading(LoadingParameters<?> loadingParams, EntityType<?> et) {
+        final AxiomDescriptor descriptor = createForClassAssertion(loadingParams);
+        addForEntityType(loadingParams, et, descriptor);
+        return descriptor;
+    }
+
+    /**
+     * Creates a descriptor covering attributes of all the specified entity types.
+     * <p>
+     * This allows loading an instance whose actual type in an entity hierarchy is not known in advance in one go.
+     *
+     * @param loadingParams Loading parameters
+     * @param entityTypes   Candidate entity types of the loaded instance
+     * @return Axiom descriptor with assertions of all the entity types
+     */
+    AxiomDescriptor createForPolymorphicEntityLoading(LoadingParameters<?> loadingParams,
+                                                      Collection<? extends EntityType<?>> entityTypes) {
+        final AxiomDescriptor descriptor = createForClassAssertion(loadingParams);
+        entityTypes.forEach(et -> addForEntityType(loadingParams, et, descriptor));
+        return descriptor;
+    }
+
+    private static AxiomDescriptor createForClassAssertion(LoadingParameters<?> loadingParams) {
         final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(loadingParams.identifier()));
         loadingParams.descriptor().getContexts().forEach(descriptor::addSubjectContext);
         descriptor.addAssertion(Assertion.createClassAssertion(false));
+        return descriptor;
+    }
+
+    private static void addForEntityType(LoadingParameters<?> loadingParams, EntityType<?> et,
+                                         AxiomDescriptor descriptor) {
         addForTypes(loadingParams, et, descriptor);
         addForProperties(loadingParams, et, descriptor);
         for (Attribute<?, ?> att : et.getAttributes()) {
@@ -55,7 +83,6 @@ class AxiomDescriptorFactory {
             final Assertion a = createAssertion(att, attDescriptor, includeInferred(att, attDescriptor));
             addAssertionToDescriptor(loadingParams.descriptor(), att, descriptor, a);
         }
-        return descriptor;
     }
 
     private static void addForTypes(LoadingParameters<?> loadingParams, EntityType<?> et, AxiomDescriptor descriptor) {
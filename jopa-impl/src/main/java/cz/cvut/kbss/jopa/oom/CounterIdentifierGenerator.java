@@ -0,0 +1,49 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers consisting of a random node identifier and a counter.
+ * <p>
+ * The node identifier is chosen when the generator is created, so identifiers generated by different application
+ * instances (or after restart) differ in it. The counter ensures uniqueness of identifiers generated by one instance.
+ */
+class CounterIdentifierGenerator implements IdentifierGenerator {
+
+    private final String nodeId;
+    private final AtomicLong counter = new AtomicLong();
+
+    CounterIdentifierGenerator() {
+        final byte[] node = new byte[8];
+        new SecureRandom().nextBytes(node);
+        this.nodeId = HexFormat.of().formatHex(node);
+    }
+
+    @Override
+    public URI generate(URI classUri) {
+        return IdentifierUtils.createIdentifier(classUri,
+                nodeId + "-" + Long.toString(counter.incrementAndGet(), Character.MAX_RADIX));
+    }
+}
@@ -21,7 +21,11 @@ import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
+import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Loads entities which do not require polymorphic handling.
@@ -44,6 +48,13 @@ class DefaultInstanceLoader extends EntityInstanceLoader {
         return reconstructEntityFromAxioms(loadingParameters, et, axioms);
     }
 
+    @Override
+    <T> Map<URI, IdentifiableEntityType<? extends T>> resolveEntityTypes(List<LoadingParameters<T>> loadingParameters) {
+        final Map<URI, IdentifiableEntityType<? extends T>> result = new HashMap<>(loadingParameters.size());
+        loadingParameters.forEach(p -> result.put(p.identifier(), metamodel.entity(p.entityClass())));
+        return result;
+    }
+
     static DefaultInstanceLoaderBuilder builder() {
         return new DefaultInstanceLoaderBuilder();
     }
@@ -23,7 +23,6 @@ import cz.cvut.kbss.jopa.model.TypedQueryImpl;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.AbstractQueryAttribute;
-import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
@@ -118,15 +117,14 @@ class EntityConstructor {
     private <T> void populateAttributes(final T instance, EntityConstructionParameters<T> constructionParams,
                                         Collection<Axiom<?>> axioms, LoadStateDescriptor<T> loadStateDescriptor) {
         final IdentifiableEntityType<T> et = constructionParams.entityType();
-        final Map<URI, FieldSpecification<? super T, ?>> attributes = indexEntityAttributes(et);
         final Map<FieldSpecification<? super T, ?>, FieldStrategy<? extends FieldSpecification<? super T, ?>, T>>
-                fieldLoaders = new HashMap<>(et.getAttributes().size());
+                fieldLoaders = new HashMap<>(et.getFieldTable().size());
         for (Axiom<?> ax : axioms) {
             if (MappingUtils.isEntityClassAssertion(ax, et)) {
                 continue;
             }
             final FieldStrategy<? extends FieldSpecification<? super T, ?>, T> fs = getFieldLoader(
-                    ax, attributes, fieldLoaders, et, constructionParams.descriptor());
+                    ax, fieldLoaders, et, constructionParams.descriptor());
             if (fs == null) {
                 if (!MappingUtils.isClassAssertion(ax)) {
                     LOG.trace("No attribute found for property {}. Axiom {} will be skipped.", ax.getAssertion(), ax);
@@ -150,24 +148,13 @@ class EntityConstructor {
         }
     }
 
-    private static <T> Map<URI, FieldSpecification<? super T, ?>> indexEntityAttributes(EntityType<T> et) {
-        final Map<URI, FieldSpecification<? super T, ?>> atts = new HashMap<>(et.getAttributes().size());
-        for (Attribute<? super T, ?> at : et.getAttributes()) {
-            atts.put(at.getIRI().toURI(), at);
-        }
-        if (et.getTypes() != null) {
-            atts.put(URI.create(RDF.TYPE), et.getTypes());
-        }
-        return atts;
-    }
-
     private <T> FieldStrategy<? extends FieldSpecification<? super T, ?>, T> getFieldLoader(
             Axiom<?> ax,
-            Map<URI, FieldSpecification<? super T, ?>> attributes,
             Map<FieldSpecification<? super T, ?>, FieldStrategy<? extends FieldSpecification<? super T, ?>, T>> loaders,
-            EntityType<T> et, Descriptor desc) {
-        final URI attId = ax.getAssertion().getIdentifier();
-        FieldSpecification<? super T, ?> att = attributes.get(attId);
+            IdentifiableEntityType<T> et, Descriptor desc) {
+        final String attId = ax.getAssertion().getIdentifier().toString();
+        FieldSpecification<? super T, ?> att = RDF.TYPE.equals(attId) ? et.getTypes() :
+                                               et.getFieldTable().getAttribute(attId).orElse(null);
         if (att == null) {
             if (et.getProperties() != null) {
                 att = et.getProperties();
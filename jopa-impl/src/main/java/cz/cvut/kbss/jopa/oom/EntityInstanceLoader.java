@@ -39,13 +39,16 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Root of the entity loading strategies.
@@ -56,7 +59,7 @@ abstract class EntityInstanceLoader {
     final MetamodelImpl metamodel;
 
     final CacheManager cache;
-    private final AxiomDescriptorFactory descriptorFactory;
+    final AxiomDescriptorFactory descriptorFactory;
     final EntityConstructor entityBuilder;
 
     final LoadStateDescriptorRegistry loadStateRegistry;
@@ -97,6 +100,73 @@ abstract class EntityInstanceLoader {
      */
     abstract <T> T loadEntityFromAxioms(LoadingParameters<T> loadingParameters, Collection<Axiom<?>> axioms);
 
+    /**
+     * Loads entities based on the specified loading parameters.
+     * <p>
+     * Instances found in the cache are returned from there, the remaining ones are loaded from the storage together,
+     * using a single multi-subject find.
+     *
+     * @param loadingParameters Instance loading parameters, identifiers are expected to be unique
+     * @param <T>               Entity type
+     * @return Map of loaded instances keyed by their identifiers, instances which do not exist are not present
+     */
+    <T> Map<URI, T> loadEntities(Collection<LoadingParameters<T>> loadingParameters) {
+        final Map<URI, T> result = new HashMap<>(loadingParameters.size());
+        final List<LoadingParameters<T>> toLoad = new ArrayList<>(loadingParameters.size());
+        for (LoadingParameters<T> params : loadingParameters) {
+            final Optional<T> cached = params.bypassCache() ? Optional.empty() :
+                                       loadCached(metamodel.entity(params.entityClass()), params.identifier(), params.descriptor());
+            if (cached.isPresent()) {
+                result.put(params.identifier(), cached.get());
+            } else {
+                toLoad.add(params);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+        try {
+            final Map<URI, IdentifiableEntityType<? extends T>> types = resolveEntityTypes(toLoad);
+            final List<AxiomDescriptor> descriptors = toLoad.stream().filter(p -> types.containsKey(p.identifier()))
+                                                            .map(p -> descriptorFactory.createForEntityLoading(p, types.get(p.identifier())))
+                                                            .toList();
+            if (descriptors.isEmpty()) {
+                return result;
+            }
+            final Map<URI, List<Axiom<?>>> axioms = storageConnection.find(descriptors).stream().collect(
+                    Collectors.groupingBy(ax -> ax.getSubject().getIdentifier()));
+            for (LoadingParameters<T> params : toLoad) {
+                final IdentifiableEntityType<? extends T> et = types.get(params.identifier());
+                if (et == null) {
+                    continue;
+                }
+                final Collection<Axiom<?>> entityAxioms = axioms.getOrDefault(params.identifier(), new ArrayList<>());
+                removeAssertedForInferredOnlyFields(entityAxioms, params, et);
+                final T instance = reconstructEntityFromAxioms(params, et, entityAxioms);
+                if (instance != null) {
+                    result.put(params.identifier(), instance);
+                }
+            }
+            return result;
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (cz.cvut.kbss.jopa.exception.InstantiationException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
+    /**
+     * Resolves entity types of instances to be loaded based on the specified parameters.
+     *
+     * @param loadingParameters Instance loading parameters
+     * @param <T>               Entity type
+     * @return Map of entity types keyed by instance identifiers, instances whose type cannot be resolved are not
+     * present
+     * @throws OntoDriverException When storage access fails
+     */
+    abstract <T> Map<URI, IdentifiableEntityType<? extends T>> resolveEntityTypes(
+            List<LoadingParameters<T>> loadingParameters) throws OntoDriverException;
+
     <U extends T, T> U loadInstance(LoadingParameters<T> loadingParameters, IdentifiableEntityType<U> et) {
         final URI identifier = loadingParameters.identifier();
         final Descriptor descriptor = loadingParameters.descriptor();
@@ -182,9 +252,9 @@ abstract class EntityInstanceLoader {
      * @param loadingParameters Entity loading parameters
      * @param et                Entity type
      */
-    private <T, U extends T> void removeAssertedForInferredOnlyFields(Collection<Axiom<?>> allAxioms,
-                                                                      LoadingParameters<T> loadingParameters,
-                                                                      IdentifiableEntityType<U> et) throws OntoDriverException {
+    <T, U extends T> void removeAssertedForInferredOnlyFields(Collection<Axiom<?>> allAxioms,
+                                                              LoadingParameters<T> loadingParameters,
+                                                              IdentifiableEntityType<U> et) throws OntoDriverException {
         for (FieldSpecification<? super U, ?> fs : et.getFieldSpecifications()) {
             if (fs.includeExplicit()) {
                 continue;
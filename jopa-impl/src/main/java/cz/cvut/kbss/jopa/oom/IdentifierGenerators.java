@@ -0,0 +1,108 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Identifier generators of a persistence unit.
+ * <p>
+ * Resolves which {@link GenerationType} applies to an entity type and provides generators for strategies which do not
+ * require repository access. Generators keep state (e.g., counters), so a single instance should be shared by the whole
+ * persistence unit.
+ */
+public class IdentifierGenerators {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdentifierGenerators.class);
+
+    private final GenerationType defaultStrategy;
+
+    private final IdentifierGenerator uuidGenerator = new TimeOrderedUuidGenerator();
+    private final IdentifierGenerator counterGenerator = new CounterIdentifierGenerator();
+
+    public IdentifierGenerators(Configuration configuration) {
+        this.defaultStrategy = resolveDefaultStrategy(Objects.requireNonNull(configuration));
+    }
+
+    private static GenerationType resolveDefaultStrategy(Configuration configuration) {
+        if (!configuration.contains(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY)) {
+            return GenerationType.STORAGE;
+        }
+        final String value = configuration.get(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY).trim();
+        final Optional<GenerationType> result = Stream.of(GenerationType.values())
+                                                      .filter(t -> t != GenerationType.AUTO)
+                                                      .filter(t -> t.toString().equalsIgnoreCase(value))
+                                                      .findAny();
+        if (result.isEmpty()) {
+            LOG.warn("Unsupported identifier generation strategy {}. Using {}.", value, GenerationType.STORAGE);
+        }
+        return result.orElse(GenerationType.STORAGE);
+    }
+
+    public GenerationType getDefaultStrategy() {
+        return defaultStrategy;
+    }
+
+    /**
+     * Resolves identifier generation strategy for the specified entity type.
+     *
+     * @param et Entity type
+     * @return Strategy declared by the entity identifier, the persistence unit default if the identifier does not
+     * declare any
+     */
+    public GenerationType resolveStrategy(EntityType<?> et) {
+        final GenerationType declared = et.getIdentifier().getGenerationType();
+        return declared == null || declared == GenerationType.AUTO ? defaultStrategy : declared;
+    }
+
+    /**
+     * Checks whether identifiers of the specified entity type are generated without verifying their uniqueness against
+     * the repository.
+     *
+     * @param et Entity type
+     * @return {@code true} if generated identifiers are unique by construction
+     */
+    public boolean isCheckFree(EntityType<?> et) {
+        return resolveStrategy(et) != GenerationType.STORAGE;
+    }
+
+    /**
+     * Generates identifier for an instance of the specified entity type, unless the storage should generate it.
+     *
+     * @param et Entity type
+     * @return Generated identifier, empty if the strategy is {@link GenerationType#STORAGE}
+     */
+    Optional<URI> generate(EntityType<?> et) {
+        final URI classUri = et.getIRI().toURI();
+        return switch (resolveStrategy(et)) {
+            case UUID -> Optional.of(uuidGenerator.generate(classUri));
+            case COUNTER -> Optional.of(counterGenerator.generate(classUri));
+            default -> Optional.empty();
+        };
+    }
+}
@@ -26,6 +26,9 @@ import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface ObjectOntologyMapper {
@@ -61,6 +64,17 @@ public interface ObjectOntologyMapper {
      */
     <T> T loadEntity(AxiomBasedLoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads and reconstructs multiple entities of the same type from the ontology.
+     * <p>
+     * Instances not found in the cache are loaded from the storage together instead of one by one.
+     *
+     * @param loadingParameters Entity loading parameters, all pertaining to the same entity class
+     * @param <T>               Entity type
+     * @return Map of reconstructed entities keyed by their identifiers, entities which do not exist are not present
+     */
+    <T> Map<URI, T> loadEntities(Collection<LoadingParameters<T>> loadingParameters);
+
     /**
      * Gets a reference to an entity corresponding to the specified parameters.
      * <p>
@@ -81,6 +95,17 @@ public interface ObjectOntologyMapper {
      */
     <T> void loadFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
 
+    /**
+     * Loads value of the specified field for all the specified entities and sets it on them.
+     * <p>
+     * Field values of all the entities are retrieved from the storage in a single request.
+     *
+     * @param entities   Entities on which the field value will be set
+     * @param fieldSpec  The field to load
+     * @param descriptor Descriptor possibly specifying the field context, shared by all the entities
+     */
+    <T> void loadFieldValues(List<T> entities, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
+
     /**
      * Generates a fresh identifier for an instance of the specified entity type.
      *
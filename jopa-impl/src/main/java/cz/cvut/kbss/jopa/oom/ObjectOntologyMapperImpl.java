@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
@@ -55,13 +56,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 
@@ -79,7 +84,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     private final PendingReferenceRegistry pendingReferences;
 
     private final EntityInstanceLoader defaultInstanceLoader;
-    private final EntityInstanceLoader twoStepInstanceLoader;
+    private final EntityInstanceLoader polymorphicInstanceLoader;
 
     private final EntityReferenceFactory referenceFactory;
 
@@ -97,14 +102,21 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
                                                           .descriptorFactory(descriptorFactory)
                                                           .entityBuilder(entityBuilder).cache(getCache())
                                                           .loadStateRegistry(uow.getLoadStateRegistry()).build();
-        this.twoStepInstanceLoader = TwoStepInstanceLoader.builder().connection(storageConnection)
-                                                          .metamodel(uow.getMetamodel())
-                                                          .descriptorFactory(descriptorFactory)
-                                                          .entityBuilder(entityBuilder).cache(getCache())
-                                                          .loadStateRegistry(uow.getLoadStateRegistry()).build();
+        this.polymorphicInstanceLoader = polymorphicLoaderBuilder(uow.getConfiguration()).connection(storageConnection)
+                                                                                    .metamodel(uow.getMetamodel())
+                                                                                    .descriptorFactory(descriptorFactory)
+                                                                                    .entityBuilder(entityBuilder)
+                                                                                    .cache(getCache())
+                                                                                    .loadStateRegistry(uow.getLoadStateRegistry())
+                                                                                    .build();
         this.referenceFactory = new EntityReferenceFactory(uow.getMetamodel(), uow);
     }
 
+    private static EntityInstanceLoader.EntityInstanceLoaderBuilder polymorphicLoaderBuilder(Configuration config) {
+        return config.is(JOPAPersistenceProperties.SINGLE_STEP_POLYMORPHIC_LOADING) ?
+               SingleStepPolymorphicInstanceLoader.singleStepBuilder() : TwoStepInstanceLoader.builder();
+    }
+
     private CacheManager getCache() {
         return uow.getLiveObjectCache();
     }
@@ -138,7 +150,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         final IdentifiableEntityType<T> et = getEntityType(loadingParameters.entityClass());
         final T result;
         if (et.hasSubtypes()) {
-            result = twoStepInstanceLoader.loadEntity(loadingParameters);
+            result = polymorphicInstanceLoader.loadEntity(loadingParameters);
         } else {
             result = defaultInstanceLoader.loadEntity(loadingParameters);
         }
@@ -148,6 +160,26 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         return result;
     }
 
+    @Override
+    public <T> Map<URI, T> loadEntities(Collection<LoadingParameters<T>> loadingParameters) {
+        assert loadingParameters != null;
+
+        this.instanceRegistry = new HashMap<>();
+        if (loadingParameters.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final IdentifiableEntityType<T> et = getEntityType(loadingParameters.iterator().next().entityClass());
+        final Map<URI, T> result = et.hasSubtypes() ? polymorphicInstanceLoader.loadEntities(loadingParameters) :
+                                   defaultInstanceLoader.loadEntities(loadingParameters);
+        loadingParameters.forEach(params -> {
+            final T instance = result.get(params.identifier());
+            if (instance != null) {
+                cacheLoadedEntity(params, instance);
+            }
+        });
+        return result;
+    }
+
     private <T> void cacheLoadedEntity(LoadingParameters<T> loadingParameters, T result) {
         final LoadStateDescriptor<T> loadStateDescriptor = uow.getLoadStateRegistry().get(result);
         assert loadStateDescriptor != null;
@@ -168,7 +200,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         final LoadingParameters<T> params = new LoadingParameters<>(loadingParameters.cls(), identifier, loadingParameters.descriptor(), false, loadingParameters.bypassCache());
         final T result;
         if (et.hasSubtypes()) {
-            result = twoStepInstanceLoader.loadEntityFromAxioms(params, loadingParameters.axioms());
+            result = polymorphicInstanceLoader.loadEntityFromAxioms(params, loadingParameters.axioms());
         } else {
             result = defaultInstanceLoader.loadEntityFromAxioms(params, loadingParameters.axioms());
         }
@@ -227,6 +259,60 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         }
     }
 
+    @Override
+    public <T> void loadFieldValues(List<T> entities, FieldSpecification<? super T, ?> fieldSpec,
+                                    Descriptor descriptor) {
+        assert entities != null;
+        assert fieldSpec != null;
+        assert descriptor != null;
+
+        LOG.trace("Lazily loading value of field {} of {} entities.", fieldSpec, entities.size());
+
+        final Map<T, URI> toLoad = new IdentityHashMap<>(entities.size());
+        final List<AxiomDescriptor> axiomDescriptors = new ArrayList<>(entities.size());
+        final List<AxiomDescriptor> assertedDescriptors = new ArrayList<>();
+        for (T entity : entities) {
+            final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+            if (et.hasQueryAttribute(fieldSpec.getName())) {
+                QueryAttribute<? super T, ?> queryAttribute = (QueryAttribute<? super T, ?>) fieldSpec;
+                entityBuilder.setQueryAttributeFieldValue(entity, queryAttribute, et);
+                continue;
+            }
+            final URI identifier = EntityPropertiesUtils.getIdentifier(entity, et);
+            toLoad.put(entity, identifier);
+            axiomDescriptors.add(descriptorFactory.createForFieldLoading(identifier, fieldSpec, descriptor, et));
+            if (!fieldSpec.includeExplicit()) {
+                assertedDescriptors.add(descriptorFactory.createForAssertedFieldLoading(identifier, fieldSpec, descriptor, et));
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return;
+        }
+        try {
+            final Map<URI, List<Axiom<?>>> allAxioms = groupBySubject(storageConnection.find(axiomDescriptors));
+            if (!assertedDescriptors.isEmpty()) {
+                final Map<URI, List<Axiom<?>>> assertedAxioms = groupBySubject(storageConnection.find(assertedDescriptors));
+                assertedAxioms.forEach((subject, asserted) -> {
+                    if (allAxioms.containsKey(subject)) {
+                        EntityInstanceLoader.removeAxioms(allAxioms.get(subject), asserted);
+                    }
+                });
+            }
+            for (Map.Entry<T, URI> e : toLoad.entrySet()) {
+                final EntityType<T> et = (EntityType<T>) getEntityType(e.getKey().getClass());
+                entityBuilder.setFieldValue(e.getKey(), fieldSpec, allAxioms.getOrDefault(e.getValue(), List.of()), et, descriptor);
+            }
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (IllegalArgumentException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
+    private static Map<URI, List<Axiom<?>>> groupBySubject(Collection<Axiom<?>> axioms) {
+        return axioms.stream().collect(Collectors.groupingBy(ax -> ax.getSubject().getIdentifier()));
+    }
+
     @Override
     public <T> void persistEntity(URI identifier, T entity, Descriptor descriptor) {
         assert identifier != null;
@@ -246,6 +332,10 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     @Override
     public URI generateIdentifier(EntityType<?> et) {
+        final Optional<URI> generated = uow.getIdentifierGenerators().generate(et);
+        if (generated.isPresent()) {
+            return generated.get();
+        }
         try {
             return storageConnection.generateIdentifier(et.getIRI().toURI());
         } catch (OntoDriverException e) {
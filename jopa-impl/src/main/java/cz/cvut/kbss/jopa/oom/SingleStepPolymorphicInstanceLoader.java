@@ -0,0 +1,144 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.metamodel.AbstractIdentifiableType;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.model.metamodel.Type;
+import cz.cvut.kbss.jopa.oom.exception.EntityReconstructionException;
+import cz.cvut.kbss.jopa.oom.metamodel.PolymorphicEntityTypeResolver;
+import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Loads polymorphic entities using a single storage call.
+ * <p>
+ * Unlike {@link TwoStepInstanceLoader}, which first resolves the instance types and then loads attributes of the
+ * resolved entity type, this loader fetches types and attributes of all entity types in the hierarchy together and
+ * determines the actual entity type from the fetched class assertions. Axioms not belonging to the resolved entity
+ * type are discarded.
+ */
+class SingleStepPolymorphicInstanceLoader extends TwoStepInstanceLoader {
+
+    private SingleStepPolymorphicInstanceLoader(SingleStepPolymorphicInstanceLoaderBuilder builder) {
+        super(builder);
+    }
+
+    @Override
+    <T> T loadEntity(LoadingParameters<T> loadingParameters) {
+        final IdentifiableEntityType<T> rootEt = metamodel.entity(loadingParameters.entityClass());
+        final List<IdentifiableEntityType<? extends T>> hierarchy = new ArrayList<>();
+        hierarchy.add(rootEt);
+        collectSubtypes(rootEt, hierarchy);
+        if (!loadingParameters.bypassCache()) {
+            final Optional<? extends T> cached = findCached(loadingParameters, hierarchy);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        final AxiomDescriptor descriptor = descriptorFactory.createForPolymorphicEntityLoading(loadingParameters,
+                hierarchy);
+        try {
+            final Collection<Axiom<?>> axioms = storageConnection.find(descriptor);
+            final IdentifiableEntityType<? extends T> et = new PolymorphicEntityTypeResolver<>(
+                    NamedResource.create(loadingParameters.identifier()), rootEt, axioms.stream()
+                                                                                      .filter(ax -> ax.getAssertion()
+                                                                                                      .isClassAssertion())
+                                                                                      .map(ax -> (Axiom<URI>) ax)
+                                                                                      .collect(Collectors.toSet())).determineActualEntityType();
+            if (et == null) {
+                return null;
+            }
+            retainAxiomsOfEntityType(axioms, descriptorFactory.createForEntityLoading(loadingParameters, et), et);
+            removeAssertedForInferredOnlyFields(axioms, loadingParameters, et);
+            return reconstructEntityFromAxioms(loadingParameters, et, axioms);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (cz.cvut.kbss.jopa.exception.InstantiationException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
+    private static <T> void collectSubtypes(AbstractIdentifiableType<? extends T> parent,
+                                            List<IdentifiableEntityType<? extends T>> result) {
+        for (AbstractIdentifiableType<? extends T> subtype : parent.getSubtypes()) {
+            if (subtype.getPersistenceType() == Type.PersistenceType.ENTITY) {
+                assert subtype instanceof IdentifiableEntityType;
+                result.add((IdentifiableEntityType<? extends T>) subtype);
+            }
+            collectSubtypes(subtype, result);
+        }
+    }
+
+    /**
+     * Looks for the instance in the cache under each of the entity types, as it is cached under its actual type.
+     */
+    private <T> Optional<? extends T> findCached(LoadingParameters<T> loadingParameters,
+                                                 List<IdentifiableEntityType<? extends T>> hierarchy) {
+        for (IdentifiableEntityType<? extends T> et : hierarchy) {
+            if (et.isAbstract()) {
+                continue;
+            }
+            final Optional<? extends T> cached = loadCached(et, loadingParameters.identifier(),
+                    loadingParameters.descriptor());
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Removes axioms loaded for attributes of other entity types in the hierarchy.
+     * <p>
+     * Values of properties not mapped by the resolved entity type are kept if it has a
+     * {@link cz.cvut.kbss.jopa.model.annotations.Properties} field, as they would be loaded into it.
+     */
+    private static void retainAxiomsOfEntityType(Collection<Axiom<?>> axioms, AxiomDescriptor etDescriptor,
+                                                 IdentifiableEntityType<?> et) {
+        final Set<URI> mapped = etDescriptor.getAssertions().stream().map(Assertion::getIdentifier)
+                                            .collect(Collectors.toSet());
+        axioms.removeIf(ax -> !etDescriptor.containsAssertion(ax.getAssertion()) &&
+                (et.getProperties() == null || mapped.contains(ax.getAssertion().getIdentifier())));
+    }
+
+    static SingleStepPolymorphicInstanceLoaderBuilder singleStepBuilder() {
+        return new SingleStepPolymorphicInstanceLoaderBuilder();
+    }
+
+    static class SingleStepPolymorphicInstanceLoaderBuilder extends EntityInstanceLoaderBuilder {
+
+        @Override
+        EntityInstanceLoader build() {
+            return new SingleStepPolymorphicInstanceLoader(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates identifiers based on time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * The UUID consists of a 48-bit Unix timestamp in milliseconds, a 12-bit counter ordering UUIDs generated within the
+ * same millisecond and 62 random bits. Identifiers generated by one instance are thus strictly increasing.
+ */
+class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    private static final int MAX_COUNTER = 0xfff;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private long lastTimestamp;
+    private int counter;
+
+    @Override
+    public URI generate(URI classUri) {
+        return IdentifierUtils.createIdentifier(classUri, nextUuid().toString());
+    }
+
+    UUID nextUuid() {
+        final long timestamp;
+        final int sequence;
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                this.lastTimestamp = now;
+                // Start at a random point in the lower half to leave room for further UUIDs in the same millisecond
+                this.counter = random.nextInt(MAX_COUNTER / 2);
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                // Counter exhausted (or clock moved backwards), borrow from the next millisecond
+                lastTimestamp++;
+                this.counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+        final long msb = (timestamp << 16) | 0x7000L | sequence;
+        final long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -21,18 +21,23 @@ import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.oom.metamodel.PolymorphicEntityTypeResolver;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 class TwoStepInstanceLoader extends EntityInstanceLoader {
 
-    private TwoStepInstanceLoader(TwoStepInstanceLoaderBuilder builder) {
+    TwoStepInstanceLoader(EntityInstanceLoaderBuilder builder) {
         super(builder);
     }
 
@@ -73,6 +78,36 @@ class TwoStepInstanceLoader extends EntityInstanceLoader {
         return new PolymorphicEntityTypeResolver<>(individual, rootEt, types).determineActualEntityType();
     }
 
+    /**
+     * Resolves the actual entity types of all the specified instances using a single multi-subject find of their
+     * class assertions.
+     */
+    @Override
+    <T> Map<URI, IdentifiableEntityType<? extends T>> resolveEntityTypes(
+            List<LoadingParameters<T>> loadingParameters) throws OntoDriverException {
+        final List<AxiomDescriptor> descriptors = loadingParameters.stream().map(p -> {
+            final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(p.identifier()));
+            p.descriptor().getContexts().forEach(descriptor::addSubjectContext);
+            descriptor.addAssertion(Assertion.createClassAssertion(false));
+            return descriptor;
+        }).toList();
+        final Map<URI, Set<Axiom<URI>>> types = storageConnection.find(descriptors).stream()
+                                                                 .filter(ax -> ax.getAssertion().isClassAssertion())
+                                                                 .map(ax -> (Axiom<URI>) ax)
+                                                                 .collect(Collectors.groupingBy(ax -> ax.getSubject()
+                                                                                                        .getIdentifier(), Collectors.toSet()));
+        final Map<URI, IdentifiableEntityType<? extends T>> result = new HashMap<>(loadingParameters.size());
+        for (LoadingParameters<T> p : loadingParameters) {
+            final NamedResource individual = NamedResource.create(p.identifier());
+            final IdentifiableEntityType<? extends T> et = new PolymorphicEntityTypeResolver<>(individual, metamodel.entity(p.entityClass()),
+                    types.getOrDefault(p.identifier(), Set.of())).determineActualEntityType();
+            if (et != null) {
+                result.put(p.identifier(), et);
+            }
+        }
+        return result;
+    }
+
     static TwoStepInstanceLoaderBuilder builder() {
         return new TwoStepInstanceLoaderBuilder();
     }
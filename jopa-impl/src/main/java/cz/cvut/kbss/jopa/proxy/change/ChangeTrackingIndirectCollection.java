@@ -53,6 +53,27 @@ public abstract class ChangeTrackingIndirectCollection<T> implements IndirectWra
         this.persistenceContext = persistenceContext;
     }
 
+    /**
+     * Checks whether the wrapped instance is shared with another object (typically the original of the owner) and is
+     * thus going to be copied before it is first modified.
+     *
+     * @return {@code true} if the wrapped instance is shared, {@code false} otherwise
+     */
+    public boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Retrieves the wrapped object, copying it first if it is shared with another object.
+     * <p>
+     * Use this instead of {@link #unwrap()} when the result may be modified outside of this wrapper.
+     *
+     * @return The wrapped object, not shared with any other object
+     */
+    public T unwrapExclusive() {
+        return unwrap();
+    }
+
     protected void persistChange() {
         assert persistenceContext != null;
         if (persistenceContext.isInTransaction() && !persistenceContext.isFlushingChanges()) {
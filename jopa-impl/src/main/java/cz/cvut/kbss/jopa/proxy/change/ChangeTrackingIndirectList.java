@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.proxy.change;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -28,7 +29,8 @@ import java.util.Objects;
 
 public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollection<List<E>> implements List<E> {
 
-    private final List<E> internalList;
+    private List<E> internalList;
+    private boolean shared;
 
     /**
      * Create new indirect list backed by the specified referenced list.
@@ -40,33 +42,60 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
      * @throws NullPointerException If the {@code referencedList} is null
      */
     public ChangeTrackingIndirectList(Object owner, Field f, UnitOfWork uow, List<E> referencedList) {
+        this(owner, f, uow, referencedList, false);
+    }
+
+    /**
+     * Create new indirect list backed by the specified referenced list.
+     * <p>
+     * If {@code shared} is {@code true}, the referenced list is shared with another object and is copied before it is
+     * first modified through this wrapper, so that the other object is not affected.
+     *
+     * @param owner          Owner of the list
+     * @param f              The field holding this list
+     * @param uow            Persistence context the owner belongs to
+     * @param referencedList The list to reference
+     * @param shared         Whether the referenced list is shared with another object
+     * @throws NullPointerException If the {@code referencedList} is null
+     */
+    public ChangeTrackingIndirectList(Object owner, Field f, UnitOfWork uow, List<E> referencedList,
+                                      boolean shared) {
         super(owner, f, uow);
         this.internalList = Objects.requireNonNull(referencedList);
+        this.shared = shared;
+    }
+
+    private List<E> writableList() {
+        if (shared) {
+            this.internalList = new ArrayList<>(internalList);
+            this.shared = false;
+        }
+        return internalList;
     }
 
     @Override
     public boolean add(E arg0) {
-        internalList.add(arg0);
+        writableList().add(arg0);
         persistChange();    // There is always a change
         return true;
     }
 
     @Override
     public void add(int arg0, E arg1) {
-        internalList.add(arg0, arg1);
+        writableList().add(arg0, arg1);
         persistChange();
     }
 
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        internalList.addAll(c);
+        writableList().addAll(c);
         persistChange();
         return true;
     }
 
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
-        boolean res = internalList.addAll(index, c);
+        boolean res = writableList().addAll(index, c);
         if (res) {
             persistChange();
         }
@@ -75,7 +104,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public void clear() {
-        internalList.clear();
+        writableList().clear();
         persistChange();
     }
 
@@ -106,7 +135,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public Iterator<E> iterator() {
-        return new IndirectIterator(internalList.iterator());
+        return new IndirectListIterator(internalList, 0);
     }
 
     @Override
@@ -116,17 +145,17 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public ListIterator<E> listIterator() {
-        return new IndirectListIterator(internalList.listIterator());
+        return new IndirectListIterator(internalList, 0);
     }
 
     @Override
     public ListIterator<E> listIterator(int arg0) {
-        return new IndirectListIterator(internalList.listIterator(arg0));
+        return new IndirectListIterator(internalList, arg0);
     }
 
     @Override
     public boolean remove(Object arg0) {
-        boolean res = internalList.remove(arg0);
+        boolean res = writableList().remove(arg0);
         if (res) {
             persistChange();
         }
@@ -135,14 +164,14 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public E remove(int arg0) {
-        E elem = internalList.remove(arg0);
+        E elem = writableList().remove(arg0);
         persistChange();
         return elem;
     }
 
     @Override
     public boolean removeAll(Collection<?> arg0) {
-        boolean res = internalList.removeAll(arg0);
+        boolean res = writableList().removeAll(arg0);
         if (res) {
             persistChange();
         }
@@ -151,7 +180,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public boolean retainAll(Collection<?> arg0) {
-        boolean res = internalList.retainAll(arg0);
+        boolean res = writableList().retainAll(arg0);
         if (res) {
             persistChange();
         }
@@ -160,7 +189,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public E set(int arg0, E arg1) {
-        E elem = internalList.set(arg0, arg1);
+        E elem = writableList().set(arg0, arg1);
         persistChange();
         return elem;
     }
@@ -172,7 +201,8 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return new ChangeTrackingIndirectList<>(owner, field, persistenceContext, internalList.subList(fromIndex, toIndex));
+        return new ChangeTrackingIndirectList<>(owner, field, persistenceContext,
+                writableList().subList(fromIndex, toIndex));
     }
 
     @Override
@@ -190,6 +220,16 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
         return internalList;
     }
 
+    @Override
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public List<E> unwrapExclusive() {
+        return writableList();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o instanceof List) {
@@ -211,37 +251,16 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
         return internalList.toString();
     }
 
-    private class IndirectIterator implements Iterator<E> {
-
-        private final Iterator<E> it;
-
-        private IndirectIterator(Iterator<E> it) {
-            this.it = it;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return it.hasNext();
-        }
-
-        @Override
-        public E next() {
-            return it.next();
-        }
-
-        @Override
-        public void remove() {
-            it.remove();
-            ChangeTrackingIndirectList.this.persistChange();
-        }
-    }
-
     private class IndirectListIterator implements ListIterator<E> {
 
-        private final ListIterator<E> lit;
+        private List<E> iterated;
+        private ListIterator<E> lit;
+        private boolean lastMoveForward = true;
+        private boolean hasLastReturned;
 
-        private IndirectListIterator(ListIterator<E> lit) {
-            this.lit = lit;
+        private IndirectListIterator(List<E> iterated, int index) {
+            this.iterated = iterated;
+            this.lit = iterated.listIterator(index);
         }
 
         @Override
@@ -251,7 +270,10 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
         @Override
         public E next() {
-            return lit.next();
+            final E e = lit.next();
+            this.lastMoveForward = true;
+            this.hasLastReturned = true;
+            return e;
         }
 
         @Override
@@ -261,7 +283,10 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
         @Override
         public E previous() {
-            return lit.previous();
+            final E e = lit.previous();
+            this.lastMoveForward = false;
+            this.hasLastReturned = true;
+            return e;
         }
 
         @Override
@@ -274,21 +299,54 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
             return lit.previousIndex();
         }
 
+        /**
+         * Makes sure the iterator iterates over the list which is not shared, repositioning it on the copy if the list
+         * had to be copied.
+         *
+         * @param restoreLastReturned Whether the last returned element has to be restored, so that
+         *                            {@link #remove()} and {@link #set(Object)} work on the copy
+         */
+        private void ensureWritable(boolean restoreLastReturned) {
+            final List<E> writable = writableList();
+            if (iterated == writable) {
+                return;
+            }
+            if (restoreLastReturned && !hasLastReturned) {
+                throw new IllegalStateException();
+            }
+            final int cursor = lit.nextIndex();
+            if (!restoreLastReturned) {
+                this.lit = writable.listIterator(cursor);
+            } else if (lastMoveForward) {
+                this.lit = writable.listIterator(cursor - 1);
+                lit.next();
+            } else {
+                this.lit = writable.listIterator(cursor + 1);
+                lit.previous();
+            }
+            this.iterated = writable;
+        }
+
         @Override
         public void remove() {
+            ensureWritable(true);
             lit.remove();
+            this.hasLastReturned = false;
             ChangeTrackingIndirectList.this.persistChange();
         }
 
         @Override
         public void set(E e) {
+            ensureWritable(true);
             lit.set(e);
             ChangeTrackingIndirectList.this.persistChange();
         }
 
         @Override
         public void add(E e) {
+            ensureWritable(false);
             lit.add(e);
+            this.hasLastReturned = false;
             ChangeTrackingIndirectList.this.persistChange();
         }
     }
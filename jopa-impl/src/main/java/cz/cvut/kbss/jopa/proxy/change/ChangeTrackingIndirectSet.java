@@ -22,16 +22,46 @@ import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollection<Set<E>> implements Set<E> {
 
-    private final Set<E> internalSet;
+    private Set<E> internalSet;
+    private boolean shared;
 
     public ChangeTrackingIndirectSet(Object owner, Field f, UnitOfWork uow, Set<E> referencedSet) {
+        this(owner, f, uow, referencedSet, false);
+    }
+
+    /**
+     * Create new indirect set backed by the specified referenced set.
+     * <p>
+     * If {@code shared} is {@code true}, the referenced set is shared with another object and is copied before it is
+     * first modified through this wrapper, so that the other object is not affected.
+     *
+     * @param owner         Owner of the set
+     * @param f             The field holding this set
+     * @param uow           Persistence context the owner belongs to
+     * @param referencedSet The set to reference
+     * @param shared        Whether the referenced set is shared with another object
+     */
+    public ChangeTrackingIndirectSet(Object owner, Field f, UnitOfWork uow, Set<E> referencedSet, boolean shared) {
         super(owner, f, uow);
         this.internalSet = Objects.requireNonNull(referencedSet);
+        this.shared = shared;
+    }
+
+    private Set<E> writableSet() {
+        if (shared) {
+            this.internalSet = internalSet instanceof SortedSet<E> sorted ? new TreeSet<>(sorted) :
+                               new LinkedHashSet<>(internalSet);
+            this.shared = false;
+        }
+        return internalSet;
     }
 
     @Override
@@ -51,7 +81,7 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
 
     @Override
     public Iterator<E> iterator() {
-        return new IndirectSetIterator<>(internalSet.iterator());
+        return new IndirectSetIterator(internalSet);
     }
 
     @Override
@@ -66,7 +96,7 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
 
     @Override
     public boolean add(E e) {
-        boolean res = internalSet.add(e);
+        boolean res = writableSet().add(e);
         if (res) {
             persistChange();
         }
@@ -75,7 +105,7 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
 
     @Override
     public boolean remove(Object o) {
-        boolean res = internalSet.remove(o);
+        boolean res = writableSet().remove(o);
         if (res) {
             persistChange();
         }
@@ -90,7 +120,7 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
     @Override
 
     public boolean addAll(Collection<? extends E> c) {
-        boolean res = internalSet.addAll(c);
+        boolean res = writableSet().addAll(c);
         if (res) {
             persistChange();
         }
@@ -99,7 +129,7 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        boolean res = internalSet.retainAll(c);
+        boolean res = writableSet().retainAll(c);
         if (res) {
             persistChange();
         }
@@ -108,7 +138,7 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        boolean res = internalSet.removeAll(c);
+        boolean res = writableSet().removeAll(c);
         if (res) {
             persistChange();
         }
@@ -117,16 +147,19 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
 
     @Override
     public void clear() {
-        internalSet.clear();
+        writableSet().clear();
         persistChange();
     }
 
-    private class IndirectSetIterator<T> implements Iterator<T> {
+    private class IndirectSetIterator implements Iterator<E> {
 
-        private final Iterator<T> iterator;
+        private final Set<E> iterated;
+        private final Iterator<E> iterator;
+        private E lastReturned;
 
-        private IndirectSetIterator(Iterator<T> iterator) {
-            this.iterator = iterator;
+        private IndirectSetIterator(Set<E> iterated) {
+            this.iterated = iterated;
+            this.iterator = iterated.iterator();
         }
 
         @Override
@@ -135,13 +168,19 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
         }
 
         @Override
-        public T next() {
-            return iterator.next();
+        public E next() {
+            this.lastReturned = iterator.next();
+            return lastReturned;
         }
 
         @Override
         public void remove() {
-            iterator.remove();
+            if (iterated == internalSet && !shared) {
+                iterator.remove();
+            } else {
+                // The iterated set is shared (or has already been copied), remove the element from the copy instead
+                writableSet().remove(lastReturned);
+            }
             ChangeTrackingIndirectSet.this.persistChange();
         }
     }
@@ -151,6 +190,16 @@ public class ChangeTrackingIndirectSet<E> extends ChangeTrackingIndirectCollecti
         return internalSet;
     }
 
+    @Override
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public Set<E> unwrapExclusive() {
+        return writableSet();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o instanceof Set) {
@@ -55,15 +55,34 @@ public class LazyLoadingEntityProxyGenerator implements PersistenceContextAwareC
 
     private static final Logger LOG = LoggerFactory.getLogger(LazyLoadingEntityProxyGenerator.class);
 
-    private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
-        @Override
-        protected String name(TypeDescription typeDescription) {
-            return typeDescription.getSimpleName() + "_LazyLoadingProxy";
-        }
-    });
+    private final ByteBuddy byteBuddy;
+
+    public LazyLoadingEntityProxyGenerator() {
+        this(new NamingStrategy.AbstractBase() {
+            @Override
+            protected String name(TypeDescription typeDescription) {
+                return typeDescription.getSimpleName() + "_LazyLoadingProxy";
+            }
+        });
+    }
+
+    public LazyLoadingEntityProxyGenerator(NamingStrategy namingStrategy) {
+        this.byteBuddy = new ByteBuddy().with(namingStrategy);
+    }
 
     @Override
     public <T> Class<? extends T> generate(Class<T> entityClass) {
+        return createType(entityClass).load(getClass().getClassLoader()).getLoaded();
+    }
+
+    /**
+     * Creates definition of the lazy loading proxy type without loading it.
+     *
+     * @param entityClass Entity class for which to generate the proxy
+     * @param <T>         Entity type
+     * @return Unloaded type definition
+     */
+    public <T> DynamicType.Unloaded<? extends T> createType(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating lazy loading proxy for entity class {}.", entityClass);
         DynamicType.Builder<T> builder = byteBuddy.subclass(entityClass)
@@ -95,7 +114,7 @@ public class LazyLoadingEntityProxyGenerator implements PersistenceContextAwareC
         }
         final DynamicType.Unloaded<? extends T> typeDef = builder.make();
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
-        return typeDef.load(getClass().getClassLoader()).getLoaded();
+        return typeDef;
     }
 
     public static class GetterInterceptor {
@@ -52,15 +52,34 @@ public class EntityReferenceProxyGenerator implements PersistenceContextAwareCla
 
     private static final Logger LOG = LoggerFactory.getLogger(EntityReferenceProxyGenerator.class);
 
-    private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
-        @Override
-        protected String name(TypeDescription typeDescription) {
-            return typeDescription.getSimpleName() + "_ReferenceProxy";
-        }
-    });
+    private final ByteBuddy byteBuddy;
+
+    public EntityReferenceProxyGenerator() {
+        this(new NamingStrategy.AbstractBase() {
+            @Override
+            protected String name(TypeDescription typeDescription) {
+                return typeDescription.getSimpleName() + "_ReferenceProxy";
+            }
+        });
+    }
+
+    public EntityReferenceProxyGenerator(NamingStrategy namingStrategy) {
+        this.byteBuddy = new ByteBuddy().with(namingStrategy);
+    }
 
     @Override
     public <T> Class<? extends T> generate(Class<T> entityClass) {
+        return createType(entityClass).load(getClass().getClassLoader()).getLoaded();
+    }
+
+    /**
+     * Creates definition of the reference proxy type without loading it.
+     *
+     * @param entityClass Entity class for which to generate the proxy
+     * @param <T>         Entity type
+     * @return Unloaded type definition
+     */
+    public <T> DynamicType.Unloaded<? extends T> createType(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating reference proxy for entity class {}.", entityClass);
         DynamicType.Unloaded<? extends T> typeDef = byteBuddy.subclass(entityClass)
@@ -81,7 +100,7 @@ public class EntityReferenceProxyGenerator implements PersistenceContextAwareCla
                                                              .intercept(MethodDelegation.to(GetterInterceptor.class))
                                                              .make();
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
-        return typeDef.load(getClass().getClassLoader()).getLoaded();
+        return typeDef;
     }
 
     public static class GetterInterceptor {
@@ -50,6 +50,35 @@ public class QueryHints {
      */
     public static final String ENABLE_ENTITY_LOADING_OPTIMIZER = "cz.cvut.kbss.jopa.query.enableEntityLoadingOptimizer";
 
+    /**
+     * Number of entity query results whose lazily loaded attribute is loaded together.
+     * <p>
+     * When a lazily loaded attribute of an entity returned by the query is accessed, the attribute is loaded in a single
+     * storage request also for up to {@code batchSize - 1} following query results, instead of loading it for each of
+     * them separately upon access.
+     * <p>
+     * Valid values are positive integers, {@literal 1} (the default) disables batch loading.
+     */
+    public static final String LAZY_LOADING_BATCH_SIZE = "cz.cvut.kbss.jopa.query.lazyLoadingBatchSize";
+
+    /**
+     * Detaches entities returned by {@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultStream()} from the
+     * persistence context as soon as they have been processed by the stream pipeline.
+     * <p>
+     * Normally, every query result is managed by the persistence context until it is cleared or closed, so processing a
+     * large result stream retains all the results in memory. With this hint, each result (and entities it references
+     * with {@link cz.cvut.kbss.jopa.model.annotations.CascadeType#DETACH} cascading) is detached after it passes through
+     * the stream, so that arbitrarily large results can be processed in bounded memory. Consequently, changes to the
+     * streamed entities are not tracked and their lazily loaded attributes cannot be loaded after they have been
+     * processed.
+     * <p>
+     * Instances which were already managed by the persistence context before the stream was opened are not detached, so
+     * that their pending changes are not lost.
+     * <p>
+     * Valid values are {@literal true} and {@literal false} (the default).
+     */
+    public static final String DETACH_STREAMED_RESULTS = "cz.cvut.kbss.jopa.query.detachStreamedResults";
+
     private QueryHints() {
         throw new AssertionError();
     }
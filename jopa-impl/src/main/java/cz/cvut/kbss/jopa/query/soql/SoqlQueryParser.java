@@ -39,6 +39,16 @@ public class SoqlQueryParser implements QueryParser {
 
     @Override
     public QueryHolder parseQuery(String query) {
+        return sparqlParser.parseQuery(translate(query));
+    }
+
+    /**
+     * Translates the specified SOQL query into SPARQL.
+     *
+     * @param query SOQL query
+     * @return SPARQL query string corresponding to the SOQL query
+     */
+    public String translate(String query) {
         CharStream cs = CharStreams.fromString(query);
         SoqlLexer lexer = new SoqlLexer(cs);
         final CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -50,6 +60,6 @@ public class SoqlQueryParser implements QueryParser {
         final ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(listener, tree);
 
-        return sparqlParser.parseQuery(listener.getSparqlQuery());
+        return listener.getSparqlQuery();
     }
 }
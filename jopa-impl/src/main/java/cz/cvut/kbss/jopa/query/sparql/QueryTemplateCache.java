@@ -0,0 +1,128 @@
+package cz.cvut.kbss.jopa.query.sparql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed query templates shared by all persistence contexts of a persistence unit.
+ * <p>
+ * Templates are keyed by the query string and its language, least recently used templates are evicted when the cache
+ * is full. A cache with zero capacity does not store anything, every lookup then parses the query.
+ * <p>
+ * Queries are parsed outside the cache lock, so concurrent lookups of the same new query may parse it more than once.
+ * Queries which fail to parse are not cached.
+ */
+public class QueryTemplateCache {
+
+    /**
+     * Language of the cached query.
+     */
+    public enum Language {
+        SPARQL, SOQL
+    }
+
+    private final int capacity;
+    private final Map<Key, SparqlQueryTemplate> templates;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public QueryTemplateCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Query template cache capacity must not be negative.");
+        }
+        this.capacity = capacity;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SparqlQueryTemplate> eldest) {
+                return size() > QueryTemplateCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets template of the specified query, parsing it with the specified function if it is not cached.
+     *
+     * @param language Query language
+     * @param query    Query string
+     * @param parser   Function creating the template if it is not cached
+     * @return Query template
+     */
+    public SparqlQueryTemplate get(Language language, String query, Function<String, SparqlQueryTemplate> parser) {
+        Objects.requireNonNull(language);
+        Objects.requireNonNull(query);
+        if (capacity == 0) {
+            misses.increment();
+            return parser.apply(query);
+        }
+        final Key key = new Key(language, query);
+        SparqlQueryTemplate template;
+        synchronized (templates) {
+            template = templates.get(key);
+        }
+        if (template != null) {
+            hits.increment();
+            return template;
+        }
+        misses.increment();
+        template = parser.apply(query);
+        synchronized (templates) {
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all templates from the cache.
+     * <p>
+     * Statistics are not reset.
+     */
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return Cache statistics
+     */
+    public Statistics getStatistics() {
+        final int size;
+        synchronized (templates) {
+            size = templates.size();
+        }
+        return new Statistics(hits.sum(), misses.sum(), size);
+    }
+
+    private record Key(Language language, String query) {
+    }
+
+    /**
+     * Snapshot of query template cache statistics.
+     *
+     * @param hitCount  Number of lookups which found a cached template
+     * @param missCount Number of lookups which had to parse the query
+     * @param size      Number of cached templates
+     */
+    public record Statistics(long hitCount, long missCount, int size) {
+
+        /**
+         * Gets the ratio of lookups that found a cached template.
+         *
+         * @return Number between 0 and 1, 0 if there have been no lookups
+         */
+        public double hitRatio() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+    }
+}
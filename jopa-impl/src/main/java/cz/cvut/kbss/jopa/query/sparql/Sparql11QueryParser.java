@@ -25,6 +25,16 @@ public class Sparql11QueryParser implements QueryParser {
 
     @Override
     public TokenStreamSparqlQueryHolder parseQuery(String query) {
+        return parseTemplate(query).instantiate(parameterValueFactory);
+    }
+
+    /**
+     * Parses the specified query into an immutable template from which query holders can be created repeatedly.
+     *
+     * @param query The query to parse
+     * @return Parsed query template
+     */
+    public SparqlQueryTemplate parseTemplate(String query) {
         CharStream cs = CharStreams.fromString(query);
         final SparqlLexer lexer = new SparqlLexer(cs);
         final CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -36,11 +46,21 @@ public class Sparql11QueryParser implements QueryParser {
         final ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(listener, tree);
 
-        return new TokenStreamSparqlQueryHolder(query, listener.getQueryAttributes(), listener.getParameters(), tokens);
+        return new SparqlQueryTemplate(query, listener.getQueryAttributes(), listener.getParameters(), tokens.getTokens());
     }
 
     @Override
     public TokenStreamSparqlQueryHolder parseQuery(String query, Class<?> resultClass) {
         return parseQuery(query);
     }
+
+    /**
+     * Creates a query holder from a previously parsed query template.
+     *
+     * @param template Parsed query template
+     * @return New query holder
+     */
+    public TokenStreamSparqlQueryHolder instantiate(SparqlQueryTemplate template) {
+        return template.instantiate(parameterValueFactory);
+    }
 }
@@ -20,7 +20,6 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.ResultSetMappingQuery;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
-import cz.cvut.kbss.jopa.query.QueryParser;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
@@ -42,13 +41,31 @@ public class SparqlQueryFactory {
     private final Sparql11QueryParser sparqlParser;
     private final SoqlQueryParser soqlParser;
 
+    private final QueryTemplateCache templateCache;
+
     public SparqlQueryFactory(UnitOfWork uow, ConnectionWrapper connection) {
+        this(uow, connection, new QueryTemplateCache(0));
+    }
+
+    public SparqlQueryFactory(UnitOfWork uow, ConnectionWrapper connection, QueryTemplateCache templateCache) {
         assert uow != null;
         assert connection != null;
+        assert templateCache != null;
         this.uow = uow;
         this.connection = connection;
         this.sparqlParser = new Sparql11QueryParser(new ParameterValueFactory(uow));
         this.soqlParser = new SoqlQueryParser(sparqlParser, uow.getMetamodel());
+        this.templateCache = templateCache;
+    }
+
+    private TokenStreamSparqlQueryHolder parseSparql(String sparql) {
+        return sparqlParser.instantiate(
+                templateCache.get(QueryTemplateCache.Language.SPARQL, sparql, sparqlParser::parseTemplate));
+    }
+
+    private TokenStreamSparqlQueryHolder parseSoql(String soql) {
+        return sparqlParser.instantiate(templateCache.get(QueryTemplateCache.Language.SOQL, soql,
+                q -> sparqlParser.parseTemplate(soqlParser.translate(q))));
     }
 
     /**
@@ -61,7 +78,7 @@ public class SparqlQueryFactory {
     public QueryImpl createNativeQuery(String sparql) {
         Objects.requireNonNull(sparql);
 
-        return new QueryImpl(sparqlParser.parseQuery(sparql), connection);
+        return new QueryImpl(parseSparql(sparql), connection);
     }
 
     /**
@@ -74,13 +91,12 @@ public class SparqlQueryFactory {
      */
     public <T> TypedQueryImpl<T> createNativeQuery(String sparql, Class<T> resultClass) {
         Objects.requireNonNull(sparql);
+        Objects.requireNonNull(resultClass);
 
-        return createQueryImpl(sparql, resultClass, sparqlParser);
+        return createQueryImpl(parseSparql(sparql), resultClass);
     }
 
-    private <T> TypedQueryImpl<T> createQueryImpl(String query, Class<T> resultClass, QueryParser parser) {
-        Objects.requireNonNull(resultClass);
-        final TokenStreamSparqlQueryHolder queryHolder = (TokenStreamSparqlQueryHolder) parser.parseQuery(query, resultClass);
+    private <T> TypedQueryImpl<T> createQueryImpl(TokenStreamSparqlQueryHolder queryHolder, Class<T> resultClass) {
         final QueryResultLoadingOptimizer<TokenStreamSparqlQueryHolder>
                 queryResultLoadingOptimizer = new SparqlQueryResultLoadingOptimizer(queryHolder, uow, connection);
         return new TypedQueryImpl<>(queryHolder, resultClass, connection, queryResultLoadingOptimizer);
@@ -99,7 +115,7 @@ public class SparqlQueryFactory {
         Objects.requireNonNull(resultSetMapping);
 
         final SparqlResultMapper mapper = uow.getResultSetMappingManager().getMapper(resultSetMapping);
-        return new ResultSetMappingQuery(sparqlParser.parseQuery(sparql), connection, mapper, uow);
+        return new ResultSetMappingQuery(parseSparql(sparql), connection, mapper, uow);
     }
 
     /**
@@ -112,7 +128,7 @@ public class SparqlQueryFactory {
     public QueryImpl createQuery(String query) {
         Objects.requireNonNull(query);
 
-        return new QueryImpl(soqlParser.parseQuery(query), connection);
+        return new QueryImpl(parseSoql(query), connection);
     }
 
     /**
@@ -126,7 +142,8 @@ public class SparqlQueryFactory {
      */
     public <T> TypedQueryImpl<T> createQuery(String query, Class<T> resultClass) {
         Objects.requireNonNull(query);
-        return createQueryImpl(query, resultClass, soqlParser);
+        Objects.requireNonNull(resultClass);
+        return createQueryImpl(parseSoql(query), resultClass);
     }
 
     /**
@@ -0,0 +1,69 @@
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable result of parsing a SPARQL query string.
+ * <p>
+ * Contains everything necessary to create a {@link TokenStreamSparqlQueryHolder} without parsing the query again. The
+ * template does not hold any parameter values, so it can be shared by multiple queries (and threads), each of them
+ * getting its own holder via {@link #instantiate(ParameterValueFactory)}.
+ */
+public final class SparqlQueryTemplate {
+
+    private final String query;
+    private final QueryAttributes queryAttributes;
+    private final List<Token> tokens;
+    private final List<ParameterSpec> parameters;
+
+    SparqlQueryTemplate(String query, QueryAttributes queryAttributes, List<TokenQueryParameter<?>> parameters,
+                        List<Token> tokens) {
+        this.query = Objects.requireNonNull(query);
+        this.queryAttributes = Objects.requireNonNull(queryAttributes);
+        this.tokens = List.copyOf(tokens);
+        this.parameters = parameters.stream()
+                                    .map(p -> new ParameterSpec(p.getIdentifier(), p.isProjected(),
+                                            List.copyOf(p.getTokens())))
+                                    .toList();
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public QueryAttributes getQueryAttributes() {
+        return queryAttributes;
+    }
+
+    /**
+     * Creates a new query holder based on this template.
+     *
+     * @param valueFactory Factory for values of the query parameters
+     * @return New query holder with no parameter values set
+     */
+    public TokenStreamSparqlQueryHolder instantiate(ParameterValueFactory valueFactory) {
+        final List<TokenQueryParameter<?>> params = new ArrayList<>(parameters.size());
+        for (ParameterSpec spec : parameters) {
+            final TokenQueryParameter<?> param = spec.identifier instanceof Integer position ?
+                                                 new TokenQueryParameter<>(position, valueFactory) :
+                                                 new TokenQueryParameter<>((String) spec.identifier, valueFactory);
+            param.setProjected(spec.projected);
+            param.getTokens().addAll(spec.tokens);
+            params.add(param);
+        }
+        // Token stream rewriters are bound to a token stream, so each holder gets its own stream over the shared tokens
+        final CommonTokenStream tokenStream = new CommonTokenStream(new ListTokenSource(tokens));
+        tokenStream.fill();
+        return new TokenStreamSparqlQueryHolder(query, queryAttributes, params, tokenStream);
+    }
+
+    private record ParameterSpec(Object identifier, boolean projected, List<Token> tokens) {
+    }
+}
@@ -21,6 +21,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -50,6 +51,8 @@ class AttributeBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoade
     private final Class<T> resultType;
     private final Descriptor descriptor;
     private final EntityType<T> entityType;
+    // Resolved on first row, so that construction does not require attributes of the entity type
+    private List<MappedAttribute> attributes;
 
     private Set<Axiom<?>> currentEntityAxioms = Set.of();
     private NamedResource currentSubject;
@@ -91,10 +94,10 @@ class AttributeBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoade
 
     private void rowToAxioms(ResultRow row) throws OntoDriverException {
         final VariableNameMapper varNameMapper = createVarNameMapper(row);
-        for (Attribute<? super T, ?> attribute : entityType.getAttributes()) {
-            final String varName = varNameMapper.getAttributeVarName(attribute);
+        for (MappedAttribute attribute : getAttributes()) {
+            final String varName = varNameMapper.getAttributeVarName(attribute.attribute());
             if (row.isBound(varName)) {
-                currentEntityAxioms.add(new AxiomImpl<>(currentSubject, attributeToAssertion(attribute), new Value<>(row.getObject(varName))));
+                currentEntityAxioms.add(new AxiomImpl<>(currentSubject, attribute.assertion(), new Value<>(row.getObject(varName))));
             }
         }
         final Optional<TypesSpecification<? super T, ?>> typesSpec = Optional.ofNullable(entityType.getTypes());
@@ -106,6 +109,14 @@ class AttributeBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoade
         }
     }
 
+    private List<MappedAttribute> getAttributes() {
+        if (attributes == null) {
+            this.attributes = entityType.getAttributes().stream()
+                                        .map(att -> new MappedAttribute(att, attributeToAssertion(att))).toList();
+        }
+        return attributes;
+    }
+
     private VariableNameMapper createVarNameMapper(ResultRow row) {
         assert !row.getColumnNames().isEmpty();
         final String subjectVarName = row.getColumnNames().get(0);
@@ -145,6 +156,12 @@ class AttributeBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoade
         return Optional.empty();
     }
 
+    /**
+     * Entity attribute with the assertion representing it, so that the assertion need not be created for every row.
+     */
+    private record MappedAttribute(Attribute<?, ?> attribute, Assertion assertion) {
+    }
+
     private interface VariableNameMapper {
         String getAttributeVarName(Attribute<?, ?> attribute);
         String getTypesVarName(TypesSpecification<?, ?> types);
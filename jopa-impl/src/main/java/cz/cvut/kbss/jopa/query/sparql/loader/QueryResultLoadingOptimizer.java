@@ -15,12 +15,27 @@ public abstract class QueryResultLoadingOptimizer<H extends QueryHolder> {
 
     protected boolean optimizationEnabled;
 
+    protected int lazyLoadingBatchSize = 1;
+
     protected QueryResultLoadingOptimizer(H queryHolder) {this.queryHolder = queryHolder;}
 
     public void enableOptimization() {this.optimizationEnabled = true;}
 
     public void disableOptimization() {this.optimizationEnabled = false;}
 
+    /**
+     * Sets the number of query result entities whose lazily loaded attribute is loaded together when the attribute is
+     * accessed on one of them.
+     *
+     * @param lazyLoadingBatchSize Batch size, {@code 1} disables batch loading
+     */
+    public void setLazyLoadingBatchSize(int lazyLoadingBatchSize) {
+        if (lazyLoadingBatchSize < 1) {
+            throw new IllegalArgumentException("Lazy loading batch size must be positive, got " + lazyLoadingBatchSize + ".");
+        }
+        this.lazyLoadingBatchSize = lazyLoadingBatchSize;
+    }
+
     /**
      * Modifies the query assembly for optimized entity loading, if possible.
      *
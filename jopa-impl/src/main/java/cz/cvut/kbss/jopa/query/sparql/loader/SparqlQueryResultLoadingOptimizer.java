@@ -1,6 +1,7 @@
 package cz.cvut.kbss.jopa.query.sparql.loader;
 
 import cz.cvut.kbss.jopa.model.BaseEntityQueryResultLoader;
+import cz.cvut.kbss.jopa.model.LazyLoadingBatchQueryResultLoader;
 import cz.cvut.kbss.jopa.model.NonEntityQueryResultLoader;
 import cz.cvut.kbss.jopa.model.QueryResultLoader;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
@@ -104,6 +105,14 @@ public class SparqlQueryResultLoadingOptimizer extends QueryResultLoadingOptimiz
      */
     @Override
     public <T> QueryResultLoader<T> getQueryResultLoader(Class<T> resultClass, Descriptor descriptor) {
+        final QueryResultLoader<T> loader = createQueryResultLoader(resultClass, descriptor);
+        if (lazyLoadingBatchSize > 1 && uow.isEntityType(resultClass)) {
+            return new LazyLoadingBatchQueryResultLoader<>(loader, uow, lazyLoadingBatchSize);
+        }
+        return loader;
+    }
+
+    private <T> QueryResultLoader<T> createQueryResultLoader(Class<T> resultClass, Descriptor descriptor) {
         final OptimizerType optimizerType = resolveOptimizerTypeForResultLoader(resultClass, descriptor);
         return switch (optimizerType) {
             case TRIPLE_BASED -> new TripleBasedRowsToAxiomsQueryResultLoader<>(uow, resultClass, descriptor);
@@ -5,7 +5,7 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.QueryResultLoader;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
-import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.FieldTable;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.vocabulary.RDF;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -21,7 +21,9 @@ import org.slf4j.LoggerFactory;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,6 +44,8 @@ class TripleBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoader<T
     private final UnitOfWork uow;
     private final Class<T> resultType;
     private final Descriptor descriptor;
+    private final FieldTable<T> fieldTable;
+    private final Map<URI, Assertion> assertions = new HashMap<>();
 
     private List<Axiom<?>> currentEntityAxioms = List.of();
     private NamedResource currentSubject;
@@ -50,6 +54,7 @@ class TripleBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoader<T
         this.uow = uow;
         this.resultType = resultType;
         this.descriptor = descriptor;
+        this.fieldTable = uow.getMetamodel().entity(resultType).getFieldTable();
     }
 
     @Override
@@ -78,14 +83,14 @@ class TripleBasedRowsToAxiomsQueryResultLoader<T> implements QueryResultLoader<T
     }
 
     private Assertion propertyToAssertion(URI property) {
+        return assertions.computeIfAbsent(property, this::createAssertion);
+    }
+
+    private Assertion createAssertion(URI property) {
         if (RDF.TYPE.equals(property.toString())) {
             return Assertion.createClassAssertion(false);
         }
-        final EntityType<T> et = uow.getMetamodel().entity(resultType);
-        final Optional<Attribute<? super T, ?>> attribute = et.getAttributes().stream()
-                                                              .filter(att -> att.getIRI().toString()
-                                                                                .equals(property.toString()))
-                                                              .findFirst();
+        final Optional<Attribute<?, ?>> attribute = fieldTable.getAttributeIncludingSubtypes(property.toString());
         return attribute.map(att -> switch (att.getPersistentAttributeType()) {
             case OBJECT -> Assertion.createObjectPropertyAssertion(property, att.isInferred());
             case DATA -> Assertion.createDataPropertyAssertion(property, att.isInferred());
@@ -17,6 +17,8 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
+import cz.cvut.kbss.jopa.oom.IdentifierGenerators;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplateCache;
 import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -48,6 +50,20 @@ public abstract class AbstractSession implements MetamodelProvider, Configuratio
      */
     public abstract CacheManager getLiveObjectCache();
 
+    /**
+     * Gets the cache of parsed query templates.
+     *
+     * @return Query template cache
+     */
+    public abstract QueryTemplateCache getQueryTemplateCache();
+
+    /**
+     * Gets identifier generators of the persistence unit.
+     *
+     * @return Identifier generators
+     */
+    public abstract IdentifierGenerators getIdentifierGenerators();
+
     /**
      * Acquires connection to the underlying ontology storage.
      *
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.proxy.IndirectWrapper;
+import cz.cvut.kbss.jopa.proxy.change.ChangeTrackingIndirectCollection;
 import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
 import cz.cvut.kbss.jopa.model.EntityState;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
@@ -33,9 +34,12 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
+import cz.cvut.kbss.jopa.oom.IdentifierGenerators;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
+import cz.cvut.kbss.jopa.sessions.cache.SealedView;
 import cz.cvut.kbss.jopa.sessions.change.Change;
 import cz.cvut.kbss.jopa.sessions.change.ChangeCalculator;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
@@ -47,6 +51,7 @@ import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.AxiomBasedLoadingParameters;
 import cz.cvut.kbss.jopa.sessions.util.CloneConfiguration;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.LazyLoadingBatchRegistry;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.sessions.validator.InferredAttributeChangeValidator;
@@ -61,13 +66,17 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
@@ -91,6 +100,7 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     RepositoryMap repoMap;
 
     final LoadStateDescriptorRegistry loadStateRegistry;
+    final LazyLoadingBatchRegistry lazyLoadingBatches = new LazyLoadingBatchRegistry();
 
     boolean hasChanges;
     boolean hasNew;
@@ -111,6 +121,8 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     final SparqlQueryFactory queryFactory;
     final InferredAttributeChangeValidator inferredAttributeChangeValidator;
 
+    final boolean copyOnWriteCloning;
+
     public AbstractUnitOfWork(AbstractSession parent, Configuration configuration) {
         super(configuration);
         this.parent = Objects.requireNonNull(parent);
@@ -124,10 +136,11 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         this.indirectWrapperHelper = new IndirectWrapperHelper(this);
         this.cloneBuilder = new CloneBuilder(this);
         this.storage = acquireConnection();
-        this.queryFactory = new SparqlQueryFactory(this, storage);
+        this.queryFactory = new SparqlQueryFactory(this, storage, parent.getQueryTemplateCache());
         this.mergeManager = new MergeManager(this, cloneBuilder);
         this.changeCalculator = new ChangeCalculator(this);
         this.inferredAttributeChangeValidator = new InferredAttributeChangeValidator(storage);
+        this.copyOnWriteCloning = configuration.is(JOPAPersistenceProperties.COPY_ON_WRITE_CLONING);
         this.isActive = true;
     }
 
@@ -155,6 +168,7 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         newObjectsCloneToOriginal.clear();
         newObjectsKeyToClone.clear();
         loadStateRegistry.clear();
+        lazyLoadingBatches.clear();
         this.hasChanges = false;
         this.hasDeleted = false;
         this.hasNew = false;
@@ -175,6 +189,16 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         return parent.getLiveObjectCache();
     }
 
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return parent.getQueryTemplateCache();
+    }
+
+    @Override
+    public IdentifierGenerators getIdentifierGenerators() {
+        return parent.getIdentifierGenerators();
+    }
+
     @Override
     public boolean isActive() {
         return isActive;
@@ -293,6 +317,41 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         return cls.cast(clone);
     }
 
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        final Map<Object, T> managed = new HashMap<>();
+        final Map<URI, LoadingParameters<T>> toLoad = new LinkedHashMap<>();
+        for (Object identifier : identifiers) {
+            final T result = readManagedObject(cls, identifier, descriptor);
+            if (result != null) {
+                managed.put(identifier, result);
+            } else {
+                final URI uri = getValueAsURI(identifier);
+                toLoad.put(uri, new LoadingParameters<>(cls, uri, descriptor));
+            }
+        }
+        final Map<URI, T> loaded = toLoad.isEmpty() ? Collections.emptyMap() : storage.findAll(List.copyOf(toLoad.values()));
+        final Map<URI, T> registered = new HashMap<>(loaded.size());
+        final List<T> result = new ArrayList<>(identifiers.size());
+        for (Object identifier : identifiers) {
+            if (managed.containsKey(identifier)) {
+                result.add(managed.get(identifier));
+                continue;
+            }
+            final URI uri = getValueAsURI(identifier);
+            final T original = loaded.get(uri);
+            if (original != null) {
+                result.add(registered.computeIfAbsent(uri, u -> cls.cast(registerExistingObject(original,
+                        new CloneRegistrationDescriptor(descriptor).postCloneHandlers(List.of(new PostLoadInvoker(getMetamodel())))))));
+            }
+        }
+        return result;
+    }
+
     <T> T readManagedObject(Class<T> cls, Object identifier, Descriptor descriptor) {
         // First try to find the object among new uncommitted objects
         Object result = newObjectsKeyToClone.get(identifier);
@@ -408,6 +467,15 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
                 || newObjectsCloneToOriginal.containsKey(entity);
     }
 
+    @Override
+    public Set<Object> getManagedObjectsSnapshot() {
+        final Set<Object> snapshot = Collections.newSetFromMap(new IdentityHashMap<>());
+        snapshot.addAll(cloneMapping);
+        snapshot.addAll(referenceProxies.keySet());
+        snapshot.addAll(newObjectsCloneToOriginal.keySet());
+        return snapshot;
+    }
+
     private boolean isManagedReference(Object entity) {
         return referenceProxies.containsKey(entity);
     }
@@ -719,9 +787,15 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
 
         final IdentifiableEntityType<?> eType = entityType(entity.getClass());
         eType.getLifecycleListenerManager().invokePrePersistCallbacks(entity);
-        Object id = initEntityIdentifier(entity, (EntityType<Object>) eType);
+        Object id = getIdentifier(entity);
+        final boolean generated = id == null;
+        if (generated) {
+            id = generateEntityIdentifier(entity, (EntityType<Object>) eType);
+        }
         assert id != null;
-        verifyCanPersist(id, entity, eType, descriptor);
+        // Identifiers generated by check-free strategies cannot exist in the storage yet
+        verifyCanPersist(id, entity, eType, descriptor,
+                !generated || !getIdentifierGenerators().isCheckFree(eType));
         // Original is null until commit
         newObjectsCloneToOriginal.put(entity, null);
         registerEntityWithOntologyContext(entity, descriptor);
@@ -730,21 +804,19 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         this.hasNew = true;
     }
 
-    private Object initEntityIdentifier(Object entity, EntityType<Object> et) {
-        Object id = getIdentifier(entity);
-        if (id == null) {
-            EntityPropertiesUtils.verifyIdentifierIsGenerated(entity, et);
-            id = storage.generateIdentifier(et);
-            EntityPropertiesUtils.setIdentifier(id, entity, et);
-        }
+    private Object generateEntityIdentifier(Object entity, EntityType<Object> et) {
+        EntityPropertiesUtils.verifyIdentifierIsGenerated(entity, et);
+        final Object id = storage.generateIdentifier(et);
+        EntityPropertiesUtils.setIdentifier(id, entity, et);
         return id;
     }
 
-    private void verifyCanPersist(Object id, Object instance, EntityType<?> et, Descriptor descriptor) {
+    private void verifyCanPersist(Object id, Object instance, EntityType<?> et, Descriptor descriptor,
+                                  boolean checkStorage) {
         if (isIndividualManaged(id, instance) && !instance.getClass().isEnum()) {
             throw individualAlreadyManaged(id);
         }
-        if (storage.contains(id, instance.getClass(), descriptor)) {
+        if (checkStorage && storage.contains(id, instance.getClass(), descriptor)) {
             throw new OWLEntityExistsException("Individual " + id + " of type " + et.getIRI() + " already exists in storage.");
         }
     }
@@ -784,6 +856,7 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         if (original != null) {
             cloneBuilder.removeVisited(original, repoMap.getEntityDescriptor(object));
         }
+        lazyLoadingBatches.remove(object);
         unregisterEntityFromOntologyContext(object);
     }
 
@@ -808,7 +881,10 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         final EntityType<?> et = entityType(entity.getClass());
         for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
             final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), entity);
-            if (value instanceof IndirectWrapper indirectWrapper) {
+            if (value instanceof ChangeTrackingIndirectCollection<?> indirectCollection) {
+                // Make sure the detached entity does not share the collection with the original
+                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indirectCollection.unwrapExclusive());
+            } else if (value instanceof IndirectWrapper indirectWrapper) {
                 EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indirectWrapper.unwrap());
             } else if (value instanceof LazyLoadingProxy lazyLoadingProxy) {
                 EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, lazyLoadingProxy.unwrap());
@@ -816,6 +892,11 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         }
     }
 
+    @Override
+    public Optional<Object> createSharedIndirectCollection(Collection<?> collection, Object owner, Field field) {
+        return Optional.empty();
+    }
+
     @Override
     public void writeUncommittedChanges() {
         if (hasChanges()) {
@@ -856,7 +937,33 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
             return EntityPropertiesUtils.getFieldValue(field, entity);
         }
 
-        storage.loadFieldValue(entity, fieldSpec, entityDescriptor);
+        final List<T> batch = lazyLoadingBatches.getBatch(entity, sibling -> isBatchLoadable(sibling, fieldSpec, entityDescriptor));
+        if (batch.size() > 1) {
+            LOG.trace("Loading field {} for a batch of {} instances.", fieldSpec, batch.size());
+            storage.loadFieldValues(batch, fieldSpec, entityDescriptor);
+            for (int i = 1; i < batch.size(); i++) {
+                processLoadedFieldValue(batch.get(i), fieldSpec, entityDescriptor);
+            }
+        } else {
+            storage.loadFieldValue(entity, fieldSpec, entityDescriptor);
+        }
+        return processLoadedFieldValue(entity, fieldSpec, entityDescriptor);
+    }
+
+    private boolean isBatchLoadable(Object sibling, FieldSpecification<?, ?> fieldSpec, Descriptor descriptor) {
+        return fieldSpec.getJavaField().getDeclaringClass().isInstance(sibling) && isObjectManaged(sibling)
+                && loadStateRegistry.contains(sibling)
+                && loadStateRegistry.get(sibling).isLoaded(fieldSpec) == LoadState.NOT_LOADED
+                && descriptor.equals(repoMap.getEntityDescriptor(sibling));
+    }
+
+    /**
+     * Propagates a freshly loaded field value to the entity original, replaces it with a clone in the entity and marks
+     * the field as loaded.
+     */
+    private <T> Object processLoadedFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec,
+                                               Descriptor entityDescriptor) {
+        final Field field = fieldSpec.getJavaField();
         final Object orig = EntityPropertiesUtils.getFieldValue(field, entity);
         final Object entityOriginal = getOriginal(entity);
         if (entityOriginal != null) {
@@ -865,10 +972,19 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         final Descriptor fieldDescriptor = getFieldDescriptor(entity, field, entityDescriptor);
         final Object clone = cloneLoadedFieldValue(entity, field, fieldDescriptor, orig);
         EntityPropertiesUtils.setFieldValue(field, entity, clone);
-        loadStateDescriptor.setLoaded((FieldSpecification) fieldSpec, LoadState.LOADED);
+        loadStateRegistry.get(entity).setLoaded((FieldSpecification) fieldSpec, LoadState.LOADED);
         return clone;
     }
 
+    @Override
+    public void registerInLazyLoadingBatch(Object entity, LazyLoadingBatchRegistry.Batch batch) {
+        Objects.requireNonNull(entity);
+        Objects.requireNonNull(batch);
+        if (loadStateRegistry.contains(entity)) {
+            lazyLoadingBatches.register(entity, batch);
+        }
+    }
+
     /**
      * Gets basic object info for logging.
      * <p>
@@ -912,6 +1028,8 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     public void putObjectIntoCache(Object identifier, Object entity, Descriptor descriptor) {
         final LoadStateDescriptor<?> loadStateDescriptor = loadStateRegistry.get(entity);
         assert loadStateDescriptor != null;
+        // Changes may have been merged into the entity
+        SealedView.invalidate(entity);
         getLiveObjectCache().add(identifier, entity, new Descriptors(descriptor, loadStateDescriptor));
     }
 
@@ -919,6 +1037,7 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     public void removeObjectFromCache(Object toRemove, URI context) {
         Objects.requireNonNull(toRemove);
 
+        SealedView.invalidate(toRemove);
         getLiveObjectCache().evict(MetamodelUtils.getEntityClass(toRemove.getClass()), getIdentifier(toRemove), context);
     }
 
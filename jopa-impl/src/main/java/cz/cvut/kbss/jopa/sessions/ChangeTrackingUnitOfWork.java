@@ -35,6 +35,9 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
 
@@ -51,6 +54,13 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
         return clone;
     }
 
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor) {
+        final List<T> clones = super.readObjects(cls, identifiers, descriptor);
+        clones.forEach(this::checkForIndirectObjects);
+        return clones;
+    }
+
     /**
      * Check if the specified entity contains a collection. If so, replace it with its indirect representation so that
      * changes in that collection can be tracked.
@@ -101,6 +111,12 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
         return indirectWrapperHelper.createIndirectWrapper(collection, owner, field);
     }
 
+    @Override
+    public Optional<Object> createSharedIndirectCollection(Collection<?> collection, Object owner, Field field) {
+        return copyOnWriteCloning ? indirectWrapperHelper.createSharedIndirectWrapper(collection, owner, field) :
+               Optional.empty();
+    }
+
     /**
      * If there are any changes, commit them to the ontology.
      */
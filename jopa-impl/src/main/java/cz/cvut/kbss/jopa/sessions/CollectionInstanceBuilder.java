@@ -76,6 +76,12 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         if (Collections.emptyList() == container || Collections.emptySet() == container) {
             return container;
         }
+        if (configuration.isForPersistenceContext() && containsOnlyImmutableElements(container)) {
+            final Optional<Object> shared = uow.createSharedIndirectCollection(container, cloneOwner, field);
+            if (shared.isPresent()) {
+                return shared.get();
+            }
+        }
         Object clone = cloneUsingDefaultConstructor(cloneOwner, field, container, configuration);
         if (clone == null) {
             clone = buildInstanceOfSpecialCollection(cloneOwner, field, container, configuration);
@@ -87,6 +93,15 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         return clone;
     }
 
+    private boolean containsOnlyImmutableElements(Collection<?> container) {
+        for (Object elem : container) {
+            if (elem != null && (builder.isTypeManaged(elem.getClass()) || builder.instanceHasBuilder(elem))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Clones the specified collection using its default zero argument constructor. If the specified collection has none
      * (e. g. like SingletonList), this method returns null.
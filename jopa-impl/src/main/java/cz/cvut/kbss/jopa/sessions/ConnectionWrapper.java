@@ -34,7 +34,9 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class ConnectionWrapper implements Wrapper {
@@ -64,6 +66,10 @@ public class ConnectionWrapper implements Wrapper {
         return mapper.loadEntity(loadingParameters);
     }
 
+    public <T> Map<URI, T> findAll(Collection<LoadingParameters<T>> loadingParameters) {
+        return mapper.loadEntities(loadingParameters);
+    }
+
     public <T> T loadFromAxioms(AxiomBasedLoadingParameters<T> loadingParameters) {
         return mapper.loadEntity(loadingParameters);
     }
@@ -94,6 +100,10 @@ public class ConnectionWrapper implements Wrapper {
         mapper.loadFieldValue(entity, fieldSpec, descriptor);
     }
 
+    public <T> void loadFieldValues(List<T> entities, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor) {
+        mapper.loadFieldValues(entities, fieldSpec, descriptor);
+    }
+
     public <T> Set<Axiom<?>> getAttributeAxioms(T entity, FieldSpecification<? super T, ?> fieldSpec,
                                                 Descriptor entityDescriptor) {
         return mapper.getAttributeAxioms(entity, fieldSpec, entityDescriptor);
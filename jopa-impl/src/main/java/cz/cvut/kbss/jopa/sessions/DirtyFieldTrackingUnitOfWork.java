@@ -0,0 +1,170 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.FieldTable;
+import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
+import cz.cvut.kbss.jopa.utils.Configuration;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Calculates changes on commit, comparing only attributes which were modified during the transaction.
+ * <p>
+ * Managed instances keep a bitmap of their modified attributes (see {@link Manageable#getDirtyFields()}), which is
+ * updated by the generated setter interceptors and by indirect wrappers of collections and multilingual strings. On
+ * commit, only instances with a non-empty bitmap are compared to their originals and only in the modified attributes.
+ * <p>
+ * Instances which do not implement {@link Manageable} (e.g., when entity classes were not generated because the
+ * persistence unit uses a different change tracking mode) are always compared completely.
+ */
+public class DirtyFieldTrackingUnitOfWork extends OnCommitChangePropagatingUnitOfWork {
+
+    private final Set<Object> dirtyObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Object> untrackedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public DirtyFieldTrackingUnitOfWork(AbstractSession parent, Configuration configuration) {
+        super(parent, configuration);
+    }
+
+    @Override
+    void registerClone(Object clone, Object original, Descriptor descriptor) {
+        super.registerClone(clone, original, descriptor);
+        if (isFlushingChanges()) {
+            return;
+        }
+        if (clone instanceof Manageable manageable) {
+            manageable.setPersistenceContext(this);
+        } else {
+            untrackedObjects.add(clone);
+        }
+    }
+
+    @Override
+    void detachAllManagedInstances() {
+        super.detachAllManagedInstances();
+        cloneMapping.forEach(DirtyFieldTrackingUnitOfWork::stopTracking);
+        dirtyObjects.clear();
+        untrackedObjects.clear();
+    }
+
+    private static void stopTracking(Object entity) {
+        if (entity instanceof Manageable manageable) {
+            manageable.setPersistenceContext(null);
+            manageable.setDirtyFields(null);
+        }
+    }
+
+    @Override
+    public void unregisterObject(Object object) {
+        super.unregisterObject(object);
+        if (object != null) {
+            stopTracking(object);
+            dirtyObjects.remove(object);
+            untrackedObjects.remove(object);
+        }
+    }
+
+    @Override
+    <T> T mergeDetachedInternal(T toMerge, Descriptor descriptor) {
+        final T clone = super.mergeDetachedInternal(toMerge, descriptor);
+        // The merge rewrites the managed instance reflectively, so all its attributes have to be compared
+        if (clone instanceof Manageable manageable) {
+            getOrCreateDirtyFields(manageable).set(0, fieldTable(clone.getClass()).size());
+            dirtyObjects.add(clone);
+        }
+        return clone;
+    }
+
+    @Override
+    public void attributeChanged(Object entity, Field f) {
+        fieldTable(entity.getClass()).getFieldSpecification(f.getName())
+                                     .ifPresent(fs -> attributeChanged(entity, fs));
+    }
+
+    @Override
+    public void attributeChanged(Object entity, FieldSpecification<?, ?> fieldSpec) {
+        if (!(entity instanceof Manageable manageable) || !cloneMapping.contains(entity)) {
+            return;
+        }
+        final int index = fieldTable(entity.getClass()).ordinal(fieldSpec);
+        if (index < 0) {
+            return;
+        }
+        getOrCreateDirtyFields(manageable).set(index);
+        dirtyObjects.add(entity);
+    }
+
+    private static BitSet getOrCreateDirtyFields(Manageable instance) {
+        BitSet dirtyFields = instance.getDirtyFields();
+        if (dirtyFields == null) {
+            dirtyFields = new BitSet();
+            instance.setDirtyFields(dirtyFields);
+        }
+        return dirtyFields;
+    }
+
+    private FieldTable<?> fieldTable(Class<?> cls) {
+        return entityType(cls).getFieldTable();
+    }
+
+    @Override
+    public Object createIndirectCollection(Object collection, Object owner, Field field) {
+        return indirectWrapperHelper.createIndirectWrapper(collection, owner, field);
+    }
+
+    @Override
+    public Optional<Object> createSharedIndirectCollection(Collection<?> collection, Object owner, Field field) {
+        return copyOnWriteCloning ? indirectWrapperHelper.createSharedIndirectWrapper(collection, owner, field) :
+               Optional.empty();
+    }
+
+    @Override
+    Stream<Object> clonesToCheckForChanges() {
+        return Stream.concat(dirtyObjects.stream(), untrackedObjects.stream()).filter(cloneMapping::contains);
+    }
+
+    @Override
+    void calculateObjectChanges(ObjectChangeSet changeSet) {
+        final Object clone = changeSet.getClone();
+        if (!(clone instanceof Manageable manageable)) {
+            super.calculateObjectChanges(changeSet);
+            return;
+        }
+        final BitSet dirtyFields = manageable.getDirtyFields();
+        if (dirtyFields == null || dirtyFields.isEmpty()) {
+            return;
+        }
+        final FieldTable<?> table = fieldTable(clone.getClass());
+        final List<FieldSpecification<?, ?>> toCompare = new ArrayList<>(dirtyFields.cardinality());
+        dirtyFields.stream().forEach(i -> toCompare.add(table.get(i)));
+        changeCalculator.calculateChanges(changeSet, toCompare);
+    }
+}
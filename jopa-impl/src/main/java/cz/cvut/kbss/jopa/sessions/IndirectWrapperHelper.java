@@ -28,6 +28,7 @@ import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -67,6 +68,26 @@ class IndirectWrapperHelper {
         }
     }
 
+    /**
+     * Creates an indirect wrapper for the specified {@code shared} collection.
+     * <p>
+     * The collection is shared with another object (typically the original of the owner) and the wrapper copies it
+     * before it is first modified.
+     *
+     * @param shared The collection to wrap
+     * @param owner  Instance owning the wrapped collection
+     * @param field  Field filled with the wrapped collection
+     * @return Copy-on-write indirect wrapper, empty if the collection type is not supported
+     */
+    Optional<Object> createSharedIndirectWrapper(Collection<?> shared, Object owner, Field field) {
+        if (shared instanceof List) {
+            return Optional.of(new ChangeTrackingIndirectList<>(owner, field, uow, (List<?>) shared, true));
+        } else if (shared instanceof Set) {
+            return Optional.of(new ChangeTrackingIndirectSet<>(owner, field, uow, (Set<?>) shared, true));
+        }
+        return Optional.empty();
+    }
+
     /**
      * Checks whether the specified object is of a type requiring an indirect wrapper.
      *
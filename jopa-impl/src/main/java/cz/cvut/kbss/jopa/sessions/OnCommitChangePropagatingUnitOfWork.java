@@ -30,6 +30,7 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.stream.Stream;
 
 public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
 
@@ -77,11 +78,10 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
     @Override
     void calculateChanges() {
         super.calculateChanges();
-        cloneToOriginals.entrySet().stream().filter(e -> !deletedObjects.containsKey(e.getKey())).forEach(e -> {
-            final Object original = e.getValue();
-            final Object clone = e.getKey();
+        clonesToCheckForChanges().filter(clone -> !deletedObjects.containsKey(clone)).forEach(clone -> {
+            final Object original = cloneToOriginals.get(clone);
             ObjectChangeSet chSet = ChangeSetFactory.createObjectChangeSet(original, clone, getDescriptor(clone));
-            changeCalculator.calculateChanges(chSet);
+            calculateObjectChanges(chSet);
             processInferredValueChanges(chSet);
             if (chSet.hasChanges()) {
                 uowChangeSet.addObjectChangeSet(chSet);
@@ -92,6 +92,24 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
         }
     }
 
+    /**
+     * Gets managed instances whose state should be compared to their originals when calculating changes.
+     *
+     * @return Stream of managed instances
+     */
+    Stream<Object> clonesToCheckForChanges() {
+        return cloneMapping.stream();
+    }
+
+    /**
+     * Calculates changes of the clone in the specified change set.
+     *
+     * @param changeSet Change set to record changes in
+     */
+    void calculateObjectChanges(ObjectChangeSet changeSet) {
+        changeCalculator.calculateChanges(changeSet);
+    }
+
     @Override
     <T> T mergeDetachedInternal(T toMerge, Descriptor descriptor) {
         assert toMerge != null;
@@ -19,11 +19,17 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.model.EntityState;
 import cz.cvut.kbss.jopa.model.LoadState;
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.lifecycle.LifecycleEvent;
 import cz.cvut.kbss.jopa.model.lifecycle.PostLoadInvoker;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxyFactory;
+import cz.cvut.kbss.jopa.sessions.cache.SealedView;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
@@ -36,17 +42,29 @@ import cz.cvut.kbss.jopa.utils.CollectionFactory;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.MetamodelUtils;
+import cz.cvut.kbss.jopa.utils.ReflectionUtils;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 import static cz.cvut.kbss.jopa.utils.EntityPropertiesUtils.getValueAsURI;
@@ -55,6 +73,8 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
 
     final Map<Object, Object> keysToOriginals = new HashMap<>();
     final Set<Object> originalMapping = new HashSet<>();
+    // Cached instances -> their sealed views registered in this persistence context
+    private final Map<Object, Object> sharedCopies = new IdentityHashMap<>();
 
     private final LazyLoadingProxyFactory lazyLoaderFactory;
 
@@ -68,6 +88,7 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
         super.clear();
         keysToOriginals.clear();
         originalMapping.clear();
+        sharedCopies.clear();
     }
 
     @Override
@@ -116,6 +137,20 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
         return cls.cast(registeredResult);
     }
 
+    /**
+     * {@inheritDoc} Note that the {@code ReadOnlyUnitOfWork} reads the objects one by one, as instances not present in
+     * the second level cache bypass it.
+     */
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        return identifiers.stream().map(id -> readObjectInternal(cls, id, descriptor)).filter(Objects::nonNull)
+                          .toList();
+    }
+
     @Override
     <T> T readManagedObject(Class<T> cls, Object identifier, Descriptor descriptor) {
         // simply return the managed object or null
@@ -166,8 +201,12 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
 
         originalMapping.remove(object);
         keysToOriginals.remove(super.getIdentifier(object));
+        if (object instanceof Manageable manageable && manageable.isSharedReadOnlyInstance()) {
+            sharedCopies.values().remove(object);
+        }
 
         super.removeLazyLoadingProxies(object);
+        lazyLoadingBatches.remove(object);
         super.unregisterEntityFromOntologyContext(object);
     }
 
@@ -197,16 +236,26 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
     /**
      * Register an existing object in this Unit of Work. Creates a working clone of the specified object according to
      * the configuration.
+     * <p>
+     * Instances from the second level cache are not cloned if they can be shared, i.e., they and all the instances they
+     * reference are fully loaded and can be protected against modification. Their sealed views, which are shared by
+     * all read-only persistence contexts, are registered instead, see {@link SealedView}.
      *
      * @param entity                 Object
      * @param registrationDescriptor Configuration of the registration
-     * @return Registered clone of the specified object.
+     * @return Registered clone or sealed view of the specified object
      */
     @Override
     public Object registerExistingObject(Object entity, CloneRegistrationDescriptor registrationDescriptor) {
         if (entity == null) {
             return null;
         }
+        final Descriptor descriptor = registrationDescriptor.getDescriptor();
+        final Object shared = isCachedInstance(entity, descriptor) ? shareCachedInstance(entity, descriptor) : null;
+        if (shared != null) {
+            registrationDescriptor.getPostCloneHandlers().forEach(c -> c.accept(shared));
+            return shared;
+        }
 
         final CloneConfiguration cloneConfig = CloneConfiguration.withDescriptor(registrationDescriptor.getDescriptor())
                                                                  .addPostRegisterHandlers(registrationDescriptor.getPostCloneHandlers());
@@ -218,6 +267,243 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
         return clone;
     }
 
+    private boolean isCachedInstance(Object entity, Descriptor descriptor) {
+        final Class<?> cls = MetamodelUtils.getEntityClass(entity.getClass());
+        return getLiveObjectCache().get(cls, super.getIdentifier(entity), descriptor) == entity;
+    }
+
+    /**
+     * Registers the sealed view of the specified cached instance in this persistence context.
+     * <p>
+     * A new view is sealed only if the cached instance has no valid view yet, otherwise the existing view (together
+     * with its load state descriptor) is reused.
+     *
+     * @param cached     Cached instance
+     * @param descriptor Instance descriptor
+     * @return The registered view, {@code null} if the instance cannot be shared
+     */
+    private Object shareCachedInstance(Object cached, Descriptor descriptor) {
+        if (sharedCopies.containsKey(cached)) {
+            return sharedCopies.get(cached);
+        }
+        if (!(cached instanceof Manageable manageable)) {
+            return null;
+        }
+        SealedView view = SealedView.current(manageable);
+        if (view == null || !view.isValid()) {
+            if (!canBeShared(cached, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+                return null;
+            }
+            view = seal(manageable);
+        }
+        final Object shared = view.getInstance();
+        sharedCopies.put(cached, shared);
+        registerSharedInstance(shared, descriptor);
+        return shared;
+    }
+
+    /**
+     * Checks whether the specified instance and all the instances it references can be shared without cloning.
+     * <p>
+     * This requires them to be fully loaded (lazy loading proxies cannot be injected into shared instances), to have
+     * no post load callbacks (which could modify them) and to contain no values whose modification cannot be
+     * prevented. Instances with a valid sealed view have already passed the check.
+     */
+    private boolean canBeShared(Object instance, Set<Object> visited) {
+        if (!visited.add(instance)) {
+            return true;
+        }
+        if (!(instance instanceof Manageable manageable)) {
+            return false;
+        }
+        final SealedView view = SealedView.current(manageable);
+        if (view != null && view.isValid()) {
+            return true;
+        }
+        final LoadStateDescriptor<Object> loadState = super.getLoadStateRegistry().get(instance);
+        final IdentifiableEntityType<?> et = entityType(instance.getClass());
+        if (loadState == null || et.getLifecycleListenerManager().hasLifecycleCallback(LifecycleEvent.POST_LOAD)) {
+            return false;
+        }
+        for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
+            if (loadState.isLoaded(fs) != LoadState.LOADED) {
+                return false;
+            }
+            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), instance);
+            if (value instanceof LazyLoadingProxy<?>) {
+                return false;
+            } else if (value instanceof Collection<?> col) {
+                for (Object elem : col) {
+                    if (isEntity(elem) ? !canBeShared(elem, visited) : isMutable(elem)) {
+                        return false;
+                    }
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> e : map.entrySet()) {
+                    final boolean mutableValue = e.getValue() instanceof Collection<?> col ?
+                                                 col.stream().anyMatch(ReadOnlyUnitOfWork::isMutable) :
+                                                 isMutable(e.getValue());
+                    if (mutableValue || isMutable(e.getKey())) {
+                        return false;
+                    }
+                }
+            } else if (isEntity(value) ? !canBeShared(value, visited) : isMutable(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEntity(Object value) {
+        return value != null && super.isEntityType(value.getClass());
+    }
+
+    /**
+     * Checks whether the specified non-entity value is of a known mutable type.
+     * <p>
+     * Sealed views share such values with the cached instance and with all read-only persistence contexts, so their
+     * modification could not be prevented.
+     */
+    private static boolean isMutable(Object value) {
+        return value instanceof MultilingualString || value instanceof Date || value instanceof Calendar ||
+                value != null && value.getClass().isArray();
+    }
+
+    /**
+     * Seals a new view of the specified cached instance (and of the referenced instances without a valid view) and
+     * publishes it, so that it is shared by all read-only persistence contexts.
+     * <p>
+     * The cached instance itself is never modified, as it is the original into which read-write persistence contexts
+     * merge their changes. The view is a shallow copy, it shares values of singular attributes with the cached
+     * instance, but its collections and maps are unmodifiable copies, it references views of the referenced instances
+     * and it is marked as shared, so that its setters fail.
+     * <p>
+     * Views of instances changed while they were being sealed are not published. They are discarded after being used
+     * by this persistence context.
+     *
+     * @param cached Cached instance
+     * @return View of the specified instance
+     */
+    private SealedView seal(Manageable cached) {
+        final Sealing sealing = new Sealing();
+        sealInstance(cached, sealing);
+        sealing.references.forEach(r -> sealing.views.get(r.referenced()).addDependent(sealing.views.get(r.referrer())));
+        sealing.expected.forEach((instance, expected) -> {
+            final SealedView view = sealing.views.get(instance);
+            if (!SealedView.publish(instance, expected, view)) {
+                view.discard();
+            }
+        });
+        return sealing.views.get(cached);
+    }
+
+    private Object sealInstance(Manageable cached, Sealing sealing) {
+        // Retrieved before the instance is read, so that concurrent changes prevent publishing of the view
+        sealing.expected.put(cached, SealedView.current(cached));
+        final IdentifiableEntityType<Object> et =
+                (IdentifiableEntityType<Object>) (IdentifiableEntityType<?>) entityType(cached.getClass());
+        final Object copy = ReflectionUtils.instantiateUsingDefaultConstructor(et.getInstantiableJavaType());
+        // Remember the copy before processing references, they may point back to it
+        sealing.copies.put(cached, copy);
+        for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
+            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), cached);
+            final Object sealed;
+            if (value instanceof Collection<?> col) {
+                sealed = unmodifiableCopy(col, elem -> isEntity(elem) ? sealReference(elem, cached, sealing) : elem);
+            } else if (value instanceof Map<?, ?> map) {
+                sealed = unmodifiableCopy(map);
+            } else if (isEntity(value)) {
+                sealed = sealReference(value, cached, sealing);
+            } else {
+                sealed = value;
+            }
+            EntityPropertiesUtils.setFieldValue(fs.getJavaField(), copy, sealed);
+        }
+        final Manageable manageableCopy = (Manageable) copy;
+        manageableCopy.setSharedReadOnlyInstance(true);
+        // Shared instances are always fully loaded
+        final SealedView view = new SealedView(copy, LoadStateDescriptorFactory.createAllLoaded(copy, et));
+        manageableCopy.setSealedView(view);
+        sealing.views.put(cached, view);
+        return copy;
+    }
+
+    private Object sealReference(Object referenced, Manageable referrer, Sealing sealing) {
+        sealing.references.add(new Reference(referenced, referrer));
+        if (sealing.copies.containsKey(referenced)) {
+            return sealing.copies.get(referenced);
+        }
+        final Manageable cached = (Manageable) referenced;
+        final SealedView view = SealedView.current(cached);
+        if (view != null && view.isValid()) {
+            sealing.copies.put(cached, view.getInstance());
+            sealing.views.put(cached, view);
+            return view.getInstance();
+        }
+        return sealInstance(cached, sealing);
+    }
+
+    private static Collection<?> unmodifiableCopy(Collection<?> col, UnaryOperator<Object> elementMapper) {
+        if (col instanceof SortedSet<?> set) {
+            final SortedSet<Object> copy = new TreeSet<>((Comparator<Object>) set.comparator());
+            col.forEach(elem -> copy.add(elementMapper.apply(elem)));
+            return Collections.unmodifiableSortedSet(copy);
+        } else if (col instanceof Set<?>) {
+            final Set<Object> copy = new LinkedHashSet<>(col.size());
+            col.forEach(elem -> copy.add(elementMapper.apply(elem)));
+            return Collections.unmodifiableSet(copy);
+        }
+        final List<Object> copy = new ArrayList<>(col.size());
+        col.forEach(elem -> copy.add(elementMapper.apply(elem)));
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static Map<?, ?> unmodifiableCopy(Map<?, ?> map) {
+        // Map values (e.g., in properties) may be collections as well
+        final Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+        map.forEach((k, v) -> copy.put(k, v instanceof Collection<?> col ? unmodifiableCopy(col, UnaryOperator.identity()) : v));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Registers the specified sealed view and the views it references in this persistence context.
+     * <p>
+     * The views are registered with the load state descriptors sealed with them.
+     */
+    private void registerSharedInstance(Object shared, Descriptor descriptor) {
+        if (isObjectManaged(shared)) {
+            return;
+        }
+        final SealedView view = ((Manageable) shared).getSealedView();
+        super.getLoadStateRegistry().put(shared, (LoadStateDescriptor<Object>) view.getLoadStateDescriptor());
+        registerEntity(shared, descriptor);
+        for (FieldSpecification<?, ?> fs : entityType(shared.getClass()).getFieldSpecifications()) {
+            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), shared);
+            if (value instanceof Collection<?> col) {
+                final Descriptor fieldDescriptor = descriptor.getAttributeDescriptor(fs).unwrap();
+                col.stream().filter(this::isEntity).forEach(elem -> registerSharedInstance(elem, fieldDescriptor));
+            } else if (isEntity(value)) {
+                registerSharedInstance(value, super.getFieldDescriptor(shared, fs.getJavaField(), descriptor));
+            }
+        }
+    }
+
+    /**
+     * State of a single sealing run.
+     */
+    private static final class Sealing {
+        // Cached instance -> its view at the time the instance was read, see SealedView#publish
+        private final Map<Manageable, SealedView> expected = new IdentityHashMap<>();
+        // Cached instance -> its sealed copy
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        // Cached instance -> view of it (new or reused)
+        private final Map<Object, SealedView> views = new IdentityHashMap<>();
+        private final List<Reference> references = new ArrayList<>();
+    }
+
+    private record Reference(Object referenced, Object referrer) {
+    }
+
     private void registerEntity(Object entity, Descriptor descriptor) {
         originalMapping.add(entity);
         final Object identifier = super.getIdentifier(entity);
@@ -333,6 +619,13 @@ public class ReadOnlyUnitOfWork extends AbstractUnitOfWork {
         return this.originalMapping.contains(entity);
     }
 
+    @Override
+    public Set<Object> getManagedObjectsSnapshot() {
+        final Set<Object> snapshot = Collections.newSetFromMap(new IdentityHashMap<>());
+        snapshot.addAll(originalMapping);
+        return snapshot;
+    }
+
 
     /**
      * Gets the lifecycle state of the specified entity.
@@ -25,7 +25,9 @@ import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
+import cz.cvut.kbss.jopa.oom.IdentifierGenerators;
 import cz.cvut.kbss.jopa.query.criteria.CriteriaBuilderImpl;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplateCache;
 import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.ChangeTrackingMode;
@@ -50,11 +52,15 @@ public class ServerSession extends AbstractSession implements Wrapper {
 
     private static final Logger LOG = LoggerFactory.getLogger(ServerSession.class);
 
+    private static final int DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY = 256;
+
     private final MetamodelImpl metamodel;
 
     private CacheManager liveObjectCache;
     private StorageAccessor storageAccessor;
     private final CriteriaBuilder criteriaBuilder;
+    private final QueryTemplateCache queryTemplateCache;
+    private final IdentifierGenerators identifierGenerators;
 
     private Map<EntityTransaction, AbstractEntityManager> runningTransactions;
 
@@ -62,6 +68,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
         super(new Configuration());
         this.metamodel = metamodel;
         this.criteriaBuilder = new CriteriaBuilderImpl(metamodel);
+        this.queryTemplateCache = new QueryTemplateCache(DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY);
+        this.identifierGenerators = new IdentifierGenerators(getConfiguration());
     }
 
     public ServerSession(OntologyStorageProperties storageProperties, Configuration configuration,
@@ -69,6 +77,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
         super(configuration);
         this.metamodel = metamodel;
         this.criteriaBuilder = new CriteriaBuilderImpl(metamodel);
+        this.queryTemplateCache = new QueryTemplateCache(resolveQueryTemplateCacheCapacity(configuration));
+        this.identifierGenerators = new IdentifierGenerators(configuration);
         initialize(storageProperties, configuration, metamodel);
     }
 
@@ -90,6 +100,24 @@ public class ServerSession extends AbstractSession implements Wrapper {
         this.storageAccessor = new DefaultStorageAccessor(storageProperties, configuration.getProperties());
     }
 
+    private static int resolveQueryTemplateCacheCapacity(Configuration configuration) {
+        if (!configuration.contains(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY)) {
+            return DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY;
+        }
+        try {
+            final int capacity = Integer.parseInt(
+                    configuration.get(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY).trim());
+            if (capacity >= 0) {
+                return capacity;
+            }
+            LOG.warn("Invalid query template cache capacity value {}. Using default value.", capacity);
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse query template cache capacity setting. Using default capacity {}.",
+                    DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY);
+        }
+        return DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY;
+    }
+
     /**
      * Acquires a {@link UnitOfWork} instance to perform transactional operations.
      *
@@ -101,6 +129,10 @@ public class ServerSession extends AbstractSession implements Wrapper {
             LOG.trace("Acquiring read-only UnitOfWork.");
             return new CloningReadOnlyUnitOfWork(this, configuration);
         }
+        if (Constants.READ_ONLY_SHARED_TRANSACTION_MODE.equals(enabledStr)) {
+            LOG.trace("Acquiring read-only UnitOfWork sharing cached instances.");
+            return new ReadOnlyUnitOfWork(this, configuration);
+        }
 
         final ChangeTrackingMode mode = ChangeTrackingMode.resolve(configuration);
         return switch (mode) {
@@ -112,6 +144,10 @@ public class ServerSession extends AbstractSession implements Wrapper {
                 LOG.trace("Acquiring on commit change calculating UnitOfWork.");
                 yield new OnCommitChangePropagatingUnitOfWork(this, configuration);
             }
+            case DIRTY_FIELDS -> {
+                LOG.trace("Acquiring dirty field tracking UnitOfWork.");
+                yield new DirtyFieldTrackingUnitOfWork(this, configuration);
+            }
         };
     }
 
@@ -154,6 +190,17 @@ public class ServerSession extends AbstractSession implements Wrapper {
             }
         }
         liveObjectCache.close();
+        queryTemplateCache.clear();
+    }
+
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return queryTemplateCache;
+    }
+
+    @Override
+    public IdentifierGenerators getIdentifierGenerators() {
+        return identifierGenerators;
     }
 
     @Override
@@ -178,6 +225,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
             return cls.cast(this);
         } else if (cls.isAssignableFrom(liveObjectCache.getClass())) {
             return cls.cast(liveObjectCache);
+        } else if (cls.isAssignableFrom(queryTemplateCache.getClass())) {
+            return cls.cast(queryTemplateCache);
         }
         return storageAccessor.unwrap(cls);
     }
@@ -25,6 +25,7 @@ import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.LazyLoadingBatchRegistry;
 import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import cz.cvut.kbss.ontodriver.model.Axiom;
@@ -33,6 +34,8 @@ import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Represents a persistence context.
@@ -104,6 +107,15 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     boolean isObjectManaged(Object entity);
 
+    /**
+     * Gets a snapshot of instances currently managed by this persistence context.
+     * <p>
+     * The snapshot is not updated when the persistence context changes. Instances in it are compared by identity.
+     *
+     * @return Set of managed instances
+     */
+    Set<Object> getManagedObjectsSnapshot();
+
     /**
      * Checks whether the specified repository context is consistent.
      *
@@ -127,6 +139,17 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     <T> Object loadEntityField(T entity, FieldSpecification<? super T, ?> fieldSpec);
 
+    /**
+     * Registers the specified managed entity as a member of the specified lazy loading batch.
+     * <p>
+     * When a lazily loaded field of a batch member is accessed, the field is loaded also for the following members of
+     * the batch in a single storage request.
+     *
+     * @param entity The entity to register
+     * @param batch  Batch of sibling entities (e.g., results of the same query)
+     */
+    void registerInLazyLoadingBatch(Object entity, LazyLoadingBatchRegistry.Batch batch);
+
     /**
      * Merges the state of the given entity into the current persistence context.
      * <p>
@@ -156,6 +179,24 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Retrieves objects with the specified identifiers.
+     * <p>
+     * Objects already managed by this persistence context are returned directly, the remaining ones are loaded from
+     * the storage together. The objects as well as their fields are looked for in contexts specified by the
+     * descriptor.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor
+     * @return List of retrieved objects in the order of the specified identifiers, identifiers for which there is no
+     * object in the specified repository are skipped
+     * @throws NullPointerException    If {@code entityClass}, {@code identifiers} or {@code repository} is
+     *                                 {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     */
+    <T> List<T> readObjects(Class<T> cls, Collection<?> identifiers, Descriptor descriptor);
+
     /**
      * Reads an object but does not register it with this persistence context.
      * <p>
@@ -405,6 +446,21 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     Object createIndirectCollection(Object collection, Object owner, Field field);
 
+    /**
+     * Creates an indirect collection that shares the specified collection instance with its current owner (typically
+     * the original of the entity being cloned) and copies it before it is first modified.
+     * <p>
+     * This is supported only if copy-on-write cloning is enabled and this persistence context tracks modifications of
+     * collections via indirect collections.
+     *
+     * @param collection Collection to share. Its elements are expected to be immutable
+     * @param owner      Collection owner instance (the clone)
+     * @param field      Field filled with the collection
+     * @return Copy-on-write indirect collection, empty if sharing is not supported
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#COPY_ON_WRITE_CLONING
+     */
+    Optional<Object> createSharedIndirectCollection(Collection<?> collection, Object owner, Field field);
+
     /**
      * Gets a {@link SparqlQueryFactory} instance associated with this persistence context.
      *
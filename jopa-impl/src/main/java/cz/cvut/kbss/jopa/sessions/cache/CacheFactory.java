@@ -33,6 +33,7 @@ public abstract class CacheFactory {
 
     private static final String LRU_CACHE = "lru";
     private static final String TTL_CACHE = "ttl";
+    private static final String STRIPED_CACHE = "striped";
 
     private CacheFactory() {
         throw new AssertionError();
@@ -65,6 +66,10 @@ public abstract class CacheFactory {
                 LOG.debug("Using TTL cache.");
                 yield new TtlCacheManager(properties);
             }
+            case STRIPED_CACHE -> {
+                LOG.debug("Using striped LRU cache.");
+                yield new StripedLruCacheManager(properties);
+            }
             default -> throw new IllegalArgumentException("Invalid second level cache type " + cacheType);
         };
     }
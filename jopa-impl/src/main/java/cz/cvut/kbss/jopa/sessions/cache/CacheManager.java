@@ -78,6 +78,15 @@ public interface CacheManager extends Cache {
      */
     void setInferredClasses(Set<Class<?>> inferredClasses);
 
+    /**
+     * Gets statistics of this cache.
+     * <p>
+     * The returned object is a snapshot, it does not reflect subsequent changes of the cache.
+     *
+     * @return Cache statistics
+     */
+    CacheStatistics getStatistics();
+
     /**
      * Closes the cache.
      */
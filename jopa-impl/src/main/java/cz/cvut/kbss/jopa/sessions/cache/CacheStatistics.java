@@ -0,0 +1,76 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Snapshot of second level cache statistics.
+ * <p>
+ * Counters are cumulative since the creation of the cache. Sizes reflect the cache content at the time the snapshot was
+ * taken. Entries in the default context are represented by the {@code null} key in {@link #sizeByContext()}.
+ *
+ * @param hitCount      Number of lookups which found a cached instance
+ * @param missCount     Number of lookups which did not find a cached instance
+ * @param loadCount     Number of instances put into the cache
+ * @param evictions     Number of removed entries, by cause of removal
+ * @param sizeByContext Number of cached entries per repository context
+ * @param sizeByClass   Number of cached entries per entity class
+ */
+public record CacheStatistics(long hitCount, long missCount, long loadCount, Map<EvictionCause, Long> evictions,
+                              Map<URI, Long> sizeByContext, Map<Class<?>, Long> sizeByClass) {
+
+    /**
+     * Gets total number of entries removed from the cache.
+     *
+     * @return Number of evictions
+     */
+    public long evictionCount() {
+        return evictions.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Gets number of entries removed from the cache due to the specified cause.
+     *
+     * @param cause Eviction cause
+     * @return Number of evictions
+     */
+    public long evictionCount(EvictionCause cause) {
+        return evictions.getOrDefault(cause, 0L);
+    }
+
+    /**
+     * Gets the ratio of lookups that found a cached instance.
+     *
+     * @return Number between 0 and 1, 0 if there have been no lookups
+     */
+    public double hitRatio() {
+        final long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the total number of cached entries.
+     *
+     * @return Cache size
+     */
+    public long size() {
+        return sizeByContext.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Set;
 
 public class DisabledCacheManager implements CacheManager {
@@ -51,6 +52,11 @@ public class DisabledCacheManager implements CacheManager {
         // Do nothing
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        return new StatisticsCounter().snapshot(Map.of(), Map.of());
+    }
+
     @Override
     public void close() {
         // Do nothing
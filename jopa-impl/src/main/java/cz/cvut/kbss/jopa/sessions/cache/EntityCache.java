@@ -96,7 +96,8 @@ class EntityCache {
         for (URI ctx : contexts) {
             final Map<Class<?>, Object> m = getMapForId(ctx, identifier);
             final Object result = m.get(cls);
-            if (result != null && descriptors.get(result).repositoryDescriptor().equals(descriptor)) {
+            if (result != null && isAlive(ctx, cls, identifier) &&
+                    descriptors.get(result).repositoryDescriptor().equals(descriptor)) {
                 contextHandler.accept(ctx);
                 return cls.cast(result);
             }
@@ -104,6 +105,20 @@ class EntityCache {
         return null;
     }
 
+    /**
+     * Checks whether the cached entry with the specified key is still valid.
+     * <p>
+     * Subclasses may use this to hide entries which are scheduled for removal but have not been removed yet.
+     *
+     * @param context    Context of the entry
+     * @param cls        Entity class
+     * @param identifier Entity identifier
+     * @return {@code true} if the entry can be returned to the caller
+     */
+    boolean isAlive(URI context, Class<?> cls, Object identifier) {
+        return true;
+    }
+
     <T> LoadStateDescriptor<T> getLoadStateDescriptor(T instance) {
         return descriptors.containsKey(instance) ?
                (LoadStateDescriptor<T>) descriptors.get(instance).loadStateDescriptor() : null;
@@ -124,7 +139,7 @@ class EntityCache {
             final Object result = m.get(cls);
             assert descriptors.containsKey(result);
 
-            if (descriptors.get(result).repositoryDescriptor().equals(descriptor)) {
+            if (isAlive(ctx, cls, identifier) && descriptors.get(result).repositoryDescriptor().equals(descriptor)) {
                 return true;
             }
         }
@@ -165,6 +180,33 @@ class EntityCache {
         }
     }
 
+    /**
+     * Number of cached instances.
+     *
+     * @return Cache size
+     */
+    int size() {
+        return descriptors.size();
+    }
+
+    /**
+     * Counts cached entries per context and per entity class.
+     * <p>
+     * The default context is represented by {@code null}.
+     *
+     * @param sizeByContext Map into which context sizes are added
+     * @param sizeByClass   Map into which class sizes are added
+     */
+    void collectSizes(Map<URI, Long> sizeByContext, Map<Class<?>, Long> sizeByClass) {
+        repoCache.forEach((ctx, ctxMap) -> {
+            final URI key = defaultContext.equals(ctx) ? null : ctx;
+            ctxMap.values().forEach(instances -> instances.keySet().forEach(cls -> {
+                sizeByContext.merge(key, 1L, Long::sum);
+                sizeByClass.merge(cls, 1L, Long::sum);
+            }));
+        });
+    }
+
     private Map<Class<?>, Object> getMapForId(URI context, Object identifier) {
         assert identifier != null;
 
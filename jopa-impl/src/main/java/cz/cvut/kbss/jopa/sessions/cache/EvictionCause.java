@@ -0,0 +1,52 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+/**
+ * Reasons for removal of entries from the second level cache.
+ */
+public enum EvictionCause {
+    /**
+     * Entry was removed to make room for new entries.
+     */
+    CAPACITY,
+    /**
+     * Time-to-live of the entry expired.
+     */
+    EXPIRED,
+    /**
+     * Entry was an instance of a class with inferred attributes and the repository has changed.
+     */
+    INFERRED,
+    /**
+     * Entry was removed together with the whole repository context it belongs to.
+     */
+    CONTEXT,
+    /**
+     * Entry was removed together with all instances of its class.
+     */
+    CLASS,
+    /**
+     * Entry was removed explicitly, e.g., because the corresponding entity was modified or removed.
+     */
+    EXPLICIT,
+    /**
+     * Entry was removed when the whole cache was cleared.
+     */
+    ALL
+}
@@ -25,6 +25,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -57,6 +58,8 @@ public class LruCacheManager implements CacheManager {
 
     private Set<Class<?>> inferredClasses;
 
+    private final StatisticsCounter statistics = new StatisticsCounter();
+
     LruCacheManager() {
         this(Collections.emptyMap());
     }
@@ -68,7 +71,7 @@ public class LruCacheManager implements CacheManager {
         final ReadWriteLock rwLock = new ReentrantReadWriteLock();
         this.readLock = rwLock.readLock();
         this.writeLock = rwLock.writeLock();
-        this.entityCache = new LruEntityCache(capacity);
+        this.entityCache = new LruEntityCache(capacity, statistics);
     }
 
     private static int resolveCapacitySetting(Map<String, String> properties) {
@@ -110,7 +113,9 @@ public class LruCacheManager implements CacheManager {
         }
         readLock.lock();
         try {
-            return entityCache.get(cls, identifier, descriptor);
+            final T result = entityCache.get(cls, identifier, descriptor);
+            statistics.recordLookup(result);
+            return result;
         } finally {
             readLock.unlock();
         }
@@ -131,12 +136,7 @@ public class LruCacheManager implements CacheManager {
 
     @Override
     public void evictInferredObjects() {
-        writeLock.lock();
-        try {
-            getInferredClasses().forEach(this::evict);
-        } finally {
-            writeLock.unlock();
-        }
+        evict(EvictionCause.INFERRED, () -> getInferredClasses().forEach(entityCache::evict));
     }
 
     private Set<Class<?>> getInferredClasses() {
@@ -151,6 +151,19 @@ public class LruCacheManager implements CacheManager {
         this.inferredClasses = inferredClasses;
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        final Map<URI, Long> sizeByContext = new HashMap<>();
+        final Map<Class<?>, Long> sizeByClass = new HashMap<>();
+        readLock.lock();
+        try {
+            entityCache.collectSizes(sizeByContext, sizeByClass);
+        } finally {
+            readLock.unlock();
+        }
+        return statistics.snapshot(sizeByContext, sizeByClass);
+    }
+
     @Override
     public void close() {
         evictAll();
@@ -174,31 +187,27 @@ public class LruCacheManager implements CacheManager {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(identifier);
 
-        writeLock.lock();
-        try {
-            entityCache.evict(cls, identifier, context);
-        } finally {
-            writeLock.unlock();
-        }
+        evict(EvictionCause.EXPLICIT, () -> entityCache.evict(cls, identifier, context));
     }
 
     @Override
     public void evict(Class<?> cls) {
         Objects.requireNonNull(cls);
 
-        writeLock.lock();
-        try {
-            entityCache.evict(cls);
-        } finally {
-            writeLock.unlock();
-        }
+        evict(EvictionCause.CLASS, () -> entityCache.evict(cls));
     }
 
     @Override
     public void evict(URI context) {
+        evict(EvictionCause.CONTEXT, () -> entityCache.evict(context));
+    }
+
+    private void evict(EvictionCause cause, Runnable eviction) {
         writeLock.lock();
         try {
-            entityCache.evict(context);
+            final int sizeBefore = entityCache.size();
+            eviction.run();
+            statistics.recordEvictions(cause, sizeBefore - entityCache.size());
         } finally {
             writeLock.unlock();
         }
@@ -208,7 +217,8 @@ public class LruCacheManager implements CacheManager {
     public void evictAll() {
         writeLock.lock();
         try {
-            this.entityCache = new LruEntityCache(capacity);
+            statistics.recordEvictions(EvictionCause.ALL, entityCache.size());
+            this.entityCache = new LruEntityCache(capacity, statistics);
         } finally {
             writeLock.unlock();
         }
@@ -219,14 +229,17 @@ public class LruCacheManager implements CacheManager {
         private static final Object NULL_VALUE = null;
 
         private final LruCache cache;
+        private final StatisticsCounter statistics;
 
-        LruEntityCache(int capacity) {
+        LruEntityCache(int capacity, StatisticsCounter statistics) {
             this.cache = new LruCache(capacity, this);
+            this.statistics = statistics;
         }
 
         @Override
         public void accept(LruCache.CacheNode cacheNode) {
             super.evict(cacheNode.getCls(), cacheNode.getIdentifier(), cacheNode.getContext());
+            statistics.recordEviction(EvictionCause.CAPACITY);
         }
 
         @Override
@@ -237,6 +250,7 @@ public class LruCacheManager implements CacheManager {
             final URI ctx = descriptors.repositoryDescriptor().getSingleContext().orElse(defaultContext);
             super.put(identifier, entity, descriptors);
             cache.put(new LruCache.CacheNode(ctx, entityClass(entity), identifier), NULL_VALUE);
+            statistics.recordLoad();
         }
 
         @Override
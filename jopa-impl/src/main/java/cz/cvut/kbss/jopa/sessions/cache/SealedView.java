@@ -0,0 +1,170 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sealed view of a second level cache instance, shared by all read-only persistence contexts.
+ * <p>
+ * The view is an unmodifiable shallow copy of the cached instance. It is sealed once and kept with the cached instance
+ * (see {@link Manageable#getSealedView()}), so that read-only persistence contexts register the same view and the same
+ * load state descriptor instead of copying the instance again.
+ * <p>
+ * The view is invalidated when changes are merged into the cached instance or when the instance is evicted by a
+ * persistence context. Views embedding the invalidated view (i.e., views of instances referencing the cached instance)
+ * are invalidated with it.
+ */
+public final class SealedView {
+
+    private final Object instance;
+    private final LoadStateDescriptor<?> loadStateDescriptor;
+
+    // Views embedding this one
+    private final Queue<SealedView> dependents = new ConcurrentLinkedQueue<>();
+    private volatile boolean valid;
+
+    private SealedView(Object instance, LoadStateDescriptor<?> loadStateDescriptor, boolean valid) {
+        this.instance = instance;
+        this.loadStateDescriptor = loadStateDescriptor;
+        this.valid = valid;
+    }
+
+    /**
+     * Creates a new sealed view.
+     *
+     * @param instance            The sealed instance
+     * @param loadStateDescriptor Load state descriptor of the sealed instance
+     */
+    public SealedView(Object instance, LoadStateDescriptor<?> loadStateDescriptor) {
+        this(instance, loadStateDescriptor, true);
+        assert instance != null;
+        assert loadStateDescriptor != null;
+    }
+
+    public Object getInstance() {
+        return instance;
+    }
+
+    public LoadStateDescriptor<?> getLoadStateDescriptor() {
+        return loadStateDescriptor;
+    }
+
+    /**
+     * Checks whether this view still represents the current state of the cached instance.
+     *
+     * @return {@code true} if this view can be handed out, {@code false} otherwise
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Registers the specified view as embedding this view, so that it is invalidated together with this view.
+     *
+     * @param dependent View referencing this view
+     */
+    public void addDependent(SealedView dependent) {
+        assert dependent != null;
+        // Views discarded or resealed in the meantime need not be tracked anymore
+        dependents.removeIf(d -> !d.valid);
+        dependents.add(dependent);
+        // The view may have been invalidated before the dependent was added
+        if (!valid) {
+            dependent.invalidate();
+        }
+    }
+
+    /**
+     * Invalidates this view and the views embedding it.
+     * <p>
+     * Used for views which could not be published, because their cached instance has changed while being sealed.
+     */
+    public void discard() {
+        invalidate();
+    }
+
+    private void invalidate() {
+        this.valid = false;
+        SealedView dependent;
+        while ((dependent = dependents.poll()) != null) {
+            dependent.invalidate();
+        }
+    }
+
+    /**
+     * Gets the current sealed view of the specified cached instance.
+     * <p>
+     * The returned value is also the token to pass to {@link #publish(Manageable, SealedView, SealedView)} when the
+     * view is not valid and a new one is sealed.
+     *
+     * @param cached Cached instance
+     * @return Current view, possibly invalid or {@code null} if the instance has never been sealed
+     */
+    public static SealedView current(Manageable cached) {
+        assert !cached.isSharedReadOnlyInstance();
+        synchronized (cached) {
+            return cached.getSealedView();
+        }
+    }
+
+    /**
+     * Publishes the specified view as the view of the specified cached instance, provided the instance has not been
+     * invalidated since {@code expected} was retrieved.
+     *
+     * @param cached   Cached instance
+     * @param expected View retrieved by {@link #current(Manageable)} before the instance was sealed
+     * @param view     The newly sealed view
+     * @return {@code true} if the view was published, {@code false} if the cached instance has changed in the meantime
+     */
+    public static boolean publish(Manageable cached, SealedView expected, SealedView view) {
+        synchronized (cached) {
+            if (cached.getSealedView() != expected) {
+                return false;
+            }
+            cached.setSealedView(view);
+            return true;
+        }
+    }
+
+    /**
+     * Invalidates the sealed view of the specified cached instance (if any).
+     * <p>
+     * This should be called after changes are merged into the instance or when it is evicted from the cache.
+     *
+     * @param cached Cached instance
+     */
+    public static void invalidate(Object cached) {
+        if (!(cached instanceof Manageable manageable) || manageable.isSharedReadOnlyInstance()) {
+            return;
+        }
+        final SealedView current;
+        synchronized (manageable) {
+            current = manageable.getSealedView();
+            // A unique marker ensures that views sealed concurrently from the previous state are not published
+            manageable.setSealedView(new SealedView(null, null, false));
+        }
+        if (current != null) {
+            current.invalidate();
+        }
+    }
+}
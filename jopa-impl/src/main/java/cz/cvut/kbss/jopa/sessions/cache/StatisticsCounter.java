@@ -0,0 +1,84 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects second level cache statistics.
+ * <p>
+ * Uses striped counters, so that recording does not introduce contention between threads accessing the cache.
+ */
+class StatisticsCounter {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final Map<EvictionCause, LongAdder> evictions = new EnumMap<>(EvictionCause.class);
+
+    StatisticsCounter() {
+        for (EvictionCause cause : EvictionCause.values()) {
+            evictions.put(cause, new LongAdder());
+        }
+    }
+
+    /**
+     * Records result of a cache lookup.
+     *
+     * @param result Lookup result, possibly {@code null}
+     */
+    void recordLookup(Object result) {
+        if (result != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    void recordLoad() {
+        loads.increment();
+    }
+
+    void recordEviction(EvictionCause cause) {
+        evictions.get(cause).increment();
+    }
+
+    void recordEvictions(EvictionCause cause, long count) {
+        if (count > 0) {
+            evictions.get(cause).add(count);
+        }
+    }
+
+    /**
+     * Creates a snapshot of the current statistics.
+     *
+     * @param sizeByContext Number of entries per context
+     * @param sizeByClass   Number of entries per class
+     * @return Statistics snapshot
+     */
+    CacheStatistics snapshot(Map<URI, Long> sizeByContext, Map<Class<?>, Long> sizeByClass) {
+        final Map<EvictionCause, Long> evictionCounts = new EnumMap<>(EvictionCause.class);
+        evictions.forEach((cause, count) -> evictionCounts.put(cause, count.sum()));
+        return new CacheStatistics(hits.sum(), misses.sum(), loads.sum(), Collections.unmodifiableMap(evictionCounts),
+                Collections.unmodifiableMap(sizeByContext), Collections.unmodifiableMap(sizeByClass));
+    }
+}
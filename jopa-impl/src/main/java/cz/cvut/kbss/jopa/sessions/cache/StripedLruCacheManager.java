@@ -0,0 +1,421 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import cz.cvut.kbss.jopa.utils.MetamodelUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size second level cache implementation with lock-free reads and segmented (striped) eviction.
+ * <p>
+ * Entries are stored in a single {@link ConcurrentHashMap}, so lookups never block. Writes lock only the segment the
+ * entry belongs to. Each segment keeps its own share of the total capacity and evicts using the CLOCK
+ * (second-chance) algorithm, which approximates LRU without having to reorder any structure on reads.
+ * <p>
+ * Entries are additionally indexed by repository context and by entity class, so that eviction of a context or of a
+ * class is proportional to the number of affected entries instead of the size of the whole cache.
+ */
+public class StripedLruCacheManager implements CacheManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StripedLruCacheManager.class);
+
+    /**
+     * Default maximum number of segments.
+     */
+    public static final int DEFAULT_SEGMENTS = 64;
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    private final int capacity;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    private final URI defaultContext;
+
+    private final Map<LruCache.CacheNode, CacheEntry> entries = new ConcurrentHashMap<>();
+    // Need to use identity to cope with entities overriding equals/hashcode
+    private final Map<InstanceKey, CacheEntry> instances = new ConcurrentHashMap<>();
+    private final Map<URI, Set<LruCache.CacheNode>> contextIndex = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<LruCache.CacheNode>> classIndex = new ConcurrentHashMap<>();
+
+    private volatile Set<Class<?>> inferredClasses;
+
+    private final StatisticsCounter statistics = new StatisticsCounter();
+
+    StripedLruCacheManager() {
+        this(Collections.emptyMap());
+    }
+
+    StripedLruCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.capacity = properties.containsKey(JOPAPersistenceProperties.LRU_CACHE_CAPACITY) ?
+                        resolveIntSetting(properties, JOPAPersistenceProperties.LRU_CACHE_CAPACITY,
+                                LruCacheManager.DEFAULT_CAPACITY) : LruCacheManager.DEFAULT_CAPACITY;
+        final int segmentSetting = properties.containsKey(JOPAPersistenceProperties.CACHE_SEGMENTS) ?
+                                   resolveIntSetting(properties, JOPAPersistenceProperties.CACHE_SEGMENTS,
+                                           DEFAULT_SEGMENTS) : defaultSegmentCount();
+        final int segmentCount = segmentCount(Math.min(segmentSetting, capacity));
+        // Spread the remainder over the first segments so that the total matches the configured capacity
+        final int segmentCapacity = capacity / segmentCount;
+        final int remainder = capacity % segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(i < remainder ? segmentCapacity + 1 : segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+    }
+
+    private static int defaultSegmentCount() {
+        return Math.min(DEFAULT_SEGMENTS, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Rounds the specified number of segments down to the closest power of two.
+     */
+    private static int segmentCount(int requested) {
+        return Integer.highestOneBit(Math.max(1, requested));
+    }
+
+    private static int resolveIntSetting(Map<String, String> properties, String property, int defaultValue) {
+        int setting = defaultValue;
+        try {
+            setting = Integer.parseInt(properties.get(property));
+            if (setting <= 0) {
+                LOG.warn("Invalid value {} of setting {}. Using default value.", setting, property);
+                setting = defaultValue;
+            }
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse setting {}. Using default value {}.", property, defaultValue);
+        }
+        return setting;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    @Override
+    public void add(Object identifier, Object entity, Descriptors descriptors) {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(entity);
+        Objects.requireNonNull(descriptors);
+
+        if (!isCacheable(descriptors.repositoryDescriptor())) {
+            return;
+        }
+        final URI ctx = descriptors.repositoryDescriptor().getSingleContext().orElse(defaultContext);
+        final LruCache.CacheNode node =
+                new LruCache.CacheNode(ctx, MetamodelUtils.getEntityClass(entity.getClass()), identifier);
+        segmentFor(node).put(new CacheEntry(node, entity, descriptors));
+        statistics.recordLoad();
+    }
+
+    private static boolean isCacheable(Descriptor descriptor) {
+        return descriptor.getContexts().size() <= 1;
+    }
+
+    private Segment segmentFor(LruCache.CacheNode node) {
+        final int h = node.hashCode();
+        return segments[(h ^ (h >>> 16)) & segmentMask];
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return null;
+        }
+        final CacheEntry entry = find(cls, identifier, descriptor);
+        statistics.recordLookup(entry);
+        if (entry == null) {
+            return null;
+        }
+        entry.referenced = true;
+        return cls.cast(entry.instance);
+    }
+
+    private CacheEntry find(Class<?> cls, Object identifier, Descriptor descriptor) {
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        for (URI ctx : contexts) {
+            final CacheEntry entry = entries.get(new LruCache.CacheNode(ctx, cls, identifier));
+            if (entry != null && entry.descriptors.repositoryDescriptor().equals(descriptor)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public LoadStateDescriptor<?> getLoadStateDescriptor(Object instance) {
+        if (instance == null) {
+            return null;
+        }
+        final CacheEntry entry = instances.get(new InstanceKey(instance));
+        return entry != null ? entry.descriptors.loadStateDescriptor() : null;
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        return find(cls, identifier, descriptor) != null;
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        getInferredClasses().forEach(cls -> evictAll(classIndex.get(cls), EvictionCause.INFERRED));
+    }
+
+    private Set<Class<?>> getInferredClasses() {
+        final Set<Class<?>> result = inferredClasses;
+        return result != null ? result : Collections.emptySet();
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifier);
+
+        final LruCache.CacheNode node =
+                new LruCache.CacheNode(context != null ? context : defaultContext, cls, identifier);
+        segmentFor(node).remove(node, EvictionCause.EXPLICIT);
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        evictAll(classIndex.get(cls), EvictionCause.CLASS);
+    }
+
+    @Override
+    public void evict(URI context) {
+        evictAll(contextIndex.get(context != null ? context : defaultContext), EvictionCause.CONTEXT);
+    }
+
+    private void evictAll(Set<LruCache.CacheNode> nodes, EvictionCause cause) {
+        if (nodes == null) {
+            return;
+        }
+        // Copy to prevent concurrent modification of the index while it is being traversed
+        for (LruCache.CacheNode node : new ArrayList<>(nodes)) {
+            segmentFor(node).remove(node, cause);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        final Map<URI, Long> sizeByContext = new HashMap<>();
+        contextIndex.forEach((ctx, nodes) -> sizeByContext.put(defaultContext.equals(ctx) ? null : ctx,
+                (long) nodes.size()));
+        final Map<Class<?>, Long> sizeByClass = new HashMap<>();
+        classIndex.forEach((cls, nodes) -> sizeByClass.put(cls, (long) nodes.size()));
+        return statistics.snapshot(sizeByContext, sizeByClass);
+    }
+
+    @Override
+    public void close() {
+        evictAll();
+    }
+
+    private void index(CacheEntry entry) {
+        final LruCache.CacheNode node = entry.node;
+        instances.put(new InstanceKey(entry.instance), entry);
+        addToIndex(contextIndex, node.getContext(), node);
+        addToIndex(classIndex, node.getCls(), node);
+    }
+
+    private void unindex(CacheEntry entry) {
+        final LruCache.CacheNode node = entry.node;
+        instances.remove(new InstanceKey(entry.instance), entry);
+        removeFromIndex(contextIndex, node.getContext(), node);
+        removeFromIndex(classIndex, node.getCls(), node);
+    }
+
+    private static <K> void addToIndex(Map<K, Set<LruCache.CacheNode>> index, K key, LruCache.CacheNode node) {
+        index.compute(key, (k, nodes) -> {
+            final Set<LruCache.CacheNode> result = nodes != null ? nodes : ConcurrentHashMap.newKeySet();
+            result.add(node);
+            return result;
+        });
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<LruCache.CacheNode>> index, K key, LruCache.CacheNode node) {
+        index.computeIfPresent(key, (k, nodes) -> {
+            nodes.remove(node);
+            return nodes.isEmpty() ? null : nodes;
+        });
+    }
+
+    /**
+     * Segment of the cache.
+     * <p>
+     * All modifications of entries belonging to a segment are done under the segment lock. Reads do not touch the
+     * segment at all, they only mark the entry as referenced.
+     */
+    private final class Segment {
+
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        // CLOCK queue, may contain entries which have already been removed from the cache
+        private final ArrayDeque<CacheEntry> clock = new ArrayDeque<>();
+        private int size;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void put(CacheEntry entry) {
+            lock.lock();
+            try {
+                final CacheEntry existing = entries.put(entry.node, entry);
+                if (existing != null) {
+                    existing.removed = true;
+                    unindex(existing);
+                } else {
+                    size++;
+                }
+                index(entry);
+                clock.addLast(entry);
+                while (size > capacity) {
+                    evictOne();
+                }
+                if (clock.size() > 2 * capacity) {
+                    clock.removeIf(e -> e.removed);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evictOne() {
+            CacheEntry candidate;
+            while ((candidate = clock.pollFirst()) != null) {
+                if (candidate.removed) {
+                    continue;
+                }
+                if (candidate.referenced) {
+                    // Second chance
+                    candidate.referenced = false;
+                    clock.addLast(candidate);
+                } else {
+                    removeEntry(candidate, EvictionCause.CAPACITY);
+                    return;
+                }
+            }
+        }
+
+        private void remove(LruCache.CacheNode node, EvictionCause cause) {
+            lock.lock();
+            try {
+                final CacheEntry entry = entries.get(node);
+                if (entry != null) {
+                    removeEntry(entry, cause);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeEntry(CacheEntry entry, EvictionCause cause) {
+            assert lock.isHeldByCurrentThread();
+            if (entries.remove(entry.node, entry)) {
+                entry.removed = true;
+                unindex(entry);
+                size--;
+                statistics.recordEviction(cause);
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                final List<CacheEntry> toRemove = new ArrayList<>(clock);
+                toRemove.forEach(e -> removeEntry(e, EvictionCause.ALL));
+                clock.clear();
+                assert size == 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class CacheEntry {
+        private final LruCache.CacheNode node;
+        private final Object instance;
+        private final Descriptors descriptors;
+        private volatile boolean referenced;
+        // Guarded by the segment lock
+        private boolean removed;
+
+        private CacheEntry(LruCache.CacheNode node, Object instance, Descriptors descriptors) {
+            this.node = node;
+            this.instance = instance;
+            this.descriptors = descriptors;
+        }
+    }
+
+    /**
+     * Wraps instance so that it can be used as a key based on its identity.
+     */
+    private record InstanceKey(Object instance) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof InstanceKey other && instance == other.instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+}
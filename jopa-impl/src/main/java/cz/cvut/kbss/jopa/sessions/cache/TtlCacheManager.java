@@ -25,19 +25,26 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
 
 /**
  * Manages the second level cache shared by all persistence contexts.
@@ -45,8 +52,10 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * This implementation of CacheManager uses cache-wide locking, i.e., the whole cache is locked when an entity is being
  * put in it, no matter that only one context is affected by the change.
  * <p>
- * This cache is swept regularly by a dedicated thread, which removes all entries whose time-to-live (TTL) has
- * expired.
+ * Each entry has its own time-to-live (TTL), which is refreshed whenever the entry is read. Expired entries are never
+ * returned to the caller. They are removed by a dedicated thread which uses a hashed timing wheel, so that each sweep
+ * only processes entries whose TTL may have expired in the meantime and the cache is write-locked only for the removal
+ * of the actually expired entries.
  */
 public class TtlCacheManager implements CacheManager {
 
@@ -62,26 +71,47 @@ public class TtlCacheManager implements CacheManager {
      * Default sweep rate in millis
      */
     private static final long DEFAULT_SWEEP_RATE = 30000L;
+    /**
+     * Maximum number of buckets of the expiration wheel
+     */
+    private static final int MAX_WHEEL_SIZE = 1024;
 
     private Set<Class<?>> inferredClasses;
 
-    private TtlCache cache;
+    // Replaced under write lock, read without lock by the sweeper
+    private volatile TtlCache cache;
+    private final ExpirationWheel wheel;
+    private final StatisticsCounter statistics = new StatisticsCounter();
 
     // Each repository can have its own lock and they could be acquired by this
     // instance itself, no need to pass this burden to callers
     private final Lock readLock;
     private final Lock writeLock;
 
+    // Current time in millis
+    private final LongSupplier clock;
+
     private final ScheduledExecutorService sweeperScheduler;
     private Future<?> sweeperFuture;
     private long initDelay;
     private long sweepRate;
     private long timeToLive;
-    private volatile boolean sweepRunning;
 
     public TtlCacheManager(Map<String, String> properties) {
-        this.cache = new TtlCache();
+        this(properties, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a cache manager which reads the current time (in millis) from the specified clock.
+     *
+     * @param properties Configuration properties
+     * @param clock      Source of the current time in millis
+     */
+    TtlCacheManager(Map<String, String> properties, LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock);
         initSettings(properties);
+        this.wheel = new ExpirationWheel();
+        this.cache = new TtlCache(timeToLive, wheel, statistics, clock);
         final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
         this.readLock = lock.readLock();
         this.writeLock = lock.writeLock();
@@ -163,7 +193,8 @@ public class TtlCacheManager implements CacheManager {
     private void releaseCache() {
         acquireWriteLock();
         try {
-            this.cache = new TtlCache();
+            statistics.recordEvictions(EvictionCause.ALL, cache.size());
+            this.cache = new TtlCache(timeToLive, wheel, statistics, clock);
         } finally {
             releaseWriteLock();
         }
@@ -171,12 +202,7 @@ public class TtlCacheManager implements CacheManager {
 
     @Override
     public void evictInferredObjects() {
-        acquireWriteLock();
-        try {
-            getInferredClasses().forEach(cache::evict);
-        } finally {
-            releaseWriteLock();
-        }
+        evict(EvictionCause.INFERRED, () -> getInferredClasses().forEach(cache::evict));
     }
 
     @Override
@@ -186,7 +212,9 @@ public class TtlCacheManager implements CacheManager {
         }
         acquireReadLock();
         try {
-            return cache.get(cls, identifier, descriptor);
+            final T result = cache.get(cls, identifier, descriptor);
+            statistics.recordLookup(result);
+            return result;
         } finally {
             releaseReadLock();
         }
@@ -236,12 +264,7 @@ public class TtlCacheManager implements CacheManager {
     public void evict(Class<?> cls) {
         Objects.requireNonNull(cls);
 
-        acquireWriteLock();
-        try {
-            cache.evict(cls);
-        } finally {
-            releaseWriteLock();
-        }
+        evict(EvictionCause.CLASS, () -> cache.evict(cls));
     }
 
     @Override
@@ -249,23 +272,36 @@ public class TtlCacheManager implements CacheManager {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(identifier);
 
+        evict(EvictionCause.EXPLICIT, () -> cache.evict(cls, identifier, context));
+    }
+
+    @Override
+    public void evict(URI context) {
+        evict(EvictionCause.CONTEXT, () -> cache.evict(context));
+    }
+
+    private void evict(EvictionCause cause, Runnable eviction) {
         acquireWriteLock();
         try {
-            cache.evict(cls, identifier, context);
+            final int sizeBefore = cache.size();
+            eviction.run();
+            statistics.recordEvictions(cause, sizeBefore - cache.size());
         } finally {
             releaseWriteLock();
         }
-
     }
 
     @Override
-    public void evict(URI context) {
-        acquireWriteLock();
+    public CacheStatistics getStatistics() {
+        final Map<URI, Long> sizeByContext = new HashMap<>();
+        final Map<Class<?>, Long> sizeByClass = new HashMap<>();
+        acquireReadLock();
         try {
-            cache.evict(context);
+            cache.collectSizes(sizeByContext, sizeByClass);
         } finally {
-            releaseWriteLock();
+            releaseReadLock();
         }
+        return statistics.snapshot(sizeByContext, sizeByClass);
     }
 
     @Override
@@ -273,6 +309,15 @@ public class TtlCacheManager implements CacheManager {
         releaseCache();
     }
 
+    /**
+     * Runs a cache sweep immediately and waits for it to finish.
+     * <p>
+     * The sweep runs on the sweeper thread, so it does not interfere with the scheduled sweeps.
+     */
+    void sweep() throws InterruptedException, ExecutionException {
+        sweeperScheduler.submit(new CacheSweeper()).get();
+    }
+
     private void acquireReadLock() {
         readLock.lock();
     }
@@ -291,40 +336,128 @@ public class TtlCacheManager implements CacheManager {
 
     /**
      * Sweeps the second level cache and removes entities with no more time to live.
+     * <p>
+     * Expiration candidates are determined without locking the cache, the write lock is held only while the expired
+     * entries are being removed.
      */
     private final class CacheSweeper implements Runnable {
 
         @Override
         public void run() {
             LOG.trace("Running cache sweep.");
+            final long currentTime = clock.getAsLong();
+            final List<Expiry> expired = wheel.advance(currentTime, TtlCacheManager.this.cache);
+            if (expired.isEmpty()) {
+                return;
+            }
             TtlCacheManager.this.acquireWriteLock();
             try {
-                if (TtlCacheManager.this.sweepRunning) {
-                    return;
-                }
-                TtlCacheManager.this.sweepRunning = true;
-                final long currentTime = System.currentTimeMillis();
-                final List<URI> toEvict = new ArrayList<>();
-                // Mark the objects for eviction (can't evict them now, it would
-                // cause ConcurrentModificationException)
-                for (Entry<URI, Long> e : cache.ttl.entrySet()) {
-                    final long lm = e.getValue();
-                    if (lm + TtlCacheManager.this.timeToLive < currentTime) {
-                        toEvict.add(e.getKey());
+                final TtlCache current = TtlCacheManager.this.cache;
+                for (Expiry e : expired) {
+                    // Entries may have been read, replaced or evicted since they were selected for expiration
+                    if (!current.isCurrent(e)) {
+                        continue;
+                    }
+                    if (current.isExpired(e, currentTime)) {
+                        current.evict(e.node.getCls(), e.node.getIdentifier(), e.node.getContext());
+                        statistics.recordEviction(EvictionCause.EXPIRED);
+                    } else {
+                        wheel.schedule(e);
                     }
                 }
-                // Evict them
-                toEvict.forEach(TtlCacheManager.this::evict);
             } finally {
-                TtlCacheManager.this.sweepRunning = false;
                 TtlCacheManager.this.releaseWriteLock();
             }
         }
     }
 
+    /**
+     * Expiration record of a single cache entry.
+     */
+    private static final class Expiry {
+
+        private final LruCache.CacheNode node;
+        // Updated on read, i.e., under read lock
+        private volatile long lastAccess;
+
+        private Expiry(LruCache.CacheNode node, long lastAccess) {
+            this.node = node;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * Hashed timing wheel holding expiration records.
+     * <p>
+     * Records are placed into buckets based on the sweep tick in which they are expected to expire. Each sweep
+     * processes only the buckets of ticks which elapsed since the previous sweep. Records whose TTL has been refreshed
+     * in the meantime are simply rescheduled.
+     */
+    private final class ExpirationWheel {
+
+        private final List<Queue<Expiry>> buckets;
+        // Accessed only by the sweeper thread
+        private long lastTick;
+
+        private ExpirationWheel() {
+            final int size = (int) Math.min(MAX_WHEEL_SIZE, timeToLive / sweepRate + 2);
+            this.buckets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.add(new ConcurrentLinkedQueue<>());
+            }
+            this.lastTick = clock.getAsLong() / sweepRate;
+        }
+
+        private void schedule(Expiry expiry) {
+            final long deadline = expiry.lastAccess + timeToLive;
+            // Round up so that the record is processed only after its deadline has passed
+            final long tick = (deadline + sweepRate - 1) / sweepRate;
+            buckets.get((int) (tick % buckets.size())).add(expiry);
+        }
+
+        private List<Expiry> advance(long currentTime, TtlCache cache) {
+            final long currentTick = currentTime / sweepRate;
+            final List<Expiry> expired = new ArrayList<>();
+            final long from = Math.max(lastTick + 1, currentTick - buckets.size() + 1);
+            for (long tick = from; tick <= currentTick; tick++) {
+                final Queue<Expiry> bucket = buckets.get((int) (tick % buckets.size()));
+                // Drain first, rescheduled records may end up in the same bucket
+                final List<Expiry> candidates = new ArrayList<>();
+                Expiry e;
+                while ((e = bucket.poll()) != null) {
+                    candidates.add(e);
+                }
+                for (Expiry candidate : candidates) {
+                    if (!cache.isCurrent(candidate)) {
+                        continue;
+                    }
+                    if (cache.isExpired(candidate, currentTime)) {
+                        expired.add(candidate);
+                    } else {
+                        schedule(candidate);
+                    }
+                }
+            }
+            this.lastTick = Math.max(lastTick, currentTick);
+            return expired;
+        }
+    }
+
     private static final class TtlCache extends EntityCache {
 
-        private final Map<URI, Long> ttl = new HashMap<>();
+        private final long timeToLive;
+        private final ExpirationWheel wheel;
+        private final StatisticsCounter statistics;
+        private final LongSupplier clock;
+        // Read under read lock as well, so it has to support concurrent access
+        private final Map<LruCache.CacheNode, Expiry> expirations = new ConcurrentHashMap<>();
+
+        private TtlCache(long timeToLive, ExpirationWheel wheel, StatisticsCounter statistics, LongSupplier clock) {
+            this.timeToLive = timeToLive;
+            this.wheel = wheel;
+            this.statistics = statistics;
+            this.clock = clock;
+        }
 
         @Override
         void put(Object identifier, Object entity, Descriptors descriptors) {
@@ -333,7 +466,11 @@ public class TtlCacheManager implements CacheManager {
             }
             super.put(identifier, entity, descriptors);
             final URI ctx = descriptors.repositoryDescriptor().getSingleContext().orElse(defaultContext);
-            updateTimeToLive(ctx);
+            final LruCache.CacheNode node = new LruCache.CacheNode(ctx, entityClass(entity), identifier);
+            final Expiry expiry = new Expiry(node, clock.getAsLong());
+            expirations.put(node, expiry);
+            wheel.schedule(expiry);
+            statistics.recordLoad();
         }
 
         @Override
@@ -341,34 +478,68 @@ public class TtlCacheManager implements CacheManager {
             assert cls != null;
             assert identifier != null;
 
-            return getInternal(cls, identifier, descriptor, this::updateTimeToLive);
+            return getInternal(cls, identifier, descriptor, ctx -> updateTimeToLive(ctx, cls, identifier));
         }
 
-        private void updateTimeToLive(URI context) {
+        private void updateTimeToLive(URI context, Class<?> cls, Object identifier) {
             assert context != null;
 
-            ttl.put(context, System.currentTimeMillis());
+            final Expiry expiry = expirations.get(new LruCache.CacheNode(context, cls, identifier));
+            if (expiry != null) {
+                expiry.lastAccess = clock.getAsLong();
+            }
+        }
+
+        @Override
+        boolean isAlive(URI context, Class<?> cls, Object identifier) {
+            final Expiry expiry = expirations.get(new LruCache.CacheNode(context, cls, identifier));
+            return expiry == null || !isExpired(expiry, clock.getAsLong());
+        }
+
+        private boolean isCurrent(Expiry expiry) {
+            return expirations.get(expiry.node) == expiry;
+        }
+
+        private boolean isExpired(Expiry expiry, long currentTime) {
+            return expiry.lastAccess + timeToLive < currentTime;
+        }
+
+        @Override
+        void evict(Class<?> cls, Object identifier, URI context) {
+            final URI ctx = context != null ? context : defaultContext;
+            super.evict(cls, identifier, ctx);
+            expirations.remove(new LruCache.CacheNode(ctx, cls, identifier));
         }
 
         @Override
         void evict(URI context) {
             final URI ctx = context != null ? context : defaultContext;
+            final Map<Object, Map<Class<?>, Object>> ctxContent = repoCache.getOrDefault(ctx, Collections.emptyMap());
+            ctxContent.forEach((id, instances) -> instances.keySet()
+                                                            .forEach(cls -> expirations.remove(
+                                                                    new LruCache.CacheNode(ctx, cls, id))));
             super.evict(ctx);
-            ttl.remove(context);
         }
 
         @Override
         void evict(Class<?> cls) {
-            for (Entry<URI, Map<Object, Map<Class<?>, Object>>> e : repoCache.entrySet()) {
-                final Map<Object, Map<Class<?>, Object>> m = e.getValue();
-                for (Entry<Object, Map<Class<?>, Object>> indNode : m.entrySet()) {
+            final Iterator<Entry<URI, Map<Object, Map<Class<?>, Object>>>> repoIt = repoCache.entrySet().iterator();
+            while (repoIt.hasNext()) {
+                final Entry<URI, Map<Object, Map<Class<?>, Object>>> e = repoIt.next();
+                final Iterator<Entry<Object, Map<Class<?>, Object>>> it = e.getValue().entrySet().iterator();
+                while (it.hasNext()) {
+                    final Entry<Object, Map<Class<?>, Object>> indNode = it.next();
                     final Object instance = indNode.getValue().remove(cls);
                     if (instance != null) {
                         descriptors.remove(instance);
+                        expirations.remove(new LruCache.CacheNode(e.getKey(), cls, indNode.getKey()));
+                    }
+                    if (indNode.getValue().isEmpty()) {
+                        it.remove();
                     }
                 }
-                if (m.isEmpty()) {
-                    ttl.remove(e.getKey());
+                if (e.getValue().isEmpty()) {
+                    repoIt.remove();
                 }
             }
         }
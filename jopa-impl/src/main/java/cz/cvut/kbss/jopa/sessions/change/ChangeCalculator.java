@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.utils.JOPALazyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 
@@ -63,23 +64,41 @@ public class ChangeCalculator {
      * @throws NullPointerException If {@code changeSet} is {@code null}
      */
     public boolean calculateChanges(ObjectChangeSet changeSet) {
-        return calculateChangesInternal(Objects.requireNonNull(changeSet));
+        Objects.requireNonNull(changeSet);
+        return calculateChangesInternal(changeSet, getFields(changeSet.getClone().getClass()));
+    }
+
+    /**
+     * Calculates the changes that happened to the specified attributes of the clone object.
+     * <p>
+     * Other attributes are not compared.
+     *
+     * @param changeSet Contains references to the original and clone objects. Into this change set the changes should
+     *                  be propagated
+     * @param fields    Attributes to compare
+     * @return {@code true} if there were any changes, {@code false} otherwise
+     * @throws NullPointerException If {@code changeSet} or {@code fields} is {@code null}
+     */
+    public boolean calculateChanges(ObjectChangeSet changeSet, Collection<? extends FieldSpecification<?, ?>> fields) {
+        return calculateChangesInternal(Objects.requireNonNull(changeSet), Objects.requireNonNull(fields));
     }
 
     /**
      * This internal method does the actual change calculation.
      * <p>
-     * It compares every persistent attribute of the clone to the original value. If the values are different, a change
-     * record is added to the change set.
+     * It compares every specified persistent attribute of the clone to the original value. If the values are different,
+     * a change record is added to the change set.
      *
      * @param changeSet The change set where change records will be put in
+     * @param fields    Attributes to compare
      */
-    private boolean calculateChangesInternal(ObjectChangeSet changeSet) {
+    private boolean calculateChangesInternal(ObjectChangeSet changeSet,
+                                             Collection<? extends FieldSpecification<?, ?>> fields) {
         LOG.trace("Calculating changes for change set {}.", changeSet);
         Object original = changeSet.getOriginal();
         Object clone = changeSet.getClone();
         boolean changesFound = false;
-        for (FieldSpecification<?, ?> fs : getFields(clone.getClass())) {
+        for (FieldSpecification<?, ?> fs : fields) {
             if (fs instanceof Identifier<?, ?> || fs instanceof QueryAttribute<?, ?>) {
                 continue;
             }
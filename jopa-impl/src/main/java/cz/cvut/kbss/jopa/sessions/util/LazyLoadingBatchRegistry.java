@@ -0,0 +1,238 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Tracks groups of sibling instances (typically results of a single query) whose lazily loaded attributes should be
+ * loaded together.
+ * <p>
+ * When a lazily loaded attribute of one member of a batch is accessed, the attribute can be loaded for the following
+ * members of the batch as well, avoiding separate storage requests for each of them.
+ * <p>
+ * Members are referenced weakly, so that the registry does not keep results of queries (especially streamed ones)
+ * alive for the whole lifetime of a persistence context. Slots of removed or garbage-collected members are compacted
+ * out of their batch.
+ */
+public class LazyLoadingBatchRegistry {
+
+    private final Map<Object, Member> registry = new HashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Adds the specified instance to the specified batch.
+     * <p>
+     * An instance belongs to at most one batch, attempts to register it again are ignored.
+     *
+     * @param instance Instance to register
+     * @param batch    Batch to add the instance to
+     */
+    public void register(Object instance, Batch batch) {
+        assert instance != null;
+        assert batch != null;
+        expungeCollected();
+        if (registry.containsKey(new LookupKey(instance))) {
+            return;
+        }
+        final Member member = new Member(instance, collected, batch, batch.members.size());
+        registry.put(member, member);
+        batch.members.add(member);
+    }
+
+    /**
+     * Gets the specified instance together with its siblings that follow it in its batch and match the specified
+     * filter.
+     * <p>
+     * The result starts with the specified instance and contains at most as many instances as is the size of its
+     * batch. If the instance is not registered in any batch, only the instance itself is returned.
+     *
+     * @param instance Instance whose siblings to get
+     * @param filter   Filter applied to the siblings
+     * @param <T>      Instance type
+     * @return List of instances, never empty
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getBatch(T instance, Predicate<Object> filter) {
+        expungeCollected();
+        final Member member = registry.get(new LookupKey(instance));
+        if (member == null || member.batch.batchSize == 1) {
+            return List.of(instance);
+        }
+        final List<T> result = new ArrayList<>(member.batch.batchSize);
+        result.add(instance);
+        final List<Member> siblings = member.batch.members;
+        for (int i = member.index + 1; i < siblings.size() && result.size() < member.batch.batchSize; i++) {
+            final Member sibling = siblings.get(i);
+            final Object siblingInstance = sibling != null ? sibling.get() : null;
+            if (siblingInstance != null && siblingInstance != instance && filter.test(siblingInstance)) {
+                result.add((T) siblingInstance);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the specified instance from its batch (if any).
+     *
+     * @param instance Instance to remove
+     */
+    public void remove(Object instance) {
+        expungeCollected();
+        final Member member = registry.remove(new LookupKey(instance));
+        if (member != null) {
+            member.batch.release(member);
+        }
+    }
+
+    public boolean contains(Object instance) {
+        return registry.containsKey(new LookupKey(instance));
+    }
+
+    public void clear() {
+        registry.values().forEach(Member::clear);
+        registry.clear();
+        expungeCollected();
+    }
+
+    private void expungeCollected() {
+        Object ref;
+        while ((ref = collected.poll()) != null) {
+            final Member member = (Member) ref;
+            if (registry.remove(member) != null) {
+                member.batch.release(member);
+            }
+        }
+    }
+
+    /**
+     * Number of member slots currently held by the specified batch, including those of already removed members which
+     * have not been compacted out yet.
+     */
+    static int slotCount(Batch batch) {
+        return batch.members.size();
+    }
+
+    /**
+     * Group of sibling instances.
+     */
+    public static final class Batch {
+
+        private final int batchSize;
+
+        private final List<Member> members = new ArrayList<>();
+        private int released;
+
+        /**
+         * Creates a new batch.
+         *
+         * @param batchSize Maximum number of instances whose attribute is loaded together
+         */
+        public Batch(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be positive, got " + batchSize + ".");
+            }
+            this.batchSize = batchSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        private void release(Member member) {
+            if (member.index >= members.size() || members.get(member.index) != member) {
+                return;
+            }
+            members.set(member.index, null);
+            released++;
+            if (released * 2 >= members.size()) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            int i = 0;
+            for (Member m : members) {
+                if (m != null) {
+                    m.index = i;
+                    members.set(i++, m);
+                }
+            }
+            members.subList(i, members.size()).clear();
+            released = 0;
+        }
+    }
+
+    /**
+     * Weak reference to a registered instance, compared by identity of the referent.
+     */
+    private static final class Member extends WeakReference<Object> {
+
+        private final int hash;
+        private final Batch batch;
+        private int index;
+
+        private Member(Object instance, ReferenceQueue<Object> queue, Batch batch, int index) {
+            super(instance, queue);
+            this.hash = System.identityHashCode(instance);
+            this.batch = batch;
+            this.index = index;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof LookupKey key) {
+                return key.instance == get() && key.instance != null;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Strong identity-based key used for registry lookups.
+     */
+    private record LookupKey(Object instance) {
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Member member) {
+                return member.get() == instance && instance != null;
+            }
+            return o instanceof LookupKey key && key.instance == instance;
+        }
+    }
+}
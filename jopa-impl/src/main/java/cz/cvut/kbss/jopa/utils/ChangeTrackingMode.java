@@ -36,7 +36,14 @@ public enum ChangeTrackingMode {
     /**
      * Calculates changes on commit, propagating them immediately to the underlying repository.
      */
-    ON_COMMIT;
+    ON_COMMIT,
+    /**
+     * Calculates changes on commit like {@link #ON_COMMIT}, but compares only attributes that were modified (via
+     * setters or operations on collections and multilingual strings) during a transaction.
+     * <p>
+     * Changes made outside a transaction or by writing directly into entity fields are not detected.
+     */
+    DIRTY_FIELDS;
 
     /**
      * Resolves change tracking mode from the specified configuration.
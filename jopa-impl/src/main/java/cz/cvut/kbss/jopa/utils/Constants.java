@@ -45,6 +45,15 @@ public class Constants {
      */
     public static final String READ_ONLY_TRANSACTION_MODE = "read_only";
 
+    /**
+     * Read-only transaction mode in which instances from the second level cache are returned as sealed shallow copies
+     * instead of being cloned, used as the value for
+     * {@link cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#TRANSACTION_MODE}.
+     * <p>
+     * Equals to "read_only_shared"
+     */
+    public static final String READ_ONLY_SHARED_TRANSACTION_MODE = "read_only_shared";
+
     private Constants() {
         throw new AssertionError();
     }
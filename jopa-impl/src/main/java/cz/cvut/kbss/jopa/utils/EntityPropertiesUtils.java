@@ -71,15 +71,7 @@ public class EntityPropertiesUtils {
      * @param value    The value to set (can be {@code null})
      */
     public static void setFieldValue(Field field, Object instance, Object value) {
-        Objects.requireNonNull(field);
-        if (!field.canAccess(instance)) {
-            field.setAccessible(true);
-        }
-        try {
-            field.set(instance, value);
-        } catch (IllegalAccessException e) {
-            throw new OWLPersistenceException("Unable to set field value.", e);
-        }
+        FieldAccessor.of(field).set(instance, value);
     }
 
     /**
@@ -90,15 +82,7 @@ public class EntityPropertiesUtils {
      * @return Field value
      */
     public static Object getFieldValue(Field field, Object instance) {
-        Objects.requireNonNull(field);
-        if (!field.canAccess(instance)) {
-            field.setAccessible(true);
-        }
-        try {
-            return field.get(instance);
-        } catch (IllegalAccessException e) {
-            throw new OWLPersistenceException("Unable to extract field value.", e);
-        }
+        return FieldAccessor.of(field).get(instance);
     }
 
     /**
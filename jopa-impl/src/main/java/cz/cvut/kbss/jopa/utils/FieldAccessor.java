@@ -0,0 +1,172 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.utils;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides fast access to values of an instance field.
+ * <p>
+ * The accessor is backed by method handles resolved once per field, so that reading and writing field values does not
+ * incur the access checks of reflective {@link Field#get(Object)} and {@link Field#set(Object, Object)} calls. Fields
+ * for which method handles cannot be used (e.g., static fields) are accessed reflectively.
+ * <p>
+ * Accessors are cached, {@link #of(Field)} returns the same instance for the same field.
+ */
+public abstract class FieldAccessor {
+
+    // Accessors are grouped by the declaring class. Note that they hold strong references to the accessed fields
+    private static final ClassValue<Map<Field, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    final Field field;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+    }
+
+    /**
+     * Gets accessor of the specified field.
+     *
+     * @param field Field to access
+     * @return Field accessor
+     */
+    public static FieldAccessor of(Field field) {
+        Objects.requireNonNull(field);
+        return ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field, FieldAccessor::create);
+    }
+
+    private static FieldAccessor create(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return new ReflectiveFieldAccessor(field);
+        }
+        try {
+            field.setAccessible(true);
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            final MethodHandle setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            return new MethodHandleFieldAccessor(field, getter, setter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectiveFieldAccessor(field);
+        }
+    }
+
+    /**
+     * Gets value of the field from the specified instance.
+     *
+     * @param instance Instance from which value will be extracted
+     * @return Field value
+     * @throws IllegalArgumentException If the instance is not an instance of the class declaring the field
+     */
+    public abstract Object get(Object instance);
+
+    /**
+     * Sets value of the field on the specified instance.
+     *
+     * @param instance Target instance
+     * @param value    The value to set (can be {@code null})
+     * @throws IllegalArgumentException If the instance is not an instance of the class declaring the field or if the
+     *                                  value is not assignable to the field
+     */
+    public abstract void set(Object instance, Object value);
+
+    private static final class MethodHandleFieldAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private MethodHandleFieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+            super(field);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (ClassCastException | NullPointerException e) {
+                throw new IllegalArgumentException("Unable to get value of field " + field + " from " + instance, e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new OWLPersistenceException("Unable to extract field value.", e);
+            }
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (ClassCastException | NullPointerException e) {
+                throw new IllegalArgumentException("Unable to set value " + value + " of field " + field, e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new OWLPersistenceException("Unable to set field value.", e);
+            }
+        }
+    }
+
+    private static final class ReflectiveFieldAccessor extends FieldAccessor {
+
+        private ReflectiveFieldAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object get(Object instance) {
+            if (!field.canAccess(instance)) {
+                field.setAccessible(true);
+            }
+            try {
+                return field.get(instance);
+            } catch (IllegalAccessException e) {
+                throw new OWLPersistenceException("Unable to extract field value.", e);
+            }
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            if (!field.canAccess(instance)) {
+                field.setAccessible(true);
+            }
+            try {
+                field.set(instance, value);
+            } catch (IllegalAccessException e) {
+                throw new OWLPersistenceException("Unable to set field value.", e);
+            }
+        }
+    }
+}
@@ -73,6 +73,7 @@ import cz.cvut.kbss.jopa.model.metamodel.Bindable;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityLifecycleListenerManager;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.FieldTable;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttributeImpl;
@@ -177,6 +178,7 @@ public class MetamodelFactory {
         when(et.getIRI()).thenReturn(IRI.create(cls.getAnnotation(OWLClass.class).iri()));
         when(et.getName()).thenReturn(cls.getSimpleName());
         when(et.getLifecycleListenerManager()).thenReturn(listenerManager);
+        when(et.getFieldTable()).thenAnswer(inv -> new FieldTable<>(et.getFieldSpecifications()));
     }
 
     private static <X> void initIdentifier(IdentifiableEntityType<X> et, Identifier id, Field idField,
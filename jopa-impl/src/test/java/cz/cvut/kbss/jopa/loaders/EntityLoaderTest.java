@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.environment.NonPersistentClass;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.metamodel.gen.GeneratedEntityClass;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -66,4 +67,15 @@ public class EntityLoaderTest {
         sut.accept(NonPersistentClass.class);
         assertFalse(sut.getEntities().contains(NonPersistentClass.class));
     }
+
+    @Test
+    void entityLoaderIgnoresGeneratedEntityClass() {
+        sut.accept(GeneratedSubclass.class);
+        assertFalse(sut.getEntities().contains(GeneratedSubclass.class));
+    }
+
+    @OWLClass(iri = Vocabulary.c_OwlClassA)
+    @GeneratedEntityClass
+    static class GeneratedSubclass extends OWLClassA {
+    }
 }
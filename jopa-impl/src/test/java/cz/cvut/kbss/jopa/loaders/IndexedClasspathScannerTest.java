@@ -0,0 +1,147 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.OWLClassC;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedClasspathScannerTest {
+
+    private static final String SCAN_PACKAGE = "cz.cvut.kbss.jopa.environment";
+
+    private static final FileTime BUILD_TIME = FileTime.from(Instant.parse("2025-01-01T10:00:00Z"));
+
+    @TempDir
+    private Path indexedRoot;
+
+    @TempDir
+    private Path otherRoot;
+
+    @Test
+    void processClassesProcessesOnlyIndexedClassesOfIndexedClasspathRoot() throws Exception {
+        copyClasses(indexedRoot, OWLClassA.class, OWLClassB.class, OWLClassC.class);
+        writeIndex(indexedRoot, OWLClassA.class, OWLClassB.class);
+
+        assertEquals(List.of(OWLClassA.class, OWLClassB.class), processClasses(indexedRoot));
+    }
+
+    private static void copyClasses(Path root, Class<?>... classes) throws IOException {
+        for (Class<?> cls : classes) {
+            final String resource = cls.getName().replace('.', '/') + ".class";
+            final Path target = root.resolve(resource);
+            Files.createDirectories(target.getParent());
+            try (final InputStream in = cls.getClassLoader().getResourceAsStream(resource)) {
+                assert in != null;
+                Files.copy(in, target);
+            }
+            Files.setLastModifiedTime(target, BUILD_TIME);
+        }
+    }
+
+    private static void writeIndex(Path root, Class<?>... classes) throws IOException {
+        PersistenceClassIndex.write(List.of(classes), root);
+        Files.setLastModifiedTime(root.resolve(PersistenceClassIndex.RESOURCE),
+                FileTime.from(BUILD_TIME.toInstant().plusSeconds(1)));
+    }
+
+    /**
+     * Processes the scanned package with a class loader whose resources are restricted to the specified roots. Classes
+     * themselves are loaded by the parent class loader.
+     */
+    private static List<Class<?>> processClasses(Path... roots) {
+        final List<Class<?>> processed = new ArrayList<>();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(new ClassLoader(original) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                final List<URL> result = new ArrayList<>();
+                for (Path root : roots) {
+                    final Path resource = root.resolve(name).normalize();
+                    if (Files.exists(resource)) {
+                        result.add(resource.toUri().toURL());
+                    }
+                }
+                return Collections.enumeration(result);
+            }
+        });
+        try {
+            final IndexedClasspathScanner sut = new IndexedClasspathScanner();
+            sut.addListener(processed::add);
+            sut.processClasses(SCAN_PACKAGE);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        return processed;
+    }
+
+    @Test
+    void processClassesScansClasspathRootWithoutIndex() throws Exception {
+        copyClasses(indexedRoot, OWLClassA.class);
+        writeIndex(indexedRoot, OWLClassA.class);
+        copyClasses(otherRoot, OWLClassB.class);
+
+        assertThat(processClasses(indexedRoot, otherRoot), hasItems(OWLClassA.class, OWLClassB.class));
+    }
+
+    @Test
+    void processClassesScansClasspathRootWhoseIndexIsOlderThanItsClasses() throws Exception {
+        copyClasses(indexedRoot, OWLClassA.class, OWLClassB.class);
+        writeIndex(indexedRoot, OWLClassA.class);
+        Files.setLastModifiedTime(indexedRoot.resolve(OWLClassB.class.getName().replace('.', '/') + ".class"),
+                FileTime.from(BUILD_TIME.toInstant().plusSeconds(60)));
+
+        assertThat(processClasses(indexedRoot), hasItems(OWLClassA.class, OWLClassB.class));
+    }
+
+    @Test
+    void processClassesScansClasspathWhenIndexIsNotAvailable() {
+        final List<Class<?>> processed = new ArrayList<>();
+        final IndexedClasspathScanner sut = new IndexedClasspathScanner();
+        sut.addListener(processed::add);
+        sut.processClasses(SCAN_PACKAGE);
+        assertTrue(processed.containsAll(PersistenceUnitClassFinderTest.ENTITY_CLASSES));
+    }
+
+    @Test
+    void isIndexedRecognizesEntityClasses() {
+        assertTrue(PersistenceClassIndex.isIndexed(OWLClassA.class));
+        assertFalse(PersistenceClassIndex.isIndexed(IndexedClasspathScanner.class));
+    }
+}
@@ -62,6 +62,8 @@ import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -72,6 +74,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
@@ -689,6 +692,33 @@ class EntityManagerImplTest {
         assertTrue(toDetach.getOwlClassA().isEmpty());
     }
 
+    @Test
+    void findAllLoadsInstancesNotInPersistenceContextUsingSingleStorageCall() {
+        final OWLClassA managedOriginal = Generators.generateOwlClassAInstance();
+        final OWLClassA loadedOriginal = Generators.generateOwlClassAInstance();
+        uow.getLoadStateRegistry()
+           .put(managedOriginal, LoadStateDescriptorFactory.createAllLoaded(managedOriginal, mocks.forOwlClassA().entityType()));
+        uow.getLoadStateRegistry()
+           .put(loadedOriginal, LoadStateDescriptorFactory.createAllLoaded(loadedOriginal, mocks.forOwlClassA().entityType()));
+        when(connectorMock.find(any(LoadingParameters.class))).thenReturn(managedOriginal);
+        final OWLClassA managed = em.find(OWLClassA.class, managedOriginal.getUri());
+        when(connectorMock.findAll(anyCollection())).thenReturn(Map.of(loadedOriginal.getUri(), loadedOriginal));
+
+        final List<OWLClassA> result = em.findAll(OWLClassA.class, List.of(loadedOriginal.getUri(), managedOriginal.getUri()));
+        assertEquals(2, result.size());
+        assertEquals(loadedOriginal.getUri(), result.get(0).getUri());
+        assertTrue(em.contains(result.get(0)));
+        assertSame(managed, result.get(1));
+        verify(connectorMock).findAll(List.of(new LoadingParameters<>(OWLClassA.class, loadedOriginal.getUri(), descriptorFactory.createDescriptor(OWLClassA.class))));
+    }
+
+    @Test
+    void findAllSkipsIdentifiersOfNonexistentInstances() {
+        when(connectorMock.findAll(anyCollection())).thenReturn(Collections.emptyMap());
+        final List<OWLClassA> result = em.findAll(OWLClassA.class, List.of(Generators.createIndividualIdentifier(), Generators.createIndividualIdentifier()));
+        assertTrue(result.isEmpty());
+    }
+
     @Test
     void cascadeRefreshLoadsTriggersLazyLoading() {
         final OWLClassJ lazyOriginal = new OWLClassJ(Generators.createIndividualIdentifier());
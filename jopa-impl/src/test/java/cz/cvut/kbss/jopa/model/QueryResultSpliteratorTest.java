@@ -19,9 +19,10 @@ package cz.cvut.kbss.jopa.model;
 
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -36,6 +37,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,9 +61,16 @@ class QueryResultSpliteratorTest {
     @Mock
     private Consumer<String> consumer;
 
-    @InjectMocks
+    @Mock
+    private Consumer<String> afterProcessing;
+
     private QueryResultSpliterator<String> sut;
 
+    @BeforeEach
+    void setUp() {
+        this.sut = new QueryResultSpliterator<>(resultSetSpliterator, resultLoader, closer);
+    }
+
     @Test
     void constructorCreatesSpliteratorWithOrderedNonNullAndImmutableCharacteristics() {
         assertTrue(sut.hasCharacteristics(Spliterator.IMMUTABLE));
@@ -196,4 +205,18 @@ class QueryResultSpliteratorTest {
         sut.forEachRemaining(consumer);
         verify(resultLoader).loadLastPending();
     }
+
+    @Test
+    void tryAdvanceInvokesAfterProcessingHandlerAfterConsumer() {
+        this.sut = new QueryResultSpliterator<>(resultSetSpliterator, resultLoader, closer, afterProcessing);
+        when(resultSetSpliterator.tryAdvance(any())).then(invocation -> {
+            ((Consumer<ResultRow>) invocation.getArgument(0)).accept(resultRow);
+            return true;
+        });
+        when(resultLoader.loadResult(any())).thenReturn(Optional.of("test"));
+        sut.tryAdvance(consumer);
+        final InOrder inOrder = inOrder(consumer, afterProcessing);
+        inOrder.verify(consumer).accept("test");
+        inOrder.verify(afterProcessing).accept("test");
+    }
 }
@@ -34,6 +34,7 @@ import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.sessions.util.LazyLoadingBatchRegistry;
 import cz.cvut.kbss.jopa.vocabulary.RDF;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +56,7 @@ import static cz.cvut.kbss.jopa.utils.IdentifierTransformer.stringifyIri;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -446,6 +448,46 @@ class TypedQueryImplTest extends QueryTestBase {
         }
     }
 
+    @Test
+    void detachStreamedResultsHintDetachesEachResultAfterItIsProcessedByStream() throws Exception {
+        final List<String> uris = Arrays.asList(Generators.createIndividualIdentifier().toString(),
+                Generators.createIndividualIdentifier().toString());
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(true, true, false);
+        when(resultSetMock.isBound(0)).thenReturn(true);
+        when(resultSetMock.getString(0)).thenReturn(uris.get(0), uris.get(1));
+        when(uowMock.readObject(eq(OWLClassA.class), any(URI.class), any(Descriptor.class)))
+                .thenAnswer(inv -> new OWLClassA((URI) inv.getArgument(1)));
+        final TypedQueryImpl<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        final List<Object> detached = new ArrayList<>();
+        sut.setResultDetacherFactory(() -> detached::add);
+        sut.setHint(QueryHints.DETACH_STREAMED_RESULTS, true);
+
+        final List<OWLClassA> processed = new ArrayList<>();
+        sut.getResultStream().forEach(a -> {
+            assertFalse(detached.contains(a));
+            processed.add(a);
+        });
+        assertEquals(processed, detached);
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamDoesNotDetachResultsByDefault() throws Exception {
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(true, false);
+        when(resultSetMock.isBound(0)).thenReturn(true);
+        when(resultSetMock.getString(0)).thenReturn(Generators.createIndividualIdentifier().toString());
+        when(uowMock.readObject(eq(OWLClassA.class), any(URI.class), any(Descriptor.class)))
+                .thenAnswer(inv -> new OWLClassA((URI) inv.getArgument(1)));
+        final TypedQueryImpl<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        final List<Object> detached = new ArrayList<>();
+        sut.setResultDetacherFactory(() -> detached::add);
+
+        assertEquals(1, sut.getResultStream().count());
+        assertTrue(detached.isEmpty());
+    }
+
     @Test
     void optimizeEntityResultLoadingHintAppliesEntityLoadingOptimizer() throws Exception {
         final OWLClassB entity = new OWLClassB(Generators.createIndividualIdentifier());
@@ -471,6 +513,35 @@ class TypedQueryImplTest extends QueryTestBase {
         verify(uowMock, never()).readObject(eq(OWLClassA.class), eq(entity.getUri()), any());
     }
 
+    @Test
+    void lazyLoadingBatchSizeHintRegistersResultsInSameLazyLoadingBatch() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setHint(QueryHints.LAZY_LOADING_BATCH_SIZE, "10");
+        final List<String> uris = initDataForQuery(3);
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 3);
+        final ArgumentCaptor<LazyLoadingBatchRegistry.Batch> captor = ArgumentCaptor.forClass(LazyLoadingBatchRegistry.Batch.class);
+        for (OWLClassA a : res) {
+            verify(uowMock).registerInLazyLoadingBatch(eq(a), captor.capture());
+        }
+        assertEquals(1, captor.getAllValues().stream().distinct().count());
+        assertEquals(10, captor.getValue().getBatchSize());
+    }
+
+    @Test
+    void lazyLoadingBatchSizeHintThrowsIllegalArgumentExceptionForNonPositiveValue() {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        assertThrows(IllegalArgumentException.class, () -> query.setHint(QueryHints.LAZY_LOADING_BATCH_SIZE, 0));
+    }
+
+    @Test
+    void getResultListDoesNotRegisterResultsInLazyLoadingBatchByDefault() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        initDataForQuery(3);
+        query.getResultList();
+        verify(uowMock, never()).registerInLazyLoadingBatch(any(), any());
+    }
+
     @Test
     void getResultListIsAbleToMapProjectedVariablesToEntityAttributes() throws Exception {
         final OWLClassA entity = Generators.generateOwlClassAInstance();
@@ -36,6 +36,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -311,6 +312,23 @@ class AbstractIdentifiableTypeTest {
         assertTrue(id.isPresent());
     }
 
+    @Test
+    void freezeCreatesFieldTableSharedBySubsequentCalls() {
+        final ListAttributeImpl listAtt = mock(ListAttributeImpl.class);
+        when(listAtt.getName()).thenReturn("list");
+        et.addDeclaredAttribute("list", listAtt);
+        et.finish();
+        et.freeze();
+
+        final FieldTable<OWLClassA> table = et.getFieldTable();
+        assertSame(table, et.getFieldTable());
+        assertSame(et.getFieldSpecifications(), et.getFieldSpecifications());
+        assertEquals(0, table.ordinal(et.getIdentifier()));
+        assertEquals(listAtt, table.get(table.ordinal(listAtt)));
+        assertEquals(listAtt, et.getFieldSpecification("list"));
+        assertEquals(et.getIdentifier(), et.getFieldSpecification(ID_NAME));
+    }
+
     @Test
     void getTypesReturnsTypesAlsoFromSuperType() {
         final AbstractIdentifiableType<? super OWLClassA> supertype = spy(new MappedSuperclassTypeImpl<>(Object.class));
@@ -0,0 +1,105 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.Vocabulary;
+import cz.cvut.kbss.jopa.model.IRI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FieldTableTest {
+
+    private Identifier<OWLClassA, ?> id;
+    private AbstractAttribute<OWLClassA, ?> strAtt;
+    private TypesSpecification<OWLClassA, ?> types;
+
+    private FieldTable<OWLClassA> sut;
+
+    @BeforeEach
+    void setUp() {
+        this.id = mock(Identifier.class);
+        when(id.getName()).thenReturn("uri");
+        this.strAtt = mock(AbstractAttribute.class);
+        when(strAtt.getName()).thenReturn("stringAttribute");
+        when(strAtt.getIRI()).thenReturn(IRI.create(Vocabulary.p_a_stringAttribute));
+        this.types = mock(TypesSpecification.class);
+        when(types.getName()).thenReturn("types");
+        this.sut = new FieldTable<>(List.of(id, strAtt, types));
+    }
+
+    @Test
+    void ordinalsCorrespondToOrderOfFieldSpecifications() {
+        assertEquals(3, sut.size());
+        assertEquals(0, sut.ordinal(id));
+        assertEquals(1, sut.ordinal(strAtt));
+        assertEquals(2, sut.ordinal(types));
+        assertEquals(strAtt, sut.get(sut.ordinal(strAtt)));
+    }
+
+    @Test
+    void ordinalReturnsNegativeValueForUnknownFieldSpecification() {
+        assertEquals(-1, sut.ordinal(mock(AbstractAttribute.class)));
+    }
+
+    @Test
+    void getFieldSpecificationResolvesFieldSpecificationByName() {
+        assertEquals(Optional.of(strAtt), sut.getFieldSpecification("stringAttribute"));
+        assertEquals(Optional.of(types), sut.getFieldSpecification("types"));
+        assertFalse(sut.getFieldSpecification("unknown").isPresent());
+    }
+
+    @Test
+    void getAttributeResolvesAttributeByPropertyIri() {
+        assertEquals(Optional.of(strAtt), sut.getAttribute(strAtt.getIRI().toString()));
+        assertFalse(sut.getAttribute(OWLClassA.getClassIri()).isPresent());
+    }
+
+    @Test
+    void getAttributeIncludingSubtypesPrefersAttributesOfRepresentedType() {
+        final AbstractAttribute<?, ?> subtypeAtt = mock(AbstractAttribute.class);
+        when(subtypeAtt.getIRI()).thenReturn(IRI.create(Vocabulary.p_m_intAttribute));
+        final IRI strAttIri = strAtt.getIRI();
+        final AbstractAttribute<?, ?> overlappingAtt = mock(AbstractAttribute.class);
+        when(overlappingAtt.getIRI()).thenReturn(strAttIri);
+        final FieldTable<OWLClassA> table = new FieldTable<>(List.of(id, strAtt, types),
+                List.of(overlappingAtt, subtypeAtt));
+
+        assertEquals(Optional.of(strAtt), table.getAttributeIncludingSubtypes(strAttIri.toString()));
+        assertEquals(Optional.of(subtypeAtt), table.getAttributeIncludingSubtypes(Vocabulary.p_m_intAttribute));
+        assertFalse(table.getAttribute(Vocabulary.p_m_intAttribute).isPresent());
+    }
+
+    @Test
+    void asSetReturnsUnmodifiableSetIteratingInOrderOfOrdinals() {
+        assertEquals(List.of(id, strAtt, types), List.copyOf(sut.asSet()));
+        assertTrue(sut.asSet().contains(types));
+        assertThrows(UnsupportedOperationException.class, () -> sut.asSet().add(mock(AbstractAttribute.class)));
+        assertThrows(UnsupportedOperationException.class, () -> sut.asSet().remove(id));
+    }
+}
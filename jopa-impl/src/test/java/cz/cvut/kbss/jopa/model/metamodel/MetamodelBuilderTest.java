@@ -32,6 +32,7 @@ import cz.cvut.kbss.jopa.environment.utils.TestLocal;
 import cz.cvut.kbss.jopa.exception.InvalidFieldMappingException;
 import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
 import cz.cvut.kbss.jopa.loaders.PersistenceUnitClassFinder;
+import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.Id;
@@ -748,6 +749,17 @@ class MetamodelBuilderTest {
         assertFalse(builder.getLazyLoadingEntityProxyClasses().containsKey(ClassWithLazySingularAttribute.class));
     }
 
+    @Test
+    void buildMetamodelUsesGeneratedSubclassesAsInstantiableTypesOfEntityClasses() {
+        when(finderMock.getEntities()).thenReturn(Set.of(OWLClassA.class, ClassWithLazySingularAttribute.class));
+        builder.buildMetamodel(finderMock);
+        for (Class<?> cls : Set.of(OWLClassA.class, ClassWithLazySingularAttribute.class)) {
+            final Class<?> instantiable = builder.entity(cls).getInstantiableJavaType();
+            assertEquals(cls, instantiable.getSuperclass());
+            assertTrue(Manageable.class.isAssignableFrom(instantiable));
+        }
+    }
+
     @TestLocal
     @OWLClass(iri = Vocabulary.CLASS_BASE + "ClassWithLazySingularAttribute")
     public static class ClassWithLazySingularAttribute {
@@ -0,0 +1,94 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.OWLClassD;
+import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.model.metamodel.gen.ManageableClassGenerator;
+import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelClassGeneratorTest {
+
+    private static final List<Class<?>> CLASSES = List.of(OWLClassA.class, OWLClassB.class, OWLClassD.class);
+
+    @Test
+    void generateGeneratesClassesForAllSpecifiedClassesInParallel() {
+        final Configuration config = new Configuration(Map.of(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM, "3"));
+        final ParallelClassGenerator sut = new ParallelClassGenerator(config);
+
+        final Map<Class<?>, Class<?>> result = sut.generate(CLASSES, new ManageableClassGenerator(config));
+        assertEquals(Set.copyOf(CLASSES), result.keySet());
+        result.forEach((cls, generated) -> {
+            assertEquals(cls, generated.getSuperclass());
+            assertTrue(Manageable.class.isAssignableFrom(generated));
+        });
+    }
+
+    @Test
+    void generateUsesCallingThreadWhenParallelismIsOne() {
+        final Configuration config = new Configuration(Map.of(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM, "1"));
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final PersistenceContextAwareClassGenerator generator = new PersistenceContextAwareClassGenerator() {
+            @Override
+            public <T> Class<? extends T> generate(Class<T> entityClass) {
+                threads.add(Thread.currentThread());
+                return entityClass;
+            }
+        };
+
+        final Map<Class<?>, Class<?>> result = new ParallelClassGenerator(config).generate(CLASSES, generator);
+        assertEquals(CLASSES.size(), result.size());
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void generateUsesDefaultParallelismWhenConfiguredValueIsInvalid() {
+        final Configuration config = new Configuration(Map.of(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM, "-1"));
+        final Map<Class<?>, Class<?>> result = new ParallelClassGenerator(config).generate(CLASSES,
+                new ManageableClassGenerator(config));
+        assertEquals(Set.copyOf(CLASSES), result.keySet());
+    }
+
+    @Test
+    void generateRethrowsExceptionThrownByGenerator() {
+        final ParallelClassGenerator sut = new ParallelClassGenerator(new Configuration(
+                Map.of(JOPAPersistenceProperties.METAMODEL_BUILD_PARALLELISM, "2")));
+        final PersistenceContextAwareClassGenerator generator = new PersistenceContextAwareClassGenerator() {
+            @Override
+            public <T> Class<? extends T> generate(Class<T> entityClass) {
+                throw new MetamodelInitializationException("Generation failed.");
+            }
+        };
+        assertThrows(MetamodelInitializationException.class, () -> sut.generate(CLASSES, generator));
+    }
+}
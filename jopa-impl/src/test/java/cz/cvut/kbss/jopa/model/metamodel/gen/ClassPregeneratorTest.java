@@ -0,0 +1,119 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.loaders.PersistenceClassIndex;
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassPregeneratorTest {
+
+    @TempDir
+    private Path outputDir;
+
+    private final ClassPregenerator sut = new ClassPregenerator();
+
+    @Test
+    void pregenerateWritesPersistenceClassIndex() throws Exception {
+        sut.pregenerate(List.of("cz.cvut.kbss.jopa.environment"), outputDir);
+
+        final List<String> index = Files.readAllLines(outputDir.resolve(PersistenceClassIndex.RESOURCE));
+        assertTrue(index.contains(OWLClassA.class.getName()));
+    }
+
+    @Test
+    void pregenerateOutputsLoadableEntitySubclasses() throws Exception {
+        sut.pregenerate(List.of("cz.cvut.kbss.jopa.environment"), outputDir);
+
+        final List<String> index = Files.readAllLines(outputDir.resolve(PregeneratedClasses.RESOURCE));
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            verifyGenerated(index, loader, PregeneratedClasses.Kind.MANAGEABLE, Manageable.class);
+            verifyGenerated(index, loader, PregeneratedClasses.Kind.LAZY_LOADING_PROXY, LazyLoadingProxy.class);
+            verifyGenerated(index, loader, PregeneratedClasses.Kind.REFERENCE_PROXY, EntityReferenceProxy.class);
+        }
+    }
+
+    private static void verifyGenerated(List<String> index, ClassLoader loader, PregeneratedClasses.Kind kind,
+                                        Class<?> expectedInterface) throws Exception {
+        final String name = kind.generatedClassName(OWLClassA.class.getName());
+        assertTrue(index.contains(kind.name() + ' ' + OWLClassA.class.getName() + ' ' + name));
+        final Class<?> cls = Class.forName(name, true, loader);
+        assertEquals(OWLClassA.class, cls.getSuperclass());
+        assertTrue(expectedInterface.isAssignableFrom(cls));
+    }
+
+    @Test
+    void pregenerateIgnoresPreviouslyPregeneratedClassesFoundOnClasspath() throws Exception {
+        sut.pregenerate(List.of("cz.cvut.kbss.jopa.environment"), outputDir);
+        final Path rerunOutputDir = outputDir.resolve("rerun");
+
+        final ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            new ClassPregenerator().pregenerate(List.of("cz.cvut.kbss.jopa.environment"), rerunOutputDir);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+
+        final String generatedName = PregeneratedClasses.Kind.MANAGEABLE.generatedClassName(OWLClassA.class.getName());
+        final List<String> index = Files.readAllLines(rerunOutputDir.resolve(PersistenceClassIndex.RESOURCE));
+        assertTrue(index.contains(OWLClassA.class.getName()));
+        assertFalse(index.contains(generatedName));
+        final List<String> generated = Files.readAllLines(rerunOutputDir.resolve(PregeneratedClasses.RESOURCE));
+        assertTrue(generated.stream().noneMatch(line -> line.contains(" " + generatedName + " ")));
+        assertTrue(generated.stream().noneMatch(line -> line.contains("JOPA_JOPA_")));
+    }
+
+    @Test
+    void pregeneratedClassesSkipsIndexEntriesOfUnknownKind() throws Exception {
+        final Path index = outputDir.resolve(PregeneratedClasses.RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, List.of("UNKNOWN " + OWLClassA.class.getName() + " cz.cvut.kbss.jopa.environment.X_OWLClassA",
+                "MANAGEABLE " + OWLClassA.class.getName() + " cz.cvut.kbss.jopa.environment.JOPA_OWLClassA"));
+
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, null)) {
+            final PregeneratedClasses result = assertDoesNotThrow(() -> PregeneratedClasses.forClassLoader(loader));
+            assertTrue(result.find(PregeneratedClasses.Kind.REFERENCE_PROXY, OWLClassA.class).isEmpty());
+        }
+    }
+
+    @Test
+    void generatedClassNameResidesInPackageOfEntityClass() {
+        assertEquals("cz.cvut.kbss.jopa.environment.JOPA_OWLClassA",
+                PregeneratedClasses.Kind.MANAGEABLE.generatedClassName(OWLClassA.class.getName()));
+        assertEquals("cz.cvut.kbss.jopa.environment.Outer_Inner_ReferenceProxy",
+                PregeneratedClasses.Kind.REFERENCE_PROXY.generatedClassName("cz.cvut.kbss.jopa.environment.Outer$Inner"));
+    }
+}
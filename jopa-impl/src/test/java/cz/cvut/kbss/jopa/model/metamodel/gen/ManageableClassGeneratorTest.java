@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.model.metamodel.gen;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassO;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.exceptions.AttributeModificationForbiddenException;
 import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
@@ -41,6 +42,8 @@ import java.lang.reflect.Field;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -102,4 +105,17 @@ class ManageableClassGeneratorTest {
         verify(uow, never()).attributeChanged(eq(instance), any(FieldSpecification.class));
         verify(uow, never()).attributeChanged(eq(instance), any(Field.class));
     }
+
+    @Test
+    void generatedSetterThrowsAttributeModificationForbiddenExceptionForSharedReadOnlyInstance() throws Exception {
+        final Class<? extends OWLClassA> cls = sut.generate(OWLClassA.class);
+
+        final OWLClassA instance = cls.getDeclaredConstructor().newInstance();
+        instance.setStringAttribute("original value");
+        ((Manageable) instance).setSharedReadOnlyInstance(true);
+        assertTrue(((Manageable) instance).isSharedReadOnlyInstance());
+
+        assertThrows(AttributeModificationForbiddenException.class, () -> instance.setStringAttribute("test value"));
+        assertEquals("original value", instance.getStringAttribute());
+    }
 }
@@ -46,6 +46,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -124,6 +125,36 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
         assertThrows(StorageAccessException.class, () -> instanceLoader.loadEntity(loadingParameters));
     }
 
+    @Test
+    void loadEntitiesLoadsAllInstancesUsingSingleFind() throws Exception {
+        final URI identifierTwo = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> paramsTwo = new LoadingParameters<>(OWLClassA.class, identifierTwo, descriptor);
+        final AxiomDescriptor axiomDescriptorTwo = new AxiomDescriptor(NamedResource.create(identifierTwo));
+        when(descriptorFactoryMock.createForEntityLoading(paramsTwo, etAMock)).thenReturn(axiomDescriptorTwo);
+        final List<Axiom<?>> axioms = new ArrayList<>(Generators.generateAxiomsForOWLClassA(IDENTIFIER));
+        axioms.addAll(Generators.generateAxiomsForOWLClassA(identifierTwo));
+        when(connectionMock.find(anyCollection())).thenReturn(axioms);
+        final OWLClassA entityTwo = new OWLClassA(identifierTwo);
+        when(entityConstructorMock.reconstructEntity(eq(new EntityConstructor.EntityConstructionParameters<>(IDENTIFIER, etAMock, descriptor, false)), anyCollection()))
+                .thenReturn(entityA);
+        when(entityConstructorMock.reconstructEntity(eq(new EntityConstructor.EntityConstructionParameters<>(identifierTwo, etAMock, descriptor, false)), anyCollection()))
+                .thenReturn(entityTwo);
+
+        final Map<URI, OWLClassA> result = instanceLoader.loadEntities(List.of(loadingParameters, paramsTwo));
+        assertEquals(Map.of(IDENTIFIER, entityA, identifierTwo, entityTwo), result);
+        verify(connectionMock).find(List.of(axiomDescriptor, axiomDescriptorTwo));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void loadEntitiesReturnsCachedInstancesWithoutAccessingStorage() throws Exception {
+        when(cacheMock.get(OWLClassA.class, IDENTIFIER, descriptor)).thenReturn(entityA);
+
+        final Map<URI, OWLClassA> result = instanceLoader.loadEntities(List.of(loadingParameters));
+        assertEquals(Map.of(IDENTIFIER, entityA), result);
+        verify(connectionMock, never()).find(anyCollection());
+    }
+
     @Test
     void loadEntityBypassesCacheWhenConfiguredTo() throws Exception {
         this.loadingParameters = loadingParameters.withBypassCache();
@@ -0,0 +1,93 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class IdentifierGeneratorsTest {
+
+    private MetamodelMocks mocks;
+    private EntityType<OWLClassA> et;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mocks = new MetamodelMocks();
+        this.et = mocks.forOwlClassA().entityType();
+    }
+
+    @Test
+    void defaultStrategyIsStorageWhenNoneIsConfigured() {
+        final IdentifierGenerators sut = new IdentifierGenerators(new Configuration());
+        assertEquals(GenerationType.STORAGE, sut.getDefaultStrategy());
+        assertFalse(sut.isCheckFree(et));
+        assertTrue(sut.generate(et).isEmpty());
+    }
+
+    @Test
+    void defaultStrategyIsResolvedFromConfigurationIgnoringCase() {
+        final IdentifierGenerators sut = new IdentifierGenerators(
+                new Configuration(Map.of(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY, "Uuid")));
+        assertEquals(GenerationType.UUID, sut.getDefaultStrategy());
+        assertTrue(sut.isCheckFree(et));
+        assertTrue(sut.generate(et).isPresent());
+    }
+
+    @Test
+    void unsupportedConfiguredStrategyFallsBackToStorage() {
+        final IdentifierGenerators sut = new IdentifierGenerators(
+                new Configuration(Map.of(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY, "auto")));
+        assertEquals(GenerationType.STORAGE, sut.getDefaultStrategy());
+    }
+
+    @Test
+    void resolveStrategyPrefersStrategyDeclaredByEntityIdentifier() {
+        when(mocks.forOwlClassA().identifier().getGenerationType()).thenReturn(GenerationType.COUNTER);
+        final IdentifierGenerators sut = new IdentifierGenerators(
+                new Configuration(Map.of(JOPAPersistenceProperties.IDENTIFIER_GENERATION_STRATEGY, "uuid")));
+        assertEquals(GenerationType.COUNTER, sut.resolveStrategy(et));
+    }
+
+    @Test
+    void generateWithCounterStrategyGeneratesDistinctIdentifiers() {
+        when(mocks.forOwlClassA().identifier().getGenerationType()).thenReturn(GenerationType.COUNTER);
+        final IdentifierGenerators sut = new IdentifierGenerators(new Configuration());
+        final Optional<URI> first = sut.generate(et);
+        final Optional<URI> second = sut.generate(et);
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertNotEquals(first.get(), second.get());
+        assertTrue(first.get().toString().startsWith(et.getIRI().toString()));
+    }
+}
@@ -35,6 +35,7 @@ import cz.cvut.kbss.jopa.model.SequencesVocabulary;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.oom.exception.UnpersistedChangeException;
@@ -86,6 +87,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -164,6 +166,8 @@ class ObjectOntologyMapperTest {
         when(uowMock.getLiveObjectCache()).thenReturn(cacheMock);
         when(uowMock.getConfiguration()).thenReturn(new Configuration(Collections.emptyMap()));
         when(uowMock.getLoadStateRegistry()).thenReturn(loadStateRegistry);
+        when(uowMock.getIdentifierGenerators()).thenReturn(
+                new IdentifierGenerators(new Configuration(Collections.emptyMap())));
         this.loadingParameters = new LoadingParameters<>(OWLClassA.class, IDENTIFIER, aDescriptor);
         this.mocks = new MetamodelMocks();
         mocks.setMocks(metamodelMock);
@@ -366,23 +370,23 @@ class ObjectOntologyMapperTest {
     }
 
     @Test
-    void usesTwoStepInstanceLoaderForLoadingInstanceOfEntityWithSubtypes() throws Exception {
-        final Field twoStepLoaderField = ObjectOntologyMapperImpl.class.getDeclaredField("twoStepInstanceLoader");
-        twoStepLoaderField.setAccessible(true);
-        EntityInstanceLoader twoStepLoader = (EntityInstanceLoader) twoStepLoaderField.get(mapper);
-        twoStepLoader = spy(twoStepLoader);
-        twoStepLoaderField.set(mapper, twoStepLoader);
+    void usesPolymorphicInstanceLoaderForLoadingInstanceOfEntityWithSubtypes() throws Exception {
+        final Field polymorphicLoaderField = ObjectOntologyMapperImpl.class.getDeclaredField("polymorphicInstanceLoader");
+        polymorphicLoaderField.setAccessible(true);
+        EntityInstanceLoader polymorphicLoader = (EntityInstanceLoader) polymorphicLoaderField.get(mapper);
+        polymorphicLoader = spy(polymorphicLoader);
+        polymorphicLoaderField.set(mapper, polymorphicLoader);
         final OWLClassS entity = new OWLClassR();
         final LoadingParameters<OWLClassS> loadingParameters = new LoadingParameters<>(OWLClassS.class, IDENTIFIER,
                 aDescriptor);
-        doReturn(entity).when(twoStepLoader).loadEntity(loadingParameters);
+        doReturn(entity).when(polymorphicLoader).loadEntity(loadingParameters);
         final LoadStateDescriptor<OWLClassS> loadStateDescriptor = new LoadStateDescriptor<>(entity, mocks.forOwlClassS()
                                                                                                           .entityType(), LoadState.UNKNOWN);
         loadStateRegistry.put(entity, loadStateDescriptor);
 
         final OWLClassS result = mapper.loadEntity(loadingParameters);
         assertSame(entity, result);
-        verify(twoStepLoader).loadEntity(loadingParameters);
+        verify(polymorphicLoader).loadEntity(loadingParameters);
     }
 
     @Test
@@ -662,7 +666,7 @@ class ObjectOntologyMapperTest {
         assertEquals(aDescriptor, proxy.getDescriptor());
         assertEquals(IDENTIFIER, proxy.getIdentifier());
         assertEquals(OWLClassA.class, proxy.getType());
-        verify(connectionMock, never()).find(any());
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
     }
 
     @Test
@@ -694,6 +698,28 @@ class ObjectOntologyMapperTest {
                 mocks.forOwlClassA().entityType(), aDescriptor);
     }
 
+    @Test
+    void loadFieldValuesLoadsFieldOfAllEntitiesUsingSingleStorageCall() throws Exception {
+        final Attribute<OWLClassA, String> strAtt = mocks.forOwlClassA().stringAttribute();
+        final OWLClassA another = new OWLClassA(Generators.createIndividualIdentifier());
+        final NamedResource anotherResource = NamedResource.create(another.getUri());
+        final AxiomDescriptor descOne = new AxiomDescriptor(ID_RESOURCE);
+        final AxiomDescriptor descTwo = new AxiomDescriptor(anotherResource);
+        when(descriptorFactoryMock.createForFieldLoading(IDENTIFIER, strAtt, aDescriptor, etAMock)).thenReturn(descOne);
+        when(descriptorFactoryMock.createForFieldLoading(another.getUri(), strAtt, aDescriptor, etAMock)).thenReturn(descTwo);
+        final Assertion strAssertion = Assertion.createDataPropertyAssertion(URI.create(Vocabulary.p_a_stringAttribute), false);
+        final Axiom<?> axOne = new AxiomImpl<>(ID_RESOURCE, strAssertion, new Value<>("one"));
+        final Axiom<?> axTwo = new AxiomImpl<>(anotherResource, strAssertion, new Value<>("two"));
+        when(connectionMock.find(List.of(descOne, descTwo))).thenReturn(List.of(axOne, axTwo));
+        when(strAtt.includeExplicit()).thenReturn(true);
+
+        mapper.loadFieldValues(List.of(entityA, another), strAtt, aDescriptor);
+        verify(connectionMock).find(List.of(descOne, descTwo));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+        verify(entityConstructorMock).setFieldValue(entityA, strAtt, List.of(axOne), etAMock, aDescriptor);
+        verify(entityConstructorMock).setFieldValue(another, strAtt, List.of(axTwo), etAMock, aDescriptor);
+    }
+
     @Test
     void loadEntityFromAxiomsReconstructsEntityFromAxiomsAndReturnsIt() {
         final List<Axiom<?>> axioms = List.of(
@@ -735,4 +761,22 @@ class ObjectOntologyMapperTest {
         final OWLClassS result = mapper.loadEntity(new AxiomBasedLoadingParameters<>(OWLClassS.class, new EntityDescriptor(), false, axioms));
         assertInstanceOf(OWLClassR.class, result);
     }
+
+    @Test
+    void generateIdentifierUsesStorageWhenNoStrategyIsConfigured() throws Exception {
+        final URI id = Generators.createIndividualIdentifier();
+        when(connectionMock.generateIdentifier(etAMock.getIRI().toURI())).thenReturn(id);
+
+        assertEquals(id, mapper.generateIdentifier(etAMock));
+        verify(connectionMock).generateIdentifier(etAMock.getIRI().toURI());
+    }
+
+    @Test
+    void generateIdentifierUsesEntityIdentifierStrategyWithoutAccessingStorage() throws Exception {
+        when(mocks.forOwlClassA().identifier().getGenerationType()).thenReturn(GenerationType.UUID);
+
+        final URI result = mapper.generateIdentifier(etAMock);
+        assertThat(result.toString(), startsWith(etAMock.getIRI().toString()));
+        verify(connectionMock, never()).generateIdentifier(any());
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassR;
+import cz.cvut.kbss.jopa.environment.OWLClassS;
+import cz.cvut.kbss.jopa.environment.Vocabulary;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.sessions.util.LoadStateDescriptorRegistry;
+import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.Value;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SingleStepPolymorphicInstanceLoaderTest extends InstanceLoaderTestBase {
+
+    private static AxiomDescriptor polymorphicDescriptor;
+
+    private MetamodelMocks mocks;
+    private LoadingParameters<OWLClassS> loadingParameters;
+
+    private final Assertion stringAssertion =
+            Assertion.createDataPropertyAssertion(URI.create(Vocabulary.P_R_STRING_ATTRIBUTE), false);
+
+    @BeforeAll
+    static void setUpBeforeClass() {
+        staticSetup();
+        polymorphicDescriptor = new AxiomDescriptor(INDIVIDUAL);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.loadingParameters = new LoadingParameters<>(OWLClassS.class, IDENTIFIER, descriptor);
+        this.mocks = new MetamodelMocks();
+        mocks.setMocks(metamodelMock);
+        when(descriptorFactoryMock.createForPolymorphicEntityLoading(eq(loadingParameters), anyCollection()))
+                .thenReturn(polymorphicDescriptor);
+        final AxiomDescriptor rDescriptor = new AxiomDescriptor(INDIVIDUAL);
+        rDescriptor.addAssertion(Assertion.createClassAssertion(false));
+        rDescriptor.addAssertion(stringAssertion);
+        when(descriptorFactoryMock.createForEntityLoading(loadingParameters, mocks.forOwlClassR().entityType()))
+                .thenReturn(rDescriptor);
+        this.instanceLoader = SingleStepPolymorphicInstanceLoader.singleStepBuilder().connection(connectionMock)
+                                                                 .metamodel(metamodelMock)
+                                                                 .cache(cacheMock)
+                                                                 .descriptorFactory(descriptorFactoryMock)
+                                                                 .entityBuilder(entityConstructorMock)
+                                                                 .loadStateRegistry(new LoadStateDescriptorRegistry(Object::toString))
+                                                                 .build();
+    }
+
+    @Test
+    void loadEntityLoadsTypesAndAttributesOfHierarchyUsingSingleFind() throws Exception {
+        final List<Axiom<?>> axioms = new ArrayList<>(List.of(classAssertion(OWLClassR.getClassIri()),
+                new AxiomImpl<>(INDIVIDUAL, stringAssertion, new Value<>("test"))));
+        when(connectionMock.find(polymorphicDescriptor)).thenReturn(axioms);
+        final OWLClassR entityR = new OWLClassR();
+        when(entityConstructorMock.reconstructEntity(eq(new EntityConstructor.EntityConstructionParameters<>(IDENTIFIER, mocks.forOwlClassR().entityType(), descriptor, false)), anyCollection()))
+                .thenReturn(entityR);
+
+        final OWLClassS result = instanceLoader.loadEntity(loadingParameters);
+        assertSame(entityR, result);
+        verify(connectionMock).find(polymorphicDescriptor);
+        verify(connectionMock, never()).types();
+        verify(descriptorFactoryMock).createForPolymorphicEntityLoading(eq(loadingParameters), anyCollection());
+    }
+
+    @Test
+    void loadEntityDiscardsAxiomsNotBelongingToResolvedEntityType() throws Exception {
+        final Axiom<?> classAssertion = classAssertion(OWLClassR.getClassIri());
+        final Axiom<?> stringAxiom = new AxiomImpl<>(INDIVIDUAL, stringAssertion, new Value<>("test"));
+        final Axiom<?> otherAxiom = new AxiomImpl<>(INDIVIDUAL, Assertion.createDataPropertyAssertion(
+                URI.create(Vocabulary.p_a_stringAttribute), false), new Value<>("other"));
+        when(connectionMock.find(polymorphicDescriptor)).thenReturn(new ArrayList<>(List.of(classAssertion, stringAxiom, otherAxiom)));
+        when(entityConstructorMock.reconstructEntity(any(), anyCollection())).thenReturn(new OWLClassR());
+
+        instanceLoader.loadEntity(loadingParameters);
+        final ArgumentCaptor<Collection<Axiom<?>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(entityConstructorMock).reconstructEntity(any(), captor.capture());
+        assertEquals(List.of(classAssertion, stringAxiom), new ArrayList<>(captor.getValue()));
+    }
+
+    @Test
+    void loadEntityReturnsCachedInstanceOfSubtypeWithoutAccessingStorage() throws Exception {
+        final OWLClassR cached = new OWLClassR();
+        when(cacheMock.get(OWLClassR.class, IDENTIFIER, descriptor)).thenReturn(cached);
+
+        assertSame(cached, instanceLoader.loadEntity(loadingParameters));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void loadEntityReturnsNullWhenNoMatchingEntityTypeIsFound() throws Exception {
+        when(connectionMock.find(polymorphicDescriptor)).thenReturn(new ArrayList<>(List.of(classAssertion(OWLClassA.getClassIri()))));
+
+        assertNull(instanceLoader.loadEntity(loadingParameters));
+    }
+
+    @Test
+    void loadEntityThrowsStorageAccessExceptionWhenOntoDriverThrowsException() throws Exception {
+        final String msg = "Exception message.";
+        when(connectionMock.find(polymorphicDescriptor)).thenThrow(new OntoDriverException(msg));
+
+        final StorageAccessException ex =
+                assertThrows(StorageAccessException.class, () -> instanceLoader.loadEntity(loadingParameters));
+        assertThat(ex.getMessage(), containsString(msg));
+    }
+
+    private static Axiom<?> classAssertion(String classIri) {
+        return new AxiomImpl<>(INDIVIDUAL, Assertion.createClassAssertion(false), new Value<>(URI.create(classIri)));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private final TimeOrderedUuidGenerator sut = new TimeOrderedUuidGenerator();
+
+    @Test
+    void nextUuidGeneratesVersionSevenUuid() {
+        final long before = System.currentTimeMillis();
+        final UUID result = sut.nextUuid();
+        assertEquals(7, result.version());
+        assertEquals(2, result.variant());
+        assertTrue(result.getMostSignificantBits() >>> 16 >= before);
+    }
+
+    @Test
+    void nextUuidGeneratesUniqueMonotonicallyIncreasingUuids() {
+        final Set<UUID> generated = new HashSet<>();
+        UUID previous = sut.nextUuid();
+        for (int i = 0; i < 100_000; i++) {
+            final UUID current = sut.nextUuid();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()) < 0);
+            assertTrue(generated.add(current));
+            previous = current;
+        }
+    }
+
+    @Test
+    void generateAppendsUuidToClassUri() {
+        final URI classUri = URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA");
+        final URI result = sut.generate(classUri);
+        assertThat(result.toString(), startsWith(classUri + "_instance"));
+        UUID.fromString(result.toString().substring((classUri + "_instance").length()));
+    }
+}
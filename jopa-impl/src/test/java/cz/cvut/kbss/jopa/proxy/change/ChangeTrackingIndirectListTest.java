@@ -41,6 +41,8 @@ import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
@@ -332,4 +334,50 @@ class ChangeTrackingIndirectListTest {
         owner.getReferencedList().removeIf(e -> toRemove.contains(e.getUri()));
         verify(uow, times(toRemove.size())).attributeChanged(owner, ownerField);
     }
+
+    @Test
+    void sharedListIsCopiedBeforeFirstModification() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final ChangeTrackingIndirectList<OWLClassA> shared = new ChangeTrackingIndirectList<>(owner, ownerField, uow,
+                list, true);
+        assertTrue(shared.isShared());
+        assertSame(list, shared.unwrap());
+
+        shared.add(Generators.generateOwlClassAInstance());
+        assertFalse(shared.isShared());
+        assertNotSame(list, shared.unwrap());
+        assertEquals(backupList, list);
+        assertEquals(backupList.size() + 1, shared.size());
+        verify(uow).attributeChanged(owner, ownerField);
+    }
+
+    @Test
+    void sharedListIteratorRemoveRemovesElementFromCopy() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final ChangeTrackingIndirectList<OWLClassA> shared = new ChangeTrackingIndirectList<>(owner, ownerField, uow,
+                list, true);
+        final ListIterator<OWLClassA> it = shared.listIterator();
+        it.next();
+        final OWLClassA toRemove = it.next();
+        it.remove();
+        it.next();
+        it.set(toRemove);
+
+        assertEquals(backupList, list);
+        assertEquals(backupList.size() - 1, shared.size());
+        assertEquals(backupList.get(0), shared.get(0));
+        assertEquals(toRemove, shared.get(1));
+        assertEquals(backupList.get(3), shared.get(2));
+        verify(uow, times(2)).attributeChanged(owner, ownerField);
+    }
+
+    @Test
+    void unwrapExclusiveReturnsCopyOfSharedList() {
+        final ChangeTrackingIndirectList<OWLClassA> shared = new ChangeTrackingIndirectList<>(owner, ownerField, uow,
+                list, true);
+        final List<OWLClassA> result = shared.unwrapExclusive();
+        assertNotSame(list, result);
+        assertEquals(list, result);
+        assertSame(list, target.unwrapExclusive());
+    }
 }
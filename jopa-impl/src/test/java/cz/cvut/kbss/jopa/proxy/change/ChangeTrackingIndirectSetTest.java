@@ -37,11 +37,14 @@ import java.util.Set;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -236,4 +239,35 @@ class ChangeTrackingIndirectSetTest {
         assertTrue(target.containsAll(backupSet));
         assertTrue(set.containsAll(backupSet));
     }
+
+    @Test
+    void sharedSetIsCopiedBeforeFirstModification() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final ChangeTrackingIndirectSet<OWLClassA> shared = new ChangeTrackingIndirectSet<>(owner, ownerField, uow,
+                set, true);
+        assertTrue(shared.isShared());
+        assertTrue(shared.containsAll(backupSet));
+
+        assertTrue(shared.remove(backupSet.iterator().next()));
+        assertFalse(shared.isShared());
+        assertNotSame(set, shared.unwrap());
+        assertEquals(backupSet, set);
+        assertEquals(backupSet.size() - 1, shared.size());
+        verify(uow).attributeChanged(owner, ownerField);
+    }
+
+    @Test
+    void sharedSetIteratorRemoveRemovesElementsFromCopy() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final ChangeTrackingIndirectSet<OWLClassA> shared = new ChangeTrackingIndirectSet<>(owner, ownerField, uow,
+                set, true);
+        final Iterator<OWLClassA> it = shared.iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(shared.isEmpty());
+        assertEquals(backupSet, set);
+        verify(uow, times(backupSet.size())).attributeChanged(owner, ownerField);
+    }
 }
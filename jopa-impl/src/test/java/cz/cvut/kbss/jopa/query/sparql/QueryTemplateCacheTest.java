@@ -0,0 +1,109 @@
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.exception.QueryParserException;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryTemplateCacheTest {
+
+    private static final String QUERY_ONE = "SELECT ?x WHERE { ?x a ?type . }";
+    private static final String QUERY_TWO = "SELECT ?y WHERE { ?y ?p ?o . }";
+    private static final String QUERY_THREE = "ASK { ?x a ?type . }";
+
+    private Sparql11QueryParser parser;
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        final UnitOfWork uow = mock(UnitOfWork.class);
+        when(uow.getConfiguration()).thenReturn(new Configuration());
+        this.parser = new Sparql11QueryParser(new ParameterValueFactory(uow));
+    }
+
+    private Function<String, SparqlQueryTemplate> countingParser() {
+        return q -> {
+            parseCount.incrementAndGet();
+            return parser.parseTemplate(q);
+        };
+    }
+
+    @Test
+    void getParsesQueryOnlyOnFirstLookup() {
+        final QueryTemplateCache sut = new QueryTemplateCache(4);
+        final SparqlQueryTemplate first = sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+        final SparqlQueryTemplate second = sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+
+        assertSame(first, second);
+        assertEquals(1, parseCount.get());
+        assertEquals(new QueryTemplateCache.Statistics(1, 1, 1), sut.getStatistics());
+        assertEquals(0.5, sut.getStatistics().hitRatio());
+    }
+
+    @Test
+    void getDistinguishesQueriesByLanguage() {
+        final QueryTemplateCache sut = new QueryTemplateCache(4);
+        final SparqlQueryTemplate sparql = sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+        final SparqlQueryTemplate soql = sut.get(QueryTemplateCache.Language.SOQL, QUERY_ONE, countingParser());
+
+        assertNotSame(sparql, soql);
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedTemplateWhenCapacityIsExceeded() {
+        final QueryTemplateCache sut = new QueryTemplateCache(2);
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_TWO, countingParser());
+        // Makes query two the least recently used
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_THREE, countingParser());
+        assertEquals(3, parseCount.get());
+
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+        assertEquals(3, parseCount.get());
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_TWO, countingParser());
+        assertEquals(4, parseCount.get());
+        assertEquals(2, sut.getStatistics().size());
+    }
+
+    @Test
+    void getWithZeroCapacityParsesQueryOnEveryLookup() {
+        final QueryTemplateCache sut = new QueryTemplateCache(0);
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+        sut.get(QueryTemplateCache.Language.SPARQL, QUERY_ONE, countingParser());
+
+        assertEquals(2, parseCount.get());
+        assertEquals(new QueryTemplateCache.Statistics(0, 2, 0), sut.getStatistics());
+    }
+
+    @Test
+    void getDoesNotCacheQueryWhichFailedToParse() {
+        final QueryTemplateCache sut = new QueryTemplateCache(4);
+        final String invalid = "SELECT ?x WHERE { ?x a ";
+        assertThrows(QueryParserException.class,
+                () -> sut.get(QueryTemplateCache.Language.SPARQL, invalid, countingParser()));
+        assertThrows(QueryParserException.class,
+                () -> sut.get(QueryTemplateCache.Language.SPARQL, invalid, countingParser()));
+        assertEquals(2, parseCount.get());
+        assertEquals(0, sut.getStatistics().size());
+    }
+
+    @Test
+    void constructorThrowsIllegalArgumentExceptionForNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryTemplateCache(-1));
+    }
+}
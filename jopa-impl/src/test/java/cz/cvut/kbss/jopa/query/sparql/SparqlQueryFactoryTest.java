@@ -35,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -149,4 +150,31 @@ public class SparqlQueryFactoryTest {
         assertNotNull(q);
         verify(namedQueryManagerMock).getQuery(queryName);
     }
+
+    @Test
+    void createNativeQueryReusesCachedTemplateOfPreviouslyParsedQuery() {
+        final QueryTemplateCache cache = new QueryTemplateCache(16);
+        this.factory = new SparqlQueryFactory(uowMock, connectionMock, cache);
+
+        assertNotNull(factory.createNativeQuery(QUERY));
+        assertNotNull(factory.createNativeQuery(QUERY, CLS));
+        final QueryTemplateCache.Statistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.missCount());
+        assertEquals(1, statistics.hitCount());
+        assertEquals(1, statistics.size());
+    }
+
+    @Test
+    void createQueryCachesSoqlQueriesSeparatelyFromSparqlQueries() {
+        final QueryTemplateCache cache = new QueryTemplateCache(16);
+        this.factory = new SparqlQueryFactory(uowMock, connectionMock, cache);
+
+        factory.createQuery(SOQL_QUERY);
+        factory.createQuery(SOQL_QUERY, CLS);
+        factory.createNativeQuery(QUERY);
+        final QueryTemplateCache.Statistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.missCount());
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.size());
+    }
 }
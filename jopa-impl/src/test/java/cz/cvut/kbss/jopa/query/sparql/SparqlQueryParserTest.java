@@ -31,6 +31,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.net.URI;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -484,4 +485,17 @@ public class SparqlQueryParserTest {
         assertTrue(holder.hasParameter("annotationProperty"));
         assertTrue(holder.hasParameter("annotationValue"));
     }
+
+    @Test
+    void holdersInstantiatedFromSameTemplateHaveIndependentParameterValues() {
+        final String query = "SELECT ?x WHERE { ?x a ?type . }";
+        final SparqlQueryTemplate template = ((Sparql11QueryParser) queryParser).parseTemplate(query);
+        final QueryHolder first = template.instantiate(valueFactory);
+        final QueryHolder second = template.instantiate(valueFactory);
+
+        first.setParameter(first.getParameter("type"), URI.create("http://example.org/Type"));
+        assertEquals("SELECT ?x WHERE { ?x a <http://example.org/Type> . }", first.assembleQuery());
+        assertEquals(query, second.assembleQuery());
+        assertTrue(second.getProjectedQueryParameters().stream().anyMatch(p -> p.getName().equals("x")));
+    }
 }
@@ -35,6 +35,7 @@ import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.AxiomBasedLoadingParameters;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.LazyLoadingBatchRegistry;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.ontodriver.model.Assertion;
@@ -203,6 +204,16 @@ abstract class AbstractUnitOfWorkTestRunner extends UnitOfWorkTestBase {
         assertTrue(uow.isObjectManaged(managed));
     }
 
+    @Test
+    void getManagedObjectsSnapshotContainsManagedObjectsAndIsNotUpdatedByLaterRegistrations() {
+        defaultLoadStateDescriptor(entityA, entityB);
+        final Object managedA = uow.registerExistingObject(entityA, descriptor);
+        final Set<Object> snapshot = uow.getManagedObjectsSnapshot();
+        final Object managedB = uow.registerExistingObject(entityB, descriptor);
+        assertTrue(snapshot.contains(managedA));
+        assertFalse(snapshot.contains(managedB));
+    }
+
     @Test
     void isObjectManagedThrowsNullPointerExceptionForNullArgument() {
         assertThrows(NullPointerException.class, () -> uow.isObjectManaged(null));
@@ -475,6 +486,34 @@ abstract class AbstractUnitOfWorkTestRunner extends UnitOfWorkTestBase {
         assertEquals(LoadState.LOADED, uow.isLoaded(instance, OWLClassL.getSetField().getName()));
     }
 
+    @Test
+    void loadEntityFieldLoadsFieldForFollowingMembersOfLazyLoadingBatchTogether() throws Exception {
+        when(metamodelMock.getLazyLoadingProxy(OWLClassA.class)).thenReturn((Class) new LazyLoadingEntityProxyGenerator().generate(OWLClassA.class));
+        final OWLClassL entityLTwo = new OWLClassL(Generators.createIndividualIdentifier());
+        final LazyLoadingBatchRegistry.Batch batch = new LazyLoadingBatchRegistry.Batch(5);
+        final List<OWLClassL> instances = new ArrayList<>();
+        for (OWLClassL l : List.of(entityL, entityLTwo)) {
+            uow.getLoadStateRegistry().put(l, LoadStateDescriptorFactory.createNotLoaded(l, metamodelMocks.forOwlClassL().entityType()));
+            final OWLClassL instance = (OWLClassL) uow.registerExistingObject(l, descriptor);
+            uow.registerInLazyLoadingBatch(instance, batch);
+            instances.add(instance);
+        }
+        doAnswer(inv -> {
+            final List<OWLClassL> toLoad = inv.getArgument(0);
+            toLoad.forEach(l -> l.setSet(Collections.singleton(entityA)));
+            return null;
+        }).when(storageMock).loadFieldValues(eq(instances), eq(metamodelMocks.forOwlClassL().setAttribute()), any());
+        defaultLoadStateDescriptor(entityA);
+        uow.loadEntityField(instances.get(0), metamodelMocks.forOwlClassL().setAttribute());
+
+        verify(storageMock).loadFieldValues(eq(instances), eq(metamodelMocks.forOwlClassL().setAttribute()), any());
+        verify(storageMock, never()).loadFieldValue(any(), any(), any());
+        final String setFieldName = OWLClassL.getSetField().getName();
+        instances.forEach(l -> assertEquals(LoadState.LOADED, uow.isLoaded(l, setFieldName)));
+        uow.loadEntityField(instances.get(1), metamodelMocks.forOwlClassL().setAttribute());
+        verify(storageMock, never()).loadFieldValue(any(), any(), any());
+    }
+
     @Test
     void getManagedOriginalThrowsEntityExistsExceptionWhenIndividualIsManagedAsDifferentType() {
         when(transactionMock.isActive()).thenReturn(true);
@@ -45,6 +45,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -275,4 +276,34 @@ public class CollectionInstanceBuilderTest {
         assertThat(target.getIntegerSet(),
                    instanceOf(CollectionFactory.createDefaultCollection(CollectionType.SET).getClass()));
     }
+
+    @Test
+    void buildCloneSharesCollectionOfImmutableValuesWhenPersistenceContextSupportsIt() throws Exception {
+        final OWLClassM owner = new OWLClassM();
+        owner.initializeTestValues(true);
+        final Field field = OWLClassM.getIntegerSetField();
+        when(uowMock.createSharedIndirectCollection(any(), any(), any(Field.class))).thenAnswer(
+                inv -> Optional.of(new ChangeTrackingIndirectSet<>(inv.getArgument(1), field, uowMock,
+                                                                   (Set<?>) inv.getArgument(0), true)));
+
+        final Object result = builder.buildClone(owner, field, owner.getIntegerSet(),
+                                                 new CloneConfiguration(descriptor, true));
+        assertInstanceOf(ChangeTrackingIndirectSet.class, result);
+        assertSame(owner.getIntegerSet(), ((ChangeTrackingIndirectSet<?>) result).unwrap());
+    }
+
+    @Test
+    void buildCloneDoesNotShareCollectionOfManagedInstances() throws Exception {
+        mockIndirectCollectionBuilder();
+        final OWLClassJ owner = new OWLClassJ(Generators.createIndividualIdentifier());
+        final OWLClassA aOrig = Generators.generateOwlClassAInstance();
+        owner.setOwlClassA(new HashSet<>(Set.of(aOrig)));
+        when(uowMock.registerExistingObject(any(), any(CloneRegistrationDescriptor.class))).thenReturn(new OWLClassA(aOrig));
+        when(uowMock.isEntityType(OWLClassA.class)).thenReturn(true);
+
+        final Set<?> clone = (Set<?>) builder.buildClone(owner, OWLClassJ.getOwlClassAField(), owner.getOwlClassA(),
+                                                         new CloneConfiguration(descriptor, true));
+        assertNotSame(owner.getOwlClassA(), ((ChangeTrackingIndirectSet<?>) clone).unwrap());
+        verify(uowMock, never()).createSharedIndirectCollection(any(), any(), any(Field.class));
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.proxy.change.ChangeTrackingIndirectSet;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DirtyFieldTrackingUnitOfWorkTest extends UnitOfWorkTestBase {
+
+    @BeforeEach
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+    }
+
+    @Override
+    protected AbstractUnitOfWork initUnitOfWork() {
+        return new DirtyFieldTrackingUnitOfWork(serverSessionStub, new Configuration());
+    }
+
+    @Test
+    void registerExistingObjectAttachesPersistenceContextToClone() {
+        defaultLoadStateDescriptor(entityA);
+        final Object clone = uow.registerExistingObject(entityA, descriptor);
+        final Manageable manageable = assertInstanceOf(Manageable.class, clone);
+        assertSame(uow, manageable.getPersistenceContext());
+        assertNull(manageable.getDirtyFields());
+    }
+
+    @Test
+    void setterCallMarksAttributeAsDirty() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+
+        assertTrue(((Manageable) clone).getDirtyFields().cardinality() > 0);
+    }
+
+    @Test
+    void commitMergesOnlyAttributesModifiedThroughSetters() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        uow.commit();
+
+        verify(storageMock).merge(clone, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(storageMock, never()).merge(any(), eq(metamodelMocks.forOwlClassA().typesSpec()), any());
+    }
+
+    @Test
+    void commitDoesNotCompareInstancesWhichWereNotModifiedThroughSettersOrWrappers() throws Exception {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        // Direct field write bypasses dirty tracking
+        final Field strAttField = OWLClassA.getStrAttField();
+        strAttField.setAccessible(true);
+        strAttField.set(clone, "new string value");
+        uow.commit();
+
+        verify(storageMock, never()).merge(any(), any(), any());
+    }
+
+    @Test
+    void commitMergesCollectionModifiedThroughIndirectWrapper() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        assertInstanceOf(ChangeTrackingIndirectSet.class, clone.getTypes());
+        clone.getTypes().add(Generators.createIndividualIdentifier().toString());
+        uow.commit();
+
+        verify(storageMock).merge(clone, metamodelMocks.forOwlClassA().typesSpec(), descriptor);
+        verify(storageMock, never()).merge(any(), eq(metamodelMocks.forOwlClassA().stringAttribute()), any());
+    }
+
+    @Test
+    void commitDetachesClonesAndResetsTheirDirtyFields() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        uow.commit();
+
+        assertNull(((Manageable) clone).getPersistenceContext());
+        assertNull(((Manageable) clone).getDirtyFields());
+    }
+}
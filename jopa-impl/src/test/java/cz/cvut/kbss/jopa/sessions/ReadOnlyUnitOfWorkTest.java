@@ -4,12 +4,16 @@ import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassB;
 import cz.cvut.kbss.jopa.environment.OWLClassD;
 import cz.cvut.kbss.jopa.environment.OWLClassL;
+import cz.cvut.kbss.jopa.environment.OWLClassM;
 import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.exceptions.AttributeModificationForbiddenException;
 import cz.cvut.kbss.jopa.model.EntityState;
 import cz.cvut.kbss.jopa.model.LoadState;
+import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.lifecycle.PostLoadInvoker;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingListProxy;
@@ -17,10 +21,13 @@ import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingSetProxy;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxy;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
+import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
+import cz.cvut.kbss.jopa.sessions.cache.SealedView;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.AxiomBasedLoadingParameters;
+import cz.cvut.kbss.jopa.sessions.util.CloneConfiguration;
 import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -62,8 +69,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -723,4 +732,110 @@ class ReadOnlyUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
         verify(storageMock).loadFromAxioms(new AxiomBasedLoadingParameters<>(OWLClassA.class, descriptor, true, axioms));
         assertSame(entityA, result);
     }
+
+    @Test
+    void registerExistingObjectRegistersSealedCopyOfFullyLoadedCachedInstanceWithoutCloning() throws Exception {
+        final OWLClassB cached = cachedInstanceOfB();
+        defaultLoadStateDescriptor(cached);
+
+        final Object result = uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+        assertNotSame(cached, result);
+        assertEquals(cached.getUri(), ((OWLClassB) result).getUri());
+        assertEquals(cached.getProperties(), ((OWLClassB) result).getProperties());
+        assertTrue(uow.isObjectManaged(result));
+        assertTrue(((Manageable) result).isSharedReadOnlyInstance());
+        verify(cloneBuilder, never()).buildClone(ArgumentMatchers.any(), ArgumentMatchers.any(CloneConfiguration.class));
+    }
+
+    private OWLClassB cachedInstanceOfB() throws Exception {
+        final OWLClassB instance = metamodelMock.entity(OWLClassB.class).getInstantiableJavaType()
+                                                .getDeclaredConstructor().newInstance();
+        instance.setUri(entityB.getUri());
+        instance.setStringAttribute("stringAttribute");
+        instance.setProperties(Generators.generateStringProperties());
+        final CacheManager cacheMock = uow.getLiveObjectCache();
+        doReturn(instance).when(cacheMock).get(OWLClassB.class, instance.getUri(), descriptor);
+        return instance;
+    }
+
+    @Test
+    void modificationOfSharedInstanceFails() throws Exception {
+        final OWLClassB cached = cachedInstanceOfB();
+        defaultLoadStateDescriptor(cached);
+        final OWLClassB result = (OWLClassB) uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+
+        assertThrows(AttributeModificationForbiddenException.class, () -> result.setStringAttribute("updated"));
+        assertEquals(cached.getStringAttribute(), result.getStringAttribute());
+        assertThrows(UnsupportedOperationException.class, () -> result.getProperties().clear());
+        final Set<String> values = result.getProperties().values().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> values.add("value"));
+    }
+
+    @Test
+    void registerExistingObjectDoesNotModifySharedCachedInstance() throws Exception {
+        final OWLClassB cached = cachedInstanceOfB();
+        final Map<String, Set<String>> cachedProperties = cached.getProperties();
+        defaultLoadStateDescriptor(cached);
+        uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+
+        assertFalse(((Manageable) cached).isSharedReadOnlyInstance());
+        assertSame(cachedProperties, cached.getProperties());
+        // Merging changes into the cached instance (as done on commit of a read-write transaction) still works
+        cached.getProperties().clear();
+        cached.setStringAttribute("updated");
+        assertEquals("updated", cached.getStringAttribute());
+    }
+
+    @Test
+    void registerExistingObjectClonesCachedInstanceWhichIsNotFullyLoaded() throws Exception {
+        final OWLClassB cached = cachedInstanceOfB();
+        uow.getLoadStateRegistry().put(cached, LoadStateDescriptorFactory.createAllUnknown(cached, (EntityType<? super Object>) (EntityType<?>) metamodelMock.entity(cached.getClass())));
+
+        uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+        assertFalse(((Manageable) cached).isSharedReadOnlyInstance());
+        verify(cloneBuilder).buildClone(ArgumentMatchers.eq(cached), ArgumentMatchers.any(CloneConfiguration.class));
+    }
+
+    @Test
+    void registerExistingObjectSharesSealedViewAndLoadStateAcrossReadOnlyPersistenceContexts() throws Exception {
+        final OWLClassB cached = cachedInstanceOfB();
+        defaultLoadStateDescriptor(cached);
+        final Object result = uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+
+        final ReadOnlyUnitOfWork other = new ReadOnlyUnitOfWork(serverSessionStub, new Configuration());
+        final Object otherResult = other.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+        assertSame(result, otherResult);
+        assertTrue(other.isObjectManaged(otherResult));
+        assertSame(uow.getLoadStateRegistry().get(result), other.getLoadStateRegistry().get(otherResult));
+    }
+
+    @Test
+    void registerExistingObjectSealsNewViewAfterChangesAreMergedIntoCachedInstance() throws Exception {
+        final OWLClassB cached = cachedInstanceOfB();
+        defaultLoadStateDescriptor(cached);
+        final OWLClassB result = (OWLClassB) uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+        cached.setStringAttribute("updated");
+        SealedView.invalidate(cached);
+
+        final ReadOnlyUnitOfWork other = new ReadOnlyUnitOfWork(serverSessionStub, new Configuration());
+        other.getLoadStateRegistry().put(cached, uow.getLoadStateRegistry().get(cached));
+        final OWLClassB otherResult = (OWLClassB) other.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+        assertNotSame(result, otherResult);
+        assertEquals("updated", otherResult.getStringAttribute());
+        assertEquals("stringAttribute", result.getStringAttribute());
+    }
+
+    @Test
+    void registerExistingObjectClonesCachedInstanceWithMutableAttributeValue() throws Exception {
+        final OWLClassM cached = metamodelMock.entity(OWLClassM.class).getInstantiableJavaType()
+                                              .getDeclaredConstructor().newInstance();
+        cached.initializeTestValues(true);
+        defaultLoadStateDescriptor(cached);
+        final CacheManager cacheMock = uow.getLiveObjectCache();
+        doReturn(cached).when(cacheMock).get(eq(OWLClassM.class), ArgumentMatchers.any(), eq(descriptor));
+
+        final Object result = uow.registerExistingObject(cached, new CloneRegistrationDescriptor(descriptor));
+        assertFalse(((Manageable) result).isSharedReadOnlyInstance());
+        verify(cloneBuilder).buildClone(ArgumentMatchers.eq(cached), ArgumentMatchers.any(CloneConfiguration.class));
+    }
 }
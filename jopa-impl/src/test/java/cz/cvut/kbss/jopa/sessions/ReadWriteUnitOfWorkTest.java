@@ -15,6 +15,7 @@ import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.model.EntityState;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MultilingualString;
+import cz.cvut.kbss.jopa.model.annotations.GenerationType;
 import cz.cvut.kbss.jopa.model.annotations.ParticipationConstraint;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
@@ -146,6 +147,17 @@ abstract class ReadWriteUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
         verify(storageMock).generateIdentifier(metamodelMocks.forOwlClassE().entityType());
     }
 
+    @Test
+    void registerNewObjectDoesNotCheckStorageForIdentifierGeneratedByCheckFreeStrategy() {
+        when(metamodelMocks.forOwlClassE().identifier().getGenerationType()).thenReturn(GenerationType.UUID);
+        final OWLClassE entity = new OWLClassE();
+        final URI id = Generators.createIndividualIdentifier();
+        when(storageMock.generateIdentifier(any(EntityType.class))).thenReturn(id);
+        uow.registerNewObject(entity, descriptor);
+        assertEquals(id, entity.getUri());
+        verify(storageMock, never()).contains(any(), any(), any());
+    }
+
     @Test
     void readNewlyRegisteredObjectReturnsIt() {
         uow.registerNewObject(entityA, descriptor);
@@ -79,8 +79,10 @@ public class ServerSessionTest {
     static Stream<Arguments> unitOfWorkModeProvider() {
         return Stream.of(
                 Arguments.of(JOPAPersistenceProperties.TRANSACTION_MODE, "read_only", CloningReadOnlyUnitOfWork.class),
+                Arguments.of(JOPAPersistenceProperties.TRANSACTION_MODE, "read_only_shared", ReadOnlyUnitOfWork.class),
                 Arguments.of(JOPAPersistenceProperties.CHANGE_TRACKING_MODE, "immediate", ChangeTrackingUnitOfWork.class),
                 Arguments.of(JOPAPersistenceProperties.CHANGE_TRACKING_MODE, "on_commit", OnCommitChangePropagatingUnitOfWork.class),
+                Arguments.of(JOPAPersistenceProperties.CHANGE_TRACKING_MODE, "dirty_fields", DirtyFieldTrackingUnitOfWork.class),
                 Arguments.of(JOPAPersistenceProperties.CHANGE_TRACKING_MODE, "invalid_mode", ChangeTrackingUnitOfWork.class),
                 Arguments.of("", "", ChangeTrackingUnitOfWork.class)
         );
@@ -441,6 +441,49 @@ public abstract class AbstractCacheManagerTest<T extends CacheManager> {
         assertTrue(manager.contains(URI.class, uri, new EntityDescriptor()));
     }
 
+    @Test
+    void getStatisticsReportsLookupsLoadsAndSizes() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptor(null)));
+        assertNotNull(manager.get(OWLClassA.class, testA.getUri(), descriptorOne));
+        assertNull(manager.get(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_TWO)));
+
+        final CacheStatistics result = manager.getStatistics();
+        assertEquals(1, result.hitCount());
+        assertEquals(1, result.missCount());
+        assertEquals(2, result.loadCount());
+        assertEquals(0.5, result.hitRatio());
+        assertEquals(2, result.size());
+        assertEquals(1L, result.sizeByContext().get(CONTEXT_ONE));
+        assertEquals(1L, result.sizeByContext().get(null));
+        assertEquals(1L, result.sizeByClass().get(OWLClassA.class));
+        assertEquals(1L, result.sizeByClass().get(OWLClassB.class));
+    }
+
+    @Test
+    void getStatisticsReportsEvictionsByCause() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        addAllToCache(listOfBs, manager);
+        manager.add(testB.getUri(), testB, descriptors(descriptor(CONTEXT_TWO)));
+        manager.add(testM.getKey(), testM, descriptors(descriptor(null)));
+        manager.setInferredClasses(Collections.singleton(OWLClassA.class));
+
+        manager.evictInferredObjects();
+        manager.evict(CONTEXT_TWO);
+        manager.evict(OWLClassM.class, testM.getKey(), null);
+        manager.evict(OWLClassB.class);
+
+        final CacheStatistics result = manager.getStatistics();
+        assertEquals(1, result.evictionCount(EvictionCause.INFERRED));
+        assertEquals(1, result.evictionCount(EvictionCause.CONTEXT));
+        assertEquals(1, result.evictionCount(EvictionCause.EXPLICIT));
+        assertEquals(listOfBs.size(), result.evictionCount(EvictionCause.CLASS));
+        assertEquals(listOfBs.size() + 3, result.evictionCount());
+        assertEquals(0, result.size());
+    }
+
     @Test
     void getLoadStateDescriptorReturnsLoadStateDescriptorAssociatedWithSpecifiedCacheEntry() {
         final Descriptor descriptor = descriptor(CONTEXT_ONE);
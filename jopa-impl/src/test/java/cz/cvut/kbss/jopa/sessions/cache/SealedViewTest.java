@@ -0,0 +1,131 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SealedViewTest {
+
+    @Test
+    void publishSetsViewOfCachedInstance() {
+        final CachedInstance cached = new CachedInstance();
+        final SealedView view = sealedView();
+
+        assertTrue(SealedView.publish(cached, SealedView.current(cached), view));
+        assertSame(view, SealedView.current(cached));
+    }
+
+    @Test
+    void publishDoesNotSetViewWhenCachedInstanceWasInvalidatedWhileBeingSealed() {
+        final CachedInstance cached = new CachedInstance();
+        final SealedView expected = SealedView.current(cached);
+        SealedView.invalidate(cached);
+
+        assertFalse(SealedView.publish(cached, expected, sealedView()));
+        final SealedView current = SealedView.current(cached);
+        assertFalse(current.isValid());
+        assertNull(current.getInstance());
+    }
+
+    @Test
+    void invalidateInvalidatesViewOfCachedInstanceAndViewsEmbeddingIt() {
+        final CachedInstance cached = new CachedInstance();
+        final SealedView view = sealedView();
+        SealedView.publish(cached, null, view);
+        final SealedView referrer = sealedView();
+        final SealedView transitiveReferrer = sealedView();
+        view.addDependent(referrer);
+        referrer.addDependent(transitiveReferrer);
+        // Reference cycle
+        transitiveReferrer.addDependent(referrer);
+
+        SealedView.invalidate(cached);
+        assertFalse(view.isValid());
+        assertFalse(referrer.isValid());
+        assertFalse(transitiveReferrer.isValid());
+        assertNotSame(view, SealedView.current(cached));
+    }
+
+    @Test
+    void addDependentInvalidatesDependentWhenViewIsAlreadyInvalid() {
+        final SealedView view = sealedView();
+        view.discard();
+        final SealedView referrer = sealedView();
+
+        view.addDependent(referrer);
+        assertFalse(referrer.isValid());
+    }
+
+    private static SealedView sealedView() {
+        return new SealedView(new Object(), mock(LoadStateDescriptor.class));
+    }
+
+    private static final class CachedInstance implements Manageable {
+
+        private SealedView sealedView;
+
+        @Override
+        public void setPersistenceContext(UnitOfWork uow) {
+        }
+
+        @Override
+        public UnitOfWork getPersistenceContext() {
+            return null;
+        }
+
+        @Override
+        public void setDirtyFields(BitSet dirtyFields) {
+        }
+
+        @Override
+        public BitSet getDirtyFields() {
+            return null;
+        }
+
+        @Override
+        public void setSharedReadOnlyInstance(boolean sharedReadOnly) {
+        }
+
+        @Override
+        public boolean isSharedReadOnlyInstance() {
+            return false;
+        }
+
+        @Override
+        public void setSealedView(SealedView sealedView) {
+            this.sealedView = sealedView;
+        }
+
+        @Override
+        public SealedView getSealedView() {
+            return sealedView;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedLruCacheManagerTest extends AbstractCacheManagerTest<StripedLruCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new StripedLruCacheManager();
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() throws Exception {
+        final Field entriesField = StripedLruCacheManager.class.getDeclaredField("instances");
+        entriesField.setAccessible(true);
+        final Map<?, ?> instances = (Map<?, ?>) entriesField.get(manager);
+        final Map<Object, Object> result = new IdentityHashMap<>();
+        for (Object key : instances.keySet()) {
+            final Field instanceField = key.getClass().getDeclaredField("instance");
+            instanceField.setAccessible(true);
+            result.put(instanceField.get(key), instances.get(key));
+        }
+        return result;
+    }
+
+    @Test
+    void initializationUsesDefaultCapacityWhenNoneIsConfigured() {
+        assertEquals(LruCacheManager.DEFAULT_CAPACITY, manager.getCapacity());
+    }
+
+    @Test
+    void initializationRoundsSegmentCountToPowerOfTwo() {
+        this.manager = new StripedLruCacheManager(Map.of(JOPAPersistenceProperties.CACHE_SEGMENTS, "12"));
+        assertEquals(8, manager.getSegmentCount());
+    }
+
+    @Test
+    void initializationWithInvalidSegmentCountUsesDefault() {
+        this.manager = new StripedLruCacheManager(Map.of(JOPAPersistenceProperties.CACHE_SEGMENTS, "-5"));
+        assertEquals(StripedLruCacheManager.DEFAULT_SEGMENTS, manager.getSegmentCount());
+    }
+
+    @Test
+    void addEvictsEntriesWhenCapacityIsExceeded() throws Exception {
+        final int capacity = 16;
+        this.manager = new StripedLruCacheManager(Map.of(JOPAPersistenceProperties.LRU_CACHE_CAPACITY,
+                Integer.toString(capacity), JOPAPersistenceProperties.CACHE_SEGMENTS, "1"));
+        final Descriptor descriptor = descriptor(null);
+        final List<OWLClassA> instances = new ArrayList<>();
+        for (int i = 0; i < capacity * 4; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            instances.add(a);
+            manager.add(a.getUri(), a, descriptors(descriptor));
+        }
+        assertThat(extractDescriptors().size(), lessThanOrEqualTo(capacity));
+        assertFalse(manager.contains(OWLClassA.class, instances.get(0).getUri(), descriptor));
+        final OWLClassA last = instances.get(instances.size() - 1);
+        assertTrue(manager.contains(OWLClassA.class, last.getUri(), descriptor));
+    }
+
+    @Test
+    void totalCapacityOfSegmentsDoesNotExceedConfiguredCapacity() throws Exception {
+        final int capacity = 100;
+        this.manager = new StripedLruCacheManager(Map.of(JOPAPersistenceProperties.LRU_CACHE_CAPACITY,
+                Integer.toString(capacity), JOPAPersistenceProperties.CACHE_SEGMENTS, "64"));
+        assertEquals(64, manager.getSegmentCount());
+        final Descriptor descriptor = descriptor(null);
+        for (int i = 0; i < capacity * 20; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            manager.add(a.getUri(), a, descriptors(descriptor));
+        }
+        assertThat(extractDescriptors().size(), lessThanOrEqualTo(capacity));
+    }
+
+    @Test
+    void evictionGivesRecentlyReadEntriesSecondChance() {
+        this.manager = new StripedLruCacheManager(Map.of(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "2",
+                JOPAPersistenceProperties.CACHE_SEGMENTS, "1"));
+        final Descriptor descriptor = descriptor(null);
+        final OWLClassA aOne = new OWLClassA(Generators.createIndividualIdentifier());
+        final OWLClassA aTwo = new OWLClassA(Generators.createIndividualIdentifier());
+        final OWLClassA aThree = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(aOne.getUri(), aOne, descriptors(descriptor));
+        manager.add(aTwo.getUri(), aTwo, descriptors(descriptor));
+        manager.get(OWLClassA.class, aOne.getUri(), descriptor);
+        manager.add(aThree.getUri(), aThree, descriptors(descriptor));
+
+        assertTrue(manager.contains(OWLClassA.class, aOne.getUri(), descriptor));
+        assertFalse(manager.contains(OWLClassA.class, aTwo.getUri(), descriptor));
+        assertTrue(manager.contains(OWLClassA.class, aThree.getUri(), descriptor));
+    }
+
+    @Test
+    void evictByContextRemovesContextIndex() throws Exception {
+        final URI ctx = evictByContext();
+        final Field indexField = StripedLruCacheManager.class.getDeclaredField("contextIndex");
+        indexField.setAccessible(true);
+        assertFalse(((Map<?, ?>) indexField.get(manager)).containsKey(ctx));
+    }
+
+    @Test
+    void evictByClassRemovesClassIndex() throws Exception {
+        final Class<?> cls = evictByClass();
+        final Field indexField = StripedLruCacheManager.class.getDeclaredField("classIndex");
+        indexField.setAccessible(true);
+        assertFalse(((Map<?, ?>) indexField.get(manager)).containsKey(cls));
+    }
+
+    @Test
+    void concurrentAccessKeepsCacheWithinCapacity() throws Exception {
+        final int capacity = 128;
+        this.manager = new StripedLruCacheManager(Map.of(JOPAPersistenceProperties.LRU_CACHE_CAPACITY,
+                Integer.toString(capacity), JOPAPersistenceProperties.CACHE_SEGMENTS, "4"));
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+                        manager.add(a.getUri(), a, descriptors(descriptor));
+                        manager.get(OWLClassA.class, a.getUri(), descriptor);
+                        if (i % 100 == 0) {
+                            manager.evict(CONTEXT_TWO);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(extractDescriptors().size(), lessThanOrEqualTo(capacity));
+    }
+}
@@ -17,8 +17,11 @@
  */
 package cz.cvut.kbss.jopa.sessions.cache;
 
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,20 +30,34 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManager> {
 
+    private final AtomicLong currentTime = new AtomicLong(System.currentTimeMillis());
+
     @BeforeEach
     public void setUp() throws Exception {
         super.setUp();
         this.manager = new TtlCacheManager(Collections.emptyMap());
     }
 
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    private void replaceManager(TtlCacheManager newManager) {
+        manager.close();
+        this.manager = newManager;
+    }
+
     @Test
     public void testConstructorNumberInvalid() throws Exception {
         final Map<String, String> m = new HashMap<>();
@@ -55,6 +72,7 @@ public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManage
         final long expected = defaultTtlField.getLong(null);
         final long actual = ttlField.getLong(man);
         assertEquals(expected, actual);
+        man.close();
     }
 
     @Test
@@ -72,6 +90,7 @@ public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManage
         final long expected = defaultSweepRateField.getLong(null);
         final long actual = sweepRateField.getLong(man);
         assertEquals(expected, actual);
+        man.close();
     }
 
     @Test
@@ -108,11 +127,46 @@ public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManage
         assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
     }
 
+    @Test
+    void expiredEntryIsNotReturnedBeforeBeingSwept() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "60");
+        replaceManager(new TtlCacheManager(props, currentTime::get));
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptors(descriptor));
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptor));
+        currentTime.addAndGet(1500);
+        assertFalse(manager.contains(testA.getClass(), testA.getUri(), descriptor));
+        assertNull(manager.get(testA.getClass(), testA.getUri(), descriptor));
+        // Not swept yet
+        assertTrue(extractDescriptors().containsKey(testA));
+    }
+
+    @Test
+    void sweeperRemovesExpiredEntriesAndKeepsRefreshedEntriesOfSameContext() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "2");
+        replaceManager(new TtlCacheManager(props, currentTime::get));
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        final OWLClassA anotherA = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(testA.getUri(), testA, descriptors(descriptor));
+        manager.add(anotherA.getUri(), anotherA, descriptors(descriptor));
+        for (int i = 0; i < 10; i++) {
+            currentTime.addAndGet(500);
+            assertNotNull(manager.get(OWLClassA.class, testA.getUri(), descriptor));
+            manager.sweep();
+        }
+        assertTrue(extractDescriptors().containsKey(testA));
+        assertFalse(extractDescriptors().containsKey(anotherA));
+    }
+
     private void initSweepableManager() {
         final Map<String, String> props = new HashMap<>();
         props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
         props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "2");
-        this.manager = new TtlCacheManager(props);
+        replaceManager(new TtlCacheManager(props));
     }
 
     @Test
@@ -0,0 +1,101 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.util;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyLoadingBatchRegistryTest {
+
+    private final LazyLoadingBatchRegistry sut = new LazyLoadingBatchRegistry();
+
+    @Test
+    void getBatchReturnsFollowingSiblingsUpToBatchSize() {
+        final LazyLoadingBatchRegistry.Batch batch = new LazyLoadingBatchRegistry.Batch(3);
+        final List<OWLClassA> instances = register(batch, 5);
+
+        final List<OWLClassA> result = sut.getBatch(instances.get(1), o -> true);
+        assertEquals(List.of(instances.get(1), instances.get(2), instances.get(3)), result);
+    }
+
+    @Test
+    void getBatchUsesIdentityOfInstances() {
+        final LazyLoadingBatchRegistry.Batch batch = new LazyLoadingBatchRegistry.Batch(2);
+        final List<OWLClassA> instances = register(batch, 2);
+        final OWLClassA equalInstance = new OWLClassA(instances.get(0).getUri());
+
+        assertFalse(sut.contains(equalInstance));
+        assertEquals(List.of(equalInstance), sut.getBatch(equalInstance, o -> true));
+    }
+
+    @Test
+    void removeSkipsRemovedInstanceInBatch() {
+        final LazyLoadingBatchRegistry.Batch batch = new LazyLoadingBatchRegistry.Batch(3);
+        final List<OWLClassA> instances = register(batch, 4);
+
+        sut.remove(instances.get(1));
+        assertFalse(sut.contains(instances.get(1)));
+        final List<OWLClassA> result = sut.getBatch(instances.get(0), o -> true);
+        assertEquals(List.of(instances.get(0), instances.get(2), instances.get(3)), result);
+    }
+
+    @Test
+    void removeCompactsSlotsOfRemovedInstances() {
+        final LazyLoadingBatchRegistry.Batch batch = new LazyLoadingBatchRegistry.Batch(2);
+        final List<OWLClassA> instances = register(batch, 100);
+
+        for (int i = 0; i < 90; i++) {
+            sut.remove(instances.get(i));
+        }
+        assertThat(LazyLoadingBatchRegistry.slotCount(batch), lessThanOrEqualTo(20));
+        final List<OWLClassA> result = sut.getBatch(instances.get(95), o -> true);
+        assertEquals(2, result.size());
+        assertSame(instances.get(96), result.get(1));
+        assertTrue(sut.contains(instances.get(99)));
+    }
+
+    @Test
+    void removingAllInstancesReleasesBatchSlots() {
+        final LazyLoadingBatchRegistry.Batch batch = new LazyLoadingBatchRegistry.Batch(2);
+        final List<OWLClassA> instances = register(batch, 10);
+
+        instances.forEach(sut::remove);
+        assertEquals(0, LazyLoadingBatchRegistry.slotCount(batch));
+    }
+
+    private List<OWLClassA> register(LazyLoadingBatchRegistry.Batch batch, int count) {
+        final List<OWLClassA> instances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            instances.add(a);
+            sut.register(a, batch);
+        }
+        return instances;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.utils;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldAccessorTest {
+
+    @Test
+    void ofReturnsSameAccessorForSameField() throws Exception {
+        final Field field = OWLClassA.getStrAttField();
+        assertSame(FieldAccessor.of(field), FieldAccessor.of(OWLClassA.class.getDeclaredField(field.getName())));
+    }
+
+    @Test
+    void getAndSetAccessPrivateFieldValue() throws Exception {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        final FieldAccessor sut = FieldAccessor.of(OWLClassA.getStrAttField());
+
+        sut.set(instance, "test");
+        assertEquals("test", instance.getStringAttribute());
+        assertEquals("test", sut.get(instance));
+        sut.set(instance, null);
+        assertNull(sut.get(instance));
+    }
+
+    @Test
+    void getAndSetSupportPrimitiveFields() throws Exception {
+        final WithPrimitive instance = new WithPrimitive();
+        final FieldAccessor sut = FieldAccessor.of(WithPrimitive.class.getDeclaredField("count"));
+
+        sut.set(instance, 117);
+        assertEquals(117, instance.count);
+        assertEquals(117, sut.get(instance));
+    }
+
+    @Test
+    void setThrowsIllegalArgumentExceptionWhenNullIsSetOnPrimitiveField() throws Exception {
+        final FieldAccessor sut = FieldAccessor.of(WithPrimitive.class.getDeclaredField("count"));
+        assertThrows(IllegalArgumentException.class, () -> sut.set(new WithPrimitive(), null));
+    }
+
+    @Test
+    void setThrowsIllegalArgumentExceptionWhenValueIsNotAssignableToField() throws Exception {
+        final FieldAccessor sut = FieldAccessor.of(OWLClassA.getStrAttField());
+        assertThrows(IllegalArgumentException.class,
+                     () -> sut.set(new OWLClassA(Generators.createIndividualIdentifier()), 117));
+    }
+
+    @Test
+    void getThrowsIllegalArgumentExceptionWhenInstanceIsOfDifferentClass() throws Exception {
+        final FieldAccessor sut = FieldAccessor.of(OWLClassA.getStrAttField());
+        assertThrows(IllegalArgumentException.class, () -> sut.get(new WithPrimitive()));
+    }
+
+    @Test
+    void getAndSetSupportStaticFields() throws Exception {
+        final FieldAccessor sut = FieldAccessor.of(WithPrimitive.class.getDeclaredField("shared"));
+        sut.set(null, "test");
+        assertEquals("test", sut.get(null));
+    }
+
+    private static class WithPrimitive {
+
+        private static String shared;
+
+        private int count;
+    }
+}
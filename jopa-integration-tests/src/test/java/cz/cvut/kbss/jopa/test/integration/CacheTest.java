@@ -91,7 +91,7 @@ class CacheTest extends IntegrationTestBase {
         when(resultSetIteratorMock.hasNext()).thenReturn(true).thenReturn(false);
         when(resultRowMock.isBound(0)).thenReturn(true);
         when(resultRowMock.getString(0)).thenReturn(instanceUri.toString());
-        when(connectionMock.find(any())).thenReturn(axiomsForA(instanceUri));
+        when(connectionMock.find(any(AxiomDescriptor.class))).thenReturn(axiomsForA(instanceUri));
         final OWLClassA firstA = em.find(OWLClassA.class, instanceUri);
         assertNotNull(firstA);
         try (EntityManager emTwo = emf.createEntityManager()) {
@@ -118,7 +118,7 @@ class CacheTest extends IntegrationTestBase {
         final Collection<Axiom<?>> axioms = axiomsForA(id);
         axioms.add(new AxiomImpl<>(NamedResource.create(id), Assertion.createClassAssertion(false),
                                    new Value<>(NamedResource.create(Vocabulary.C_OWL_CLASS_Q))));
-        when(connectionMock.find(any())).thenReturn(axioms);
+        when(connectionMock.find(any(AxiomDescriptor.class))).thenReturn(axioms);
         final OWLClassA a = em.find(OWLClassA.class, id);
         assertNotNull(a);
         final CacheManager cacheManager = (CacheManager) em.getEntityManagerFactory().getCache();
@@ -134,7 +134,7 @@ class CacheTest extends IntegrationTestBase {
         final Collection<Axiom<?>> axioms = Collections.singleton(
                 new AxiomImpl<>(NamedResource.create(uri), Assertion.createClassAssertion(false),
                                 new Value<>(NamedResource.create(Vocabulary.C_OWL_CLASS_F))));
-        when(connectionMock.find(any())).thenReturn(axioms);
+        when(connectionMock.find(any(AxiomDescriptor.class))).thenReturn(axioms);
         final Descriptor descriptor = em.createDescriptor(OWLClassF.class);
         em.getTransaction().begin();
         final OWLClassF entityF = em.find(OWLClassF.class, uri);
@@ -0,0 +1,97 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.maven;
+
+import cz.cvut.kbss.jopa.model.metamodel.gen.ClassPregenerator;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputes the persistence class index and entity subclasses otherwise generated by JOPA on persistence unit
+ * startup.
+ * <p>
+ * The results are written among compiled classes, so that they are packaged into the artifact. They are used at
+ * runtime when {@code cz.cvut.kbss.jopa.precomputedMetamodel} is set to {@code true}.
+ */
+@Mojo(
+        requiresDependencyResolution = ResolutionScope.COMPILE,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        name = "precompute-metamodel"
+)
+public class PrecomputeMetamodelMojo extends AbstractMojo {
+
+    private static final String SCAN_PACKAGE_PARAM = "scan-package";
+    private static final String OUTPUT_DIRECTORY_PARAM = "output-directory";
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+    @Parameter(name = SCAN_PACKAGE_PARAM, required = true)
+    private String scanPackage;
+    @Parameter(name = OUTPUT_DIRECTORY_PARAM, defaultValue = "${project.build.outputDirectory}")
+    private String outputDirectory;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        printParameterValues();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        try (final URLClassLoader classLoader = new URLClassLoader(getClassPathUrls(), getClass().getClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+            new ClassPregenerator().pregenerate(Arrays.asList(scanPackage.split(",")), Path.of(outputDirectory));
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to precompute metamodel.", e);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        getLog().info("Metamodel precomputed.");
+        getLog().info("------------------------------------------------------------------------");
+    }
+
+    private URL[] getClassPathUrls() throws MojoExecutionException {
+        try {
+            final List<URL> urls = new ArrayList<>();
+            for (Object element : project.getCompileClasspathElements()) {
+                urls.add(new File(element.toString()).toURI().toURL());
+            }
+            return urls.toArray(new URL[0]);
+        } catch (DependencyResolutionRequiredException | MalformedURLException e) {
+            throw new MojoExecutionException("Unable to resolve project classpath.", e);
+        }
+    }
+
+    private void printParameterValues() {
+        Utils.logParameterValue(SCAN_PACKAGE_PARAM, scanPackage, getLog());
+        Utils.logParameterValue(OUTPUT_DIRECTORY_PARAM, outputDirectory, getLog());
+    }
+}
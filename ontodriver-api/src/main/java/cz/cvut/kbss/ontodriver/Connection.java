@@ -24,6 +24,7 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -178,6 +179,31 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     Collection<Axiom<?>> find(AxiomDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Finds axioms of multiple subjects at once.
+     * <p>
+     * The result is the same as if {@link #find(AxiomDescriptor)} was called for each of the descriptors, but
+     * implementations are expected to load the data in as few requests to the underlying repository as possible. Axioms
+     * of all the subjects are returned in a single collection, they can be distinguished by their subject. Drivers whose
+     * storage is accessed in-process, so that each lookup is only an index access without a repository round trip, may
+     * resolve the descriptors one by one.
+     * <p>
+     * The default implementation calls {@link #find(AxiomDescriptor)} for each descriptor.
+     *
+     * @param descriptors Loading descriptors, each specifies subject, properties to load and possible contexts to work
+     *                    with
+     * @return Collection of axioms matching the specified criteria
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default Collection<Axiom<?>> find(Collection<AxiomDescriptor> descriptors) throws OntoDriverException {
+        final Collection<Axiom<?>> result = new ArrayList<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.addAll(find(descriptor));
+        }
+        return result;
+    }
+
     /**
      * Persists new individual and its property values specified by the descriptor.
      *
@@ -48,15 +48,30 @@ public class IdentifierUtils {
      * @return Generated identifier
      */
     public static URI generateIdentifier(URI classUri) {
+        return createIdentifier(classUri, Integer.toString(RANDOM.nextInt()));
+    }
+
+    /**
+     * Creates an identifier based on the specified class URI and instance discriminator.
+     * <p>
+     * The identifier has the same structure as identifiers produced by {@link #generateIdentifier(URI)}, but contains
+     * the specified discriminator instead of a random integer.
+     *
+     * @param classUri      Class URI used as identifier base
+     * @param discriminator Value distinguishing the instance from other instances of the class
+     * @return Created identifier
+     */
+    public static URI createIdentifier(URI classUri, String discriminator) {
         Objects.requireNonNull(classUri);
+        Objects.requireNonNull(discriminator);
         if (classUri.getFragment() != null) {
-            return URI.create(classUri + "_instance" + RANDOM.nextInt());
+            return URI.create(classUri + "_instance" + discriminator);
         } else {
             String base = classUri.toString();
             if (base.endsWith("/")) {
-                return URI.create(base + "instance" + RANDOM.nextInt());
+                return URI.create(base + "instance" + discriminator);
             } else {
-                return URI.create(base + "/instance" + RANDOM.nextInt());
+                return URI.create(base + "/instance" + discriminator);
             }
         }
     }
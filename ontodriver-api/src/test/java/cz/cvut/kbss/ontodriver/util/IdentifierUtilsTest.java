@@ -23,6 +23,7 @@ import java.net.URI;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IdentifierUtilsTest {
 
@@ -48,4 +49,12 @@ class IdentifierUtilsTest {
         final URI result = IdentifierUtils.generateIdentifier(clsUri);
         assertThat(result.toString(), containsString("/instance"));
     }
+
+    @Test
+    void createIdentifierAppendsDiscriminatorToClassUri() {
+        final URI clsUri = URI.create("http://onto.fel.cvut.cz/ontologies/jopa#IdentifierUtilsTest");
+        assertEquals(URI.create(clsUri + "_instance0190a5b2"), IdentifierUtils.createIdentifier(clsUri, "0190a5b2"));
+        assertEquals(URI.create(URI_WITH_SLASH + "/instance0190a5b2"),
+                IdentifierUtils.createIdentifier(URI.create(URI_WITH_SLASH), "0190a5b2"));
+    }
 }
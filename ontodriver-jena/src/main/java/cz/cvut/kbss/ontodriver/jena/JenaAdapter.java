@@ -101,6 +101,11 @@ public class JenaAdapter implements Wrapper {
         return new MainAxiomLoader(connector, inferenceConnector).find(descriptor);
     }
 
+    Collection<Axiom<?>> find(Collection<AxiomDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        return new MainAxiomLoader(connector, inferenceConnector).find(descriptors);
+    }
+
     boolean contains(Axiom<?> axiom, Set<URI> contexts) {
         beginTransactionIfNotActive();
         return new MainAxiomLoader(connector, inferenceConnector).contains(axiom, contexts);
@@ -29,8 +29,10 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -93,6 +95,25 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * The descriptors are intentionally resolved one by one, within a single transaction and reusing the same loaders.
+     * All storage types supported by this driver (in-memory, file, TDB and TDB2 datasets) are accessed in-process, and
+     * a lookup of statements with a fixed subject is a direct index access without a request round trip. A combined
+     * lookup (e.g., a SPARQL query with a {@code VALUES} block of subjects) would be evaluated by the same index
+     * accesses, but with the additional cost of query parsing and planning, and inference would have to be handled
+     * separately anyway.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Matching axioms for all the descriptors
+     */
+    Collection<Axiom<?>> find(Collection<AxiomDescriptor> descriptors) {
+        final List<Axiom<?>> result = new ArrayList<>();
+        descriptors.forEach(d -> result.addAll(find(d)));
+        return result;
+    }
+
     private static void mapAssertions(AxiomDescriptor descriptor, Map<String, Assertion> asserted,
                                       Map<String, Assertion> inferred) {
         for (Assertion a : descriptor.getAssertions()) {
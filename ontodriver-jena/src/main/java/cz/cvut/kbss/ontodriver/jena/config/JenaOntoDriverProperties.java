@@ -107,6 +107,30 @@ public class JenaOntoDriverProperties {
      */
     public static final String JENA_TREAT_DEFAULT_GRAPH_AS_UNION = "cz.cvut.kbss.ontodriver.jena.default_graph_as_union";
 
+    /**
+     * Parameter specifying whether the {@link #FILE} storage should journal changes instead of rewriting the whole file
+     * on every commit.
+     * <p>
+     * When enabled, changes committed by each transaction are appended to a journal file next to the storage file. The
+     * journal is replayed when the storage is loaded and it is periodically compacted into the storage file in the
+     * background. Named graphs are supported as well.
+     * <p>
+     * {@code Boolean} value expected, default is false.
+     *
+     * @see #JENA_FILE_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final String JENA_FILE_JOURNAL = "cz.cvut.kbss.ontodriver.jena.file.journal";
+
+    /**
+     * Number of journaled statement changes after which the journal is compacted into the storage file.
+     * <p>
+     * Relevant only when {@link #JENA_FILE_JOURNAL} is enabled.
+     *
+     * @see Constants#DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final String JENA_FILE_JOURNAL_COMPACTION_THRESHOLD =
+            "cz.cvut.kbss.ontodriver.jena.file.journal.compactionThreshold";
+
     private JenaOntoDriverProperties() {
         throw new AssertionError();
     }
@@ -0,0 +1,280 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Quad;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only journal of changes committed to a {@link FileStorage}.
+ * <p>
+ * Changes made to the storage dataset are recorded by this journal (they are reported by a
+ * {@link JournalingDatasetGraph} wrapping the dataset) and on commit, they are appended to the journal file as a
+ * block:
+ * <pre>
+ * TX
+ * A &lt;s&gt; &lt;p&gt; &lt;o&gt; &lt;g&gt; .
+ * D &lt;s&gt; &lt;p&gt; &lt;o&gt; .
+ * TC
+ * </pre>
+ * {@code A} marks an added statement, {@code D} a removed statement. Statements are written in the N-Quads syntax,
+ * statements in the default graph have no graph term. Blocks not terminated by {@code TC} (e.g., because the
+ * application crashed when writing them) are ignored on replay. Statements which compaction could not write into the
+ * storage file are kept in a block starting with {@code TR} instead of {@code TX}.
+ * <p>
+ * Blank node labels are not stable across reloads of the storage, so changes involving blank nodes cannot be
+ * journaled. The storage has to write out its whole content instead.
+ */
+class ChangeJournal {
+
+    static final String FILE_SUFFIX = ".journal";
+
+    private static final String TX_BEGIN = "TX";
+    // Begins the block of statements retained in the journal by compaction
+    private static final String RETAINED_BEGIN = "TR";
+    private static final String TX_COMMIT = "TC";
+    private static final char ADD = 'A';
+    private static final char DELETE = 'D';
+
+    private final File file;
+
+    private final List<String> pendingChanges = new ArrayList<>();
+    private boolean pendingBlankNodes;
+
+    // Changes appended since the last compaction, statements retained by the compaction are not counted
+    private long journaledChanges;
+
+    ChangeJournal(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Records addition of the specified statement.
+     *
+     * @param g Graph, {@code null} or default graph node for the default graph
+     * @param s Subject
+     * @param p Predicate
+     * @param o Object
+     */
+    void recordAdd(Node g, Node s, Node p, Node o) {
+        record(ADD, g, s, p, o);
+    }
+
+    /**
+     * Records removal of the specified statement.
+     *
+     * @param g Graph, {@code null} or default graph node for the default graph
+     * @param s Subject
+     * @param p Predicate
+     * @param o Object
+     */
+    void recordDelete(Node g, Node s, Node p, Node o) {
+        record(DELETE, g, s, p, o);
+    }
+
+    private void record(char marker, Node g, Node s, Node p, Node o) {
+        this.pendingBlankNodes |= s.isBlank() || o.isBlank() || (g != null && g.isBlank());
+        pendingChanges.add(format(marker, g, s, p, o));
+    }
+
+    private static String format(char marker, Node g, Node s, Node p, Node o) {
+        final StringBuilder sb = new StringBuilder().append(marker).append(' ')
+                                                    .append(NodeFmtLib.strNT(s)).append(' ')
+                                                    .append(NodeFmtLib.strNT(p)).append(' ')
+                                                    .append(NodeFmtLib.strNT(o));
+        if (g != null && !Quad.isDefaultGraph(g)) {
+            sb.append(' ').append(NodeFmtLib.strNT(g));
+        }
+        return sb.append(" .").toString();
+    }
+
+    /**
+     * Checks whether there are any recorded changes which have not been written to the journal yet.
+     *
+     * @return {@code true} if there are pending changes, {@code false} otherwise
+     */
+    boolean hasPendingChanges() {
+        return !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Checks whether any of the pending changes involves a blank node and thus cannot be journaled.
+     *
+     * @return {@code true} if pending changes contain a blank node, {@code false} otherwise
+     */
+    boolean pendingChangesContainBlankNodes() {
+        return pendingBlankNodes;
+    }
+
+    /**
+     * Discards pending changes, e.g., because the transaction in which they were made has been rolled back.
+     */
+    void discardPending() {
+        pendingChanges.clear();
+        this.pendingBlankNodes = false;
+    }
+
+    /**
+     * Appends pending changes to the journal file as one block.
+     *
+     * @throws IOException When unable to write to the journal file
+     */
+    synchronized void appendPending() throws IOException {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        try (final BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeBlock(out, pendingChanges);
+        }
+        this.journaledChanges += pendingChanges.size();
+        discardPending();
+    }
+
+    private static void writeBlock(BufferedWriter out, Collection<String> changes) throws IOException {
+        writeBlock(out, TX_BEGIN, changes);
+    }
+
+    private static void writeBlock(BufferedWriter out, String begin, Collection<String> changes) throws IOException {
+        out.write(begin);
+        out.newLine();
+        for (String change : changes) {
+            out.write(change);
+            out.newLine();
+        }
+        out.write(TX_COMMIT);
+        out.newLine();
+    }
+
+    /**
+     * Gets the number of statement changes appended to the journal file since it was last compacted.
+     * <p>
+     * Statements retained in the journal by the compaction are not counted, as compacting the journal again would not
+     * remove them.
+     *
+     * @return Number of journaled changes
+     */
+    synchronized long size() {
+        return journaledChanges;
+    }
+
+    /**
+     * Replays committed changes from the journal file into the specified dataset.
+     *
+     * @param target Dataset to apply the journaled changes to
+     * @throws IOException When unable to read the journal file
+     */
+    synchronized void replay(DatasetGraph target) throws IOException {
+        this.journaledChanges = 0;
+        if (!file.exists()) {
+            return;
+        }
+        final List<String> block = new ArrayList<>();
+        boolean inBlock = false;
+        boolean retainedBlock = false;
+        try (final BufferedReader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (TX_BEGIN.equals(line) || RETAINED_BEGIN.equals(line)) {
+                    block.clear();
+                    inBlock = true;
+                    retainedBlock = RETAINED_BEGIN.equals(line);
+                } else if (TX_COMMIT.equals(line)) {
+                    if (inBlock) {
+                        applyBlock(block, target);
+                        this.journaledChanges += retainedBlock ? 0 : block.size();
+                    }
+                    inBlock = false;
+                } else if (inBlock && !line.isBlank()) {
+                    block.add(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies changes of one block in their order, parsing consecutive changes of the same kind together.
+     */
+    private static void applyBlock(List<String> block, DatasetGraph target) {
+        final StringBuilder run = new StringBuilder();
+        char runMarker = 0;
+        for (String change : block) {
+            final char marker = change.charAt(0);
+            if (marker != runMarker && !run.isEmpty()) {
+                applyRun(runMarker, run.toString(), target);
+                run.setLength(0);
+            }
+            runMarker = marker;
+            run.append(change, 2, change.length()).append('\n');
+        }
+        if (!run.isEmpty()) {
+            applyRun(runMarker, run.toString(), target);
+        }
+    }
+
+    private static void applyRun(char marker, String quads, DatasetGraph target) {
+        final DatasetGraph parsed = DatasetGraphFactory.create();
+        RDFParser.create().fromString(quads).lang(Lang.NQUADS).parse(parsed);
+        parsed.find().forEachRemaining(q -> {
+            if (marker == ADD) {
+                target.add(q);
+            } else {
+                target.delete(q);
+            }
+        });
+    }
+
+    /**
+     * Replaces the content of the journal file with a single block adding the specified statements.
+     * <p>
+     * This is used after the storage file has been compacted, retained statements are those which could not be written
+     * into the storage file (e.g., statements in named graphs when the storage file format does not support them).
+     *
+     * @param retained Statements to keep in the journal, possibly empty
+     * @throws IOException When unable to write the journal file
+     */
+    synchronized void rewrite(Collection<Quad> retained) throws IOException {
+        final File tmp = new File(file.getPath() + ".tmp");
+        try (final BufferedWriter out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+            if (!retained.isEmpty()) {
+                writeBlock(out, RETAINED_BEGIN, retained.stream()
+                                        .map(q -> format(ADD, q.getGraph(), q.getSubject(), q.getPredicate(),
+                                                q.getObject())).toList());
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        this.journaledChanges = 0;
+    }
+}
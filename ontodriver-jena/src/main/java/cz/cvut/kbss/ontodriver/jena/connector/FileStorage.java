@@ -19,35 +19,75 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+import cz.cvut.kbss.ontodriver.jena.config.Constants;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.atlas.iterator.Iter;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.RiotNotFoundException;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.system.Txn;
 import org.apache.jena.util.FileUtils;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * File storage accessor.
  * <p>
- * Note that currently this accessor does not support working with datasets. Only single graph can be present in the
- * file.
+ * Note that unless journaling is enabled, this accessor does not support working with datasets. Only single graph can
+ * be present in the file.
+ * <p>
+ * When journaling is enabled (see {@link JenaConfigParam#FILE_JOURNAL}), commits do not rewrite the whole file.
+ * Instead, the committed changes are appended to a {@link ChangeJournal}, which is replayed when the storage is loaded
+ * and which is compacted into the storage file in the background once it grows over the configured threshold. Named
+ * graphs are written into the storage file if its format supports them, otherwise they are kept in the journal.
  */
 class FileStorage extends LocalStorage {
 
     private final String location;
 
+    private final ChangeJournal journal;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
     FileStorage(DriverConfiguration configuration) {
         super(configuration);
         this.location = configuration.getStorageProperties().getPhysicalURI().getSchemeSpecificPart();
+        if (configuration.is(JenaConfigParam.FILE_JOURNAL)) {
+            this.journal = new ChangeJournal(new File(location + ChangeJournal.FILE_SUFFIX));
+            this.compactionThreshold = configuration.getProperty(JenaConfigParam.FILE_JOURNAL_COMPACTION_THRESHOLD,
+                    Constants.DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD);
+            this.compactionExecutor = Executors.newSingleThreadExecutor(r -> {
+                final Thread t = new Thread(r, "jena-file-journal-compaction");
+                t.setDaemon(true);
+                return t;
+            });
+        } else {
+            this.journal = null;
+            this.compactionThreshold = 0;
+            this.compactionExecutor = null;
+        }
         initialize();
     }
 
@@ -64,10 +104,27 @@ class FileStorage extends LocalStorage {
     }
 
     private void initDataset() {
+        if (journal != null) {
+            initJournaledDataset();
+            return;
+        }
         final Model model = RDFDataMgr.loadModel(location);
         this.dataset = DatasetFactory.create(model);
     }
 
+    private void initJournaledDataset() {
+        final Dataset loaded = DatasetFactory.createTxnMem();
+        Txn.executeWrite(loaded, () -> {
+            RDFDataMgr.read(loaded, location);
+            try {
+                journal.replay(loaded.asDatasetGraph());
+            } catch (IOException e) {
+                throw new OntoDriverInitializationException("Unable to replay change journal of " + location, e);
+            }
+        });
+        this.dataset = DatasetFactory.wrap(new JournalingDatasetGraph(loaded.asDatasetGraph(), journal));
+    }
+
     private void tryCreatingFile() {
         final File file = new File(location);
         try {
@@ -82,6 +139,10 @@ class FileStorage extends LocalStorage {
 
     @Override
     public void writeChanges() throws JenaDriverException {
+        if (journal != null) {
+            writeJournaledChanges();
+            return;
+        }
         try (final BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(location))) {
             final String language = FileUtils.guessLang(location);
             RDFDataMgr.write(out, dataset.getDefaultModel(), RDFLanguages.nameToLang(language));
@@ -90,6 +151,78 @@ class FileStorage extends LocalStorage {
         }
     }
 
+    private void writeJournaledChanges() throws JenaDriverException {
+        if (!journal.hasPendingChanges()) {
+            return;
+        }
+        try {
+            if (journal.pendingChangesContainBlankNodes()) {
+                journal.discardPending();
+                compact();
+            } else {
+                journal.appendPending();
+                scheduleCompactionIfNecessary();
+            }
+        } catch (IOException e) {
+            throw new JenaDriverException("Unable to write out dataset changes.", e);
+        }
+    }
+
+    private void scheduleCompactionIfNecessary() {
+        if (journal.size() >= compactionThreshold && compactionScheduled.compareAndSet(false, true)) {
+            compactionExecutor.execute(this::compactInBackground);
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            // Write transaction waits for the currently running writer (if any) to commit, so that all changes in the
+            // journal are committed and no new ones are appended during compaction
+            final Dataset ds = this.dataset;
+            ds.begin(ReadWrite.WRITE);
+            try {
+                compact();
+            } finally {
+                ds.abort();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Unable to compact change journal of file storage {}.", location, e);
+        } finally {
+            compactionScheduled.set(false);
+        }
+    }
+
+    /**
+     * Writes the whole content of the dataset into the storage file and empties the journal.
+     * <p>
+     * Has to be called inside a transaction.
+     */
+    private void compact() throws IOException {
+        final Lang lang = RDFLanguages.nameToLang(FileUtils.guessLang(location));
+        final boolean quads = RDFLanguages.isQuads(lang);
+        final File target = new File(location);
+        final File tmp = new File(location + ".tmp");
+        try (final OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp))) {
+            if (quads) {
+                RDFDataMgr.write(out, dataset, lang);
+            } else {
+                RDFDataMgr.write(out, dataset.getDefaultModel(), lang);
+            }
+        }
+        Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        final List<Quad> retained = quads ? List.of() :
+                                    Iter.toList(dataset.asDatasetGraph().findNG(Node.ANY, Node.ANY, Node.ANY, Node.ANY));
+        journal.rewrite(retained);
+    }
+
+    @Override
+    public void rollback() {
+        super.rollback();
+        if (journal != null) {
+            journal.discardPending();
+        }
+    }
+
     /**
      * Reloads data from the underlying file.
      */
@@ -102,6 +235,34 @@ class FileStorage extends LocalStorage {
         initialize();
     }
 
+    @Override
+    public void close() {
+        if (journal != null) {
+            closeJournal();
+        }
+        super.close();
+    }
+
+    private void closeJournal() {
+        compactionExecutor.shutdown();
+        try {
+            if (!compactionExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.warn("Compaction of change journal of file storage {} did not finish in time.", location);
+            }
+            if (journal.size() > 0) {
+                Txn.executeRead(dataset, () -> {
+                    try {
+                        compact();
+                    } catch (IOException e) {
+                        LOG.error("Unable to compact change journal of file storage {}.", location, e);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     public void remove(StmtIterator iterator, String context) {
         // For FileStorage we can't iterate through the statement and call remove on them because
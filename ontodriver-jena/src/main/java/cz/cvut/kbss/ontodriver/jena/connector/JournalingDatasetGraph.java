@@ -0,0 +1,110 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.atlas.iterator.Iter;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphWrapper;
+import org.apache.jena.sparql.core.GraphView;
+import org.apache.jena.sparql.core.Quad;
+
+import java.util.List;
+
+/**
+ * Dataset graph reporting statements added to and removed from the wrapped dataset to a {@link ChangeJournal}.
+ * <p>
+ * Only actual changes are reported, i.e., adding an existing statement or removing a non-existent one is not recorded.
+ * Graphs obtained from this dataset are views of it, so that changes made through them (e.g., via the Model API) are
+ * reported as well.
+ */
+class JournalingDatasetGraph extends DatasetGraphWrapper {
+
+    private final ChangeJournal journal;
+
+    JournalingDatasetGraph(DatasetGraph wrapped, ChangeJournal journal) {
+        super(wrapped);
+        this.journal = journal;
+    }
+
+    @Override
+    public Graph getDefaultGraph() {
+        return GraphView.createDefaultGraph(this);
+    }
+
+    @Override
+    public Graph getUnionGraph() {
+        return GraphView.createUnionGraph(this);
+    }
+
+    @Override
+    public Graph getGraph(Node graphNode) {
+        if (Quad.isDefaultGraph(graphNode)) {
+            return getDefaultGraph();
+        }
+        return Quad.isUnionGraph(graphNode) ? getUnionGraph() : GraphView.createNamedGraph(this, graphNode);
+    }
+
+    @Override
+    public void add(Quad quad) {
+        add(quad.getGraph(), quad.getSubject(), quad.getPredicate(), quad.getObject());
+    }
+
+    @Override
+    public void add(Node g, Node s, Node p, Node o) {
+        if (!getWrapped().contains(g, s, p, o)) {
+            journal.recordAdd(g, s, p, o);
+        }
+        getWrapped().add(g, s, p, o);
+    }
+
+    @Override
+    public void delete(Quad quad) {
+        delete(quad.getGraph(), quad.getSubject(), quad.getPredicate(), quad.getObject());
+    }
+
+    @Override
+    public void delete(Node g, Node s, Node p, Node o) {
+        if (getWrapped().contains(g, s, p, o)) {
+            journal.recordDelete(g, s, p, o);
+        }
+        getWrapped().delete(g, s, p, o);
+    }
+
+    @Override
+    public void deleteAny(Node g, Node s, Node p, Node o) {
+        final List<Quad> toDelete = Iter.toList(getWrapped().find(g, s, p, o));
+        toDelete.forEach(this::delete);
+    }
+
+    @Override
+    public void addGraph(Node graphName, Graph graph) {
+        graph.find().forEachRemaining(t -> add(graphName, t.getSubject(), t.getPredicate(), t.getObject()));
+    }
+
+    @Override
+    public void removeGraph(Node graphName) {
+        deleteAny(graphName, Node.ANY, Node.ANY, Node.ANY);
+    }
+
+    @Override
+    public void clear() {
+        deleteAny(Node.ANY, Node.ANY, Node.ANY, Node.ANY);
+    }
+}
@@ -203,6 +203,28 @@ class JenaAdapterTest {
         verify(connectorMock).find(SUBJECT_RESOURCE, null, null, Collections.emptySet());
     }
 
+    @Test
+    void findMultipleDescriptorsLoadsAxiomsOfAllSubjects() {
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final Resource subjectTwoResource = ResourceFactory.createResource(subjectTwo.getIdentifier().toString());
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(assertion);
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(assertion);
+        final Statement sOne = ResourceFactory.createStatement(SUBJECT_RESOURCE, assertionToProperty(assertion),
+                ResourceFactory.createResource(Generator.generateUri().toString()));
+        final Statement sTwo = ResourceFactory.createStatement(subjectTwoResource, assertionToProperty(assertion),
+                ResourceFactory.createResource(Generator.generateUri().toString()));
+        when(connectorMock.find(eq(SUBJECT_RESOURCE), any(), any(), any())).thenReturn(Collections.singletonList(sOne));
+        when(connectorMock.find(eq(subjectTwoResource), any(), any(), any())).thenReturn(Collections.singletonList(sTwo));
+
+        final Collection<Axiom<?>> result = adapter.find(List.of(descriptorOne, descriptorTwo));
+        assertEquals(2, result.size());
+        assertEquals(Set.of(SUBJECT, subjectTwo), result.stream().map(Axiom::getSubject).collect(Collectors.toSet()));
+        verify(connectorMock).begin();
+    }
+
     private static Property assertionToProperty(Assertion assertion) {
         return ResourceFactory.createProperty(assertion.getIdentifier().toString());
     }
@@ -17,6 +17,10 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
@@ -24,6 +28,9 @@ import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Quad;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.Test;
 
@@ -31,9 +38,11 @@ import java.io.*;
 import java.nio.file.Files;
 import java.util.List;
 
+import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
 import static org.apache.jena.rdf.model.ResourceFactory.createStatement;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,4 +134,132 @@ public class FileStorageTest extends StorageTestUtil {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, storage::reload);
         assertThat(ex.getMessage(), containsString("Cannot reload storage which is in transaction"));
     }
+
+    @Test
+    void writeChangesWithJournalAppendsChangesToJournalInsteadOfRewritingFile() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = new File(file.getAbsolutePath() + ChangeJournal.FILE_SUFFIX);
+        journal.deleteOnExit();
+        final LocalStorage storage = new FileStorage(journaledConfiguration(file));
+
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.writeChanges();
+        storage.commit();
+
+        assertEquals(0, file.length());
+        final String journalContent = String.join("\n", Files.readAllLines(journal.toPath()));
+        assertThat(journalContent, containsString(SUBJECT));
+        assertThat(journalContent, containsString(TYPE_ONE));
+    }
+
+    private static DriverConfiguration journaledConfiguration(File file) {
+        final DriverConfiguration config = createConfiguration(file.getAbsolutePath());
+        config.setProperty(JenaConfigParam.FILE_JOURNAL, Boolean.TRUE.toString());
+        return config;
+    }
+
+    @Test
+    void initializeWithJournalReplaysJournaledChangesInOrder() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        new File(file.getAbsolutePath() + ChangeJournal.FILE_SUFFIX).deleteOnExit();
+        final LocalStorage storage = new FileStorage(journaledConfiguration(file));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        storage.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), NAMED_GRAPH);
+        storage.writeChanges();
+        storage.commit();
+        storage.begin(ReadWrite.WRITE);
+        storage.remove(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        storage.writeChanges();
+        storage.commit();
+
+        final LocalStorage reloaded = new FileStorage(journaledConfiguration(file));
+        reloaded.begin(ReadWrite.READ);
+        assertTrue(reloaded.getDefaultGraph().contains(RESOURCE, RDF.type, createResource(TYPE_ONE)));
+        assertFalse(reloaded.getDefaultGraph().contains(RESOURCE, RDF.type, createResource(TYPE_TWO)));
+        assertTrue(reloaded.getNamedGraph(NAMED_GRAPH).contains(RESOURCE, RDF.type, createResource(TYPE_ONE)));
+        reloaded.rollback();
+    }
+
+    @Test
+    void rollbackWithJournalDiscardsRecordedChanges() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = new File(file.getAbsolutePath() + ChangeJournal.FILE_SUFFIX);
+        journal.deleteOnExit();
+        final LocalStorage storage = new FileStorage(journaledConfiguration(file));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.rollback();
+
+        storage.begin(ReadWrite.WRITE);
+        storage.writeChanges();
+        storage.commit();
+        assertFalse(journal.exists());
+    }
+
+    @Test
+    void closeWithJournalCompactsJournalIntoFile() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = new File(file.getAbsolutePath() + ChangeJournal.FILE_SUFFIX);
+        journal.deleteOnExit();
+        final LocalStorage storage = new FileStorage(journaledConfiguration(file));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.add(List.of(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), NAMED_GRAPH);
+        storage.writeChanges();
+        storage.commit();
+        storage.close();
+
+        final Model model = RDFDataMgr.loadModel(file.getAbsolutePath());
+        assertTrue(model.contains(RESOURCE, RDF.type, createResource(TYPE_ONE)));
+        // Turtle does not support named graphs, so they are kept in the journal
+        final String journalContent = String.join("\n", Files.readAllLines(journal.toPath()));
+        assertThat(journalContent, containsString(NAMED_GRAPH));
+        assertThat(journalContent, not(containsString(TYPE_ONE)));
+    }
+
+    @Test
+    void statementsRetainedInJournalByCompactionDoNotCountTowardsCompactionThreshold() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl" + ChangeJournal.FILE_SUFFIX).toFile();
+        file.deleteOnExit();
+        final Node graph = NodeFactory.createURI(NAMED_GRAPH);
+        final List<Quad> retained = List.of(
+                Quad.create(graph, NodeFactory.createURI(SUBJECT), RDF.type.asNode(), NodeFactory.createURI(TYPE_ONE)),
+                Quad.create(graph, NodeFactory.createURI(SUBJECT), RDF.type.asNode(), NodeFactory.createURI(TYPE_TWO)));
+        final ChangeJournal journal = new ChangeJournal(file);
+        journal.rewrite(retained);
+        assertEquals(0, journal.size());
+
+        final ChangeJournal reloaded = new ChangeJournal(file);
+        final DatasetGraph target = DatasetGraphFactory.createTxnMem();
+        reloaded.replay(target);
+        assertEquals(0, reloaded.size());
+        retained.forEach(q -> assertTrue(target.contains(q)));
+        reloaded.recordAdd(Quad.defaultGraphIRI, NodeFactory.createURI(SUBJECT), RDF.type.asNode(),
+                NodeFactory.createURI(TYPE_ONE));
+        reloaded.appendPending();
+        assertEquals(1, reloaded.size());
+    }
+
+    @Test
+    void writeChangesWithJournalWritesWholeFileWhenChangesContainBlankNodes() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = new File(file.getAbsolutePath() + ChangeJournal.FILE_SUFFIX);
+        journal.deleteOnExit();
+        final LocalStorage storage = new FileStorage(journaledConfiguration(file));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(createStatement(RESOURCE, createProperty(TYPE_ONE), createResource())), null);
+        storage.writeChanges();
+        storage.commit();
+
+        assertTrue(file.length() > 0);
+        assertEquals(0, journal.length());
+    }
 }
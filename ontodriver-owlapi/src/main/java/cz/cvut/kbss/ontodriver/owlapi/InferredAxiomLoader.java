@@ -56,7 +56,6 @@ public class InferredAxiomLoader implements AxiomLoader {
         if (reasoner == null) {
             throw new ReasonerNotAvailableException();
         }
-        reasoner.flush();
         final OWLNamedIndividual individual = OwlapiUtils.getIndividual(subject, dataFactory);
         final Collection<Axiom<?>> axioms = new HashSet<>();
         for (Assertion a : assertions) {
@@ -142,7 +142,6 @@ public class OwlapiAdapter {
     boolean isInferred(Axiom<?> axiom, Set<URI> contexts) {
         startTransactionIfNotActive();
         final Collection<OWLAxiom> owlAxiom = asOwlAxioms(axiom);
-        reasoner().flush();
         return owlAxiom.stream().anyMatch(a -> reasoner().isEntailed(a) && !ontology().containsAxiom(a));
     }
 
@@ -177,6 +176,22 @@ public class OwlapiAdapter {
         return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptor);
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * The descriptors are intentionally resolved one by one. The ontology is held in memory and axioms of an individual
+     * are retrieved by OWL API using its per-entity indexes, so there is no repository request that could be batched.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Matching axioms for all the descriptors
+     */
+    public Collection<Axiom<?>> find(Collection<AxiomDescriptor> descriptors) {
+        startTransactionIfNotActive();
+        final List<Axiom<?>> result = new ArrayList<>();
+        descriptors.forEach(d -> result.addAll(new MainAxiomLoader(this, ontologySnapshot).findAxioms(d)));
+        return result;
+    }
+
     public void persist(AxiomValueDescriptor descriptor) {
         startTransactionIfNotActive();
         new AxiomSaver(this, ontologySnapshot).persist(descriptor);
@@ -181,6 +181,17 @@ public class OwlapiConnection implements Connection {
         }
     }
 
+    @Override
+    public Collection<Axiom<?>> find(Collection<AxiomDescriptor> descriptors) throws OntoDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            return adapter.find(descriptors);
+        } catch (RuntimeException e) {
+            throw new OwlapiDriverException(e);
+        }
+    }
+
     @Override
     public void persist(AxiomValueDescriptor descriptor) throws OntoDriverException {
         ensureOpen();
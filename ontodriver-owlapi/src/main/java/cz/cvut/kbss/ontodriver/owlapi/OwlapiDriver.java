@@ -37,7 +37,8 @@ class OwlapiDriver implements Closeable, ConnectionListener {
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.MODULE_EXTRACTION_SIGNATURE,
                     DriverConfigParam.REASONER_FACTORY_CLASS,
                     OwlapiConfigParam.IRI_MAPPING_DELIMITER, OwlapiConfigParam.MAPPING_FILE_LOCATION,
-                    OwlapiConfigParam.WRITE_ON_COMMIT, OwlapiConfigParam.USE_VOLATILE_STORAGE);
+                    OwlapiConfigParam.WRITE_ON_COMMIT, OwlapiConfigParam.USE_VOLATILE_STORAGE,
+                    OwlapiConfigParam.CACHE_ENTAILMENTS);
 
     private final DriverConfiguration configuration;
     private volatile boolean open = true;
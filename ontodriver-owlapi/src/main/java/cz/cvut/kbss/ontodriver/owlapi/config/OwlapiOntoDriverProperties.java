@@ -56,6 +56,17 @@ public abstract class OwlapiOntoDriverProperties {
      */
     public static final String USE_VOLATILE_STORAGE = "cz.cvut.kbss.ontodriver.owlapi.use-volatile-storage";
 
+    /**
+     * Specifies whether answers of the reasoner over the shared ontology should be cached.
+     * <p>
+     * When enabled, inferred types, property values and entailment checks are cached per individual and the cache is
+     * invalidated when a change of a logical axiom is committed. Changes of non-logical axioms (e.g., annotation
+     * assertions or declarations) keep the cache.
+     * <p>
+     * {@code Boolean} value expected, default is false.
+     */
+    public static final String CACHE_ENTAILMENTS = "cz.cvut.kbss.ontodriver.owlapi.cacheEntailments";
+
     private OwlapiOntoDriverProperties() {
         throw new AssertionError();
     }
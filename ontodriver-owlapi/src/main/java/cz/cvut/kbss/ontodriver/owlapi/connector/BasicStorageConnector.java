@@ -24,14 +24,12 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
-import cz.cvut.kbss.ontodriver.owlapi.exception.OntologySnapshotException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OntologyStorageException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.ReasonerNotAvailableException;
 import cz.cvut.kbss.ontodriver.owlapi.util.DefaultOntologyIriMapper;
 import cz.cvut.kbss.ontodriver.owlapi.util.MappingFileParser;
 import org.semanticweb.owlapi.apibinding.OWLManager;
-import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
@@ -59,8 +57,13 @@ import java.util.stream.Collectors;
 /**
  * Default file-based storage connector.
  * <p>
- * Each call to {@link #getOntologySnapshot()} returns a new snapshot of the current state of the ontology. The changes
- * are then applied to the shared ontology, which represents the current state of the underlying storage.
+ * Each call to {@link #getOntologySnapshot()} returns a new {@link OverlayOntology} over the shared ontology, which
+ * represents the current state of the underlying storage. The overlay tracks changes made by the transaction, which
+ * are then applied to the shared ontology on commit.
+ * <p>
+ * Reasoning over the shared ontology is maintained by a {@link ReasoningService}, which is kept up to date with the
+ * changes applied to the shared ontology. Transactions use its reasoner until they modify their snapshot, see
+ * {@link SnapshotReasoner}.
  * <p>
  * Note: This connector currently does not handle concurrent updates.
  */
@@ -74,7 +77,7 @@ public class BasicStorageConnector extends AbstractConnector {
 
     private OWLOntologyManager ontologyManager;
     private OWLOntology ontology;
-    private OWLReasoner reasoner;
+    private ReasoningService reasoningService;
     private OWLReasonerFactory reasonerFactory;
 
     private OWLOntologyIRIMapper iriMapper;
@@ -98,7 +101,7 @@ public class BasicStorageConnector extends AbstractConnector {
         setIriMapper(ontologyManager);
         loadOntology(storageProperties);
         initializeReasonerFactory();
-        this.reasoner = getReasoner(ontology);
+        this.reasoningService = createReasoningService();
     }
 
     private void resolveIriMapper() {
@@ -187,28 +190,23 @@ public class BasicStorageConnector extends AbstractConnector {
     @Override
     public OntologySnapshot getOntologySnapshot() {
         ensureOpen();
-        READ.lock();
-        try {
-            final OWLOntology snapshot = ontologyManager.createOntology();
-            cloneOntologyContent(snapshot);
-            return new OntologySnapshot(snapshot, ontologyManager, ontologyManager.getOWLDataFactory(),
-                    getReasoner(snapshot));
-        } catch (OWLOntologyCreationException e) {
-            throw new OntologySnapshotException("Unable to create ontology snapshot.", e);
-        } finally {
-            READ.unlock();
-        }
+        final OverlayOntology snapshot = new OverlayOntology(ontology, ontologyManager, READ);
+        return new OntologySnapshot(snapshot, ontologyManager, ontologyManager.getOWLDataFactory(),
+                getSnapshotReasoner(snapshot));
     }
 
-    private void cloneOntologyContent(OWLOntology target) {
-        ontologyManager.addAxioms(target, ontology.axioms());
-        ontologyManager.applyChanges(
-                ontology.importsDeclarations().map(i -> new AddImport(target, i)).collect(Collectors.toList()));
+    private OWLReasoner getSnapshotReasoner(OverlayOntology snapshot) {
+        if (reasonerFactory == null) {
+            LOG.warn("Creating ontology snapshot without reasoner, because reasoner factory class was not specified.");
+            return null;
+        }
+        return new SnapshotReasoner(snapshot, () -> reasoningService.getReasoner(), reasonerFactory, READ);
     }
 
     private OntologySnapshot getLiveOntology() {
         ensureOpen();
-        return new OntologySnapshot(ontology, ontologyManager, ontologyManager.getOWLDataFactory(), reasoner);
+        return new OntologySnapshot(ontology, ontologyManager, ontologyManager.getOWLDataFactory(),
+                reasoningService.getReasoner());
     }
 
     @Override
@@ -228,17 +226,18 @@ public class BasicStorageConnector extends AbstractConnector {
         WRITE.lock();
         try {
             function.accept(getLiveOntology());
+            reasoningService.refresh();
         } finally {
             WRITE.unlock();
         }
     }
 
     private OWLReasoner getReasoner(OWLOntology ontology) {
-        if (reasonerFactory == null) {
-            LOG.warn("Creating ontology snapshot without reasoner, because reasoner factory class was not specified.");
-            return null;
-        }
-        return reasonerFactory.createReasoner(ontology);
+        return reasonerFactory != null ? reasonerFactory.createReasoner(ontology) : null;
+    }
+
+    private ReasoningService createReasoningService() {
+        return new ReasoningService(getReasoner(ontology), configuration.is(OwlapiConfigParam.CACHE_ENTAILMENTS));
     }
 
     @Override
@@ -251,6 +250,7 @@ public class BasicStorageConnector extends AbstractConnector {
                                                            .flatMap(o -> o.toOwlChanges(ontology).stream())
                                                            .collect(Collectors.toList());
             ontologyManager.applyChanges(toApply);
+            reasoningService.changesApplied(toApply);
             try {
                 writeToFile();
             } catch (OntologyStorageException e) {
@@ -265,16 +265,19 @@ public class BasicStorageConnector extends AbstractConnector {
     public void closeSnapshot(OntologySnapshot snapshot) {
         ensureOpen();
         assert snapshot != null;
-        ontologyManager.removeOntology(snapshot.ontology());
+        if (snapshot.reasoner() != null) {
+            snapshot.reasoner().dispose();
+        }
     }
 
     @Override
     void reloadData() throws OwlapiDriverException {
         WRITE.lock();
         try {
+            reasoningService.dispose();
             ontologyManager.clearOntologies();
             loadOntology(configuration.getStorageProperties());
-            this.reasoner = getReasoner(ontology);
+            this.reasoningService = createReasoningService();
         } finally {
             WRITE.unlock();
         }
@@ -0,0 +1,100 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLPropertyExpression;
+import org.semanticweb.owlapi.reasoner.NodeSet;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared reasoner caching entailments about individuals computed by the wrapped reasoner.
+ * <p>
+ * Inferred types, property values and results of entailment checks of logical axioms are cached. All other calls are
+ * forwarded to the wrapped reasoner. Non-logical axioms (e.g., annotation assertions) are not cached, because changes
+ * of such axioms do not invalidate the cache. The cache is invalidated by {@link ReasoningService} when the reasoned-over ontology changes.
+ * <p>
+ * The cache may be accessed concurrently by readers of the shared ontology, but it must not be invalidated
+ * concurrently with reads.
+ */
+class CachingReasoner extends SharedReasoner {
+
+    private final Map<TypesKey, NodeSet<OWLClass>> types = new ConcurrentHashMap<>();
+    private final Map<PropertyValuesKey, NodeSet<OWLNamedIndividual>> objectPropertyValues = new ConcurrentHashMap<>();
+    private final Map<PropertyValuesKey, Set<OWLLiteral>> dataPropertyValues = new ConcurrentHashMap<>();
+    private final Map<OWLAxiom, Boolean> entailments = new ConcurrentHashMap<>();
+
+    CachingReasoner(OWLReasoner wrapped) {
+        super(wrapped);
+    }
+
+    /**
+     * Discards all cached entailments.
+     */
+    void invalidate() {
+        types.clear();
+        objectPropertyValues.clear();
+        dataPropertyValues.clear();
+        entailments.clear();
+    }
+
+    @Nonnull
+    @Override
+    public Set<OWLLiteral> getDataPropertyValues(@Nonnull OWLNamedIndividual ind, @Nonnull OWLDataProperty pe) {
+        return dataPropertyValues.computeIfAbsent(new PropertyValuesKey(ind, pe),
+                k -> Set.copyOf(wrapped.getDataPropertyValues(ind, pe)));
+    }
+
+    @Nonnull
+    @Override
+    public NodeSet<OWLNamedIndividual> getObjectPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                               @Nonnull OWLObjectPropertyExpression pe) {
+        return objectPropertyValues.computeIfAbsent(new PropertyValuesKey(ind, pe),
+                k -> wrapped.getObjectPropertyValues(ind, pe));
+    }
+
+    @Nonnull
+    @Override
+    public NodeSet<OWLClass> getTypes(@Nonnull OWLNamedIndividual ind, boolean direct) {
+        return types.computeIfAbsent(new TypesKey(ind, direct), k -> wrapped.getTypes(ind, direct));
+    }
+
+    @Override
+    public boolean isEntailed(@Nonnull OWLAxiom axiom) {
+        if (!axiom.isLogicalAxiom()) {
+            return wrapped.isEntailed(axiom);
+        }
+        return entailments.computeIfAbsent(axiom, wrapped::isEntailed);
+    }
+
+    private record TypesKey(OWLNamedIndividual individual, boolean direct) {
+    }
+
+    private record PropertyValuesKey(OWLNamedIndividual individual, OWLPropertyExpression property) {
+    }
+}
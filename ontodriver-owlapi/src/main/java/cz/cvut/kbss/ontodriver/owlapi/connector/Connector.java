@@ -41,8 +41,9 @@ public interface Connector {
     /**
      * Gets snapshot of the underlying ontology.
      * <p>
-     * The snapshot is completely independent of the live ontology, so any changes to either are not visible to the
-     * other.
+     * Changes made to the snapshot are not visible in the live ontology until they are applied to it via
+     * {@link #applyChanges(List)}. However, the snapshot is not isolated from the live ontology, so changes applied to
+     * the live ontology are visible in the snapshot.
      *
      * @return Value object with the ontology snapshot
      */
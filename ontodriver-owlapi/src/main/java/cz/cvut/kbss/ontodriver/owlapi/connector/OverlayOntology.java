@@ -0,0 +1,640 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.model.parameters.Navigation;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+import javax.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Transactional ontology overlaying the shared ontology.
+ * <p>
+ * Reads go through to the shared ontology, combined with the axioms added and removed by the transaction. Creating the
+ * overlay thus does not depend on the size of the shared ontology and a transaction pays only for what it changes.
+ * Since the shared ontology is not copied, the transaction sees changes committed to it by other transactions.
+ * <p>
+ * The shared ontology is read while holding the connector's read lock and the results are collected before the lock is
+ * released, so that reads do not interleave with changes being applied to the shared ontology.
+ * <p>
+ * Only axiom changes can be applied to the overlay. Imports and ontology annotations are those of the shared ontology.
+ */
+class OverlayOntology implements OWLMutableOntology {
+
+    private final OWLOntology shared;
+    private final Lock readLock;
+    private final OWLOntologyID ontologyId = new OWLOntologyID();
+
+    private OWLOntologyManager ontologyManager;
+
+    // Axioms added by the transaction, kept in an unmanaged ontology to make use of its indexes
+    private final OWLOntology added;
+    private final Set<OWLAxiom> removed = new HashSet<>();
+
+    /**
+     * Creates a new overlay of the specified shared ontology.
+     *
+     * @param shared          The shared ontology
+     * @param ontologyManager Manager of the shared ontology
+     * @param readLock        Lock guarding reads of the shared ontology
+     */
+    OverlayOntology(OWLOntology shared, OWLOntologyManager ontologyManager, Lock readLock) {
+        this.shared = shared;
+        this.ontologyManager = ontologyManager;
+        this.readLock = readLock;
+        this.added = new OWLOntologyImpl(ontologyManager, new OWLOntologyID());
+    }
+
+    /**
+     * Whether this overlay differs from the shared ontology, i.e., whether any axioms have been added or removed.
+     *
+     * @return {@code true} if the overlay has been modified, {@code false} otherwise
+     */
+    boolean isModified() {
+        return !removed.isEmpty() || !added.isEmpty();
+    }
+
+    @Override
+    public ChangeApplied applyDirectChange(OWLOntologyChange change) {
+        if (!change.isAxiomChange()) {
+            return ChangeApplied.UNSUCCESSFULLY;
+        }
+        final OWLAxiom axiom = change.getAxiom();
+        final boolean contained = containsAxiom(axiom);
+        if (change.isAddAxiom() == contained) {
+            return ChangeApplied.NO_OPERATION;
+        }
+        if (change.isAddAxiom()) {
+            removed.remove(axiom);
+            added.applyDirectChange(new AddAxiom(added, axiom));
+        } else {
+            added.applyDirectChange(new RemoveAxiom(added, axiom));
+            if (readShared(() -> shared.containsAxiom(axiom))) {
+                removed.add(axiom);
+            }
+        }
+        return ChangeApplied.SUCCESSFULLY;
+    }
+
+    private <T> T readShared(Supplier<T> read) {
+        readLock.lock();
+        try {
+            return read.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private boolean isVisible(OWLAxiom sharedAxiom) {
+        return !removed.contains(sharedAxiom) && !added.containsAxiom(sharedAxiom);
+    }
+
+    /**
+     * Combines axioms of the shared ontology which have not been removed with axioms added by the transaction.
+     */
+    private <T extends OWLAxiom> Stream<T> merged(Function<OWLOntology, Stream<T>> query) {
+        if (!isModified()) {
+            return readShared(() -> query.apply(shared).collect(Collectors.toList())).stream();
+        }
+        final List<T> sharedAxioms =
+                readShared(() -> query.apply(shared).filter(this::isVisible).collect(Collectors.toList()));
+        return Stream.concat(sharedAxioms.stream(), query.apply(added));
+    }
+
+    /**
+     * Evaluates the specified query, which does not include imports, over this ontology and, if required, over its
+     * imports.
+     */
+    private <T> Stream<T> withImports(Imports imports, Function<OWLOntology, Stream<T>> query) {
+        return imports.stream(this).flatMap(query);
+    }
+
+    private Stream<OWLOntology> sharedImports(Function<OWLOntology, Stream<OWLOntology>> query) {
+        return readShared(() -> query.apply(shared).collect(Collectors.toList())).stream();
+    }
+
+    /**
+     * Returns predicate testing whether a primitive referenced by the shared ontology is still referenced by an axiom
+     * not removed by the transaction.
+     * <p>
+     * Must be called while holding the read lock.
+     */
+    private Predicate<OWLPrimitive> referencedBySharedAxioms() {
+        if (removed.isEmpty()) {
+            return p -> true;
+        }
+        final Set<OWLObject> candidates = removed.stream()
+                                                 .flatMap(ax -> Stream.concat(ax.signature(), ax.anonymousIndividuals()))
+                                                 .collect(Collectors.toSet());
+        return p -> !candidates.contains(p) || referencingSharedAxioms(p).anyMatch(ax -> !removed.contains(ax));
+    }
+
+    private Stream<? extends OWLAxiom> referencingSharedAxioms(OWLPrimitive primitive) {
+        if (primitive instanceof OWLEntity entity) {
+            return Stream.concat(shared.referencingAxioms(primitive), shared.declarationAxioms(entity));
+        }
+        return shared.referencingAxioms(primitive);
+    }
+
+    private <E extends OWLPrimitive> Stream<E> signature(Function<OWLOntology, Stream<E>> query) {
+        final List<E> sharedSignature = readShared(() -> {
+            final Predicate<OWLPrimitive> referenced = referencedBySharedAxioms();
+            return query.apply(shared).filter(referenced).collect(Collectors.toList());
+        });
+        return Stream.concat(sharedSignature.stream(), query.apply(added)).distinct();
+    }
+
+    private boolean containsInSignature(OWLEntity entity) {
+        return added.containsEntityInSignature(entity) ||
+                readShared(() -> shared.containsEntityInSignature(entity) && referencedBySharedAxioms().test(entity));
+    }
+
+    private boolean containsInSignature(IRI iri, EntityType<?> type, Imports imports) {
+        final OWLEntity entity = ontologyManager.getOWLDataFactory().getOWLEntity(type, iri);
+        return imports.stream(this).anyMatch(o -> o == this ? containsInSignature(entity) :
+                                                  o.containsEntityInSignature(entity));
+    }
+
+    /**
+     * Counts axioms matching the specified filter, using counts maintained by the shared ontology.
+     */
+    private int count(Imports imports, ToIntFunction<OWLOntology> query, Predicate<OWLAxiom> filter) {
+        final int importsCount = imports == Imports.INCLUDED ? imports().mapToInt(query).sum() : 0;
+        return importsCount + readShared(() -> {
+            // Removed axioms are not visible and added axioms are counted only if not already in the shared ontology
+            final long removedCount = removed.stream().filter(filter).filter(shared::containsAxiom).count();
+            final long addedCount = added.axioms().filter(filter).filter(ax -> !shared.containsAxiom(ax)).count();
+            return query.applyAsInt(shared) - (int) removedCount + (int) addedCount;
+        });
+    }
+
+    @Nonnull
+    @Override
+    public OWLOntologyID getOntologyID() {
+        return ontologyId;
+    }
+
+    @Nonnull
+    @Override
+    public OWLOntologyManager getOWLOntologyManager() {
+        return ontologyManager;
+    }
+
+    @Override
+    public void setOWLOntologyManager(OWLOntologyManager manager) {
+        this.ontologyManager = manager;
+    }
+
+    @Override
+    public boolean isOntology() {
+        return true;
+    }
+
+    @Override
+    public boolean isAnonymous() {
+        return ontologyId.isAnonymous();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return added.isEmpty() && readShared(() -> shared.annotations().findAny().isEmpty() &&
+                shared.axioms().allMatch(removed::contains));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAnnotation> annotations() {
+        return readShared(() -> shared.annotations().collect(Collectors.toList())).stream();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLImportsDeclaration> importsDeclarations() {
+        return readShared(() -> shared.importsDeclarations().collect(Collectors.toList())).stream();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IRI> directImportsDocuments() {
+        return readShared(() -> shared.directImportsDocuments().collect(Collectors.toList())).stream();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLOntology> directImports() {
+        return sharedImports(OWLOntology::directImports);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLOntology> imports() {
+        return sharedImports(OWLOntology::imports);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLOntology> importsClosure() {
+        return Stream.concat(Stream.of(this), imports());
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> axioms() {
+        return merged(OWLOntology::axioms);
+    }
+
+    @Nonnull
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(@Nonnull AxiomType<T> axiomType) {
+        return merged(o -> o.axioms(axiomType));
+    }
+
+    @Nonnull
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(@Nonnull Class<T> type,
+                                                 @Nonnull Class<? extends OWLObject> explicitClass,
+                                                 @Nonnull OWLObject entity, @Nonnull Navigation forSubPosition) {
+        return merged(o -> o.axioms(type, explicitClass, entity, forSubPosition));
+    }
+
+    @Nonnull
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(@Nonnull OWLAxiomSearchFilter filter, @Nonnull Object key) {
+        return merged(o -> o.axioms(filter, key));
+    }
+
+    @Nonnull
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(@Nonnull OWLAxiomSearchFilter filter, @Nonnull Object key,
+                                                 @Nonnull Imports imports) {
+        return withImports(imports, o -> o.axioms(filter, key));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLClassAxiom> axioms(@Nonnull OWLClass cls) {
+        return merged(o -> o.axioms(cls));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLObjectPropertyAxiom> axioms(@Nonnull OWLObjectPropertyExpression property) {
+        return merged(o -> o.axioms(property));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLDataPropertyAxiom> axioms(@Nonnull OWLDataProperty property) {
+        return merged(o -> o.axioms(property));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLIndividualAxiom> axioms(@Nonnull OWLIndividual individual) {
+        return merged(o -> o.axioms(individual));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLDatatypeDefinitionAxiom> axioms(@Nonnull OWLDatatype datatype) {
+        return merged(o -> o.axioms(datatype));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLLogicalAxiom> logicalAxioms() {
+        return merged(OWLOntology::logicalAxioms);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLClassAxiom> generalClassAxioms() {
+        return merged(OWLOntology::generalClassAxioms);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> aboxAxioms(@Nonnull Imports imports) {
+        return withImports(imports, o -> o == this ? merged(s -> s.aboxAxioms(Imports.EXCLUDED)) :
+                                         o.aboxAxioms(Imports.EXCLUDED));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> tboxAxioms(@Nonnull Imports imports) {
+        return withImports(imports, o -> o == this ? merged(s -> s.tboxAxioms(Imports.EXCLUDED)) :
+                                         o.tboxAxioms(Imports.EXCLUDED));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> rboxAxioms(@Nonnull Imports imports) {
+        return withImports(imports, o -> o == this ? merged(s -> s.rboxAxioms(Imports.EXCLUDED)) :
+                                         o.rboxAxioms(Imports.EXCLUDED));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> axiomsIgnoreAnnotations(@Nonnull OWLAxiom axiom) {
+        return merged(o -> o.axiomsIgnoreAnnotations(axiom));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> axiomsIgnoreAnnotations(@Nonnull OWLAxiom axiom, @Nonnull Imports imports) {
+        return withImports(imports, o -> o.axiomsIgnoreAnnotations(axiom));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAxiom> referencingAxioms(@Nonnull OWLPrimitive primitive) {
+        return merged(o -> o.referencingAxioms(primitive));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLSubAnnotationPropertyOfAxiom> subAnnotationPropertyOfAxioms(
+            @Nonnull OWLAnnotationProperty subProperty) {
+        return merged(o -> o.subAnnotationPropertyOfAxioms(subProperty));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAnnotationPropertyDomainAxiom> annotationPropertyDomainAxioms(
+            @Nonnull OWLAnnotationProperty property) {
+        return merged(o -> o.annotationPropertyDomainAxioms(property));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAnnotationPropertyRangeAxiom> annotationPropertyRangeAxioms(
+            @Nonnull OWLAnnotationProperty property) {
+        return merged(o -> o.annotationPropertyRangeAxioms(property));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLDatatypeDefinitionAxiom> datatypeDefinitions(@Nonnull OWLDatatype datatype) {
+        return merged(o -> o.datatypeDefinitions(datatype));
+    }
+
+    @Override
+    public boolean containsAxiom(@Nonnull OWLAxiom axiom) {
+        if (removed.contains(axiom)) {
+            return false;
+        }
+        return added.containsAxiom(axiom) || readShared(() -> shared.containsAxiom(axiom));
+    }
+
+    @Override
+    public boolean containsAxiom(@Nonnull OWLAxiom axiom, @Nonnull Imports imports,
+                                 @Nonnull AxiomAnnotations ignoreAnnotations) {
+        if (ignoreAnnotations == AxiomAnnotations.IGNORE_AXIOM_ANNOTATIONS) {
+            return imports.stream(this).anyMatch(o -> o.containsAxiomIgnoreAnnotations(axiom));
+        }
+        return imports.stream(this).anyMatch(o -> o.containsAxiom(axiom));
+    }
+
+    @Override
+    public boolean containsAxiomIgnoreAnnotations(@Nonnull OWLAxiom axiom) {
+        return axiomsIgnoreAnnotations(axiom).findAny().isPresent();
+    }
+
+    @Override
+    public boolean contains(@Nonnull OWLAxiomSearchFilter filter, @Nonnull Object key) {
+        return axioms(filter, key).findAny().isPresent();
+    }
+
+    @Override
+    public boolean contains(@Nonnull OWLAxiomSearchFilter filter, @Nonnull Object key, @Nonnull Imports imports) {
+        return axioms(filter, key, imports).findAny().isPresent();
+    }
+
+    @Override
+    public int getAxiomCount() {
+        return getAxiomCount(Imports.EXCLUDED);
+    }
+
+    @Override
+    public int getAxiomCount(@Nonnull Imports imports) {
+        return count(imports, OWLOntology::getAxiomCount, ax -> true);
+    }
+
+    @Override
+    public <T extends OWLAxiom> int getAxiomCount(@Nonnull AxiomType<T> axiomType) {
+        return getAxiomCount(axiomType, Imports.EXCLUDED);
+    }
+
+    @Override
+    public <T extends OWLAxiom> int getAxiomCount(@Nonnull AxiomType<T> axiomType, @Nonnull Imports imports) {
+        return count(imports, o -> o.getAxiomCount(axiomType), ax -> ax.getAxiomType() == axiomType);
+    }
+
+    @Override
+    public int getLogicalAxiomCount() {
+        return getLogicalAxiomCount(Imports.EXCLUDED);
+    }
+
+    @Override
+    public int getLogicalAxiomCount(@Nonnull Imports imports) {
+        return count(imports, OWLOntology::getLogicalAxiomCount, OWLAxiom::isLogicalAxiom);
+    }
+
+    @Override
+    public boolean isDeclared(@Nonnull OWLEntity entity) {
+        return added.isDeclared(entity) ||
+                readShared(() -> shared.declarationAxioms(entity).anyMatch(ax -> !removed.contains(ax)));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLEntity> signature() {
+        return signature(OWLOntology::signature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLClass> classesInSignature() {
+        return signature(OWLOntology::classesInSignature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLObjectProperty> objectPropertiesInSignature() {
+        return signature(OWLOntology::objectPropertiesInSignature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLDataProperty> dataPropertiesInSignature() {
+        return signature(OWLOntology::dataPropertiesInSignature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLNamedIndividual> individualsInSignature() {
+        return signature(OWLOntology::individualsInSignature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLDatatype> datatypesInSignature() {
+        return signature(OWLOntology::datatypesInSignature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
+        return signature(OWLOntology::annotationPropertiesInSignature);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
+        return signature(OWLOntology::anonymousIndividuals);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLAnonymousIndividual> referencedAnonymousIndividuals() {
+        return signature(OWLOntology::referencedAnonymousIndividuals);
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLClassExpression> nestedClassExpressions() {
+        return axioms().flatMap(OWLAxiom::nestedClassExpressions).distinct();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<OWLEntity> entitiesInSignature(@Nonnull IRI iri) {
+        return signature(o -> o.entitiesInSignature(iri));
+    }
+
+    @Override
+    public boolean containsEntityInSignature(@Nonnull OWLEntity entity) {
+        return containsInSignature(entity);
+    }
+
+    @Override
+    public boolean containsReference(@Nonnull OWLEntity entity) {
+        return containsInSignature(entity);
+    }
+
+    @Override
+    public boolean containsClassInSignature(@Nonnull IRI iri) {
+        return containsClassInSignature(iri, Imports.EXCLUDED);
+    }
+
+    @Override
+    public boolean containsClassInSignature(@Nonnull IRI iri, @Nonnull Imports imports) {
+        return containsInSignature(iri, EntityType.CLASS, imports);
+    }
+
+    @Override
+    public boolean containsObjectPropertyInSignature(@Nonnull IRI iri) {
+        return containsObjectPropertyInSignature(iri, Imports.EXCLUDED);
+    }
+
+    @Override
+    public boolean containsObjectPropertyInSignature(@Nonnull IRI iri, @Nonnull Imports imports) {
+        return containsInSignature(iri, EntityType.OBJECT_PROPERTY, imports);
+    }
+
+    @Override
+    public boolean containsDataPropertyInSignature(@Nonnull IRI iri) {
+        return containsDataPropertyInSignature(iri, Imports.EXCLUDED);
+    }
+
+    @Override
+    public boolean containsDataPropertyInSignature(@Nonnull IRI iri, @Nonnull Imports imports) {
+        return containsInSignature(iri, EntityType.DATA_PROPERTY, imports);
+    }
+
+    @Override
+    public boolean containsAnnotationPropertyInSignature(@Nonnull IRI iri) {
+        return containsAnnotationPropertyInSignature(iri, Imports.EXCLUDED);
+    }
+
+    @Override
+    public boolean containsAnnotationPropertyInSignature(@Nonnull IRI iri, @Nonnull Imports imports) {
+        return containsInSignature(iri, EntityType.ANNOTATION_PROPERTY, imports);
+    }
+
+    @Override
+    public boolean containsDatatypeInSignature(@Nonnull IRI iri) {
+        return containsDatatypeInSignature(iri, Imports.EXCLUDED);
+    }
+
+    @Override
+    public boolean containsDatatypeInSignature(@Nonnull IRI iri, @Nonnull Imports imports) {
+        return containsInSignature(iri, EntityType.DATATYPE, imports);
+    }
+
+    @Override
+    public boolean containsIndividualInSignature(@Nonnull IRI iri) {
+        return containsIndividualInSignature(iri, Imports.EXCLUDED);
+    }
+
+    @Override
+    public boolean containsIndividualInSignature(@Nonnull IRI iri, @Nonnull Imports imports) {
+        return containsInSignature(iri, EntityType.NAMED_INDIVIDUAL, imports);
+    }
+
+    @Nonnull
+    @Override
+    public Set<IRI> getPunnedIRIs(@Nonnull Imports imports) {
+        return withImports(imports, OWLOntology::signature)
+                .collect(Collectors.groupingBy(OWLEntity::getIRI,
+                        Collectors.mapping(OWLEntity::getEntityType, Collectors.toSet())))
+                .entrySet().stream()
+                .filter(e -> e.getValue().size() > 1)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public int compareTo(@Nonnull OWLObject o) {
+        if (o instanceof OWLOntology other) {
+            return ontologyId.compareTo(other.getOntologyID());
+        }
+        return Integer.compare(typeIndex(), o.typeIndex());
+    }
+
+    @Override
+    public String toString() {
+        return "OverlayOntology{" + ontologyId + " over " + shared.getOntologyID() + '}';
+    }
+}
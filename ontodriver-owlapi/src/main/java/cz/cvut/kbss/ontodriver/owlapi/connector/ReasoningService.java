@@ -0,0 +1,114 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.OWLAxiomChange;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.List;
+
+/**
+ * Maintains a long-lived reasoner over the shared ontology.
+ * <p>
+ * Instead of reasoning over the shared ontology being brought up to date by each reader, changes committed to the
+ * shared ontology are passed to the reasoner once, when they are applied. Reasoners supporting incremental reasoning
+ * thus process only the delta instead of reclassifying the whole ontology.
+ * <p>
+ * Optionally, entailments about individuals computed by the reasoner are cached. The cache is invalidated when a change
+ * of a logical axiom is applied. Since a change of any logical axiom may in general affect entailments about any
+ * individual, the whole cache is invalidated in such a case.
+ * <p>
+ * Methods modifying the state of this service are expected to be called while holding the write lock of the shared
+ * ontology.
+ */
+class ReasoningService {
+
+    private final OWLReasoner reasoner;
+    private final SharedReasoner sharedReasoner;
+
+    /**
+     * Creates a new reasoning service.
+     *
+     * @param reasoner         Reasoner over the shared ontology, possibly {@code null} if reasoning is not available
+     * @param cacheEntailments Whether to cache entailments computed by the reasoner
+     */
+    ReasoningService(OWLReasoner reasoner, boolean cacheEntailments) {
+        this.reasoner = reasoner;
+        if (reasoner == null) {
+            this.sharedReasoner = null;
+        } else {
+            this.sharedReasoner = cacheEntailments ? new CachingReasoner(reasoner) : new SharedReasoner(reasoner);
+        }
+    }
+
+    /**
+     * Gets the reasoner to be used by readers of the shared ontology.
+     * <p>
+     * Readers need not flush the returned reasoner, it is kept up to date with the shared ontology by this service.
+     * Flushing the returned reasoner has no effect, so that the shared reasoner is not flushed concurrently by readers.
+     *
+     * @return Reasoner, possibly {@code null} if reasoning is not available
+     */
+    OWLReasoner getReasoner() {
+        return sharedReasoner;
+    }
+
+    /**
+     * Processes the specified changes, which have been applied to the shared ontology.
+     *
+     * @param changes Applied changes
+     */
+    void changesApplied(List<? extends OWLOntologyChange> changes) {
+        if (reasoner == null || changes.isEmpty()) {
+            return;
+        }
+        reasoner.flush();
+        if (sharedReasoner instanceof CachingReasoner cachingReasoner &&
+                changes.stream().anyMatch(ReasoningService::affectsEntailments)) {
+            cachingReasoner.invalidate();
+        }
+    }
+
+    private static boolean affectsEntailments(OWLOntologyChange change) {
+        // Import changes may bring in arbitrary axioms
+        return !(change instanceof OWLAxiomChange axiomChange) || axiomChange.getAxiom().isLogicalAxiom();
+    }
+
+    /**
+     * Brings the reasoner up to date after the shared ontology has been modified in an unknown way.
+     */
+    void refresh() {
+        if (reasoner == null) {
+            return;
+        }
+        reasoner.flush();
+        if (sharedReasoner instanceof CachingReasoner cachingReasoner) {
+            cachingReasoner.invalidate();
+        }
+    }
+
+    /**
+     * Disposes of the reasoner maintained by this service.
+     */
+    void dispose() {
+        if (reasoner != null) {
+            reasoner.dispose();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.*;
+import org.semanticweb.owlapi.util.Version;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reasoner over the shared ontology handed out to its readers.
+ * <p>
+ * All calls are forwarded to the wrapped reasoner, except for {@link #flush()}. The wrapped reasoner is flushed only by
+ * {@link ReasoningService} when changes are applied to the shared ontology, i.e., while holding its write lock, so
+ * that readers holding only the read lock do not flush the shared reasoner concurrently.
+ */
+class SharedReasoner implements OWLReasoner {
+
+    final OWLReasoner wrapped;
+
+    SharedReasoner(OWLReasoner wrapped) {
+        this.wrapped = wrapped;
+    }
+
+    @Nonnull
+    public OWLOntology getRootOntology() {
+        return wrapped.getRootOntology();
+    }
+
+    @Nonnull
+    public Set<OWLAxiom> getPendingAxiomAdditions() {
+        return wrapped.getPendingAxiomAdditions();
+    }
+
+    @Nonnull
+    public Set<OWLAxiom> getPendingAxiomRemovals() {
+        return wrapped.getPendingAxiomRemovals();
+    }
+
+    @Nonnull
+    public List<OWLOntologyChange> getPendingChanges() {
+        return wrapped.getPendingChanges();
+    }
+
+    @Nonnull
+    public BufferingMode getBufferingMode() {
+        return wrapped.getBufferingMode();
+    }
+
+    public long getTimeOut() {
+        return wrapped.getTimeOut();
+    }
+
+    @Nonnull
+    public Set<InferenceType> getPrecomputableInferenceTypes() {
+        return wrapped.getPrecomputableInferenceTypes();
+    }
+
+    public boolean isPrecomputed(@Nonnull InferenceType inferenceType) {
+        return wrapped.isPrecomputed(inferenceType);
+    }
+
+    public void precomputeInferences(
+            @Nonnull InferenceType... inferenceTypes) throws ReasonerInterruptedException, TimeOutException, InconsistentOntologyException {
+        wrapped.precomputeInferences(inferenceTypes);
+    }
+
+    public void interrupt() {
+        wrapped.interrupt();
+    }
+
+    public void dispose() {
+        wrapped.dispose();
+    }
+
+    /**
+     * Does nothing, the wrapped reasoner is flushed by {@link ReasoningService} when changes are applied to the shared
+     * ontology.
+     */
+    public void flush() {
+        // Do nothing
+    }
+
+    public boolean isConsistent() throws ReasonerInterruptedException, TimeOutException {
+        return wrapped.isConsistent();
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getDataPropertyDomains(@Nonnull OWLDataProperty pe,
+                                                    boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getDataPropertyDomains(pe, direct);
+    }
+
+    @Nonnull
+    public Set<OWLLiteral> getDataPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                 @Nonnull OWLDataProperty pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getDataPropertyValues(ind, pe);
+    }
+
+    @Nonnull
+    public Node<OWLClass> getEquivalentClasses(
+            @Nonnull OWLClassExpression ce) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getEquivalentClasses(ce);
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getEquivalentDataProperties(
+            @Nonnull OWLDataProperty pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getEquivalentDataProperties(pe);
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getEquivalentObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getEquivalentObjectProperties(pe);
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getInstances(@Nonnull OWLClassExpression ce,
+                                                    boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getInstances(ce, direct);
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getInverseObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getInverseObjectProperties(pe);
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getObjectPropertyDomains(@Nonnull OWLObjectPropertyExpression pe,
+                                                      boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getObjectPropertyDomains(pe, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getObjectPropertyRanges(@Nonnull OWLObjectPropertyExpression pe,
+                                                     boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getObjectPropertyRanges(pe, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getObjectPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                               @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getObjectPropertyValues(ind, pe);
+    }
+
+
+    @Nonnull
+    public Node<OWLNamedIndividual> getSameIndividuals(
+            @Nonnull OWLNamedIndividual ind) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSameIndividuals(ind);
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getSubClasses(@Nonnull OWLClassExpression ce,
+                                           boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSubClasses(ce, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getSubDataProperties(@Nonnull OWLDataProperty pe,
+                                                         boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSubDataProperties(pe, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getSubObjectProperties(@Nonnull OWLObjectPropertyExpression pe,
+                                                                       boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSubObjectProperties(pe, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getSuperClasses(@Nonnull OWLClassExpression ce,
+                                             boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSuperClasses(ce, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getSuperDataProperties(@Nonnull OWLDataProperty pe,
+                                                           boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSuperDataProperties(pe, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getSuperObjectProperties(@Nonnull OWLObjectPropertyExpression pe,
+                                                                         boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getSuperObjectProperties(pe, direct);
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getTypes(@Nonnull OWLNamedIndividual ind,
+                                      boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getTypes(ind, direct);
+    }
+
+    @Nonnull
+    public Node<OWLClass> getUnsatisfiableClasses() throws ReasonerInterruptedException, TimeOutException {
+        return wrapped.getUnsatisfiableClasses();
+    }
+
+    public boolean isEntailed(
+            @Nonnull OWLAxiom axiom) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, InconsistentOntologyException {
+        return wrapped.isEntailed(axiom);
+    }
+
+    public boolean isEntailed(
+            @Nonnull Set<? extends OWLAxiom> axioms) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, InconsistentOntologyException {
+        return wrapped.isEntailed(axioms);
+    }
+
+    public boolean isEntailmentCheckingSupported(@Nonnull AxiomType<?> axiomType) {
+        return wrapped.isEntailmentCheckingSupported(axiomType);
+    }
+
+    public boolean isSatisfiable(
+            @Nonnull OWLClassExpression ce) throws ReasonerInterruptedException, TimeOutException, ClassExpressionNotInProfileException, InconsistentOntologyException {
+        return wrapped.isSatisfiable(ce);
+    }
+
+    @Nonnull
+    public Node<OWLClass> getBottomClassNode() {
+        return wrapped.getBottomClassNode();
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getBottomDataPropertyNode() {
+        return wrapped.getBottomDataPropertyNode();
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getBottomObjectPropertyNode() {
+        return wrapped.getBottomObjectPropertyNode();
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getDifferentIndividuals(
+            @Nonnull OWLNamedIndividual ind) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getDifferentIndividuals(ind);
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getDisjointClasses(@Nonnull OWLClassExpression ce) {
+        return wrapped.getDisjointClasses(ce);
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getDisjointDataProperties(
+            @Nonnull OWLDataPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getDisjointDataProperties(pe);
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getDisjointObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return wrapped.getDisjointObjectProperties(pe);
+    }
+
+    @Nonnull
+    public IndividualNodeSetPolicy getIndividualNodeSetPolicy() {
+        return wrapped.getIndividualNodeSetPolicy();
+    }
+
+    @Nonnull
+    public String getReasonerName() {
+        return wrapped.getReasonerName();
+    }
+
+    @Nonnull
+    public Version getReasonerVersion() {
+        return wrapped.getReasonerVersion();
+    }
+
+    @Nonnull
+    public Node<OWLClass> getTopClassNode() {
+        return wrapped.getTopClassNode();
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getTopDataPropertyNode() {
+        return wrapped.getTopDataPropertyNode();
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getTopObjectPropertyNode() {
+        return wrapped.getTopObjectPropertyNode();
+    }
+
+    @Nonnull
+    public FreshEntityPolicy getFreshEntityPolicy() {
+        return wrapped.getFreshEntityPolicy();
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.*;
+import org.semanticweb.owlapi.util.Version;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reasoner over a transaction's {@link OverlayOntology}.
+ * <p>
+ * As long as the transaction has not modified the overlay, its content is that of the shared ontology, so calls are
+ * forwarded to the reasoner over the shared ontology, while holding the read lock. Only when the overlay is modified,
+ * a reasoner over the overlay is created. It is flushed before a call only if there are changes pending for it.
+ */
+class SnapshotReasoner implements OWLReasoner {
+
+    private final OverlayOntology overlay;
+    private final Supplier<OWLReasoner> sharedReasoner;
+    private final OWLReasonerFactory reasonerFactory;
+    private final Lock readLock;
+
+    private OWLReasoner localReasoner;
+
+    /**
+     * Creates a new reasoner over the specified overlay.
+     *
+     * @param overlay         The transactional ontology
+     * @param sharedReasoner  Supplies the reasoner over the shared ontology
+     * @param reasonerFactory Factory used to create reasoner over the overlay once it is modified
+     * @param readLock        Lock guarding reads of the shared ontology
+     */
+    SnapshotReasoner(OverlayOntology overlay, Supplier<OWLReasoner> sharedReasoner, OWLReasonerFactory reasonerFactory,
+                     Lock readLock) {
+        this.overlay = overlay;
+        this.sharedReasoner = sharedReasoner;
+        this.reasonerFactory = reasonerFactory;
+        this.readLock = readLock;
+    }
+
+    private <T> T call(Function<OWLReasoner, T> query) {
+        if (!overlay.isModified()) {
+            readLock.lock();
+            try {
+                return query.apply(sharedReasoner.get());
+            } finally {
+                readLock.unlock();
+            }
+        }
+        return query.apply(localReasoner());
+    }
+
+    private OWLReasoner localReasoner() {
+        if (localReasoner == null) {
+            this.localReasoner = reasonerFactory.createReasoner(overlay);
+        } else {
+            flush();
+        }
+        return localReasoner;
+    }
+
+    @Nonnull
+    public OWLOntology getRootOntology() {
+        return overlay;
+    }
+
+    @Nonnull
+    public Set<OWLAxiom> getPendingAxiomAdditions() {
+        return localReasoner != null ? localReasoner.getPendingAxiomAdditions() : Collections.emptySet();
+    }
+
+    @Nonnull
+    public Set<OWLAxiom> getPendingAxiomRemovals() {
+        return localReasoner != null ? localReasoner.getPendingAxiomRemovals() : Collections.emptySet();
+    }
+
+    @Nonnull
+    public List<OWLOntologyChange> getPendingChanges() {
+        return localReasoner != null ? localReasoner.getPendingChanges() : Collections.emptyList();
+    }
+
+    public void precomputeInferences(
+            @Nonnull InferenceType... inferenceTypes) throws ReasonerInterruptedException, TimeOutException, InconsistentOntologyException {
+        call(r -> {
+            r.precomputeInferences(inferenceTypes);
+            return null;
+        });
+    }
+
+    /**
+     * Interrupts the reasoner over the overlay, if it exists. The reasoner over the shared ontology is not interrupted,
+     * as it serves other transactions as well.
+     */
+    public void interrupt() {
+        if (localReasoner != null) {
+            localReasoner.interrupt();
+        }
+    }
+
+    /**
+     * Disposes of the reasoner over the overlay, if it exists. The reasoner over the shared ontology is left intact.
+     */
+    public void dispose() {
+        if (localReasoner != null) {
+            localReasoner.dispose();
+        }
+    }
+
+    /**
+     * Flushes the reasoner over the overlay if there are changes pending for it.
+     * <p>
+     * The reasoner over the shared ontology is kept up to date by {@link ReasoningService}.
+     */
+    public void flush() {
+        if (localReasoner != null && !localReasoner.getPendingChanges().isEmpty()) {
+            localReasoner.flush();
+        }
+    }
+
+    @Nonnull
+    public BufferingMode getBufferingMode() {
+        return call(r -> r.getBufferingMode());
+    }
+
+    public long getTimeOut() {
+        return call(r -> r.getTimeOut());
+    }
+
+    @Nonnull
+    public Set<InferenceType> getPrecomputableInferenceTypes() {
+        return call(r -> r.getPrecomputableInferenceTypes());
+    }
+
+    public boolean isPrecomputed(@Nonnull InferenceType inferenceType) {
+        return call(r -> r.isPrecomputed(inferenceType));
+    }
+
+    public boolean isConsistent() throws ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.isConsistent());
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getDataPropertyDomains(@Nonnull OWLDataProperty pe,
+                                                    boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getDataPropertyDomains(pe, direct));
+    }
+
+    @Nonnull
+    public Set<OWLLiteral> getDataPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                 @Nonnull OWLDataProperty pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getDataPropertyValues(ind, pe));
+    }
+
+    @Nonnull
+    public Node<OWLClass> getEquivalentClasses(
+            @Nonnull OWLClassExpression ce) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getEquivalentClasses(ce));
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getEquivalentDataProperties(
+            @Nonnull OWLDataProperty pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getEquivalentDataProperties(pe));
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getEquivalentObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getEquivalentObjectProperties(pe));
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getInstances(@Nonnull OWLClassExpression ce,
+                                                    boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getInstances(ce, direct));
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getInverseObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getInverseObjectProperties(pe));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getObjectPropertyDomains(@Nonnull OWLObjectPropertyExpression pe,
+                                                      boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getObjectPropertyDomains(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getObjectPropertyRanges(@Nonnull OWLObjectPropertyExpression pe,
+                                                     boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getObjectPropertyRanges(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getObjectPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                               @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getObjectPropertyValues(ind, pe));
+    }
+
+    @Nonnull
+    public Node<OWLNamedIndividual> getSameIndividuals(
+            @Nonnull OWLNamedIndividual ind) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSameIndividuals(ind));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getSubClasses(@Nonnull OWLClassExpression ce,
+                                           boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSubClasses(ce, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getSubDataProperties(@Nonnull OWLDataProperty pe,
+                                                         boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSubDataProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getSubObjectProperties(@Nonnull OWLObjectPropertyExpression pe,
+                                                                       boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSubObjectProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getSuperClasses(@Nonnull OWLClassExpression ce,
+                                             boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSuperClasses(ce, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getSuperDataProperties(@Nonnull OWLDataProperty pe,
+                                                           boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSuperDataProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getSuperObjectProperties(@Nonnull OWLObjectPropertyExpression pe,
+                                                                         boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getSuperObjectProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getTypes(@Nonnull OWLNamedIndividual ind,
+                                      boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getTypes(ind, direct));
+    }
+
+    @Nonnull
+    public Node<OWLClass> getUnsatisfiableClasses() throws ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getUnsatisfiableClasses());
+    }
+
+    public boolean isEntailed(
+            @Nonnull OWLAxiom axiom) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, InconsistentOntologyException {
+        return call(r -> r.isEntailed(axiom));
+    }
+
+    public boolean isEntailed(
+            @Nonnull Set<? extends OWLAxiom> axioms) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, InconsistentOntologyException {
+        return call(r -> r.isEntailed(axioms));
+    }
+
+    public boolean isEntailmentCheckingSupported(@Nonnull AxiomType<?> axiomType) {
+        return call(r -> r.isEntailmentCheckingSupported(axiomType));
+    }
+
+    public boolean isSatisfiable(
+            @Nonnull OWLClassExpression ce) throws ReasonerInterruptedException, TimeOutException, ClassExpressionNotInProfileException, InconsistentOntologyException {
+        return call(r -> r.isSatisfiable(ce));
+    }
+
+    @Nonnull
+    public Node<OWLClass> getBottomClassNode() {
+        return call(r -> r.getBottomClassNode());
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getBottomDataPropertyNode() {
+        return call(r -> r.getBottomDataPropertyNode());
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getBottomObjectPropertyNode() {
+        return call(r -> r.getBottomObjectPropertyNode());
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getDifferentIndividuals(
+            @Nonnull OWLNamedIndividual ind) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getDifferentIndividuals(ind));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getDisjointClasses(@Nonnull OWLClassExpression ce) {
+        return call(r -> r.getDisjointClasses(ce));
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getDisjointDataProperties(
+            @Nonnull OWLDataPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getDisjointDataProperties(pe));
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getDisjointObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return call(r -> r.getDisjointObjectProperties(pe));
+    }
+
+    @Nonnull
+    public IndividualNodeSetPolicy getIndividualNodeSetPolicy() {
+        return call(r -> r.getIndividualNodeSetPolicy());
+    }
+
+    @Nonnull
+    public String getReasonerName() {
+        return call(r -> r.getReasonerName());
+    }
+
+    @Nonnull
+    public Version getReasonerVersion() {
+        return call(r -> r.getReasonerVersion());
+    }
+
+    @Nonnull
+    public Node<OWLClass> getTopClassNode() {
+        return call(r -> r.getTopClassNode());
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getTopDataPropertyNode() {
+        return call(r -> r.getTopDataPropertyNode());
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getTopObjectPropertyNode() {
+        return call(r -> r.getTopObjectPropertyNode());
+    }
+
+    @Nonnull
+    public FreshEntityPolicy getFreshEntityPolicy() {
+        return call(r -> r.getFreshEntityPolicy());
+    }
+}
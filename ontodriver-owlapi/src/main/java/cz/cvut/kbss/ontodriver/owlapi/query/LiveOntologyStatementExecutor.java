@@ -55,7 +55,8 @@ class LiveOntologyStatementExecutor implements StatementExecutor {
         }
         final OWLReasoner reasonerToUse =
                 query.isDisableInference() ? getNoInferenceReasoner(snapshot) : snapshot.reasoner();
-        // Flush the reasoner to have the latest ontology state for query execution
+        // Flush the reasoner to have the latest ontology state for query execution. No-op for the shared reasoner, which
+        // is flushed only when changes are committed
         reasonerToUse.flush();
         final OWLAPIv3OWL2Ontology ont = new OWLAPIv3OWL2Ontology(snapshot.ontologyManager(),
                                                                   snapshot.ontology(), reasonerToUse);
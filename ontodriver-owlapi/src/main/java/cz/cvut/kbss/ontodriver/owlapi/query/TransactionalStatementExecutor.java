@@ -52,8 +52,6 @@ class TransactionalStatementExecutor implements StatementExecutor {
             throw new ReasonerNotAvailableException("Cannot execute query without a reasoner.");
         }
         final OWLReasoner reasonerToUse = query.isDisableInference() ? getNoInferenceReasoner() : reasoner;
-        // Flush the reasoner to have the latest ontology state for query execution
-        reasoner.flush();
         final OWLAPIv3OWL2Ontology ont = new OWLAPIv3OWL2Ontology(ontologyManager, ontology, reasonerToUse);
 
         final QueryResult<OWLObject> res = OWL2QueryEngine.exec(query.getQuery(), ont);
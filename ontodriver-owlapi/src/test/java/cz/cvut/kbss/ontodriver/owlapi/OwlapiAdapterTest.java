@@ -38,7 +38,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.semanticweb.owlapi.model.AxiomType;
@@ -80,7 +79,6 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -434,14 +432,13 @@ class OwlapiAdapterTest {
     }
 
     @Test
-    void isInferredFlushesBufferedChangesOnReasonerBeforeCheckingAxiomEntailment() {
+    void isInferredChecksAxiomEntailmentWithoutFlushingReasoner() {
         final Axiom<?> axiom = initAxiomForContains(Assertion.AssertionType.CLASS, true);
         when(reasonerMock.isEntailed(any(OWLAxiom.class))).thenReturn(true);
 
         assertTrue(sut.isInferred(axiom, Collections.emptySet()));
-        final InOrder inOrder = inOrder(reasonerMock);
-        inOrder.verify(reasonerMock).flush();
-        inOrder.verify(reasonerMock).isEntailed(any(OWLAxiom.class));
+        verify(reasonerMock).isEntailed(any(OWLAxiom.class));
+        verify(reasonerMock, never()).flush();
     }
 
     @Test
@@ -136,6 +136,20 @@ public class OwlapiConnectionTest {
         verify(adapterMock).find(descriptor);
     }
 
+    @Test
+    public void findMultipleDescriptorsDelegatesToAdapter() throws Exception {
+        final List<AxiomDescriptor> descriptors = List.of(
+                new AxiomDescriptor(NamedResource.create("http://krizik.felk.cvut.cz/ontologies/jopa#instanceOne")),
+                new AxiomDescriptor(NamedResource.create("http://krizik.felk.cvut.cz/ontologies/jopa#instanceTwo")));
+        final Collection<Axiom<?>> axioms = Collections.emptyList();
+        when(adapterMock.find(descriptors)).thenReturn(axioms);
+
+        final Collection<Axiom<?>> res = connection.find(descriptors);
+        assertSame(axioms, res);
+        verify(adapterMock).find(descriptors);
+        verify(adapterMock, never()).find(any(AxiomDescriptor.class));
+    }
+
     @Test
     public void findOnCloseThrowsIllegalState() {
         final AxiomDescriptor descriptor = new AxiomDescriptor(
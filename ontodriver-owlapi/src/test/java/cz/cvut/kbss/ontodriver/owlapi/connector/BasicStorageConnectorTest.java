@@ -22,6 +22,7 @@ import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiDataSource;
 import cz.cvut.kbss.ontodriver.owlapi.change.MutableAddAxiom;
+import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
@@ -198,7 +199,7 @@ public class BasicStorageConnectorTest {
     }
 
     @Test
-    public void getSnapshotCopiesAxiomsIntoTheTransactionOntology() throws Exception {
+    public void getSnapshotExposesAxiomsOfSharedOntologyInTheTransactionOntology() throws Exception {
         final Set<OWLAxiom> axioms = Generator.generateAxioms();
         final URI physicalUri = initOntology(axioms, false);
         final OntologyStorageProperties storageProperties = initStorageProperties(physicalUri, ONTOLOGY_URI);
@@ -209,16 +210,45 @@ public class BasicStorageConnectorTest {
     }
 
     @Test
-    public void closeSnapshotRemovesTransactionalOntologyFromManager() throws Exception {
+    public void getSnapshotDoesNotAddTransactionalOntologyToManager() throws Exception {
         final URI physicalUri = initOntology(Collections.emptySet(), false);
         final OntologyStorageProperties storageProperties = initStorageProperties(physicalUri, ONTOLOGY_URI);
         this.connector = new BasicStorageConnector(new DriverConfiguration(storageProperties));
         final OntologySnapshot snapshot = connector.getOntologySnapshot();
-        final OWLOntology transactionalOntology = snapshot.ontology();
         final OWLOntologyManager manager = snapshot.ontologyManager(); // We know this is the root manager
-        assertTrue(manager.contains(transactionalOntology));
-        connector.closeSnapshot(snapshot);
-        assertFalse(manager.contains(transactionalOntology));
+        assertFalse(manager.contains(snapshot.ontology()));
+        assertEquals(1, manager.ontologies().count());
+    }
+
+    @Test
+    public void changesAppliedToSnapshotAreNotVisibleInSharedOntologyUntilApplied() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLDataFactory df = snapshot.dataFactory();
+        final OWLClassAssertionAxiom axiom = df.getOWLClassAssertionAxiom(
+                df.getOWLClass(IRI.create(Generator.generateUri())),
+                df.getOWLNamedIndividual(IRI.create(Generator.generateUri())));
+        final List<TransactionalChange> changes = List.of(new MutableAddAxiom(snapshot.ontology(), axiom));
+        snapshot.applyChanges(changes);
+
+        assertTrue(snapshot.ontology().containsAxiom(axiom));
+        final boolean beforeApply = connector.executeRead(live -> live.ontology().containsAxiom(axiom));
+        assertFalse(beforeApply);
+        connector.applyChanges(changes);
+        final boolean afterApply = connector.executeRead(live -> live.ontology().containsAxiom(axiom));
+        assertTrue(afterApply);
+    }
+
+    @Test
+    public void changesAppliedToSharedOntologyAreVisibleInExistingSnapshot() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+        assertTrue(snapshot.ontology().containsClassInSignature(cls.getIRI()));
     }
 
     @Test
@@ -0,0 +1,197 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import org.semanticweb.owlapi.search.EntitySearcher;
+
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OverlayOntologyTest {
+
+    private OWLOntologyManager manager;
+    private OWLDataFactory dataFactory;
+    private OWLOntology shared;
+
+    private OverlayOntology sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.manager = OWLManager.createOWLOntologyManager();
+        this.dataFactory = manager.getOWLDataFactory();
+        this.shared = manager.createOntology(IRI.create(Generator.generateUri()));
+        this.sut = new OverlayOntology(shared, manager, new ReentrantReadWriteLock().readLock());
+    }
+
+    @Test
+    void overlayContainsAxiomsOfSharedOntologyAndAxiomsAddedToIt() {
+        final OWLAxiom sharedAxiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(shared, sharedAxiom));
+        final OWLAxiom addedAxiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(sut, addedAxiom));
+
+        assertTrue(sut.containsAxiom(sharedAxiom));
+        assertTrue(sut.containsAxiom(addedAxiom));
+        assertFalse(shared.containsAxiom(addedAxiom));
+        assertEquals(Set.of(sharedAxiom, addedAxiom), sut.axioms().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void axiomRemovedFromOverlayIsNotVisibleInItButRemainsInSharedOntology() {
+        final OWLNamedIndividual individual = individual();
+        final OWLAxiom axiom = classAssertion(individual);
+        manager.applyChange(new AddAxiom(shared, axiom));
+
+        assertEquals(ChangeApplied.SUCCESSFULLY, manager.applyChange(new RemoveAxiom(sut, axiom)));
+        assertFalse(sut.containsAxiom(axiom));
+        assertEquals(0, sut.classAssertionAxioms(individual).count());
+        assertTrue(shared.containsAxiom(axiom));
+    }
+
+    @Test
+    void entityIsNotInSignatureOfOverlayWhenAllAxiomsReferencingItAreRemoved() {
+        final OWLNamedIndividual individual = individual();
+        final OWLAxiom axiomOne = classAssertion(individual);
+        final OWLAxiom axiomTwo = classAssertion(individual);
+        manager.applyChange(new AddAxiom(shared, axiomOne));
+        manager.applyChange(new AddAxiom(shared, axiomTwo));
+
+        manager.applyChange(new RemoveAxiom(sut, axiomOne));
+        assertTrue(sut.containsIndividualInSignature(individual.getIRI()));
+        manager.applyChange(new RemoveAxiom(sut, axiomTwo));
+        assertFalse(sut.containsIndividualInSignature(individual.getIRI()));
+        assertFalse(sut.individualsInSignature().anyMatch(individual::equals));
+        assertTrue(shared.containsIndividualInSignature(individual.getIRI()));
+    }
+
+    @Test
+    void entitySearcherCombinesSharedAndAddedAxiomsOfIndividual() {
+        final OWLNamedIndividual individual = individual();
+        final OWLClassAssertionAxiom sharedAxiom = classAssertion(individual);
+        manager.applyChange(new AddAxiom(shared, sharedAxiom));
+        final OWLClassAssertionAxiom addedAxiom = classAssertion(individual);
+        manager.applyChange(new AddAxiom(sut, addedAxiom));
+
+        final Set<OWLClass> types = EntitySearcher.getTypes(individual, sut.importsClosure())
+                                                  .map(OWLClassExpression::asOWLClass).collect(Collectors.toSet());
+        assertEquals(Set.of(sharedAxiom.getClassExpression().asOWLClass(),
+                addedAxiom.getClassExpression().asOWLClass()), types);
+    }
+
+    @Test
+    void overlaySeesAxiomsAddedToSharedOntologyAfterItsCreation() {
+        final OWLAxiom axiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(shared, axiom));
+        assertTrue(sut.containsAxiom(axiom));
+    }
+
+    @Test
+    void axiomCountReflectsAxiomsAddedAndRemovedByOverlay() {
+        final OWLAxiom sharedOne = classAssertion(individual());
+        final OWLAxiom sharedTwo = classAssertion(individual());
+        manager.applyChange(new AddAxiom(shared, sharedOne));
+        manager.applyChange(new AddAxiom(shared, sharedTwo));
+        manager.applyChange(new RemoveAxiom(sut, sharedOne));
+        manager.applyChange(new AddAxiom(sut, classAssertion(individual())));
+        manager.applyChange(new AddAxiom(sut, dataFactory.getOWLDeclarationAxiom(individual())));
+
+        assertEquals(3, sut.getAxiomCount());
+        assertEquals(2, sut.getLogicalAxiomCount());
+        assertEquals(sut.axioms().count(), sut.getAxiomCount());
+    }
+
+    @Test
+    void addingAxiomAlreadyInSharedOntologyIsNoOperation() {
+        final OWLAxiom axiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(shared, axiom));
+
+        assertEquals(ChangeApplied.NO_OPERATION, manager.applyChange(new AddAxiom(sut, axiom)));
+        assertFalse(sut.isModified());
+    }
+
+    @Test
+    void addingPreviouslyRemovedAxiomMakesItVisibleAgain() {
+        final OWLAxiom axiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(shared, axiom));
+        manager.applyChange(new RemoveAxiom(sut, axiom));
+
+        manager.applyChange(new AddAxiom(sut, axiom));
+        assertTrue(sut.containsAxiom(axiom));
+        assertEquals(1, sut.axioms().count());
+    }
+
+    @Test
+    void removingAxiomAddedByOverlayLeavesOverlayUnmodified() {
+        final OWLAxiom axiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(sut, axiom));
+
+        manager.applyChange(new RemoveAxiom(sut, axiom));
+        assertFalse(sut.containsAxiom(axiom));
+        assertFalse(sut.isModified());
+    }
+
+    @Test
+    void nonAxiomChangesCannotBeAppliedToOverlay() {
+        final AddImport change = new AddImport(sut,
+                dataFactory.getOWLImportsDeclaration(IRI.create(Generator.generateUri())));
+        assertEquals(ChangeApplied.UNSUCCESSFULLY, sut.applyDirectChange(change));
+    }
+
+    @Test
+    void readsOfSharedOntologyAreGuardedByReadLock() {
+        final Lock lock = mock(Lock.class);
+        final OverlayOntology overlay = new OverlayOntology(shared, manager, lock);
+        overlay.containsAxiom(classAssertion(individual()));
+        verify(lock).lock();
+        verify(lock).unlock();
+    }
+
+    private OWLNamedIndividual individual() {
+        return dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+    }
+
+    private OWLClassAssertionAxiom classAssertion(OWLNamedIndividual individual) {
+        return dataFactory.getOWLClassAssertionAxiom(dataFactory.getOWLClass(IRI.create(Generator.generateUri())),
+                individual);
+    }
+}
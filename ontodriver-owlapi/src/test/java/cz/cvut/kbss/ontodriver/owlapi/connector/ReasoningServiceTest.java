@@ -0,0 +1,159 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.NodeSet;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.impl.OWLClassNodeSet;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReasoningServiceTest {
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    @Mock
+    private OWLReasoner reasonerMock;
+
+    @Mock
+    private OWLOntology ontologyMock;
+
+    @Test
+    void getReasonerReturnsNullWhenReasonerIsNotAvailable() {
+        assertNull(new ReasoningService(null, true).getReasoner());
+    }
+
+    @Test
+    void getReasonerReturnsCachingReasonerWhenEntailmentCachingIsEnabled() {
+        assertInstanceOf(CachingReasoner.class, new ReasoningService(reasonerMock, true).getReasoner());
+    }
+
+    @Test
+    void getReasonerReturnsNonCachingSharedReasonerWhenEntailmentCachingIsDisabled() {
+        final OWLReasoner result = new ReasoningService(reasonerMock, false).getReasoner();
+        assertInstanceOf(SharedReasoner.class, result);
+        assertFalse(result instanceof CachingReasoner);
+    }
+
+    @Test
+    void changesAppliedFlushesReasonerOnceForAllChanges() {
+        final ReasoningService sut = new ReasoningService(reasonerMock, false);
+        sut.changesApplied(List.of(new AddAxiom(ontologyMock, classAssertion(individual())),
+                new AddAxiom(ontologyMock, classAssertion(individual()))));
+        verify(reasonerMock).flush();
+    }
+
+    @Test
+    void cachingReasonerReturnsCachedTypesUntilLogicalAxiomChangeIsApplied() {
+        final OWLNamedIndividual individual = individual();
+        final NodeSet<OWLClass> types = new OWLClassNodeSet(dataFactory.getOWLClass(IRI.create(Generator.generateUri())));
+        when(reasonerMock.getTypes(individual, false)).thenReturn(types);
+        final ReasoningService sut = new ReasoningService(reasonerMock, true);
+
+        assertSame(types, sut.getReasoner().getTypes(individual, false));
+        assertSame(types, sut.getReasoner().getTypes(individual, false));
+        verify(reasonerMock).getTypes(individual, false);
+
+        sut.changesApplied(List.of(new AddAxiom(ontologyMock, classAssertion(individual()))));
+        assertSame(types, sut.getReasoner().getTypes(individual, false));
+        verify(reasonerMock, times(2)).getTypes(individual, false);
+    }
+
+    @Test
+    void changesAppliedKeepsCachedEntailmentsWhenOnlyNonLogicalAxiomsChanged() {
+        final OWLNamedIndividual individual = individual();
+        final NodeSet<OWLClass> types = new OWLClassNodeSet();
+        when(reasonerMock.getTypes(individual, true)).thenReturn(types);
+        final ReasoningService sut = new ReasoningService(reasonerMock, true);
+
+        sut.getReasoner().getTypes(individual, true);
+        sut.changesApplied(List.of(new AddAxiom(ontologyMock, dataFactory.getOWLAnnotationAssertionAxiom(
+                dataFactory.getRDFSLabel(), individual.getIRI(), dataFactory.getOWLLiteral("label")))));
+        sut.getReasoner().getTypes(individual, true);
+        verify(reasonerMock).getTypes(individual, true);
+        verify(reasonerMock).flush();
+    }
+
+    @Test
+    void cachingReasonerDoesNotCacheEntailmentOfNonLogicalAxioms() {
+        final OWLAnnotationAssertionAxiom axiom = dataFactory.getOWLAnnotationAssertionAxiom(
+                dataFactory.getRDFSLabel(), individual().getIRI(), dataFactory.getOWLLiteral("label"));
+        when(reasonerMock.isEntailed(axiom)).thenReturn(false, true);
+        final ReasoningService sut = new ReasoningService(reasonerMock, true);
+
+        assertFalse(sut.getReasoner().isEntailed(axiom));
+        sut.changesApplied(List.of(new AddAxiom(ontologyMock, axiom)));
+        assertTrue(sut.getReasoner().isEntailed(axiom));
+        verify(reasonerMock, times(2)).isEntailed(axiom);
+    }
+
+    @Test
+    void cachingReasonerCachesEntailmentOfLogicalAxioms() {
+        final OWLClassAssertionAxiom axiom = classAssertion(individual());
+        when(reasonerMock.isEntailed(axiom)).thenReturn(true);
+        final ReasoningService sut = new ReasoningService(reasonerMock, true);
+
+        assertTrue(sut.getReasoner().isEntailed(axiom));
+        assertTrue(sut.getReasoner().isEntailed(axiom));
+        verify(reasonerMock).isEntailed(axiom);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void sharedReasonerFlushDoesNotFlushWrappedReasoner(boolean cacheEntailments) {
+        final ReasoningService sut = new ReasoningService(reasonerMock, cacheEntailments);
+        sut.getReasoner().flush();
+        verify(reasonerMock, never()).flush();
+    }
+
+    private OWLNamedIndividual individual() {
+        return dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+    }
+
+    private OWLClassAssertionAxiom classAssertion(OWLNamedIndividual individual) {
+        return dataFactory.getOWLClassAssertionAxiom(dataFactory.getOWLClass(IRI.create(Generator.generateUri())),
+                individual);
+    }
+}
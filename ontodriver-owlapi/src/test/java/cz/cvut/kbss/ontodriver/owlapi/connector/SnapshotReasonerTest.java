@@ -0,0 +1,127 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SnapshotReasonerTest {
+
+    private OWLOntologyManager manager;
+    private OWLDataFactory dataFactory;
+    private OWLOntology shared;
+
+    private Lock readLock;
+    private OWLReasoner sharedReasoner;
+    private OWLReasonerFactory reasonerFactory;
+
+    private OverlayOntology overlay;
+
+    private SnapshotReasoner sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.manager = OWLManager.createOWLOntologyManager();
+        this.dataFactory = manager.getOWLDataFactory();
+        this.shared = manager.createOntology(IRI.create(Generator.generateUri()));
+        this.readLock = mock(Lock.class);
+        this.sharedReasoner = mock(OWLReasoner.class);
+        this.reasonerFactory = spy(new StructuralReasonerFactory());
+        this.overlay = new OverlayOntology(shared, manager, readLock);
+        this.sut = new SnapshotReasoner(overlay, () -> sharedReasoner, reasonerFactory, readLock);
+    }
+
+    @Test
+    void callsOnUnmodifiedOverlayAreForwardedToSharedReasonerUnderReadLock() {
+        final OWLNamedIndividual individual = individual();
+        sut.getTypes(individual, false);
+
+        verify(sharedReasoner).getTypes(individual, false);
+        verify(readLock).lock();
+        verify(readLock).unlock();
+        verify(reasonerFactory, never()).createReasoner(any());
+    }
+
+    @Test
+    void reasonerOverOverlayIsCreatedOnceOnlyWhenOverlayIsModified() {
+        final OWLClassAssertionAxiom axiom = classAssertion(individual());
+        manager.applyChange(new AddAxiom(overlay, axiom));
+
+        assertTrue(sut.getTypes(axiom.getIndividual().asOWLNamedIndividual(), true).containsEntity(
+                axiom.getClassExpression().asOWLClass()));
+        sut.isConsistent();
+        verify(reasonerFactory).createReasoner(overlay);
+        verify(sharedReasoner, never()).getTypes(any(), any(Boolean.class));
+    }
+
+    @Test
+    void reasonerOverOverlayIsFlushedWhenFurtherChangesArePending() {
+        final OWLNamedIndividual individual = individual();
+        manager.applyChange(new AddAxiom(overlay, classAssertion(individual)));
+        assertEquals(1, sut.getTypes(individual, true).entities().count());
+
+        final OWLClassAssertionAxiom another = classAssertion(individual);
+        manager.applyChange(new AddAxiom(overlay, another));
+        assertTrue(sut.getTypes(individual, true).containsEntity(another.getClassExpression().asOWLClass()));
+        assertTrue(sut.getPendingChanges().isEmpty());
+    }
+
+    @Test
+    void disposeDoesNotDisposeSharedReasoner() {
+        sut.dispose();
+        verify(sharedReasoner, never()).dispose();
+    }
+
+    @Test
+    void flushDoesNotFlushSharedReasoner() {
+        sut.flush();
+        verify(sharedReasoner, never()).flush();
+    }
+
+    private OWLNamedIndividual individual() {
+        return dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+    }
+
+    private OWLClassAssertionAxiom classAssertion(OWLNamedIndividual individual) {
+        final OWLClass cls = dataFactory.getOWLClass(IRI.create(Generator.generateUri()));
+        return dataFactory.getOWLClassAssertionAxiom(cls, individual);
+    }
+}
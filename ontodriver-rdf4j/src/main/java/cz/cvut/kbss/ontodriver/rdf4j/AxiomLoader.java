@@ -28,11 +28,19 @@ import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoader;
 import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 class AxiomLoader {
 
+    /**
+     * Maximum number of subjects whose statements are fetched in one request.
+     */
+    static final int BATCH_SIZE = 256;
+
     private final RepoConnection connector;
 
     private final Map<IRI, Assertion> propertyToAssertion;
@@ -57,6 +65,7 @@ class AxiomLoader {
         final AxiomBuilder axiomBuilder = new AxiomBuilder(descriptor.getSubject(), propertyToAssertion, unspecified);
         final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
         statementLoader.setLoadAllThreshold(config.getLoadAllThreshold());
+        statementLoader.setMergePropertyLookups(config.isMergePropertyLookups());
         if (unspecified == null || !unspecified.isInferred()) {
             statementLoader.setIncludeInferred(false);
             result.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions));
@@ -66,6 +75,50 @@ class AxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms of multiple subjects.
+     * <p>
+     * Subjects whose descriptors request the same properties in the same contexts are fetched together, one request is
+     * issued per {@link #BATCH_SIZE} such subjects. Typically, all the descriptors are of the same entity type, so
+     * there are at most two requests (explicit and inferred statements) per batch. The statements are then processed
+     * by the regular statement loaders, so the result is the same as if each descriptor was loaded separately.
+     *
+     * @param descriptors Descriptors of the axioms to load
+     * @return Loaded axioms
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Axiom<?>> loadAxioms(Collection<AxiomDescriptor> descriptors) throws Rdf4jDriverException {
+        final List<SubjectLoader> loaders = descriptors.stream().map(SubjectLoader::new).toList();
+        final Map<Lookup, Set<IRI>> lookups = new LinkedHashMap<>();
+        for (SubjectLoader loader : loaders) {
+            if (loader.loadsExplicit()) {
+                loader.registerLookups(lookups, loader.explicit, false);
+            }
+            if (loader.loadsInferred()) {
+                loader.registerLookups(lookups, loader.inferred, true);
+            }
+        }
+        final Map<Resource, List<Statement>> explicit = new HashMap<>();
+        final Map<Resource, List<Statement>> inferred = new HashMap<>();
+        for (Map.Entry<Lookup, Set<IRI>> e : lookups.entrySet()) {
+            prefetch(e.getKey(), List.copyOf(e.getValue()), e.getKey().includeInferred() ? inferred : explicit);
+        }
+        final Collection<Axiom<?>> result = new HashSet<>();
+        for (SubjectLoader loader : loaders) {
+            result.addAll(loader.load(explicit, inferred));
+        }
+        return result;
+    }
+
+    private void prefetch(Lookup lookup, List<IRI> subjects, Map<Resource, List<Statement>> result)
+            throws Rdf4jDriverException {
+        for (int i = 0; i < subjects.size(); i += BATCH_SIZE) {
+            final List<IRI> batch = subjects.subList(i, Math.min(i + BATCH_SIZE, subjects.size()));
+            connector.findStatements(batch, lookup.properties(), lookup.includeInferred(), lookup.contexts())
+                     .forEach(s -> result.computeIfAbsent(s.getSubject(), k -> new ArrayList<>()).add(s));
+        }
+    }
+
     private StatementLoader createLoader(NamedResource individual, AxiomBuilder axiomBuilder) {
         final IRI subject = Rdf4jUtils.toRdf4jIri(individual.getIdentifier(), connector.getValueFactory());
         return config.getStatementLoaderFactory().create(connector, subject, axiomBuilder);
@@ -83,17 +136,22 @@ class AxiomLoader {
         final Set<Assertion> assertions = descriptor.getAssertions();
         this.explicitAssertions = new HashMap<>(assertions.size());
         this.inferredAssertions = new HashMap<>(assertions.size());
+        return splitAssertions(assertions, propertyToAssertion, explicitAssertions, inferredAssertions);
+    }
+
+    private Assertion splitAssertions(Set<Assertion> assertions, Map<IRI, Assertion> all, Map<IRI, Assertion> explicit,
+                                      Map<IRI, Assertion> inferred) {
         Assertion unspecified = null;
         for (Assertion a : assertions) {
             final IRI property = Rdf4jUtils.toRdf4jIri(a.getIdentifier(), connector.getValueFactory());
-            propertyToAssertion.put(property, a);
+            all.put(property, a);
             if (a.equals(Assertion.createUnspecifiedPropertyAssertion(a.isInferred()))) {
                 unspecified = a;
             }
             if (a.isInferred()) {
-                inferredAssertions.put(property, a);
+                inferred.put(property, a);
             } else {
-                explicitAssertions.put(property, a);
+                explicit.put(property, a);
             }
         }
         return unspecified;
@@ -106,4 +164,87 @@ class AxiomLoader {
         final StatementLoader loader = createLoader(individual, axiomBuilder);
         return loader.loadAxioms(context != null ? Collections.singleton(context) : Collections.emptySet());
     }
+
+    /**
+     * Loads axioms of a single subject from prefetched statements.
+     */
+    private final class SubjectLoader {
+
+        private final AxiomDescriptor descriptor;
+        private final IRI subject;
+        private final Map<IRI, Assertion> explicit = new HashMap<>();
+        private final Map<IRI, Assertion> inferred = new HashMap<>();
+        private final Assertion unspecified;
+        private final StatementLoader statementLoader;
+
+        private SubjectLoader(AxiomDescriptor descriptor) {
+            this.descriptor = descriptor;
+            this.subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(), connector.getValueFactory());
+            final Map<IRI, Assertion> properties = new HashMap<>();
+            this.unspecified = splitAssertions(descriptor.getAssertions(), properties, explicit, inferred);
+            this.statementLoader = createLoader(descriptor.getSubject(),
+                    new AxiomBuilder(descriptor.getSubject(), properties, unspecified));
+        }
+
+        private boolean loadsExplicit() {
+            return (unspecified == null || !unspecified.isInferred()) && !explicit.isEmpty();
+        }
+
+        private boolean loadsInferred() {
+            return !inferred.isEmpty();
+        }
+
+        /**
+         * Registers lookups of statements of this loader's subject needed to load the specified assertions.
+         * <p>
+         * Properties are grouped by their contexts, the unspecified property causes all statements in its contexts to
+         * be looked up.
+         */
+        private void registerLookups(Map<Lookup, Set<IRI>> lookups, Map<IRI, Assertion> assertions,
+                                     boolean includeInferred) {
+            final Assertion unspecifiedProperty = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
+            final Map<Set<IRI>, Set<IRI>> propertiesByContexts = new HashMap<>();
+            final Set<Set<IRI>> allPropertiesContexts = new HashSet<>();
+            for (Map.Entry<IRI, Assertion> e : assertions.entrySet()) {
+                final Set<IRI> contexts = descriptor.getAssertionContexts(e.getValue()).stream()
+                                                    .map(uri -> Rdf4jUtils.toRdf4jIri(uri, connector.getValueFactory()))
+                                                    .collect(Collectors.toSet());
+                if (e.getValue().equals(unspecifiedProperty)) {
+                    allPropertiesContexts.add(contexts);
+                } else {
+                    propertiesByContexts.computeIfAbsent(contexts, k -> new HashSet<>()).add(e.getKey());
+                }
+            }
+            allPropertiesContexts.forEach(propertiesByContexts::remove);
+            allPropertiesContexts.forEach(contexts -> lookups.computeIfAbsent(
+                    new Lookup(contexts, null, includeInferred), k -> new LinkedHashSet<>()).add(subject));
+            propertiesByContexts.forEach((contexts, properties) -> lookups.computeIfAbsent(
+                    new Lookup(contexts, properties, includeInferred), k -> new LinkedHashSet<>()).add(subject));
+        }
+
+        private Collection<Axiom<?>> load(Map<Resource, List<Statement>> explicitStatements,
+                                          Map<Resource, List<Statement>> inferredStatements) {
+            final Collection<Axiom<?>> result = new HashSet<>();
+            if (loadsExplicit()) {
+                statementLoader.setIncludeInferred(false);
+                result.addAll(statementLoader.loadAxioms(descriptor, explicit,
+                        explicitStatements.getOrDefault(subject, Collections.emptyList())));
+            }
+            if (loadsInferred()) {
+                statementLoader.setIncludeInferred(true);
+                result.addAll(statementLoader.loadAxioms(descriptor, inferred,
+                        inferredStatements.getOrDefault(subject, Collections.emptyList())));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Statements looked up together for multiple subjects.
+     *
+     * @param contexts        Contexts to search, empty for the default context
+     * @param properties      Properties of the statements, {@code null} for any property
+     * @param includeInferred Whether to include inferred statements
+     */
+    private record Lookup(Set<IRI> contexts, Set<IRI> properties, boolean includeInferred) {}
 }
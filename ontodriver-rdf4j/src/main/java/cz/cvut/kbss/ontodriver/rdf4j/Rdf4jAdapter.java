@@ -207,6 +207,11 @@ public class Rdf4jAdapter implements Closeable, Wrapper {
         return new AxiomLoader(connector, config).loadAxioms(axiomDescriptor);
     }
 
+    Collection<Axiom<?>> find(Collection<AxiomDescriptor> axiomDescriptors) throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        return new AxiomLoader(connector, config).loadAxioms(axiomDescriptors);
+    }
+
     void persist(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
@@ -41,9 +41,10 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
 
     private static final List<ConfigurationParameter> CONFIGS = List.of(DriverConfigParam.AUTO_COMMIT,
             Rdf4jConfigParam.USE_INFERENCE, Rdf4jConfigParam.USE_VOLATILE_STORAGE, Rdf4jConfigParam.LOAD_ALL_THRESHOLD,
-            Rdf4jConfigParam.RECONNECT_ATTEMPTS, Rdf4jConfigParam.REPOSITORY_CONFIG,
+            Rdf4jConfigParam.MERGE_PROPERTY_LOOKUPS, Rdf4jConfigParam.RECONNECT_ATTEMPTS, Rdf4jConfigParam.REPOSITORY_CONFIG,
             Rdf4jConfigParam.INFERENCE_IN_DEFAULT_CONTEXT, Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL,
-            Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT);
+            Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT,
+            Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MAX_IDLE, Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MIN_IDLE);
 
     private final DriverConfiguration configuration;
     private boolean open;
@@ -31,6 +31,7 @@ public enum Rdf4jConfigParam implements ConfigurationParameter {
     USE_VOLATILE_STORAGE(Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE),
     USE_INFERENCE(Rdf4jOntoDriverProperties.USE_INFERENCE),
     LOAD_ALL_THRESHOLD(Rdf4jOntoDriverProperties.LOAD_ALL_THRESHOLD),
+    MERGE_PROPERTY_LOOKUPS(Rdf4jOntoDriverProperties.MERGE_PROPERTY_LOOKUPS),
     USERNAME(OntoDriverProperties.DATA_SOURCE_USERNAME),
     PASSWORD(OntoDriverProperties.DATA_SOURCE_PASSWORD),
     REPOSITORY_CONFIG(Rdf4jOntoDriverProperties.REPOSITORY_CONFIG),
@@ -38,6 +39,8 @@ public enum Rdf4jConfigParam implements ConfigurationParameter {
     INFERENCE_IN_DEFAULT_CONTEXT(Rdf4jOntoDriverProperties.INFERENCE_IN_DEFAULT_CONTEXT),
     CONNECTION_REQUEST_TIMEOUT(Rdf4jOntoDriverProperties.CONNECTION_REQUEST_TIMEOUT),
     MAX_CONNECTION_POOL_SIZE(Rdf4jOntoDriverProperties.MAX_CONNECTION_POOL_SIZE),
+    REPOSITORY_CONNECTION_POOL_MAX_IDLE(Rdf4jOntoDriverProperties.REPOSITORY_CONNECTION_POOL_MAX_IDLE),
+    REPOSITORY_CONNECTION_POOL_MIN_IDLE(Rdf4jOntoDriverProperties.REPOSITORY_CONNECTION_POOL_MIN_IDLE),
     TRANSACTION_ISOLATION_LEVEL(Rdf4jOntoDriverProperties.TRANSACTION_ISOLATION_LEVEL);
 
     private final String name;
@@ -52,6 +52,19 @@ public abstract class Rdf4jOntoDriverProperties {
      */
     public static final String LOAD_ALL_THRESHOLD = "cz.cvut.kbss.ontodriver.rdf4j.load-all-threshold";
 
+    /**
+     * Whether statements of multiple properties should be loaded using a single query.
+     * <p>
+     * When the number of assertions requested by an {@link cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor} is
+     * below {@link #LOAD_ALL_THRESHOLD}, statements are by default loaded separately for each property. This can be
+     * expensive when accessing a remote repository, as each lookup is a separate request. Setting this parameter to
+     * {@code true} causes the properties to be bound using a {@code VALUES} clause of a single SPARQL query (per set of
+     * contexts), so that loading an entity costs a single request.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String MERGE_PROPERTY_LOOKUPS = "cz.cvut.kbss.ontodriver.rdf4j.merge-property-lookups";
+
     /**
      * Path to repository configuration file.
      * <p>
@@ -130,6 +143,28 @@ public abstract class Rdf4jOntoDriverProperties {
      */
     public static final String MAX_CONNECTION_POOL_SIZE = "cz.cvut.kbss.ontodriver.rdf4j.max-connections";
 
+    /**
+     * Maximum number of idle repository connections kept for reuse.
+     * <p>
+     * By default, the driver acquires a new repository connection for every transaction and every query executed
+     * outside a transaction and closes it afterwards. When this parameter is set to a positive number, repository
+     * connections are instead returned into a pool shared by all connections of the driver and reused. This saves
+     * connection churn especially for read-only traffic against a remote repository.
+     * <p>
+     * The value should be a non-negative integer, defaults to 0, i.e., no pooling.
+     *
+     * @see #REPOSITORY_CONNECTION_POOL_MIN_IDLE
+     */
+    public static final String REPOSITORY_CONNECTION_POOL_MAX_IDLE = "cz.cvut.kbss.ontodriver.rdf4j.repository-connection-pool.max-idle";
+
+    /**
+     * Minimum number of idle repository connections the pool tries to keep ready.
+     * <p>
+     * Applies only when pooling is enabled via {@link #REPOSITORY_CONNECTION_POOL_MAX_IDLE}. The value must not exceed
+     * the maximum number of idle connections. Defaults to 0.
+     */
+    public static final String REPOSITORY_CONNECTION_POOL_MIN_IDLE = "cz.cvut.kbss.ontodriver.rdf4j.repository-connection-pool.min-idle";
+
     /**
      * RDF4J transaction isolation level.
      * <p>
@@ -28,16 +28,23 @@ public class RuntimeConfiguration {
 
     private final int loadAllThreshold;
 
+    private final boolean mergePropertyLookups;
+
     private StatementLoaderFactory statementLoaderFactory = new DefaultStatementLoaderFactory();
 
     public RuntimeConfiguration(DriverConfiguration config) {
         this.loadAllThreshold = config.getProperty(Rdf4jConfigParam.LOAD_ALL_THRESHOLD, Constants.DEFAULT_LOAD_ALL_THRESHOLD);
+        this.mergePropertyLookups = config.is(Rdf4jConfigParam.MERGE_PROPERTY_LOOKUPS);
     }
 
     public int getLoadAllThreshold() {
         return loadAllThreshold;
     }
 
+    public boolean isMergePropertyLookups() {
+        return mergePropertyLookups;
+    }
+
     public StatementLoaderFactory getStatementLoaderFactory() {
         return statementLoaderFactory;
     }
@@ -125,6 +125,59 @@ public interface RepoConnection extends Closeable, StatementExecutor, Wrapper {
                                          boolean includeInferred, Set<IRI> contexts)
             throws Rdf4jDriverException;
 
+    /**
+     * Finds statements with any of the specified subjects and properties.
+     * <p>
+     * The statements are loaded in a single request.
+     *
+     * @param subjects        Statement subjects
+     * @param properties      Statement properties, {@code null} indicates statements with any property should be found
+     * @param includeInferred Whether to include inferred statements as well
+     * @param contexts        Contexts in which the search should be performed. Empty collection indicates the default
+     *                        context will be searched
+     * @return Collection of matching statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Statement> findStatements(Collection<? extends Resource> subjects, Collection<IRI> properties,
+                                         boolean includeInferred, Set<IRI> contexts) throws Rdf4jDriverException;
+
+    /**
+     * Finds statements with the specified subject and any of the specified properties.
+     * <p>
+     * The statements are loaded in a single request.
+     *
+     * @param subject         Statement subject
+     * @param properties      Statement properties
+     * @param includeInferred Whether to include inferred statements as well
+     * @param contexts        Contexts in which the search should be performed. Empty collection indicates the default
+     *                        context will be searched
+     * @return Collection of matching statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Statement> findStatements(Resource subject, Collection<IRI> properties, boolean includeInferred,
+                                         Set<IRI> contexts) throws Rdf4jDriverException;
+
+    /**
+     * Finds statements constituting a list in a single request.
+     * <p>
+     * The result contains the statement connecting the list owner to the list head, successor statements of all the
+     * nodes reachable from the head and, if {@code hasContent} is specified, content statements of these nodes. The
+     * statements are not ordered, it is up to the caller to reconstruct the list.
+     *
+     * @param owner           List owner
+     * @param hasList         Property connecting the owner to the list head
+     * @param hasNext         Property connecting list nodes to their successors
+     * @param hasContent      Property connecting list nodes to their content, optional
+     * @param includeInferred Whether to include inferred statements as well
+     * @param contexts        Contexts in which the search should be performed. Empty collection indicates the default
+     *                        context will be searched
+     * @return Collection of list statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Statement> findListStatements(Resource owner, IRI hasList, IRI hasNext, IRI hasContent,
+                                             boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException;
+
     /**
      * Checks whether the repository contains any statements matching the specified criteria.
      *
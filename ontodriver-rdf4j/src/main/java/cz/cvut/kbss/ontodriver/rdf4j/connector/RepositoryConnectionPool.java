@@ -0,0 +1,254 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.base.RepositoryConnectionWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of {@link RepositoryConnection}s which allows reusing repository connections across statements and driver
+ * connections.
+ * <p>
+ * Connections acquired from the pool are leases, closing them returns the underlying repository connection into the
+ * pool instead of closing it. At most {@code maxIdle} connections are kept in the pool, surplus connections are closed
+ * when returned. The pool tries to keep at least {@code minIdle} connections ready.
+ * <p>
+ * Idle connections are validated before they are leased, invalid connections are discarded.
+ */
+public class RepositoryConnectionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RepositoryConnectionPool.class);
+
+    private final ConnectionSupplier supplier;
+    private final int minIdle;
+    private final int maxIdle;
+
+    private final Deque<RepositoryConnection> idle = new ArrayDeque<>();
+
+    // Incremented when the pool is cleared, connections from previous generations are not returned into the pool
+    private int generation;
+    private boolean open = true;
+
+    private int leased;
+    private long created;
+    private long reused;
+    private long discarded;
+
+    public RepositoryConnectionPool(ConnectionSupplier supplier, int minIdle, int maxIdle) {
+        assert minIdle >= 0 && minIdle <= maxIdle;
+        this.supplier = supplier;
+        this.minIdle = minIdle;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Acquires a connection lease from the pool.
+     * <p>
+     * If there is no valid idle connection in the pool, a new one is created.
+     *
+     * @return Repository connection which is returned into the pool when closed
+     * @throws Rdf4jDriverException If unable to create a new repository connection
+     */
+    public RepositoryConnection acquire() throws Rdf4jDriverException {
+        final int gen;
+        synchronized (this) {
+            ensureOpen();
+            RepositoryConnection conn;
+            while ((conn = idle.pollFirst()) != null) {
+                if (isValid(conn)) {
+                    leased++;
+                    reused++;
+                    return new PooledConnection(conn, generation);
+                }
+                discard(conn);
+            }
+            gen = generation;
+            leased++;
+        }
+        try {
+            final RepositoryConnection conn = supplier.get();
+            synchronized (this) {
+                created++;
+            }
+            return new PooledConnection(conn, gen);
+        } catch (Rdf4jDriverException | RuntimeException e) {
+            synchronized (this) {
+                leased--;
+            }
+            throw e;
+        }
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new IllegalStateException("Connection pool is closed.");
+        }
+    }
+
+    private static boolean isValid(RepositoryConnection conn) {
+        try {
+            return conn.isOpen() && !conn.isActive();
+        } catch (RepositoryException e) {
+            LOG.trace("Validation of pooled repository connection failed.", e);
+            return false;
+        }
+    }
+
+    private void discard(RepositoryConnection conn) {
+        discarded++;
+        try {
+            if (conn.isOpen()) {
+                conn.close();
+            }
+        } catch (RepositoryException e) {
+            LOG.warn("Unable to close discarded repository connection.", e);
+        }
+    }
+
+    private synchronized void release(RepositoryConnection conn, int gen) {
+        leased--;
+        try {
+            if (conn.isOpen() && conn.isActive()) {
+                LOG.warn("Repository connection returned into pool with an active transaction, rolling it back.");
+                conn.rollback();
+            }
+        } catch (RepositoryException e) {
+            LOG.warn("Unable to roll back transaction of a released repository connection.", e);
+        }
+        if (!open || gen != generation || idle.size() >= maxIdle || !isValid(conn)) {
+            discard(conn);
+        } else {
+            idle.offerFirst(conn);
+        }
+    }
+
+    /**
+     * Creates new connections until there are at least {@code minIdle} idle connections in the pool.
+     *
+     * @throws Rdf4jDriverException If unable to create a new repository connection
+     */
+    public void ensureMinIdle() throws Rdf4jDriverException {
+        while (true) {
+            synchronized (this) {
+                ensureOpen();
+                if (idle.size() >= minIdle) {
+                    return;
+                }
+            }
+            final RepositoryConnection conn = supplier.get();
+            synchronized (this) {
+                created++;
+                if (idle.size() < minIdle) {
+                    idle.offerLast(conn);
+                } else {
+                    discard(conn);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all idle connections.
+     * <p>
+     * Connections which are currently leased will be closed when returned.
+     */
+    public synchronized void clear() {
+        generation++;
+        RepositoryConnection conn;
+        while ((conn = idle.pollFirst()) != null) {
+            discard(conn);
+        }
+    }
+
+    /**
+     * Closes all idle connections and prevents further connection acquisition.
+     */
+    public synchronized void close() {
+        clear();
+        this.open = false;
+    }
+
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Gets current statistics of this pool.
+     *
+     * @return Snapshot of pool statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(idle.size(), leased, created, reused, discarded);
+    }
+
+    /**
+     * Snapshot of connection pool statistics.
+     *
+     * @param idle      Number of idle connections in the pool
+     * @param leased    Number of connections currently leased
+     * @param created   Total number of repository connections created by the pool
+     * @param reused    Total number of leases served by an idle connection
+     * @param discarded Total number of repository connections closed by the pool
+     */
+    public record Statistics(int idle, int leased, long created, long reused, long discarded) {
+    }
+
+    /**
+     * Creates new repository connections for the pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+
+        RepositoryConnection get() throws Rdf4jDriverException;
+    }
+
+    /**
+     * Lease of a pooled repository connection.
+     */
+    private class PooledConnection extends RepositoryConnectionWrapper {
+
+        private final int generation;
+        private boolean released;
+
+        private PooledConnection(RepositoryConnection delegate, int generation) {
+            super(delegate.getRepository(), delegate);
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean isOpen() throws RepositoryException {
+            return !released && getDelegate().isOpen();
+        }
+
+        @Override
+        public void close() throws RepositoryException {
+            if (released) {
+                return;
+            }
+            this.released = true;
+            release(getDelegate(), generation);
+        }
+    }
+}
@@ -28,14 +28,21 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -97,7 +104,8 @@ public class StorageConnection implements RepoConnection {
 
     @Override
     public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
-        // Always create a separate connection, it is released by the result set once it is closed
+        // Always use a separate connection, it is released by the result set once it is closed (and returned into the
+        // connection pool, if pooling is enabled)
         return new ConnectionStatementExecutor(connectionProvider.acquireConnection()).executeSelectQuery(query);
     }
 
@@ -255,6 +263,167 @@ public class StorageConnection implements RepoConnection {
         });
     }
 
+    @Override
+    public Collection<Statement> findStatements(Collection<? extends Resource> subjects, Collection<IRI> properties,
+                                                boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException {
+        if (subjects.isEmpty() || (properties != null && properties.isEmpty())) {
+            return Collections.emptyList();
+        }
+        if (!areSparqlIris(subjects) || (properties != null && !areSparqlIris(properties)) ||
+                !areSparqlIris(contexts)) {
+            return findStatementsOneByOne(subjects, properties, includeInferred, contexts);
+        }
+        final StringBuilder query = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { VALUES ?s { ")
+                .append(subjects.stream().map(StorageConnection::toSparqlIri).collect(Collectors.joining(" ")))
+                .append(" } ");
+        if (properties != null) {
+            query.append("VALUES ?p { ")
+                 .append(properties.stream().map(StorageConnection::toSparqlIri).collect(Collectors.joining(" ")))
+                 .append(" } ");
+        }
+        if (contexts.isEmpty()) {
+            query.append("?s ?p ?o . }");
+        } else {
+            query.append("VALUES ?g { ")
+                 .append(contexts.stream().map(StorageConnection::toSparqlIri).collect(Collectors.joining(" ")))
+                 .append(" } GRAPH ?g { ?s ?p ?o . } }");
+        }
+        return selectStatements(query.toString(), includeInferred);
+    }
+
+    private Collection<Statement> findStatementsOneByOne(Collection<? extends Resource> subjects,
+                                                         Collection<IRI> properties, boolean includeInferred,
+                                                         Set<IRI> contexts) throws Rdf4jDriverException {
+        final List<Statement> result = new ArrayList<>();
+        for (Resource subject : subjects) {
+            if (properties == null) {
+                result.addAll(findStatements(subject, null, null, includeInferred, contexts));
+                continue;
+            }
+            for (IRI property : properties) {
+                result.addAll(findStatements(subject, property, null, includeInferred, contexts));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Resource subject, Collection<IRI> properties, boolean includeInferred,
+                                                Set<IRI> contexts) throws Rdf4jDriverException {
+        return findStatements(List.of(subject), properties, includeInferred, contexts);
+    }
+
+    @Override
+    public Collection<Statement> findListStatements(Resource owner, IRI hasList, IRI hasNext, IRI hasContent,
+                                                    boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException {
+        if (!isSparqlIri(owner) || !isSparqlIri(hasList) || !isSparqlIri(hasNext) ||
+                (hasContent != null && !isSparqlIri(hasContent)) || !areSparqlIris(contexts)) {
+            return traverseListStatements(owner, hasList, hasNext, hasContent, includeInferred, contexts);
+        }
+        final String nodeProperties = hasContent != null ? toSparqlIri(hasNext) + " " + toSparqlIri(hasContent) :
+                                      toSparqlIri(hasNext);
+        final String pattern = "{ VALUES (?s ?p) { (" + toSparqlIri(owner) + " " + toSparqlIri(hasList) +
+                ") } ?s ?p ?o . } UNION { " + toSparqlIri(owner) + " " + toSparqlIri(hasList) + "/" +
+                toSparqlIri(hasNext) + "* ?s . VALUES ?p { " + nodeProperties + " } ?s ?p ?o . }";
+        final StringBuilder query = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { ");
+        if (contexts.isEmpty()) {
+            query.append(pattern).append(" }");
+        } else {
+            query.append("VALUES ?g { ")
+                 .append(contexts.stream().map(StorageConnection::toSparqlIri).collect(Collectors.joining(" ")))
+                 .append(" } GRAPH ?g { ").append(pattern).append(" } }");
+        }
+        return selectStatements(query.toString(), includeInferred);
+    }
+
+    /**
+     * Finds list statements by following the list node by node, used when the list cannot be loaded by a query.
+     */
+    private Collection<Statement> traverseListStatements(Resource owner, IRI hasList, IRI hasNext, IRI hasContent,
+                                                         boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException {
+        final List<Statement> result = new ArrayList<>();
+        final Set<Value> visited = new HashSet<>();
+        Collection<Statement> current = findStatements(owner, hasList, null, includeInferred, contexts);
+        while (!current.isEmpty()) {
+            result.addAll(current);
+            final List<Statement> next = new ArrayList<>();
+            for (Statement s : current) {
+                if (!s.getObject().isResource() || !visited.add(s.getObject())) {
+                    continue;
+                }
+                final Resource node = (Resource) s.getObject();
+                if (hasContent != null) {
+                    result.addAll(findStatements(node, hasContent, null, includeInferred, contexts));
+                }
+                next.addAll(findStatements(node, hasNext, null, includeInferred, contexts));
+            }
+            current = next;
+        }
+        return result;
+    }
+
+    private static String toSparqlIri(Value iri) {
+        assert isSparqlIri(iri);
+        return "<" + iri.stringValue() + ">";
+    }
+
+    /**
+     * Checks whether the specified value can be inlined into a SPARQL query as an IRI reference.
+     * <p>
+     * Escape sequences are decoded by the SPARQL parser before the query is tokenized, so an IRI containing characters
+     * not allowed in an IRI reference cannot be safely written into the query text.
+     */
+    private static boolean isSparqlIri(Value value) {
+        if (!value.isIRI()) {
+            return false;
+        }
+        final String str = value.stringValue();
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c <= ' ' || "<>\"{}|^`\\".indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areSparqlIris(Collection<? extends Value> values) {
+        return values.stream().allMatch(StorageConnection::isSparqlIri);
+    }
+
+    /**
+     * Evaluates the specified SELECT query projecting variables {@code ?s ?p ?o ?g} and transforms its results to
+     * statements.
+     */
+    private Collection<Statement> selectStatements(String query, boolean includeInferred) throws Rdf4jDriverException {
+        // Executed on the current connection, so that it sees uncommitted transactional changes
+        return withConnection(conn -> {
+            try {
+                final TupleQuery tq = conn.prepareTupleQuery(QueryLanguage.SPARQL, query);
+                tq.setIncludeInferred(includeInferred);
+                final ValueFactory vf = conn.getValueFactory();
+                final List<Statement> result = new ArrayList<>();
+                try (final TupleQueryResult qr = tq.evaluate()) {
+                    while (qr.hasNext()) {
+                        final BindingSet bs = qr.next();
+                        final Resource subject = (Resource) bs.getValue("s");
+                        final IRI predicate = (IRI) bs.getValue("p");
+                        final Value object = bs.getValue("o");
+                        final Resource context = (Resource) bs.getValue("g");
+                        result.add(context != null ? vf.createStatement(subject, predicate, object, context) :
+                                   vf.createStatement(subject, predicate, object));
+                    }
+                }
+                return result;
+            } catch (RepositoryException | MalformedQueryException | QueryEvaluationException e) {
+                throw new Rdf4jDriverException(e);
+            }
+        });
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Set<IRI> contexts) throws Rdf4jDriverException {
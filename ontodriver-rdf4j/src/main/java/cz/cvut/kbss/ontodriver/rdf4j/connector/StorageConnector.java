@@ -77,15 +77,26 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
 
     private final DriverConfiguration configuration;
     private final int maxReconnectAttempts;
+    private final int poolMaxIdle;
+    private final int poolMinIdle;
 
     private RepositoryManager manager;
     private Repository repository;
+    private RepositoryConnectionPool connectionPool;
 
     private boolean open;
 
     public StorageConnector(DriverConfiguration configuration) throws Rdf4jDriverException {
         this.configuration = configuration;
         this.maxReconnectAttempts = resolveMaxReconnectAttempts(configuration);
+        this.poolMaxIdle = resolveNonNegative(configuration, Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MAX_IDLE);
+        this.poolMinIdle = resolveNonNegative(configuration, Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MIN_IDLE);
+        if (poolMinIdle > poolMaxIdle) {
+            throw new Rdf4jDriverException(
+                    "Value of configuration parameter " + Rdf4jOntoDriverProperties.REPOSITORY_CONNECTION_POOL_MIN_IDLE +
+                            " must not exceed the value of " +
+                            Rdf4jOntoDriverProperties.REPOSITORY_CONNECTION_POOL_MAX_IDLE + ".");
+        }
     }
 
     private static int resolveMaxReconnectAttempts(DriverConfiguration config) throws Rdf4jDriverException {
@@ -98,6 +109,16 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
         return attempts;
     }
 
+    private static int resolveNonNegative(DriverConfiguration config, Rdf4jConfigParam param)
+            throws Rdf4jDriverException {
+        final int value = config.getProperty(param, 0);
+        if (value < 0) {
+            throw new Rdf4jDriverException(
+                    "Invalid value of configuration parameter " + param + ". Must be a non-negative integer.");
+        }
+        return value;
+    }
+
     public void initializeRepository() throws Rdf4jDriverException {
         final URI serverUri = configuration.getStorageProperties().getPhysicalURI();
         LOG.debug("Initializing connector to repository at {}", serverUri);
@@ -114,6 +135,11 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
             throw new Rdf4jDriverException("Failed to acquire RDF4J repository connection.", e);
         }
         this.open = true;
+        if (poolMaxIdle > 0) {
+            LOG.debug("Pooling repository connections, min idle: {}, max idle: {}.", poolMinIdle, poolMaxIdle);
+            this.connectionPool = new RepositoryConnectionPool(() -> acquire(1), poolMinIdle, poolMaxIdle);
+            connectionPool.ensureMinIdle();
+        }
     }
 
     private static boolean isRemoteRepository(URI uri) {
@@ -307,6 +333,9 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
         if (!isInMemoryRepository(repository)) {
             throw new UnsupportedOperationException("Cannot replace repository which is not in-memory.");
         }
+        if (connectionPool != null) {
+            connectionPool.clear();
+        }
         repository.shutDown();
         assert newRepository.isInitialized();
         this.repository = newRepository;
@@ -338,7 +367,7 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
             repository.init();
         }
         LOG.trace("Acquiring repository connection.");
-        return acquire(1);
+        return connectionPool != null ? connectionPool.acquire() : acquire(1);
     }
 
     private RepositoryConnection acquire(int attempts) throws Rdf4jDriverException {
@@ -360,6 +389,9 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
             return;
         }
         try {
+            if (connectionPool != null) {
+                connectionPool.close();
+            }
             repository.shutDown();
             if (manager != null) {
                 manager.shutDown();
@@ -388,6 +420,9 @@ public class StorageConnector implements Closeable, Rdf4jConnectionProvider {
         if (cls.isAssignableFrom(getClass())) {
             return cls.cast(this);
         }
+        if (connectionPool != null && cls.isAssignableFrom(RepositoryConnectionPool.class)) {
+            return cls.cast(connectionPool);
+        }
         if (cls.isAssignableFrom(repository.getClass())) {
             return cls.cast(repository);
         }
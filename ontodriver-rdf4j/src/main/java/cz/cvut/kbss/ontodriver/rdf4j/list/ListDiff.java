@@ -0,0 +1,98 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Matches elements of an original and an updated list using their longest common subsequence.
+ * <p>
+ * Matched elements keep their relative order, so list nodes holding them can be reused without rewriting the rest of
+ * the list.
+ */
+final class ListDiff {
+
+    /**
+     * Maximum size of the dynamic programming table. Lists whose differing parts would require a larger table are
+     * matched only on their common prefix and suffix.
+     */
+    static final int MAX_TABLE_SIZE = 4_000_000;
+
+    private ListDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Matches elements of the updated list to elements of the original list.
+     *
+     * @param original Original list elements
+     * @param updated  Updated list elements
+     * @return Array of the same length as {@code updated}, containing the index of the matching original element for
+     * each updated element, or {@code -1} if the element has no match
+     */
+    static int[] match(List<?> original, List<?> updated) {
+        final int[] result = new int[updated.size()];
+        Arrays.fill(result, -1);
+        int prefix = 0;
+        while (prefix < original.size() && prefix < updated.size() &&
+                original.get(prefix).equals(updated.get(prefix))) {
+            result[prefix] = prefix;
+            prefix++;
+        }
+        int origEnd = original.size();
+        int updEnd = updated.size();
+        while (origEnd > prefix && updEnd > prefix && original.get(origEnd - 1).equals(updated.get(updEnd - 1))) {
+            origEnd--;
+            updEnd--;
+            result[updEnd] = origEnd;
+        }
+        final int n = origEnd - prefix;
+        final int m = updEnd - prefix;
+        if (n > 0 && m > 0 && (long) (n + 1) * (m + 1) <= MAX_TABLE_SIZE) {
+            matchMiddle(original.subList(prefix, origEnd), updated.subList(prefix, updEnd), result, prefix);
+        }
+        return result;
+    }
+
+    private static void matchMiddle(List<?> original, List<?> updated, int[] result, int offset) {
+        final int n = original.size();
+        final int m = updated.size();
+        // lcs[i * (m + 1) + j] is the length of the LCS of original[i..] and updated[j..]
+        final int[] lcs = new int[(n + 1) * (m + 1)];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i * (m + 1) + j] = original.get(i).equals(updated.get(j)) ? lcs[(i + 1) * (m + 1) + j + 1] + 1 :
+                                       Math.max(lcs[(i + 1) * (m + 1) + j], lcs[i * (m + 1) + j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (original.get(i).equals(updated.get(j))) {
+                result[offset + j] = offset + i;
+                i++;
+                j++;
+            } else if (lcs[(i + 1) * (m + 1) + j] >= lcs[i * (m + 1) + j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+}
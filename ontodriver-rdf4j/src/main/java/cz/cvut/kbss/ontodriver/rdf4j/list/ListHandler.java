@@ -32,6 +32,8 @@ import org.eclipse.rdf4j.model.ValueFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -74,6 +76,9 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
 
     /**
      * Updates list with values specified by the descriptor.
+     * <p>
+     * The original list is loaded in a single request and only statements which differ from it are written, using one
+     * batched removal and one batched addition.
      *
      * @param listValueDescriptor Describes the updated values
      * @throws Rdf4jDriverException When storage access error occurs
@@ -81,29 +86,112 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
     public void updateList(VD listValueDescriptor) throws Rdf4jDriverException {
         if (listValueDescriptor.getValues().isEmpty()) {
             clearList(listValueDescriptor);
-        } else if (isOldListEmpty(owner(listValueDescriptor), hasList(listValueDescriptor),
-                listValueDescriptor.getListProperty().isInferred(), contexts(listValueDescriptor))) {
+            return;
+        }
+        final ListStatements original = loadListStatements(listValueDescriptor,
+                nodeContentProperty(listValueDescriptor));
+        if (original.get(owner(listValueDescriptor), hasList(listValueDescriptor)).isEmpty()) {
             persistList(listValueDescriptor);
         } else {
-            mergeList(listValueDescriptor);
+            mergeList(listValueDescriptor, original);
         }
     }
 
     protected abstract void clearList(VD listDescriptor) throws Rdf4jDriverException;
 
-    protected abstract void mergeList(VD listDescriptor) throws Rdf4jDriverException;
+    /**
+     * Merges the updated list values into the original list.
+     *
+     * @param listDescriptor Describes the updated values
+     * @param original       Statements of the original list
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    protected abstract void mergeList(VD listDescriptor, ListStatements original) throws Rdf4jDriverException;
+
+    /**
+     * Gets the property connecting list nodes to their content.
+     *
+     * @param listDescriptor List descriptor
+     * @return Node content property, {@code null} if list nodes are the list values themselves
+     */
+    IRI nodeContentProperty(ListDescriptor listDescriptor) {
+        return null;
+    }
+
+    /**
+     * Whether the specified successor statements terminate the list.
+     *
+     * @param next Non-empty successor statements
+     * @return {@code true} if the list ends here
+     */
+    boolean isListTerminal(Collection<Statement> next) {
+        return false;
+    }
+
+    /**
+     * Reconstructs the order of a list from its statements.
+     *
+     * @param statements     Statements of the list
+     * @param listDescriptor List descriptor
+     * @return Statements linking the list nodes, i.e., the owner to the head and each node to its successor, in list
+     * order. Object of each statement is a list node
+     */
+    List<Statement> resolveListLinks(ListStatements statements, ListDescriptor listDescriptor) {
+        final List<Statement> links = new ArrayList<>();
+        final IRI hasNext = hasNext(listDescriptor);
+        final Set<Resource> visited = new HashSet<>();
+        IRI property = hasList(listDescriptor);
+        Collection<Statement> next = statements.get(owner(listDescriptor), property);
+        while (!next.isEmpty() && !isListTerminal(next)) {
+            final Resource node = extractListNode(next, property);
+            checkNotVisited(visited, node);
+            links.add(next.iterator().next());
+            property = hasNext;
+            next = statements.get(node, property);
+        }
+        return links;
+    }
+
+    /**
+     * Writes the difference between the original and the updated list statements into the repository.
+     * <p>
+     * Statements present in both are left untouched.
+     *
+     * @param original Statements of the original list
+     * @param updated  Statements of the updated list
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    void applyChanges(Collection<Statement> original, Collection<Statement> updated) throws Rdf4jDriverException {
+        final Set<Statement> toRemove = new LinkedHashSet<>(original);
+        toRemove.removeAll(updated);
+        final Set<Statement> toAdd = new LinkedHashSet<>(updated);
+        toAdd.removeAll(original);
+        if (!toRemove.isEmpty()) {
+            connector.removeStatements(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            connector.addStatements(toAdd);
+        }
+    }
 
-    boolean isOldListEmpty(Resource owner, IRI hasListProperty, boolean includeInferred,
-                                   Set<IRI> contexts) throws Rdf4jDriverException {
-        final Collection<Statement> stmts = connector.findStatements(owner, hasListProperty, null,
-                includeInferred, contexts);
-        return stmts.isEmpty();
+    /**
+     * Loads all statements of the list described by the specified descriptor in a single request.
+     *
+     * @param listDescriptor List descriptor
+     * @param hasContent     Node content property, {@code null} for simple lists
+     * @return Loaded list statements
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    ListStatements loadListStatements(ListDescriptor listDescriptor, IRI hasContent) throws Rdf4jDriverException {
+        return new ListStatements(connector.findListStatements(owner(listDescriptor), hasList(listDescriptor),
+                hasNext(listDescriptor), hasContent, listDescriptor.getListProperty().isInferred(),
+                contexts(listDescriptor)));
     }
 
-    void removeObsoletes(ListIterator<?> it) throws Rdf4jDriverException {
-        while (it.hasNext()) {
-            it.nextNode();
-            it.remove();
+    static void checkNotVisited(Set<Resource> visited, Resource node) {
+        if (!visited.add(node)) {
+            throw new IntegrityConstraintViolatedException(
+                    "List contains a cycle, node " + node + " is referenced more than once.");
         }
     }
 
@@ -145,15 +233,4 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
     IRI toRdf4jIri(java.net.URI uri) {
         return Rdf4jUtils.toRdf4jIri(uri, vf);
     }
-
-
-    static final class MergeResult {
-        final int i;
-        final Resource previous;
-
-        MergeResult(int i, Resource node) {
-            this.i = i;
-            this.previous = node;
-        }
-    }
 }
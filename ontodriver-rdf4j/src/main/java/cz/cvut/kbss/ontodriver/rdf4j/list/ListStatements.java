@@ -0,0 +1,61 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Statements of a list loaded in a single request, indexed by subject and property.
+ * <p>
+ * Allows list handlers to reconstruct the list order without further repository access.
+ */
+final class ListStatements {
+
+    private final Map<Key, Set<Statement>> index = new HashMap<>();
+
+    ListStatements(Collection<Statement> statements) {
+        // Duplicates (e.g., the same statement loaded from multiple contexts) are removed by the set
+        statements.forEach(s -> index.computeIfAbsent(new Key(s.getSubject(), s.getPredicate()),
+                k -> new LinkedHashSet<>()).add(s));
+    }
+
+    /**
+     * Gets statements with the specified subject and property.
+     *
+     * @param subject  Statement subject
+     * @param property Statement property
+     * @return Matching statements, possibly empty
+     */
+    Collection<Statement> get(Resource subject, IRI property) {
+        return index.getOrDefault(new Key(Objects.requireNonNull(subject), Objects.requireNonNull(property)),
+                Collections.emptySet());
+    }
+
+    private record Key(Resource subject, IRI property) {
+    }
+}
@@ -17,10 +17,14 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.list;
 
+import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.ListElementStorageHelper;
@@ -36,9 +40,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class ReferencedListHandler extends ListHandler<ReferencedListValueDescriptor<?>> {
 
@@ -58,14 +65,46 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
      * @throws Rdf4jDriverException When storage access error occurs
      */
     public List<Axiom<?>> loadList(ReferencedListDescriptor listDescriptor) throws Rdf4jDriverException {
-        final List<Axiom<?>> axioms = new ArrayList<>();
-        final ListIterator<?> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
-        while (it.hasNext()) {
-            axioms.add(it.nextAxiom());
+        final IRI hasContent = hasContent(listDescriptor);
+        // The whole list is loaded at once and its order is reconstructed here
+        final ListStatements statements = loadListStatements(listDescriptor, hasContent);
+        final List<Statement> links = resolveListLinks(statements, listDescriptor);
+        final List<Axiom<?>> axioms = new ArrayList<>(links.size());
+        for (Statement link : links) {
+            final Resource node = (Resource) link.getObject();
+            final Collection<Statement> content = nodeContent(statements, node, hasContent);
+            axioms.add(new AxiomImpl<>(NamedResource.create(node.stringValue()), listDescriptor.getNodeContent(),
+                    new cz.cvut.kbss.ontodriver.model.Value<>(contentValue(content))));
         }
         return axioms;
     }
 
+    @Override
+    IRI nodeContentProperty(ListDescriptor listDescriptor) {
+        return hasContent((ReferencedListDescriptor) listDescriptor);
+    }
+
+    @Override
+    boolean isListTerminal(Collection<Statement> next) {
+        return RDF.NIL.equals(next.iterator().next().getObject());
+    }
+
+    private static Collection<Statement> nodeContent(ListStatements statements, Resource node, IRI hasContent) {
+        final Collection<Statement> content = statements.get(node, hasContent);
+        if (content.isEmpty()) {
+            throw new IntegrityConstraintViolatedException("Node " + node + " has no content.");
+        }
+        ReferencedListIterator.checkValueCount(content, hasContent);
+        return content;
+    }
+
+    private static Object contentValue(Collection<Statement> content) {
+        if (content.size() == 1) {
+            return ReferencedListIterator.fromRdf4jValue(content.iterator().next().getObject());
+        }
+        return ListElementStorageHelper.extractTranslations(content.stream().map(Statement::getObject).toList());
+    }
+
     protected IRI createListHead(ReferencedListValueDescriptor<?> listValueDescriptor,
                                  Collection<Statement> statements) throws Rdf4jDriverException {
         final IRI owner = owner(listValueDescriptor);
@@ -156,57 +195,65 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
         connector.removeStatements(toRemove);
     }
 
-    protected void mergeList(ReferencedListValueDescriptor<?> listDescriptor) throws Rdf4jDriverException {
-        final ListIterator<Object> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
-        final ListHandler.MergeResult mergeResult = mergeWithOriginalList((ReferencedListValueDescriptor<Object>) listDescriptor, it);
-        removeObsoletes(it);
-        assert mergeResult.i > 0;
-        assert mergeResult.previous != null;
-        if (mergeResult.i < listDescriptor.getValues().size()) {
-            appendNewNodes(listDescriptor, mergeResult);
-        }
-    }
-
-    <V> MergeResult mergeWithOriginalList(ReferencedListValueDescriptor<V> listDescriptor, ListIterator<V> it)
-            throws Rdf4jDriverException {
-        int i = 0;
-        Resource node = null;
-        while (it.hasNext() && i < listDescriptor.getValues().size()) {
-            node = it.nextNode();
-            final V content = it.currentContent();
-            final V newNode = listDescriptor.getValues().get(i);
-            if (!content.equals(newNode)) {
-                it.replaceCurrentWith(newNode);
-            }
-            i++;
-        }
-        return new MergeResult(i, node);
-    }
-
-    <V> void appendNewNodes(ReferencedListValueDescriptor<V> listDescriptor, MergeResult mergeResult)
+    /**
+     * Computes the longest common subsequence of the original and updated node contents. Nodes of matched values are
+     * kept, nodes of unmatched original values are reused for unmatched updated values and new nodes are generated only
+     * when there are no more nodes to reuse. Only statements which differ from the original list are then written.
+     */
+    @Override
+    protected void mergeList(ReferencedListValueDescriptor<?> listDescriptor, ListStatements original)
             throws Rdf4jDriverException {
-        int i = mergeResult.i;
-        Resource previous = mergeResult.previous;
         final IRI owner = owner(listDescriptor);
+        final IRI hasList = hasList(listDescriptor);
         final IRI hasNext = hasNext(listDescriptor);
         final IRI hasContent = hasContent(listDescriptor);
         final IRI context = context(listDescriptor);
-        assert i > 0;
-        final Collection<Statement> toAdd = new ArrayList<>((listDescriptor.getValues().size() - i) * 2);
-        if (listDescriptor.isTerminatedByNil()) {
-            removePreviousNilTerminal(previous, hasNext, context);
+
+        final List<Statement> originalLinks = resolveListLinks(original, listDescriptor);
+        final List<Resource> originalNodes = new ArrayList<>(originalLinks.size());
+        final List<Set<Value>> originalContent = new ArrayList<>(originalLinks.size());
+        final Collection<Statement> originalStatements = new ArrayList<>(originalLinks);
+        for (Statement link : originalLinks) {
+            final Resource node = (Resource) link.getObject();
+            final Collection<Statement> content = original.get(node, hasContent);
+            originalNodes.add(node);
+            originalContent.add(content.stream().map(Statement::getObject).collect(Collectors.toSet()));
+            originalStatements.addAll(content);
         }
-        while (i < listDescriptor.getValues().size()) {
-            final Collection<Value> content = toRdf4jValue(listDescriptor.getNodeContent(), listDescriptor.getValues()
-                                                                                                          .get(i));
-            previous = appendListNode(owner, hasNext, hasContent, content, context, previous, toAdd);
-            i++;
+        // Terminal of the original list, e.g., rdf:nil
+        originalStatements.addAll(originalNodes.isEmpty() ? original.get(owner, hasList) :
+                                  original.get(originalNodes.get(originalNodes.size() - 1), hasNext));
+
+        final List<Set<Value>> updatedContent = new ArrayList<>(listDescriptor.getValues().size());
+        for (Object value : listDescriptor.getValues()) {
+            updatedContent.add(new LinkedHashSet<>(toRdf4jValue(listDescriptor.getNodeContent(), value)));
         }
-        createNilTerminal(previous, hasNext, listDescriptor).ifPresent(toAdd::add);
-        connector.addStatements(toAdd);
-    }
+        final int[] matches = ListDiff.match(originalContent, updatedContent);
+        final boolean[] matched = new boolean[originalNodes.size()];
+        for (int match : matches) {
+            if (match >= 0) {
+                matched[match] = true;
+            }
+        }
+        final Iterator<Resource> reusable = IntStream.range(0, originalNodes.size()).filter(i -> !matched[i])
+                                                     .mapToObj(originalNodes::get).iterator();
 
-    private void removePreviousNilTerminal(Resource lastNode, IRI hasNext, IRI context) throws Rdf4jDriverException {
-        connector.removeStatements(Set.of(vf.createStatement(lastNode, hasNext, RDF.NIL, context)));
+        final Collection<Statement> updatedStatements = new ArrayList<>(updatedContent.size() * 2 + 1);
+        Resource previous = owner;
+        for (int i = 0; i < updatedContent.size(); i++) {
+            final Resource node;
+            if (matches[i] >= 0) {
+                node = originalNodes.get(matches[i]);
+            } else if (reusable.hasNext()) {
+                node = reusable.next();
+            } else {
+                node = generateSequenceNode(owner, context);
+            }
+            updatedStatements.add(vf.createStatement(previous, i == 0 ? hasList : hasNext, node, context));
+            updatedContent.get(i).forEach(v -> updatedStatements.add(vf.createStatement(node, hasContent, v, context)));
+            previous = node;
+        }
+        createNilTerminal(previous, hasNext, listDescriptor).ifPresent(updatedStatements::add);
+        applyChanges(originalStatements, updatedStatements);
     }
 }
@@ -108,6 +108,19 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
 
     @Override
     protected void checkSuccessorMax(Collection<Statement> stmts, IRI property) {
+        checkValueCount(stmts, property);
+    }
+
+    /**
+     * Checks that the specified statements represent a single value.
+     * <p>
+     * Multiple language-tagged literals with distinct languages are considered a single (multilingual) value.
+     *
+     * @param stmts    Statements to check
+     * @param property Property of the statements, used in the exception message
+     * @throws IntegrityConstraintViolatedException If the statements represent multiple values
+     */
+    static void checkValueCount(Collection<Statement> stmts, IRI property) {
         final Set<String> langs = new HashSet<>();
         // Remove duplicates
         final Set<Statement> statements = new HashSet<>(stmts);
@@ -116,17 +129,22 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
         }
         for (Statement s : statements) {
             if (!s.getObject().isLiteral()) {
-                throw icViolatedException(property, statements.size());
+                throw valueCountViolatedException(property, statements.size());
             }
             final Literal literal = (Literal) s.getObject();
             if (literal.getLanguage().isPresent() && !langs.contains(literal.getLanguage().get())) {
                 langs.add(literal.getLanguage().get());
             } else {
-                throw icViolatedException(property, statements.size());
+                throw valueCountViolatedException(property, statements.size());
             }
         }
     }
 
+    private static IntegrityConstraintViolatedException valueCountViolatedException(IRI property, int count) {
+        return new IntegrityConstraintViolatedException(
+                "Invalid number of values found for assertion " + property + ". Expected 1, got " + count);
+    }
+
     @Override
     public T currentContent() {
         if (currentContent.size() == 1) {
@@ -137,7 +155,7 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
         }
     }
 
-    private static Object fromRdf4jValue(org.eclipse.rdf4j.model.Value value) {
+    static Object fromRdf4jValue(org.eclipse.rdf4j.model.Value value) {
         return value.isLiteral() ? Rdf4jUtils.getLiteralValue((Literal) value) : NamedResource.create(value.stringValue());
     }
 
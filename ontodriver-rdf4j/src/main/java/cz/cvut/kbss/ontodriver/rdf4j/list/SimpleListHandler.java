@@ -19,8 +19,11 @@ package cz.cvut.kbss.ontodriver.rdf4j.list;
 
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListValueDescriptor;
+import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.model.IRI;
@@ -47,10 +50,14 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
      * @throws Rdf4jDriverException When storage access error occurs
      */
     public List<Axiom<NamedResource>> loadList(SimpleListDescriptor listDescriptor) throws Rdf4jDriverException {
-        final List<Axiom<NamedResource>> axioms = new ArrayList<>();
-        final ListIterator<NamedResource> it = new SimpleListIterator(listDescriptor, connector, vf);
-        while (it.hasNext()) {
-            axioms.add(it.nextAxiom());
+        // The whole list is loaded at once and its order is reconstructed here
+        final List<Statement> links = resolveListLinks(loadListStatements(listDescriptor, null), listDescriptor);
+        final List<Axiom<NamedResource>> axioms = new ArrayList<>(links.size());
+        for (Statement link : links) {
+            final Assertion assertion = axioms.isEmpty() ? listDescriptor.getListProperty() :
+                                        listDescriptor.getNextNode();
+            axioms.add(new AxiomImpl<>(NamedResource.create(link.getSubject().stringValue()), assertion,
+                    new Value<>(NamedResource.create(link.getObject().stringValue()))));
         }
         return axioms;
     }
@@ -102,51 +109,19 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
         connector.removeStatements(toRemove);
     }
 
-    protected void mergeList(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
-        final ListIterator<NamedResource> it = iterator(listDescriptor);
-        final ListHandler.MergeResult mergeResult = mergeWithOriginalList(listDescriptor, it);
-        removeObsoletes(it);
-        assert mergeResult.i > 0;
-        assert mergeResult.previous != null;
-        if (mergeResult.i < listDescriptor.getValues().size()) {
-            appendNewNodes(listDescriptor, mergeResult);
-        }
-    }
-
-    MergeResult mergeWithOriginalList(SimpleListValueDescriptor listDescriptor, ListIterator<NamedResource> it) throws
-            Rdf4jDriverException {
-        int i = 0;
-        Resource node = null;
-        while (it.hasNext() && i < listDescriptor.getValues().size()) {
-            node = it.nextNode();
-            final NamedResource newNode = listDescriptor.getValues().get(i);
-            if (!node.stringValue().equals(newNode.getIdentifier().toString())) {
-                node = toRdf4jIri(newNode.getIdentifier());
-                it.replaceCurrentWith(newNode);
-            }
-            i++;
-        }
-        return new MergeResult(i, node);
-    }
-
-    void appendNewNodes(SimpleListValueDescriptor listDescriptor, MergeResult mergeResult) throws
-            Rdf4jDriverException {
-        int i = mergeResult.i;
-        final Collection<Statement> toAdd = new ArrayList<>(listDescriptor.getValues().size() - i);
-        Resource previous = mergeResult.previous;
-        final IRI nextNode = toRdf4jIri(listDescriptor.getNextNode().getIdentifier());
-        final IRI context = context(listDescriptor);
-        while (i < listDescriptor.getValues().size()) {
-            final Resource newNode = toRdf4jIri(listDescriptor.getValues().get(i).getIdentifier());
-            final Statement stmt = vf.createStatement(previous, nextNode, newNode, context);
-            toAdd.add(stmt);
-            previous = newNode;
-            i++;
-        }
-        connector.addStatements(toAdd);
-    }
-
-    private ListIterator<NamedResource> iterator(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
-        return new SimpleListIterator(listDescriptor, connector, vf);
+    /**
+     * Nodes of a simple list are the list values themselves, so the updated list is fully determined by its values and
+     * only the links which differ from the original list are written.
+     * <p>
+     * Links can be compared as sets, because a value cannot appear in a simple list more than once (it would form a
+     * cycle).
+     */
+    @Override
+    protected void mergeList(SimpleListValueDescriptor listDescriptor, ListStatements original)
+            throws Rdf4jDriverException {
+        final List<Statement> updated = new ArrayList<>(listDescriptor.getValues().size());
+        final IRI head = createListHead(listDescriptor, updated);
+        updated.addAll(createListRest(head, listDescriptor));
+        applyChanges(resolveListLinks(original, listDescriptor), updated);
     }
 }
@@ -31,8 +31,11 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -45,6 +48,7 @@ public class StatementLoader {
     private final AxiomBuilder axiomBuilder;
 
     private int loadAllThreshold = Constants.DEFAULT_LOAD_ALL_THRESHOLD;
+    private boolean mergePropertyLookups;
     private boolean loadAll;
     boolean includeInferred;
 
@@ -59,6 +63,10 @@ public class StatementLoader {
         this.loadAllThreshold = loadAllThreshold;
     }
 
+    public void setMergePropertyLookups(boolean mergePropertyLookups) {
+        this.mergePropertyLookups = mergePropertyLookups;
+    }
+
     public void setIncludeInferred(boolean includeInferred) {
         this.includeInferred = includeInferred;
     }
@@ -67,7 +75,8 @@ public class StatementLoader {
                                            Map<IRI, Assertion> properties) throws Rdf4jDriverException {
         this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
         if (properties.size() < loadAllThreshold && !loadAll) {
-            return loadOneByOne(descriptor, properties);
+            return mergePropertyLookups && properties.size() > 1 ? loadMerged(descriptor, properties) :
+                   loadOneByOne(descriptor, properties);
         } else {
             return loadAll(descriptor, properties);
         }
@@ -77,10 +86,7 @@ public class StatementLoader {
                                               Map<IRI, Assertion> assertions) throws Rdf4jDriverException {
         final Collection<Axiom<?>> result = new HashSet<>();
         for (Map.Entry<IRI, Assertion> e : assertions.entrySet()) {
-            final Set<IRI> contexts = resolveContexts(descriptor, e.getValue()).stream()
-                                                                               .map(uri -> Rdf4jUtils.toRdf4jIri(uri,
-                                                                                                                 vf))
-                                                                               .collect(Collectors.toSet());
+            final Set<IRI> contexts = resolveRdf4jContexts(descriptor, e.getValue());
 
             final Collection<Statement> statements;
             statements = connector.findStatements(subject, e.getKey(), null, includeInferred, contexts);
@@ -94,13 +100,67 @@ public class StatementLoader {
         return result;
     }
 
+    /**
+     * Loads statements of all the specified properties using one lookup per distinct set of assertion contexts.
+     * <p>
+     * Typically, all the assertions share the same contexts, so the whole descriptor is loaded in a single request.
+     */
+    private Collection<Axiom<?>> loadMerged(AxiomDescriptor descriptor,
+                                            Map<IRI, Assertion> assertions) throws Rdf4jDriverException {
+        final Map<Set<IRI>, List<IRI>> propertiesByContexts = new HashMap<>();
+        for (Map.Entry<IRI, Assertion> e : assertions.entrySet()) {
+            propertiesByContexts.computeIfAbsent(resolveRdf4jContexts(descriptor, e.getValue()),
+                                                 k -> new ArrayList<>()).add(e.getKey());
+        }
+        final Collection<Axiom<?>> result = new HashSet<>();
+        for (Map.Entry<Set<IRI>, List<IRI>> e : propertiesByContexts.entrySet()) {
+            final Collection<Statement> statements =
+                    connector.findStatements(subject, e.getValue(), includeInferred, e.getKey());
+            for (Statement s : statements) {
+                final Axiom<?> axiom = axiomBuilder.statementToAxiom(s, assertions.get(s.getPredicate()));
+                if (axiom != null) {
+                    result.add(axiom);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Set<IRI> resolveRdf4jContexts(AxiomDescriptor descriptor, Assertion a) {
+        return resolveContexts(descriptor, a).stream().map(uri -> Rdf4jUtils.toRdf4jIri(uri, vf))
+                                             .collect(Collectors.toSet());
+    }
+
     protected Set<URI> resolveContexts(AxiomDescriptor descriptor, Assertion a) {
         return descriptor.getAssertionContexts(a);
     }
 
+    /**
+     * Loads axioms from the specified statements, which have been retrieved from the repository in advance.
+     * <p>
+     * The statements are expected to contain statements of this loader's subject (with the corresponding inference
+     * setting) with the specified properties in their assertion contexts. They are filtered in the same way as if they
+     * were loaded by this loader.
+     *
+     * @param descriptor Descriptor of the axioms to load
+     * @param properties Properties to load
+     * @param statements Prefetched statements of the subject
+     * @return Loaded axioms
+     */
+    public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                           Collection<Statement> statements) {
+        this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
+        return filterStatements(descriptor, properties, statements);
+    }
+
     private Collection<Axiom<?>> loadAll(AxiomDescriptor descriptor,
                                          Map<IRI, Assertion> properties) throws Rdf4jDriverException {
         final Collection<Statement> statements = connector.findStatements(subject, null, null, includeInferred);
+        return filterStatements(descriptor, properties, statements);
+    }
+
+    private Collection<Axiom<?>> filterStatements(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                                  Collection<Statement> statements) {
         final Collection<Axiom<?>> result = new HashSet<>(statements.size());
         final Assertion unspecified = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
         for (Statement s : statements) {
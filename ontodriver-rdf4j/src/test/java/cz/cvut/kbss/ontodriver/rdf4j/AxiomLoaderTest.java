@@ -30,8 +30,11 @@ import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.TestRepositoryProvider;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
@@ -44,6 +47,12 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -175,6 +184,67 @@ class AxiomLoaderTest {
         assertEquals(value.toString(), a.getValue().getValue().toString());
     }
 
+    @Test
+    void loadAxiomsForMultipleDescriptorsReturnsSameAxiomsAsLoadingThemSeparately() throws Exception {
+        connector.begin();
+        final List<AxiomDescriptor> descriptors = new ArrayList<>();
+        final Set<Axiom<?>> expected = new HashSet<>();
+        for (String individual : generatedData.individuals) {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+            generatedData.values.get(individual).keySet().stream().filter(a -> Generator.randomBoolean())
+                                .forEach(desc::addAssertion);
+            desc.addAssertion(Assertion.createClassAssertion(false));
+            descriptors.add(desc);
+            expected.addAll(axiomLoader.loadAxioms(desc));
+        }
+        final AxiomDescriptor unknown = new AxiomDescriptor(NamedResource.create(Generator.generateUri()));
+        unknown.addAssertion(Assertion.createClassAssertion(false));
+        descriptors.add(unknown);
+
+        final Collection<Axiom<?>> result = new AxiomLoader(connector, new RuntimeConfiguration(
+                new DriverConfiguration(TestRepositoryProvider.storageProperties()))).loadAxioms(descriptors);
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsRespectsAssertionContexts() throws Exception {
+        final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+        final Assertion property = generatedData.values.get(individual).keySet().iterator().next();
+        final String context = Generator.generateUri().toString();
+        final Object value = saveValueIntoContext(individual, property, context);
+        final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+        desc.addAssertion(property);
+        desc.addAssertionContext(property, URI.create(context));
+
+        connector.begin();
+        final Collection<Axiom<?>> result = axiomLoader.loadAxioms(List.of(desc));
+        assertEquals(1, result.size());
+        assertEquals(value.toString(), result.iterator().next().getValue().getValue().toString());
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsFetchesRequestedPropertiesOfAllSubjectsInSingleRequest() throws Exception {
+        final RepoConnection spiedConnector = spy(connector);
+        this.axiomLoader = new AxiomLoader(spiedConnector, new RuntimeConfiguration(
+                new DriverConfiguration(TestRepositoryProvider.storageProperties())));
+        spiedConnector.begin();
+        try {
+            final List<AxiomDescriptor> descriptors = new ArrayList<>();
+            final List<IRI> subjects = new ArrayList<>();
+            for (String individual : generatedData.individuals) {
+                final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+                desc.addAssertion(Assertion.createClassAssertion(false));
+                descriptors.add(desc);
+                subjects.add(vf.createIRI(individual));
+            }
+            axiomLoader.loadAxioms(descriptors);
+            verify(spiedConnector).findStatements(subjects.subList(0, Math.min(subjects.size(), AxiomLoader.BATCH_SIZE)),
+                                                  Set.of(RDF.TYPE), false, Collections.emptySet());
+        } finally {
+            spiedConnector.close();
+        }
+    }
+
     private Object saveValueIntoContext(String individual, Assertion property, String context) throws Exception {
         final RepositoryConnection conn = connector.unwrap(Repository.class).getConnection();
         conn.begin();
@@ -428,6 +498,51 @@ class AxiomLoaderTest {
         }
     }
 
+    @Test
+    void loadAxiomsUsesSingleCallForAllAssertionsWhenPropertyLookupMergingIsEnabled() throws Exception {
+        final DriverConfiguration driverConfig = new DriverConfiguration(TestRepositoryProvider.storageProperties());
+        driverConfig.setProperty(Rdf4jConfigParam.MERGE_PROPERTY_LOOKUPS, Boolean.TRUE.toString());
+        final RepoConnection spiedConnector = spy(connector);
+
+        this.axiomLoader = new AxiomLoader(spiedConnector, new RuntimeConfiguration(driverConfig));
+        spiedConnector.begin();
+        try {
+            final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+            final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(individual));
+            final Iterator<Assertion> it = generatedData.values.get(individual).keySet().iterator();
+            descriptor.addAssertion(it.next());
+            descriptor.addAssertion(it.next());
+            axiomLoader.loadAxioms(descriptor);
+            verify(spiedConnector).findStatements(eq(vf.createIRI(individual)), anyCollection(), eq(false),
+                                                  eq(Collections.emptySet()));
+            verify(spiedConnector, never()).findStatements(any(Resource.class), any(IRI.class), any(), anyBoolean(),
+                                                           anySet());
+        } finally {
+            spiedConnector.close();
+        }
+    }
+
+    @Test
+    void loadAxiomsWithMergedPropertyLookupsReturnsSameAxiomsAsLoadingPropertiesSeparately() throws Exception {
+        final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+        final Iterator<Assertion> it = generatedData.values.get(individual).keySet().iterator();
+        final Assertion inContext = it.next();
+        final URI context = Generator.generateUri();
+        saveValueIntoContext(individual, inContext, context.toString());
+        final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+        desc.addAssertion(inContext);
+        desc.addAssertionContext(inContext, context);
+        desc.addAssertion(it.next());
+        connector.begin();
+        final Set<Axiom<?>> expected = new HashSet<>(axiomLoader.loadAxioms(desc));
+
+        final DriverConfiguration driverConfig = new DriverConfiguration(TestRepositoryProvider.storageProperties());
+        driverConfig.setProperty(Rdf4jConfigParam.MERGE_PROPERTY_LOOKUPS, Boolean.TRUE.toString());
+        final Collection<Axiom<?>> result =
+                new AxiomLoader(connector, new RuntimeConfiguration(driverConfig)).loadAxioms(desc);
+        assertEquals(expected, new HashSet<>(result));
+    }
+
     @Test
     void loadAxiomsLoadsAxiomsFromAllSpecifiedContexts() throws Exception {
         final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
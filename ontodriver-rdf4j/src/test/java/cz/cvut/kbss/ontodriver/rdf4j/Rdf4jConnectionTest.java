@@ -191,7 +191,7 @@ public class Rdf4jConnectionTest {
 
     @Test
     public void testFindNull() throws Exception {
-        assertThrows(NullPointerException.class, () -> connection.find(null));
+        assertThrows(NullPointerException.class, () -> connection.find((AxiomDescriptor) null));
         verify(adapterMock, never()).find(any(AxiomDescriptor.class));
     }
 
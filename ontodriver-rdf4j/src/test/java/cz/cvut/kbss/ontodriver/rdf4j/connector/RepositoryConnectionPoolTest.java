@@ -0,0 +1,159 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.base.RepositoryConnectionWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RepositoryConnectionPoolTest {
+
+    @Mock
+    private Repository repository;
+
+    @Mock
+    private RepositoryConnectionPool.ConnectionSupplier supplier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(supplier.get()).thenAnswer(inv -> createConnection());
+    }
+
+    private RepositoryConnection createConnection() {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(conn.getRepository()).thenReturn(repository);
+        when(conn.isOpen()).thenReturn(true);
+        return conn;
+    }
+
+    @Test
+    void closingLeaseReturnsConnectionIntoPoolForReuse() throws Exception {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 0, 2);
+        final RepositoryConnection lease = sut.acquire();
+        lease.close();
+        assertFalse(lease.isOpen());
+        final RepositoryConnection another = sut.acquire();
+
+        verify(supplier).get();
+        final RepositoryConnectionPool.Statistics stats = sut.getStatistics();
+        assertEquals(1, stats.created());
+        assertEquals(1, stats.reused());
+        assertEquals(1, stats.leased());
+        another.close();
+        assertEquals(1, sut.getStatistics().idle());
+    }
+
+    @Test
+    void releaseClosesConnectionWhenMaxIdleIsReached() throws Exception {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 0, 1);
+        final RepositoryConnection one = sut.acquire();
+        final RepositoryConnection two = sut.acquire();
+        final RepositoryConnection delegateTwo = delegateOf(two);
+        one.close();
+        two.close();
+
+        verify(delegateTwo).close();
+        assertEquals(1, sut.getStatistics().idle());
+        assertEquals(1, sut.getStatistics().discarded());
+    }
+
+    @Test
+    void acquireDiscardsIdleConnectionWhichIsNoLongerOpen() throws Exception {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 0, 1);
+        final RepositoryConnection lease = sut.acquire();
+        final RepositoryConnection delegate = delegateOf(lease);
+        lease.close();
+        when(delegate.isOpen()).thenReturn(false);
+
+        sut.acquire();
+        verify(supplier, times(2)).get();
+        assertEquals(1, sut.getStatistics().discarded());
+    }
+
+    @Test
+    void releaseRollsBackActiveTransaction() throws Exception {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 0, 1);
+        final RepositoryConnection lease = sut.acquire();
+        final RepositoryConnection delegate = delegateOf(lease);
+        when(delegate.isActive()).thenReturn(true);
+        doAnswer(inv -> {
+            when(delegate.isActive()).thenReturn(false);
+            return null;
+        }).when(delegate).rollback();
+        lease.close();
+
+        verify(delegate).rollback();
+        verify(delegate, never()).close();
+        assertEquals(1, sut.getStatistics().idle());
+    }
+
+    @Test
+    void ensureMinIdleCreatesConnectionsUpToMinIdle() throws Exception {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 2, 4);
+        sut.ensureMinIdle();
+
+        verify(supplier, times(2)).get();
+        assertEquals(2, sut.getStatistics().idle());
+    }
+
+    @Test
+    void clearClosesIdleConnectionsAndDiscardsLeasedConnectionsOnRelease() throws Exception {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 0, 2);
+        final RepositoryConnection idle = sut.acquire();
+        final RepositoryConnection leased = sut.acquire();
+        final RepositoryConnection idleDelegate = delegateOf(idle);
+        final RepositoryConnection leasedDelegate = delegateOf(leased);
+        idle.close();
+
+        sut.clear();
+        verify(idleDelegate).close();
+        leased.close();
+        verify(leasedDelegate).close();
+        assertEquals(0, sut.getStatistics().idle());
+    }
+
+    @Test
+    void acquireThrowsIllegalStateExceptionWhenPoolIsClosed() {
+        final RepositoryConnectionPool sut = new RepositoryConnectionPool(supplier, 0, 2);
+        sut.close();
+        assertThrows(IllegalStateException.class, sut::acquire);
+    }
+
+    private static RepositoryConnection delegateOf(RepositoryConnection lease) {
+        return ((RepositoryConnectionWrapper) lease).getDelegate();
+    }
+}
@@ -22,6 +22,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
@@ -38,9 +39,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -174,4 +180,123 @@ class StorageConnectionTest {
         sut.commit();
         verify(conn, never()).commit();
     }
+
+    @Test
+    void findStatementsOfSubjectsSearchesOnlySpecifiedContexts() throws Exception {
+        this.repository = new SailRepository(new MemoryStore());
+        final StorageConnector connector = mock(StorageConnector.class);
+        when(connector.acquireConnection()).thenReturn(repository.getConnection());
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI instance = vf.createIRI(Generator.generateUri().toString());
+        final IRI type = vf.createIRI(Generator.generateUri().toString());
+        final IRI context = vf.createIRI(Generator.generateUri().toString());
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.begin();
+            conn.add(instance, RDF.TYPE, type, context);
+            conn.add(instance, RDF.TYPE, type);
+            conn.add(instance, RDFS.LABEL, vf.createLiteral("label"));
+            conn.commit();
+        }
+
+        sut.begin();
+        try {
+            final Collection<Statement> result = sut.findStatements(List.of(instance), null, false, Set.of(context));
+            assertEquals(List.of(vf.createStatement(instance, RDF.TYPE, type, context)), List.copyOf(result));
+        } finally {
+            sut.rollback();
+        }
+    }
+
+    @Test
+    void findStatementsOfSubjectsReturnsStatementsOfSpecifiedPropertiesInDefaultContext() throws Exception {
+        this.repository = new SailRepository(new MemoryStore());
+        final StorageConnector connector = mock(StorageConnector.class);
+        when(connector.acquireConnection()).thenReturn(repository.getConnection());
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI instanceOne = vf.createIRI(Generator.generateUri().toString());
+        final IRI instanceTwo = vf.createIRI(Generator.generateUri().toString());
+        final IRI type = vf.createIRI(Generator.generateUri().toString());
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.begin();
+            conn.add(instanceOne, RDF.TYPE, type);
+            conn.add(instanceOne, RDFS.LABEL, vf.createLiteral("one"));
+            conn.add(instanceTwo, RDFS.LABEL, vf.createLiteral("two"));
+            conn.commit();
+        }
+
+        sut.begin();
+        try {
+            final Collection<Statement> result =
+                    sut.findStatements(List.of(instanceOne, instanceTwo), List.of(RDFS.LABEL), false, Set.of());
+            assertEquals(2, result.size());
+            assertThat(result, hasItems(vf.createStatement(instanceOne, RDFS.LABEL, vf.createLiteral("one")),
+                    vf.createStatement(instanceTwo, RDFS.LABEL, vf.createLiteral("two"))));
+        } finally {
+            sut.rollback();
+        }
+    }
+
+    @Test
+    void findStatementsOfSubjectWithPropertiesEscapesIrisInQuery() throws Exception {
+        this.repository = new SailRepository(new MemoryStore());
+        final StorageConnector connector = mock(StorageConnector.class);
+        when(connector.acquireConnection()).thenReturn(repository.getConnection());
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI instance = vf.createIRI("http://example.org/instance> } ?s ?p ?o . { <http://example.org/x");
+        final IRI other = vf.createIRI("http://example.org/other");
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.begin();
+            conn.add(instance, RDFS.LABEL, vf.createLiteral("label"));
+            conn.add(other, RDFS.LABEL, vf.createLiteral("other"));
+            conn.commit();
+        }
+
+        sut.begin();
+        try {
+            final Collection<Statement> result =
+                    sut.findStatements(instance, List.of(RDFS.LABEL), false, Collections.emptySet());
+            assertEquals(List.of(vf.createStatement(instance, RDFS.LABEL, vf.createLiteral("label"))),
+                    List.copyOf(result));
+        } finally {
+            sut.rollback();
+        }
+    }
+
+    @Test
+    void findListStatementsFindsListWithIrisNotAllowedInSparqlQuery() throws Exception {
+        this.repository = new SailRepository(new MemoryStore());
+        final StorageConnector connector = mock(StorageConnector.class);
+        when(connector.acquireConnection()).thenReturn(repository.getConnection());
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI owner = vf.createIRI("http://example.org/owner {x}");
+        final IRI hasList = vf.createIRI(Generator.generateUri().toString());
+        final IRI hasNext = vf.createIRI(Generator.generateUri().toString());
+        final IRI head = vf.createIRI("http://example.org/node 1");
+        final IRI second = vf.createIRI("http://example.org/node 2");
+        final List<Statement> expected = List.of(vf.createStatement(owner, hasList, head),
+                vf.createStatement(head, hasNext, second));
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.begin();
+            conn.add(expected);
+            conn.commit();
+        }
+
+        sut.begin();
+        try {
+            final Collection<Statement> result =
+                    sut.findListStatements(owner, hasList, hasNext, null, false, Collections.emptySet());
+            assertEquals(expected.size(), result.size());
+            assertThat(result, hasItems(expected.toArray(new Statement[0])));
+        } finally {
+            sut.rollback();
+        }
+    }
 }
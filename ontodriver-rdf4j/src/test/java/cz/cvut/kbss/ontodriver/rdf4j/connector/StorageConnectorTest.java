@@ -307,4 +307,30 @@ class StorageConnectorTest {
         assertThrows(Rdf4jDriverException.class, () -> sut.acquireConnection());
         verify(repoMock, times(attempts)).getConnection();
     }
+
+    @Test
+    void acquireConnectionReusesPooledConnectionWhenPoolingIsEnabled() throws Exception {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        conf.setProperty(Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MAX_IDLE, "2");
+        conf.setProperty(Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MIN_IDLE, "1");
+        this.sut = createSut(conf);
+        final RepositoryConnectionPool pool = sut.unwrap(RepositoryConnectionPool.class);
+        assertEquals(1, pool.getStatistics().idle());
+
+        sut.acquireConnection().close();
+        sut.acquireConnection().close();
+        final RepositoryConnectionPool.Statistics stats = pool.getStatistics();
+        assertEquals(1, stats.created());
+        assertEquals(2, stats.reused());
+    }
+
+    @Test
+    void initializationThrowsRdf4jDriverExceptionWhenPoolMinIdleExceedsMaxIdle() {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        conf.setProperty(Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MAX_IDLE, "1");
+        conf.setProperty(Rdf4jConfigParam.REPOSITORY_CONNECTION_POOL_MIN_IDLE, "2");
+        assertThrows(Rdf4jDriverException.class, () -> createSut(conf));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * JOPA
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ListDiffTest {
+
+    @Test
+    void matchMatchesAllElementsOfIdenticalLists() {
+        assertArrayEquals(new int[]{0, 1, 2}, ListDiff.match(List.of("a", "b", "c"), List.of("a", "b", "c")));
+    }
+
+    @Test
+    void matchLeavesInsertedElementsUnmatched() {
+        assertArrayEquals(new int[]{-1, 0, 1, -1, 2},
+                ListDiff.match(List.of("a", "b", "c"), List.of("x", "a", "b", "y", "c")));
+    }
+
+    @Test
+    void matchSkipsRemovedAndReplacedElements() {
+        assertArrayEquals(new int[]{0, -1, 3, 4},
+                ListDiff.match(List.of("a", "b", "c", "d", "e"), List.of("a", "x", "d", "e")));
+    }
+
+    @Test
+    void matchFindsLongestCommonSubsequenceOfReorderedElements() {
+        final int[] result = ListDiff.match(List.of("a", "b", "c", "d"), List.of("b", "c", "d", "a"));
+        assertArrayEquals(new int[]{1, 2, 3, -1}, result);
+    }
+
+    @Test
+    void matchMatchesOnlyCommonPrefixAndSuffixWhenListsAreTooLargeToDiff() {
+        final int size = (int) Math.sqrt(ListDiff.MAX_TABLE_SIZE) + 1;
+        final List<Integer> original = IntStream.range(0, size + 2).boxed().toList();
+        // Same as original, but with the middle reversed
+        final List<Integer> updated = IntStream.range(0, size + 2).map(i -> i == 0 || i == size + 1 ? i : size + 1 - i)
+                                               .boxed().toList();
+        final int[] result = ListDiff.match(original, updated);
+        assertEquals(0, result[0]);
+        assertEquals(size + 1, result[size + 1]);
+        assertEquals(size, IntStream.of(result).filter(i -> i == -1).count());
+    }
+}
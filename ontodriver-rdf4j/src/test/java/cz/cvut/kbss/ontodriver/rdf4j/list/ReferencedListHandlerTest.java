@@ -74,6 +74,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyCollection;
+import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
@@ -177,31 +178,60 @@ public class ReferencedListHandlerTest {
             prev = itemUri;
             i++;
         }
+        stubListStatements(stmts);
         return stmts;
     }
 
+    private void stubListStatements(Collection<Statement> stmts) throws Exception {
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, nodeContentProperty, false,
+                Collections.emptySet())).thenReturn(new ArrayList<>(stmts));
+    }
+
+    @Test
+    void loadListLoadsWholeListUsingSingleRequest() throws Exception {
+        final List<NamedResource> refList = generateList();
+        final List<URI> listNodes = initListNodes(refList);
+        final List<Statement> stmts = initStatementsForList(listNodes, refList);
+        // Order of the loaded statements is irrelevant
+        Collections.shuffle(stmts);
+        stubListStatements(stmts);
+
+        final List<Axiom<?>> res = sut.loadList(listDescriptor);
+        assertEquals(refList, res.stream().map(a -> a.getValue().getValue()).toList());
+        assertEquals(listNodes, res.stream().map(a -> a.getSubject().getIdentifier()).toList());
+        verify(connector).findListStatements(owner, hasListProperty, nextNodeProperty, nodeContentProperty, false,
+                Collections.emptySet());
+        verify(connector, never()).findStatements(any(Resource.class), any(IRI.class), any(), anyBoolean(),
+                anySet());
+    }
+
+    @Test
+    void loadListLoadsTranslationsAsContentOfSingleNode() throws Exception {
+        final IRI node = vf.createIRI(OWNER + "-SEQ_0");
+        stubListStatements(List.of(vf.createStatement(owner, hasListProperty, node),
+                vf.createStatement(node, nodeContentProperty, vf.createLiteral("one", "en")),
+                vf.createStatement(node, nodeContentProperty, vf.createLiteral("jedna", "cs"))));
+
+        final List<Axiom<?>> res = sut.loadList(listDescriptor);
+        assertEquals(1, res.size());
+        assertEquals(new Translations(Map.of("en", "one", "cs", "jedna")), res.get(0).getValue().getValue());
+    }
+
     @Test
     public void throwsICViolationWhenThereIsNoContentInHeadNode() throws Exception {
         final IRI headNode = vf.createIRI(OWNER + "-SEQ_0");
-        when(connector.findStatements(eq(owner), eq(hasListProperty), eq(null),
-                anyBoolean(), eq(Collections.emptySet()))).thenReturn(
-                Collections.singleton(vf.createStatement(owner, hasListProperty, headNode)));
-        when(connector.findStatements(eq(headNode), eq(nodeContentProperty), eq(null),
-                anyBoolean(), eq(Collections.emptySet()))).thenReturn(Collections.emptyList());
+        stubListStatements(List.of(vf.createStatement(owner, hasListProperty, headNode)));
         assertThrows(IntegrityConstraintViolatedException.class, () -> sut.loadList(listDescriptor));
-        verify(connector, never()).findStatements(any(Resource.class), eq(nextNodeProperty),
-                any(Value.class), anyBoolean());
     }
 
     @Test
     public void throwsICViolationWhenThereIsNoContentInSomeListNode() throws Exception {
         final List<NamedResource> refList = generateList();
         final List<URI> listNodes = initListNodes(refList);
-        initStatementsForList(listNodes, refList);
+        final List<Statement> stmts = initStatementsForList(listNodes, refList);
         final Resource elem = selectRandomNode(listNodes);
-        when(
-                connector.findStatements(eq(elem), eq(nodeContentProperty), eq(null),
-                        anyBoolean(), eq(Collections.emptySet()))).thenReturn(Collections.emptyList());
+        stmts.removeIf(s -> s.getSubject().equals(elem) && s.getPredicate().equals(nodeContentProperty));
+        stubListStatements(stmts);
         assertThrows(IntegrityConstraintViolatedException.class, () -> sut.loadList(listDescriptor));
     }
 
@@ -219,13 +249,11 @@ public class ReferencedListHandlerTest {
     private void runIcViolationTest(IRI property) throws Exception {
         final List<NamedResource> refList = generateList();
         final List<URI> listNodes = initListNodes(refList);
-        initStatementsForList(listNodes, refList);
+        final List<Statement> stmts = initStatementsForList(listNodes, refList);
         final Resource node = selectRandomNode(listNodes);
-        final List<Statement> stmts = List.of(
-                vf.createStatement(node, property, vf.createIRI(Generator.generateUri().toString())),
-                vf.createStatement(node, property, vf.createIRI(Generator.generateUri().toString())));
-        when(connector.findStatements(eq(node), eq(property), eq(null),
-                anyBoolean(), eq(Collections.emptySet()))).thenReturn(stmts);
+        stmts.add(vf.createStatement(node, property, vf.createIRI(Generator.generateUri().toString())));
+        stmts.add(vf.createStatement(node, property, vf.createIRI(Generator.generateUri().toString())));
+        stubListStatements(stmts);
         assertThrows(IntegrityConstraintViolatedException.class, () -> sut.loadList(listDescriptor));
     }
 
@@ -447,10 +475,10 @@ public class ReferencedListHandlerTest {
     void loadListLoadsNilTerminatedList() throws Exception {
         final List<NamedResource> refList = generateList();
         final List<URI> listNodes = initListNodes(refList);
-        initStatementsForList(listNodes, refList);
+        final List<Statement> stmts = initStatementsForList(listNodes, refList);
         final IRI lastNodeIri = vf.createIRI(listNodes.get(listNodes.size() - 1).toString());
-        when(connector.findStatements(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), null, false, Collections.emptySet()))
-                .thenReturn(Set.of(vf.createStatement(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), RDF.NIL)));
+        stmts.add(vf.createStatement(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), RDF.NIL));
+        stubListStatements(stmts);
         final Collection<Axiom<?>> res = sut.loadList(listDescriptor);
         assertEquals(refList.size(), res.size());
         for (Axiom<?> a : res) {
@@ -479,6 +507,46 @@ public class ReferencedListHandlerTest {
         assertThat(removed, hasItem(nilTerminal));
     }
 
+    @Test
+    void updateListWithValueInsertedAtHeadWritesOnlyNewNodeAndRelinksHead() throws Exception {
+        final List<NamedResource> oldList = generateList(10);
+        final List<URI> oldNodes = initListNodes(oldList);
+        initStatementsForList(oldNodes, oldList);
+        final NamedResource inserted = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "inserted");
+        final ReferencedListValueDescriptor<NamedResource> descriptor = initValues(0);
+        descriptor.addValue(inserted);
+        oldList.forEach(descriptor::addValue);
+
+        sut.updateList(descriptor);
+        final IRI oldHead = vf.createIRI(oldNodes.get(0).toString());
+        verify(connector).removeStatements(Set.of(vf.createStatement(owner, hasListProperty, oldHead)));
+        verify(connector).addStatements(anyCollection());
+        assertEquals(3, added.size());
+        final Resource newHead = added.stream().filter(st -> st.getPredicate().equals(hasListProperty))
+                                      .map(st -> (Resource) st.getObject()).findAny().orElseThrow();
+        assertThat(added, hasItem(vf.createStatement(newHead, nodeContentProperty, vf.createIRI(inserted.toString()))));
+        assertThat(added, hasItem(vf.createStatement(newHead, nextNodeProperty, oldHead)));
+    }
+
+    @Test
+    void updateListWithReplacedValueReusesNodeAndReplacesOnlyItsContent() throws Exception {
+        final List<NamedResource> oldList = generateList(10);
+        final List<URI> oldNodes = initListNodes(oldList);
+        initStatementsForList(oldNodes, oldList);
+        final ReferencedListValueDescriptor<NamedResource> descriptor = initValues(0);
+        final NamedResource replacement = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "replacement");
+        for (int i = 0; i < oldList.size(); i++) {
+            descriptor.addValue(i == 4 ? replacement : oldList.get(i));
+        }
+
+        sut.updateList(descriptor);
+        final IRI node = vf.createIRI(oldNodes.get(4).toString());
+        verify(connector).removeStatements(
+                Set.of(vf.createStatement(node, nodeContentProperty, vf.createIRI(oldList.get(4).toString()))));
+        verify(connector).addStatements(
+                Set.of(vf.createStatement(node, nodeContentProperty, vf.createIRI(replacement.toString()))));
+    }
+
     @Test
     void updateListRemovesNilTerminalFromPreviouslyLastNodeAndAppendsItToNewLastNode() throws Exception {
         final ReferencedListValueDescriptor<NamedResource> descriptor = createValueDescriptor(Assertion.AssertionType.OBJECT_PROPERTY, true);
@@ -487,11 +555,11 @@ public class ReferencedListHandlerTest {
                                                         .toList();
         final List<NamedResource> oldList = generateList();
         final List<URI> oldNodes = initListNodes(oldList);
-        initStatementsForList(oldNodes, oldList);
+        final List<Statement> oldStatements = initStatementsForList(oldNodes, oldList);
         final IRI lastNodeIri = vf.createIRI(oldNodes.get(oldNodes.size() - 1).toString());
         final Statement nilTerminal = vf.createStatement(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), RDF.NIL);
-        when(connector.findStatements(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), null, false, Collections.emptySet()))
-                .thenReturn(Set.of(nilTerminal));
+        oldStatements.add(nilTerminal);
+        stubListStatements(oldStatements);
         // The original items
         for (NamedResource item : oldList) {
             descriptor.addValue(item);
@@ -520,11 +588,11 @@ public class ReferencedListHandlerTest {
         final ReferencedListValueDescriptor<NamedResource> descriptor = createValueDescriptor(Assertion.AssertionType.OBJECT_PROPERTY, true);
         final List<NamedResource> oldList = generateList();
         final List<URI> oldNodes = initListNodes(oldList);
-        initStatementsForList(oldNodes, oldList);
+        final List<Statement> oldStatements = initStatementsForList(oldNodes, oldList);
         final IRI lastNodeIri = vf.createIRI(oldNodes.get(oldNodes.size() - 1).toString());
         final Statement nilTerminal = vf.createStatement(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), RDF.NIL);
-        when(connector.findStatements(lastNodeIri, vf.createIRI(NEXT_NODE_PROPERTY), null, false, Collections.emptySet()))
-                .thenReturn(Set.of(nilTerminal));
+        oldStatements.add(nilTerminal);
+        stubListStatements(oldStatements);
         // The original items
         for (NamedResource item : oldList.subList(0, oldList.size() / 2)) {
             descriptor.addValue(item);
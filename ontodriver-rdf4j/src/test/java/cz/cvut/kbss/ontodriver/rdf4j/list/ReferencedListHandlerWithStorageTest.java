@@ -23,14 +23,21 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.AxiomImpl;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -59,6 +66,45 @@ public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorage
         verifyListContent(axioms, handler.loadList(descriptor));
     }
 
+    @Test
+    void loadListLoadsListOnlyFromDescriptorContext() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> descriptor = initValues(8);
+        descriptor.setContext(Generator.generateUri());
+        final ReferencedListValueDescriptor<NamedResource> other = initValues(3);
+        other.setContext(Generator.generateUri());
+
+        handler.persistList(descriptor);
+        handler.persistList(other);
+        connector.commit();
+        connector.begin();
+        verifyListContent(generateAxiomsForStoredList(descriptor), handler.loadList(descriptor));
+        verifyListContent(generateAxiomsForStoredList(other), handler.loadList(other));
+    }
+
+    /**
+     * Generates expected axioms using nodes of the list stored in the descriptor context, because node identifiers are
+     * unique across contexts and nodes keep their values when the list is updated.
+     */
+    private Collection<Axiom<NamedResource>> generateAxiomsForStoredList(
+            ReferencedListValueDescriptor<NamedResource> listDescriptor) throws Exception {
+        final ValueFactory vf = connector.getValueFactory();
+        final Set<IRI> contexts = listDescriptor.getContext() != null ?
+                                  Set.of(vf.createIRI(listDescriptor.getContext().toString())) : Set.of();
+        final IRI hasNext = vf.createIRI(NEXT_NODE_PROPERTY);
+        final Collection<Axiom<NamedResource>> axioms = new ArrayList<>(listDescriptor.getValues().size());
+        Resource subject = vf.createIRI(OWNER.getIdentifier().toString());
+        IRI property = vf.createIRI(LIST_PROPERTY);
+        for (NamedResource val : listDescriptor.getValues()) {
+            final Collection<Statement> next = connector.findStatements(subject, property, null, false, contexts);
+            assertEquals(1, next.size());
+            subject = (Resource) next.iterator().next().getObject();
+            property = hasNext;
+            axioms.add(new AxiomImpl<>(NamedResource.create(subject.stringValue()), listDescriptor.getNodeContent(),
+                    new Value<>(val)));
+        }
+        return axioms;
+    }
+
     private ReferencedListValueDescriptor<NamedResource> initValues(int count) {
         final ReferencedListValueDescriptor<NamedResource> desc = new ReferencedListValueDescriptor<>(OWNER,
                 Assertion.createObjectPropertyAssertion(URI.create(LIST_PROPERTY), false),
@@ -145,11 +191,10 @@ public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorage
     }
 
     void updateAndCheck(ReferencedListValueDescriptor<NamedResource> descriptor) throws Exception {
-        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
         handler.updateList(descriptor);
         connector.commit();
         connector.begin();
-        verifyListContent(axioms, handler.loadList(descriptor));
+        verifyListContent(generateAxiomsForStoredList(descriptor), handler.loadList(descriptor));
     }
 
     @Test
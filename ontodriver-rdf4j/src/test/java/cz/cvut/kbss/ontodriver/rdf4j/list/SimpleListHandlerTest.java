@@ -31,7 +31,6 @@ import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
-import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.junit.jupiter.api.BeforeAll;
@@ -46,26 +45,27 @@ import org.mockito.quality.Strictness;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.LIST_PROPERTY;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.NEXT_NODE_PROPERTY;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.OWNER;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.generateList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -122,12 +122,11 @@ public class SimpleListHandlerTest {
 
     @Test
     public void loadsEmptyListAndReturnsEmptyCollection() throws Exception {
-        when(connector.findStatements(eq(owner), eq(hasListProperty), any(), eq(false), anySet())).thenReturn(Collections.emptyList());
+        when(connector.findListStatements(eq(owner), eq(hasListProperty), eq(nextNodeProperty), any(), eq(false),
+                anySet())).thenReturn(Collections.emptyList());
         final Collection<Axiom<NamedResource>> res = handler.loadList(listDescriptor);
         assertNotNull(res);
         assertTrue(res.isEmpty());
-        verify(connector, never()).findStatements(any(Resource.class), eq(nextNodeProperty),
-                any(Value.class), any(Boolean.class), eq(null));
     }
 
     @Test
@@ -136,7 +135,6 @@ public class SimpleListHandlerTest {
         initStatementsForList(simpleList);
 
         final Collection<Axiom<NamedResource>> res = handler.loadList(listDescriptor);
-        verify(connector).findStatements(owner, hasListProperty, null, false, Collections.emptySet());
         assertEquals(simpleList.size(), res.size());
         int i = 0;
         for (Axiom<?> ax : res) {
@@ -145,6 +143,25 @@ public class SimpleListHandlerTest {
         }
     }
 
+    @Test
+    public void loadListLoadsWholeListUsingSingleRequest() throws Exception {
+        final List<NamedResource> simpleList = generateList();
+        final List<Statement> statements = initStatementsForList(simpleList);
+        // Order of the loaded statements is irrelevant
+        Collections.shuffle(statements);
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(statements);
+
+        final List<Axiom<NamedResource>> res = handler.loadList(listDescriptor);
+        assertEquals(simpleList, res.stream().map(ax -> ax.getValue().getValue()).toList());
+        assertEquals(listDescriptor.getListProperty(), res.get(0).getAssertion());
+        assertEquals(listDescriptor.getNextNode(), res.get(1).getAssertion());
+        verify(connector).findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet());
+        verify(connector, never()).findStatements(any(Resource.class), any(IRI.class), any(), anyBoolean(),
+                anySet());
+    }
+
     private List<Statement> initStatementsForList(List<NamedResource> simpleList)
             throws Rdf4jDriverException {
         Resource subject = owner;
@@ -158,53 +175,56 @@ public class SimpleListHandlerTest {
             statements.add(stmt);
             subject = value;
         }
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(new ArrayList<>(statements));
         return statements;
     }
 
     @Test
     public void throwsICViolationExceptionWhenMultipleHasListValuesFound() throws Exception {
-        final Collection<Statement> stmts = new HashSet<>();
-        stmts.add(mock(Statement.class));
-        stmts.add(mock(Statement.class));
-        when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet())).thenReturn(stmts);
+        final Collection<Statement> stmts = List.of(
+                vf.createStatement(owner, hasListProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "one")),
+                vf.createStatement(owner, hasListProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "two")));
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(stmts);
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
-        verify(connector, never())
-                .findStatements(any(Resource.class), eq(nextNodeProperty), any(Value.class), any(Boolean.class),
-                        anySet());
     }
 
     @Test
     public void throwsICViolationExceptionWhenMultipleNodeSuccessorsAreFound() throws Exception {
-        final Collection<Statement> stmts = new HashSet<>();
-        stmts.add(mock(Statement.class));
-        stmts.add(mock(Statement.class));
         final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
-        final Statement firstStmt = vf.createStatement(owner, hasListProperty, firstElem);
-
-        when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet()))
-                .thenReturn(Collections.singleton(firstStmt));
-        when(connector.findStatements(firstElem, nextNodeProperty, null, false, Collections.emptySet()))
-                .thenReturn(stmts);
+        final Collection<Statement> stmts = List.of(vf.createStatement(owner, hasListProperty, firstElem),
+                vf.createStatement(firstElem, nextNodeProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "one")),
+                vf.createStatement(firstElem, nextNodeProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "two")));
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(stmts);
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
-        verify(connector).findStatements(owner, hasListProperty, null, false, Collections.emptySet());
     }
 
     @Test
     public void throwsICViolationExceptionWhenLiteralIsFoundInList() throws Exception {
         final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
-        final Statement firstStmt = vf.createStatement(owner, hasListProperty, firstElem);
-        when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet()))
-                .thenReturn(Collections.singleton(firstStmt));
-        final Statement nextStmt = vf.createStatement(firstElem, nextNodeProperty,
-                vf.createLiteral(System.currentTimeMillis()));
-        when(connector.findStatements(firstElem, nextNodeProperty, null, false, Collections.emptySet()))
-                .thenReturn(Collections.singleton(nextStmt));
+        final Collection<Statement> stmts = List.of(vf.createStatement(owner, hasListProperty, firstElem),
+                vf.createStatement(firstElem, nextNodeProperty, vf.createLiteral(System.currentTimeMillis())));
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(stmts);
+
+        assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
+    }
+
+    @Test
+    public void throwsICViolationExceptionWhenListContainsCycle() throws Exception {
+        final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
+        final Resource secondElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "secondElem");
+        final Collection<Statement> stmts = List.of(vf.createStatement(owner, hasListProperty, firstElem),
+                vf.createStatement(firstElem, nextNodeProperty, secondElem),
+                vf.createStatement(secondElem, nextNodeProperty, firstElem));
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(stmts);
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
-        verify(connector).findStatements(owner, hasListProperty, null, false, Collections.emptySet());
-        verify(connector).findStatements(firstElem, nextNodeProperty, null, false, Collections.emptySet());
     }
 
     @Test
@@ -270,7 +290,11 @@ public class SimpleListHandlerTest {
     @Test
     public void updateListAddsNewValuesToTheEnd() throws Exception {
         final SimpleListValueDescriptor descriptor = initValues(0);
-        final SimpleListValueDescriptor tempDesc = initValues(8);
+        // Values must not repeat in a simple list, it would form a cycle
+        final SimpleListValueDescriptor tempDesc = initValues(0);
+        for (int i = 0; i < 8; i++) {
+            tempDesc.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "appended" + i));
+        }
         final List<NamedResource> simpleList = generateList();
         initStatementsForList(simpleList);
         // The original items
@@ -292,6 +316,24 @@ public class SimpleListHandlerTest {
         }
     }
 
+    @Test
+    void updateListWithValueInsertedAtHeadWritesOnlyChangedLinks() throws Exception {
+        final List<NamedResource> simpleList = generateList(10);
+        initStatementsForList(simpleList);
+        final NamedResource inserted = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "inserted");
+        final SimpleListValueDescriptor descriptor = initValues(0);
+        descriptor.addValue(inserted);
+        simpleList.forEach(descriptor::addValue);
+
+        handler.updateList(descriptor);
+        final IRI oldHead = vf.createIRI(simpleList.get(0).toString());
+        final IRI newHead = vf.createIRI(inserted.toString());
+        assertEquals(List.of(vf.createStatement(owner, hasListProperty, oldHead)), List.copyOf(removed));
+        assertEquals(2, added.size());
+        assertThat(added, hasItems(vf.createStatement(owner, hasListProperty, newHead),
+                vf.createStatement(newHead, nextNodeProperty, oldHead)));
+    }
+
     @Test
     public void updateListRemovesSeveralElements() throws Exception {
         final SimpleListValueDescriptor descriptor = initValues(0);